@@ -0,0 +1,106 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.storage.JsonLocationBookStorage;
+import seedu.address.storage.JsonPersonBookStorage;
+import seedu.address.storage.JsonVisitBookStorage;
+import seedu.address.storage.SyntheticDataGenerator;
+
+/**
+ * Provides the same data to the benchmarks every time, so that their results can be compared between runs.
+ *
+ * The data is generated by a {@link SyntheticDataGenerator} with a fixed seed. For a given number of persons, there is
+ * one location for every {@code PERSONS_PER_LOCATION} persons and as many visits as persons.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = 2103;
+    public static final int PERSONS_PER_LOCATION = 10;
+
+    // Prevent instantiation
+    private BenchmarkData() {};
+
+    /**
+     * Returns the generator of the data for {@code personCount} persons.
+     */
+    public static SyntheticDataGenerator getGenerator(int personCount) {
+        return new SyntheticDataGenerator(SEED, personCount, Math.max(1, personCount / PERSONS_PER_LOCATION),
+                personCount);
+    }
+
+    /**
+     * Returns the person book of the data for {@code personCount} persons, as read from its JSON file.
+     */
+    public static ReadOnlyPersonBook readPersonBook(int personCount) throws IOException, DataConversionException {
+        Path directory = Files.createTempDirectory("benchmark");
+        try {
+            Path filePath = directory.resolve(SyntheticDataGenerator.PERSON_BOOK_FILE_NAME);
+            getGenerator(personCount).writePersonBook(filePath);
+            return new JsonPersonBookStorage(filePath).readAddressBook().get();
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Returns the visit book generated by {@code generator}, as read from its JSON file.
+     */
+    public static ReadOnlyVisitBook readVisitBook(SyntheticDataGenerator generator)
+            throws IOException, DataConversionException {
+        Path directory = Files.createTempDirectory("benchmark");
+        try {
+            Path filePath = directory.resolve(SyntheticDataGenerator.VISIT_BOOK_FILE_NAME);
+            generator.writeVisitBook(filePath);
+            return new JsonVisitBookStorage(filePath).readVisitBook().get();
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Returns a model with the data for {@code personCount} persons, as read from its JSON files.
+     */
+    public static Model readModel(int personCount) throws IOException, DataConversionException {
+        Path directory = Files.createTempDirectory("benchmark");
+        try {
+            SyntheticDataGenerator generator = getGenerator(personCount);
+            Path personBookFilePath = directory.resolve(SyntheticDataGenerator.PERSON_BOOK_FILE_NAME);
+            Path locationBookFilePath = directory.resolve(SyntheticDataGenerator.LOCATION_BOOK_FILE_NAME);
+            Path visitBookFilePath = directory.resolve(SyntheticDataGenerator.VISIT_BOOK_FILE_NAME);
+            generator.writePersonBook(personBookFilePath);
+            generator.writeLocationBook(locationBookFilePath);
+            generator.writeVisitBook(visitBookFilePath);
+
+            ReadOnlyPersonBook personBook = new JsonPersonBookStorage(personBookFilePath).readAddressBook().get();
+            ReadOnlyLocationBook locationBook =
+                    new JsonLocationBookStorage(locationBookFilePath).readLocationBook().get();
+            ReadOnlyVisitBook visitBook = new JsonVisitBookStorage(visitBookFilePath).readVisitBook().get();
+            return new ModelManager(personBook, locationBook, visitBook, new UserPrefs());
+        } finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it.
+     */
+    public static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
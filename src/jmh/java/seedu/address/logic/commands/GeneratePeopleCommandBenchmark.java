@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Measures how long it takes to find the people in contact with an infected person.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class GeneratePeopleCommandBenchmark {
+
+    @Param({"1000", "100000"})
+    public int personCount;
+
+    private Model model;
+    private GeneratePeopleCommand command;
+
+    /**
+     * Picks the first person that the command finds people in contact with.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        model = BenchmarkData.readModel(personCount);
+        int displayedPersonCount = model.getFilteredPersonList().size();
+        for (int i = 0; i < displayedPersonCount; i++) {
+            GeneratePeopleCommand candidate = new GeneratePeopleCommand(Index.fromZeroBased(i));
+            try {
+                candidate.execute(model);
+                command = candidate;
+                return;
+            } catch (CommandException e) {
+                // The person is not infected, has no visits or was not in contact with anyone.
+            } finally {
+                showAllPersons();
+            }
+        }
+        throw new IllegalStateException("No infected person was in contact with anyone.");
+    }
+
+    /**
+     * Shows every person again, as the command only shows the people in contact.
+     */
+    @Setup(Level.Invocation)
+    public void showAllPersons() {
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException {
+        return command.execute(model);
+    }
+}
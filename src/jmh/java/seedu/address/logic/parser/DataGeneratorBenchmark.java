@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.parser.DataGenerator.VisitParametersContainer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long it takes to read the visits in a CSV file, with one visit on each line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DataGeneratorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int visitCount;
+
+    private Path visitsFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        visitsFile = Files.createTempFile("visits", ".csv");
+        BenchmarkData.getGenerator(visitCount).writeVisitsCsv(visitsFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(visitsFile);
+    }
+
+    @Benchmark
+    public List<VisitParametersContainer> generateVisitsList() throws ParseException {
+        return DataGenerator.generateVisitsList(visitsFile.toString());
+    }
+}
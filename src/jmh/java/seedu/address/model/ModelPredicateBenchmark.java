@@ -0,0 +1,46 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.location.Location;
+
+/**
+ * Measures how long it takes to find the high risk locations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ModelPredicateBenchmark {
+
+    @Param({"1000", "100000"})
+    public int personCount;
+
+    private Model model;
+
+    @Setup
+    public void setUp() throws Exception {
+        model = BenchmarkData.readModel(personCount);
+    }
+
+    @Benchmark
+    public Predicate<Location> getPredicateForHighRiskLocations() {
+        return ModelPredicate.getPredicateForHighRiskLocations(model);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Measures how long it takes to add every person to an empty {@code UniquePersonList}, one at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int personCount;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() throws Exception {
+        persons = BenchmarkData.readPersonBook(personCount).getPersonList();
+    }
+
+    /**
+     * Adds every person to a new list, so that each invocation starts from an empty list.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        for (Person person : persons) {
+            uniquePersonList.add(person);
+        }
+        return uniquePersonList;
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model.statistics;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.InfectionStatus;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.QuarantineStatus;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Measures how much memory the daily counts of every location take over a year, and how long it takes to keep and
+ * query them. The memory is printed once the counts are built, as the retained heap is not something JMH measures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LocationTimeSeriesBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.parse("2020-01-01");
+    private static final int DAY_COUNT = 365;
+    private static final int TOP_LOCATION_COUNT = 10;
+
+    @Param({"1000", "50000"})
+    public int locationCount;
+
+    /** 1 gives every location a visit on every day, and 30 a visit every month. */
+    @Param({"1", "30"})
+    public int daysBetweenVisits;
+
+    private LocationTimeSeries timeSeries;
+    private Visit visitOnNewDay;
+    private LocalDate lastDate;
+
+    /**
+     * Counts a visit by one person to every location on every {@code daysBetweenVisits} days, and prints the memory
+     * that the counts take.
+     */
+    @Setup
+    public void setUp() {
+        Person person = new Person(new Name("Benchmark Person"), new Phone("91234567"),
+                new Email("benchmark@example.com"), new Address("Benchmark Street"), new QuarantineStatus("false"),
+                new InfectionStatus("true"), Index.fromZeroBased(0), Set.of());
+        Location[] locations = new Location[locationCount];
+        for (int i = 0; i < locationCount; i++) {
+            locations[i] = new Location(new Name("Location " + i), new Address("Street " + i), Index.fromZeroBased(i));
+        }
+
+        long usedBefore = getUsedMemory();
+        timeSeries = new LocationTimeSeries();
+        for (int day = 0; day < DAY_COUNT; day += daysBetweenVisits) {
+            LocalDate date = FIRST_DATE.plusDays(day);
+            for (Location location : locations) {
+                timeSeries.addVisit(new Visit(person, location, date), day % 3 == 0);
+            }
+            lastDate = date;
+        }
+        long usedAfter = getUsedMemory();
+        System.out.printf("%n%d blocks of daily counts take about %d MB%n", timeSeries.getBlockCount(),
+                (usedAfter - usedBefore) / (1024 * 1024));
+
+        visitOnNewDay = new Visit(person, locations[0], lastDate.plusDays(1));
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Adds a visit on a day with no visits yet and removes it again.
+     */
+    @Benchmark
+    public int addAndRemoveVisit() {
+        timeSeries.addVisit(visitOnNewDay, true);
+        timeSeries.removeVisit(visitOnNewDay, true);
+        return timeSeries.getBlockCount();
+    }
+
+    @Benchmark
+    public List<LocationTrend> getTopGrowingLocations() {
+        return timeSeries.getTopGrowingLocations(lastDate, TOP_LOCATION_COUNT);
+    }
+}
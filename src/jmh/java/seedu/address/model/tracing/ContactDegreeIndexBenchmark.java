@@ -0,0 +1,96 @@
+package seedu.address.model.tracing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.statistics.UniqueVisitorIndex;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.storage.SyntheticDataGenerator;
+
+/**
+ * Measures how long it takes to keep the contact degrees when most visits are to a few busy locations, where counting
+ * every pair of visitors would take time and memory that grow with the square of the visitors of a location.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ContactDegreeIndexBenchmark {
+
+    // With this exponent, the busiest location gets more than a third of all visits.
+    private static final double ZIPF_EXPONENT = 1.5;
+
+    @Param({"1000", "100000"})
+    public int personCount;
+
+    private VisitBook visitBook;
+    private UniqueVisitorIndex uniqueVisitorIndex;
+    private ContactDegreeIndex contactDegreeIndex;
+    private Visit visitToBusiestLocation;
+
+    /**
+     * Generates the visits, and picks a visit to the busiest location that is not in the visit book yet.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(BenchmarkData.SEED, personCount,
+                Math.max(1, personCount / BenchmarkData.PERSONS_PER_LOCATION), personCount, ZIPF_EXPONENT,
+                SyntheticDataGenerator.DEFAULT_FIRST_DATE, SyntheticDataGenerator.DEFAULT_DAY_COUNT,
+                SyntheticDataGenerator.DEFAULT_INFECTION_RATE);
+        visitBook = new VisitBook(BenchmarkData.readVisitBook(generator));
+        uniqueVisitorIndex = new UniqueVisitorIndex(visitBook);
+        contactDegreeIndex = new ContactDegreeIndex(visitBook, uniqueVisitorIndex, ContactTracer.DEFAULT_WINDOW_DAYS);
+
+        // The generator makes the first location the most popular one.
+        Visit busiestLocationVisit = visitBook.getVisitsAtLocation(Index.fromZeroBased(0)).iterator().next();
+        Location busiestLocation = busiestLocationVisit.getLocation();
+        for (Visit visit : visitBook.getVisitList()) {
+            Visit candidate = new Visit(visit.getPerson(), busiestLocation, busiestLocationVisit.getDate());
+            if (!visitBook.hasVisit(candidate)) {
+                visitToBusiestLocation = candidate;
+                return;
+            }
+        }
+        throw new IllegalStateException("Every person visited the busiest location on its first day.");
+    }
+
+    @Benchmark
+    public ContactDegreeIndex resetData() {
+        contactDegreeIndex.resetData();
+        return contactDegreeIndex;
+    }
+
+    /**
+     * Adds a visit to the busiest location and removes it again, asking for the degree of its person after each.
+     */
+    @Benchmark
+    public int addAndRemoveVisitToBusiestLocation() {
+        Index personId = visitToBusiestLocation.getPerson().getId();
+        visitBook.addVisit(visitToBusiestLocation);
+        uniqueVisitorIndex.addVisit(visitToBusiestLocation);
+        contactDegreeIndex.addVisit(visitToBusiestLocation);
+        int degreeWithVisit = contactDegreeIndex.getContactDegree(personId);
+
+        visitBook.removeVisit(visitToBusiestLocation);
+        uniqueVisitorIndex.removeVisit(visitToBusiestLocation);
+        contactDegreeIndex.removeVisit(visitToBusiestLocation);
+        return degreeWithVisit + contactDegreeIndex.getContactDegree(personId);
+    }
+}
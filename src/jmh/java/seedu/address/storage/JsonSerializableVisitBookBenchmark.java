@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.visit.VisitBook;
+
+/**
+ * Measures how long it takes to convert a visit book read from a JSON file into the model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class JsonSerializableVisitBookBenchmark {
+
+    @Param({"1000", "100000"})
+    public int personCount;
+
+    private JsonSerializableVisitBook jsonVisitBook;
+
+    @Setup
+    public void setUp() throws Exception {
+        Path directory = Files.createTempDirectory("benchmark");
+        try {
+            Path filePath = directory.resolve(SyntheticDataGenerator.VISIT_BOOK_FILE_NAME);
+            BenchmarkData.getGenerator(personCount).writeVisitBook(filePath);
+            jsonVisitBook = JsonUtil.readJsonFile(filePath, JsonSerializableVisitBook.class).get();
+        } finally {
+            BenchmarkData.deleteDirectory(directory);
+        }
+    }
+
+    @Benchmark
+    public VisitBook toModelType() throws IllegalValueException {
+        return jsonVisitBook.toModelType();
+    }
+}
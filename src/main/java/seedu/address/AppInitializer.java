@@ -0,0 +1,299 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWorker;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.server.QueryServer;
+import seedu.address.storage.BinaryStatisticsHistoryStorage;
+import seedu.address.storage.JsonLocationBookStorage;
+import seedu.address.storage.JsonPersonBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonVisitBookStorage;
+import seedu.address.storage.LocationBookStorage;
+import seedu.address.storage.PersonBookStorage;
+import seedu.address.storage.StatisticsHistoryStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.VisitBookStorage;
+
+/**
+ * Sets up the config, storage, model and logic of the application from the data files, without any user interface,
+ * so that they can be used both by the window and on machines without a display.
+ */
+public class AppInitializer {
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private CommandWorker commandWorker;
+    private QueryServer queryServer;
+    private Path queryServerTokenPath;
+
+    /**
+     * Reads the config from {@code configFilePath}, or from the default config file if it is null, and the data
+     * files named in the user prefs.
+     */
+    public AppInitializer(Path configFilePath) {
+        config = initConfig(configFilePath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        PersonBookStorage personBookStorage = new JsonPersonBookStorage(userPrefs.getPersonBookFilePath());
+        LocationBookStorage locationBookStorage = new JsonLocationBookStorage(userPrefs.getLocationBookFilePath());
+        VisitBookStorage visitBookStorage = new JsonVisitBookStorage(userPrefs.getVisitBookFilePath());
+        StatisticsHistoryStorage statisticsHistoryStorage = new BinaryStatisticsHistoryStorage(
+                userPrefs.getVisitBookFilePath().resolveSibling(BinaryStatisticsHistoryStorage.FILE_NAME));
+        storage = new StorageManager(personBookStorage, locationBookStorage, userPrefsStorage, visitBookStorage,
+                statisticsHistoryStorage, Duration.ofMillis(userPrefs.getSaveDelayMillis()));
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Starts the worker that executes the commands, handing their results to {@code resultExecutor}.
+     */
+    public CommandWorker startCommandWorker(Executor resultExecutor) {
+        commandWorker = new CommandWorker(logic, resultExecutor);
+        return commandWorker;
+    }
+
+    /**
+     * Starts serving the query API on {@code port}, executing the commands sent to it with the command worker.
+     * The token for sending commands is written next to the data files, where only the user can read it.
+     * The application keeps running without the API if it cannot be served.
+     */
+    public void startQueryServer(int port) {
+        requireNonNull(commandWorker);
+        String token = QueryServer.generateToken();
+        Path tokenPath = model.getUserPrefs().getVisitBookFilePath().resolveSibling(QueryServer.TOKEN_FILE_NAME);
+        try {
+            FileUtil.createParentDirsOfFile(tokenPath);
+            FileUtil.writeToFile(tokenPath, token);
+            queryServerTokenPath = tokenPath;
+            queryServer = new QueryServer(logic, commandWorker, port, token);
+            queryServer.start();
+        } catch (IOException e) {
+            logger.warning("Could not serve queries on port " + port + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Stops the query API and waits for the commands that are running to finish, then saves the user prefs, records
+     * the statistics of today and saves the command metrics, as is done whenever the application stops.
+     */
+    public void stop() {
+        if (queryServer != null) {
+            queryServer.stop();
+        }
+        if (queryServerTokenPath != null) {
+            try {
+                Files.deleteIfExists(queryServerTokenPath);
+            } catch (IOException e) {
+                logger.warning("Failed to delete the query server token " + StringUtil.getDetails(e));
+            }
+        }
+        if (commandWorker != null) {
+            commandWorker.shutdown();
+        }
+        try {
+            logic.flushSaves();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            logic.recordStatistics();
+        } catch (IOException e) {
+            logger.severe("Failed to record statistics " + StringUtil.getDetails(e));
+        }
+        try {
+            logic.saveCommandMetrics();
+        } catch (IOException e) {
+            logger.severe("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s VirusTracker and {@code userPrefs}. <br>
+     * The data from the sample VirusTracker will be used instead if {@code storage}'s VirusTracker is not found,
+     * or an empty VirusTracker will be used instead if errors occur when reading {@code storage}'s VirusTracker.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        Optional<ReadOnlyPersonBook> personBookOptional;
+        ReadOnlyPersonBook initialPersonData;
+        Optional<ReadOnlyLocationBook> locationBookOptional;
+        ReadOnlyLocationBook initialLocationData;
+        Optional<ReadOnlyVisitBook> visitBookOptional;
+        ReadOnlyVisitBook initialVisitData;
+
+        try {
+            personBookOptional = storage.readAddressBook();
+            if (personBookOptional.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample PersonBook");
+            }
+            initialPersonData = personBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty PersonBook");
+            initialPersonData = new PersonBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty PersonBook");
+            initialPersonData = new PersonBook();
+        }
+
+        try {
+            locationBookOptional = storage.readLocationBook();
+            if (locationBookOptional.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample LocationBook");
+            }
+            initialLocationData = locationBookOptional.orElseGet(SampleDataUtil::getSampleLocationBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty LocationBook");
+            initialLocationData = new LocationBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty LocationBook");
+            initialLocationData = new LocationBook();
+        }
+
+        try {
+            visitBookOptional = storage.readVisitBook();
+            if (visitBookOptional.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample VisitBook");
+            }
+            initialVisitData = visitBookOptional.orElseGet(SampleDataUtil::getSampleVisitBook);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty VisitBook");
+            initialVisitData = new VisitBook();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty VisitBook");
+            initialVisitData = new VisitBook();
+        }
+
+        return new ModelManager(initialPersonData, initialLocationData, initialVisitData, userPrefs);
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty VirusTracker");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -4,6 +4,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -16,7 +17,10 @@ import seedu.address.commons.util.FileUtil;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private Integer httpPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +30,29 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port to serve the query API on, or an empty {@code Optional} if it should not be served.
+     */
+    public Optional<Integer> getHttpPort() {
+        return Optional.ofNullable(httpPort);
+    }
+
+    public void setHttpPort(Integer httpPort) {
+        this.httpPort = httpPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given as a map from the name of each parameter to its value.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +61,27 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String httpPortParameter = namedParameters.get("http-port");
+        if (httpPortParameter != null) {
+            appParameters.setHttpPort(parsePort(httpPortParameter));
+        }
+
         return appParameters;
     }
 
+    private static Integer parsePort(String port) {
+        try {
+            int parsedPort = Integer.parseInt(port.trim());
+            if (parsedPort >= 0 && parsedPort <= MAX_PORT) {
+                return parsedPort;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        logger.warning("Invalid HTTP port " + port + ". The query API will not be served.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,7 +93,8 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getHttpPort(), otherAppParameters.getHttpPort());
     }
 
     @Override
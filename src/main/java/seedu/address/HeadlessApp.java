@@ -0,0 +1,180 @@
+package seedu.address;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandWorker;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RunScriptCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a window, so that it can be used on machines without a display.
+ *
+ * The commands are read one per line from the given file, or from the standard input if no file is given, and the
+ * result of each command is printed to the standard output. Commands that fail are reported on the standard error
+ * with their line numbers, and make the application exit with {@link #EXIT_COMMAND_FAILED}.
+ *
+ * If a port is given with {@code --http-port}, the query API is served on it until the commands end.
+ */
+public class HeadlessApp {
+
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String MESSAGE_USAGE = "Usage: " + HEADLESS_FLAG
+            + " [--config=CONFIG_FILE] [--http-port=PORT] [COMMAND_FILE]";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+    public static final String MESSAGE_CANNOT_READ_COMMANDS = "Could not read the commands: %1$s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    /**
+     * Runs the commands given by {@code args}, which are the command-line arguments of the application.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 0) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (unnamedParameters.size() > 1) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(EXIT_INVALID_ARGUMENTS);
+        }
+
+        logger.info("=========================[ Initializing headless VirusTracker ]======================");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppInitializer initializer = new AppInitializer(appParameters.getConfigPath());
+        // The output is only flushed when there are no more commands waiting, so that piped commands run quickly.
+        PrintStream output = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)),
+                false, StandardCharsets.UTF_8);
+        int exitStatus = EXIT_COMMAND_FAILED;
+        try {
+            // The commands from the input and from the query API are executed on the same thread, one at a time.
+            CommandWorker commandWorker = initializer.startCommandWorker(Runnable::run);
+            appParameters.getHttpPort().ifPresent(initializer::startQueryServer);
+            exitStatus = runCommands(commandWorker, unnamedParameters, output);
+        } finally {
+            // Also done if the commands could not be run at all, so that the data is saved and the server stopped.
+            logger.info("=========================== [ Stopping headless VirusTracker ] ========================");
+            initializer.stop();
+            output.flush();
+        }
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Runs the commands from the file in {@code unnamedParameters}, or from the standard input if there is none.
+     */
+    private static int runCommands(CommandWorker commandWorker, List<String> unnamedParameters, PrintStream output) {
+        try (BufferedReader input = unnamedParameters.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(unnamedParameters.get(0)))) {
+            return run(commandWorker, input, output, System.err);
+        } catch (IOException | InvalidPathException e) {
+            System.err.println(String.format(MESSAGE_CANNOT_READ_COMMANDS, e.getMessage()));
+            return EXIT_INVALID_ARGUMENTS;
+        }
+    }
+
+    /**
+     * Executes each line of {@code input} as a command with {@code commandWorker}, until the input ends or the exit
+     * command is executed. Blank lines and lines starting with "#" are skipped.
+     *
+     * A command that fails, including with an unexpected error, is reported on {@code error} and the commands after it
+     * are still executed. The commands stop early if this thread is interrupted.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if the input cannot be read.
+     */
+    static int run(CommandWorker commandWorker, BufferedReader input, PrintStream output, PrintStream error)
+            throws IOException {
+        int exitStatus = EXIT_SUCCESS;
+        int lineNumber = 0;
+        String line;
+        while ((line = input.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.trim().startsWith(RunScriptCommandParser.COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = execute(commandWorker, line);
+                output.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                output.flush();
+                error.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                exitStatus = EXIT_COMMAND_FAILED;
+            } catch (RuntimeException e) {
+                // A bug in one command should not stop the commands after it. The worker has logged its details.
+                output.flush();
+                error.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber,
+                        String.format(MESSAGE_UNEXPECTED_ERROR, e)));
+                exitStatus = EXIT_COMMAND_FAILED;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            if (!input.ready()) {
+                output.flush();
+            }
+        }
+        output.flush();
+        return exitStatus;
+    }
+
+    /**
+     * Executes {@code commandText} with {@code commandWorker} and waits for its result.
+     */
+    private static CommandResult execute(CommandWorker commandWorker, String commandText)
+            throws CommandException, ParseException {
+        try {
+            return commandWorker.submit(commandText).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            } else if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands one at a time on a background thread, so that the user interface stays responsive while a long
+ * command is running. This thread is the only one that changes the model.
+ *
+ * The results and the progress of the commands are handed to the result executor, which runs them on the thread of
+ * the user interface. Before each result, and each time the progress is reported, the model publisher is run on the
+ * background thread to pass the changes made to the model so far to the user interface in one batch.
+ *
+ * Other tasks that need the model to stay unchanged while they run, such as taking a snapshot of it, can be queued
+ * with the commands.
+ */
+public class CommandWorker {
+
+    public static final long PROGRESS_INTERVAL_MILLIS = 100;
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logger logger = LogsCenter.getLogger(CommandWorker.class);
+
+    private final Logic logic;
+    private final Executor resultExecutor;
+    private final ExecutorService worker;
+    private volatile Runnable modelPublisher = () -> {};
+    private volatile ProgressListener progressListener = (commandText, done, total) -> {};
+    private volatile RunningCommand runningCommand;
+
+    /**
+     * Creates a {@code CommandWorker} that executes commands with {@code logic} and hands their results and
+     * progress to {@code resultExecutor}.
+     */
+    public CommandWorker(Logic logic, Executor resultExecutor) {
+        requireAllNonNull(logic, resultExecutor);
+        this.logic = logic;
+        this.resultExecutor = resultExecutor;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the publisher that passes the changes made to the model to the user interface. It is run on the
+     * background thread.
+     */
+    public void setModelPublisher(Runnable modelPublisher) {
+        this.modelPublisher = requireNonNull(modelPublisher);
+    }
+
+    /**
+     * Sets the listener that receives the progress of the running command on the result executor.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = requireNonNull(progressListener);
+    }
+
+    /**
+     * Queues the command to be executed after those submitted before it.
+     *
+     * @return a future that is completed on the result executor with the result of the command, or with whatever it
+     *     threw, which is usually a {@code CommandException} or {@code ParseException}.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        worker.execute(() -> run(commandText, result));
+        return result;
+    }
+
+    /**
+     * Queues {@code task} to run on the background thread after the commands submitted before it, so that the model
+     * does not change while it runs.
+     *
+     * @return a future that is completed on the background thread with the result of the task.
+     */
+    public <T> CompletableFuture<T> call(Supplier<T> task) {
+        requireNonNull(task);
+        return CompletableFuture.supplyAsync(task, worker);
+    }
+
+    private void run(String commandText, CompletableFuture<CommandResult> result) {
+        RunningCommand command = new RunningCommand(commandText);
+        runningCommand = command;
+        CommandResult commandResult = null;
+        Throwable error = null;
+        try {
+            commandResult = logic.execute(commandText, command);
+        } catch (CommandException | ParseException e) {
+            error = e;
+        } catch (Throwable e) {
+            // Errors such as a failed assertion are caught too, as the future would otherwise never complete.
+            logger.severe("Unexpected error while executing " + commandText + ": " + StringUtil.getDetails(e));
+            error = e;
+        } finally {
+            runningCommand = null;
+        }
+
+        try {
+            modelPublisher.run();
+        } catch (Throwable e) {
+            logger.warning("Could not publish the changes made by " + commandText + ": " + e);
+        }
+
+        CommandResult finalResult = commandResult;
+        Throwable finalError = error;
+        resultExecutor.execute(() -> {
+            if (finalError == null) {
+                result.complete(finalResult);
+            } else {
+                result.completeExceptionally(finalError);
+            }
+        });
+    }
+
+    /**
+     * Cancels the command that is running, if any. Commands that cannot be cancelled run to the end.
+     *
+     * @return true if a command was running.
+     */
+    public boolean cancel() {
+        RunningCommand command = runningCommand;
+        if (command == null) {
+            return false;
+        }
+        logger.info("Cancelling " + command.commandText);
+        command.isCancelled = true;
+        return true;
+    }
+
+    /**
+     * Cancels the running command and waits for it and the commands queued after it to finish, so that the model
+     * can be saved safely. No more commands can be submitted afterwards.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        cancel();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands were still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Receives the progress of the running command on the result executor.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called when {@code done} out of {@code total} units of work of the command are done.
+         */
+        void progressChanged(String commandText, long done, long total);
+    }
+
+    /**
+     * Watches a command while it runs on the background thread.
+     */
+    private class RunningCommand implements ProgressMonitor {
+        private final String commandText;
+        private volatile boolean isCancelled;
+        private long lastReportNanos = System.nanoTime();
+
+        RunningCommand(String commandText) {
+            this.commandText = commandText;
+        }
+
+        @Override
+        public void setProgress(long done, long total) {
+            // Only report every so often, so that the user interface is not flooded with updates.
+            long now = System.nanoTime();
+            if (now - lastReportNanos < TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL_MILLIS)) {
+                return;
+            }
+            lastReportNanos = now;
+            modelPublisher.run();
+            resultExecutor.execute(() -> progressListener.progressChanged(commandText, done, total));
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return isCancelled;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.ReadOnlyLocationBook;
 import seedu.address.model.person.Person;
@@ -27,6 +30,41 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command, reporting its progress to {@code monitor}, and returns the result.
+     * @param commandText The command as entered by the user.
+     * @param monitor Watches the progress of the command and tells it when it is cancelled.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, ProgressMonitor monitor) throws CommandException, ParseException;
+
+    /**
+     * Records the current statistics as those of today in the statistics history.
+     * @throws IOException If the statistics could not be saved.
+     */
+    void recordStatistics() throws IOException;
+
+    /**
+     * Saves the timings and memory use recorded for the commands executed so far to the metrics file, which is kept
+     * next to the visit book.
+     * @throws IOException If the metrics could not be saved.
+     */
+    void saveCommandMetrics() throws IOException;
+
+    /**
+     * Saves the changes made by the commands executed so far that are not saved yet, before returning.
+     * @throws IOException If the changes could not be saved.
+     */
+    void flushSaves() throws IOException;
+
+    /**
+     * Returns an immutable snapshot of the model as of the last command executed.
+     * Can be called from any thread, and never waits for the command that is being executed.
+     */
+    ModelSnapshot getModelSnapshot();
+
     //=========== Person Book =======================================================================================
 
     /**
@@ -1,22 +1,37 @@
 package seedu.address.logic;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.management.ThreadMXBean;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.VirusTrackerParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
+import seedu.address.model.metrics.CommandMetrics.Measure;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.tracing.OutbreakAlert;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
 import seedu.address.storage.Storage;
@@ -26,40 +41,187 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final Duration METRICS_SAVE_INTERVAL = Duration.ofMinutes(5);
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final VirusTrackerParser virusTrackerParser;
+    private final Clock clock;
+    // The day whose statistics are recorded when the first command of a later day is executed.
+    private LocalDate currentDate;
+    private Instant lastMetricsSave;
+    // Only changed on the thread that executes the commands, but read from the others.
+    private volatile ModelSnapshot modelSnapshot;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that uses {@code clock} to tell when a day has ended.
+     */
+    LogicManager(Model model, Storage storage, Clock clock) {
         this.model = model;
         this.storage = storage;
+        this.clock = clock;
+        storage.setSaveMetrics(model.getCommandMetrics());
         virusTrackerParser = new VirusTrackerParser();
+        currentDate = LocalDate.now(clock);
+        lastMetricsSave = clock.instant();
+        modelSnapshot = model.getSnapshot();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public CommandResult execute(String commandText, ProgressMonitor monitor)
+            throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        recordStatisticsIfDayEnded();
 
-        CommandResult commandResult;
+        long allocatedBytesAtStart = getAllocatedBytes();
+        long parseStart = System.nanoTime();
         Command command = virusTrackerParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        CommandMetrics commandMetrics = model.getCommandMetrics();
+        commandMetrics.record(commandWord, Measure.PARSE_TIME, System.nanoTime() - parseStart);
+
+        try {
+            return executeAndSave(command, commandWord, monitor);
+        } finally {
+            if (allocatedBytesAtStart >= 0) {
+                commandMetrics.record(commandWord, Measure.ALLOCATED_BYTES,
+                        Math.max(0, getAllocatedBytes() - allocatedBytesAtStart));
+            }
+            saveCommandMetricsIfDue();
+        }
+    }
+
+    /**
+     * Executes {@code command} and schedules the books to be saved, timing each phase.
+     */
+    private CommandResult executeAndSave(Command command, String commandWord, ProgressMonitor monitor)
+            throws CommandException {
+        CommandMetrics commandMetrics = model.getCommandMetrics();
+        CommandResult commandResult;
+        long executeStart = System.nanoTime();
+        try {
+            commandResult = withOutbreakAlerts(command.execute(model, monitor));
+        } finally {
+            // A command that fails may still have changed the model before failing.
+            model.commitBooks();
+            modelSnapshot = model.getSnapshot();
+            commandMetrics.record(commandWord, Measure.EXECUTE_TIME, System.nanoTime() - executeStart);
+        }
 
+        long saveStart = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getPersonBook());
-            storage.saveLocationBook(model.getLocationBook());
-            storage.saveVisitBook(model.getVisitBook());
+            storage.scheduleSave(modelSnapshot);
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            commandMetrics.record(commandWord, Measure.SAVE_TIME, System.nanoTime() - saveStart);
         }
 
         return commandResult;
     }
 
+    /**
+     * Returns the number of bytes allocated so far by the thread that executes the commands, or -1 if the JVM cannot
+     * tell.
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+        if (threadBean == null || !threadBean.isThreadAllocatedMemorySupported()
+                || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Saves the command metrics if they were last saved more than {@code METRICS_SAVE_INTERVAL} ago.
+     * Failing to save them does not stop the command from being executed.
+     */
+    private void saveCommandMetricsIfDue() {
+        Instant now = clock.instant();
+        if (now.isBefore(lastMetricsSave.plus(METRICS_SAVE_INTERVAL))) {
+            return;
+        }
+
+        try {
+            saveCommandMetrics();
+        } catch (IOException ioe) {
+            logger.warning("Could not save the command metrics: " + ioe);
+        }
+        lastMetricsSave = now;
+    }
+
+    @Override
+    public void saveCommandMetrics() throws IOException {
+        Path metricsFilePath = storage.getVisitBookFilePath().resolveSibling(CommandMetrics.FILE_NAME);
+        FileUtil.createIfMissing(metricsFilePath);
+        FileUtil.writeToFile(metricsFilePath, model.getCommandMetrics().toCsv());
+    }
+
+    /**
+     * Records the statistics of the day that has ended since the last command, before this command changes them.
+     * Failing to record them does not stop the command from being executed.
+     */
+    private void recordStatisticsIfDayEnded() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.isAfter(currentDate)) {
+            return;
+        }
+
+        try {
+            storage.appendStatisticsSnapshot(model.getInfoHandler().getStatisticsSnapshot(currentDate));
+        } catch (IOException ioe) {
+            logger.warning("Could not record the statistics of " + currentDate + ": " + ioe);
+        }
+        currentDate = today;
+    }
+
+    @Override
+    public void recordStatistics() throws IOException {
+        storage.appendStatisticsSnapshot(model.getInfoHandler().getStatisticsSnapshot(LocalDate.now(clock)));
+    }
+
+    @Override
+    public void flushSaves() throws IOException {
+        storage.flushSaves();
+    }
+
+    @Override
+    public ModelSnapshot getModelSnapshot() {
+        return modelSnapshot;
+    }
+
+    /**
+     * Returns {@code commandResult} with the outbreak alerts raised by the command appended to its feedback, so that
+     * alerts are shown whichever command added the visits that raised them.
+     */
+    private CommandResult withOutbreakAlerts(CommandResult commandResult) {
+        List<OutbreakAlert> alerts = model.takeNewOutbreakAlerts();
+        if (alerts.isEmpty()) {
+            return commandResult;
+        }
+
+        alerts.forEach(alert -> logger.warning(alert.toString()));
+        String feedback = commandResult.getFeedbackToUser() + "\n" + alerts.stream()
+                .map(OutbreakAlert::toString)
+                .collect(Collectors.joining("\n"));
+        return new CommandResult(feedback, commandResult.isShowHelp(), commandResult.isExit(),
+                commandResult.getSwitchState());
+    }
+
     //=========== Person Book =======================================================================================
 
     @Override
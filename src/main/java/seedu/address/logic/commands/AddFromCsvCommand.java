@@ -23,4 +23,5 @@ public abstract class AddFromCsvCommand extends Command {
             + "%2$s\n "
             + "and will not be added.";
     public static final String MESSAGE_SUCCESS = "%d %s successfully added to VirusTracker.\n";
+    public static final String MESSAGE_CANCELLED = "Cancelled after reading %1$d of %2$d lines.\n";
 }
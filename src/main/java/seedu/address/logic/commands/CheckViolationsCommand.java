@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tracing.StayHomeViolation;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Finds all visits by infected or quarantined people to locations other than their home, lists them and saves a
+ * report of them in the data folder.
+ * Unlike the warning given when a visit is added, this uses the current status of each person, so it also finds
+ * visits made before the person became infected or was put in quarantine.
+ */
+public class CheckViolationsCommand extends Command {
+
+    public static final String COMMAND_WORD = "checkViolations";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all visits by infected or quarantined people "
+            + "to locations that are not their address, displays them as a list of visits and saves a report of them "
+            + "in the data folder.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String REPORT_FILE_NAME = "violationreport.csv";
+
+    public static final String MESSAGE_NO_VIOLATIONS = "No visits may have violated the Stay-Home Notice";
+    public static final String MESSAGE_SUCCESS = "Found %1$d visits by %2$d people that may have violated the "
+            + "Stay-Home Notice.\n"
+            + "Violation report saved to %3$s";
+    public static final String MESSAGE_REPORT_NOT_SAVED = "Could not save violation report to file: ";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path reportFilePath = getReportFilePath(model);
+        Set<Visit> violatingVisits = new HashSet<>();
+        Set<Person> violatingPersons = new HashSet<>();
+
+        // The violations are written as they are found, so the report is never held in memory as a whole.
+        try (Stream<StayHomeViolation> violations = model.getStayHomeViolations()) {
+            Iterator<StayHomeViolation> iterator = violations.iterator();
+            if (!iterator.hasNext()) {
+                return new CommandResult(MESSAGE_NO_VIOLATIONS);
+            }
+
+            FileUtil.createIfMissing(reportFilePath);
+            try (BufferedWriter writer = Files.newBufferedWriter(reportFilePath, StandardCharsets.UTF_8)) {
+                writer.write(StayHomeViolation.CSV_HEADER);
+                writer.write("\n");
+                while (iterator.hasNext()) {
+                    StayHomeViolation violation = iterator.next();
+                    writer.write(violation.toCsvRow());
+                    writer.write("\n");
+                    violatingVisits.add(violation.getVisit());
+                    violatingPersons.add(violation.getPerson());
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(MESSAGE_REPORT_NOT_SAVED + ioe, ioe);
+        }
+
+        model.updateFilteredVisitList(violatingVisits::contains);
+        return new CommandResult(
+                String.format(MESSAGE_SUCCESS, violatingVisits.size(), violatingPersons.size(), reportFilePath),
+                false, false, CommandResult.SWITCH_TO_VIEW_VISITS);
+    }
+
+    /**
+     * Returns the path of the violation report, which is saved next to the visit book.
+     */
+    public static Path getReportFilePath(Model model) {
+        requireNonNull(model);
+        return model.getVisitBookFilePath().resolveSibling(REPORT_FILE_NAME);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof CheckViolationsCommand; // instanceof handles nulls
+    }
+}
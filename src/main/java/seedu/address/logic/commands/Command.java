@@ -17,4 +17,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command, reporting its progress to {@code monitor} and stopping early if it is cancelled.
+     * Commands that finish quickly ignore the monitor.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param monitor {@code ProgressMonitor} watching the command.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
+        return execute(model);
+    }
+
 }
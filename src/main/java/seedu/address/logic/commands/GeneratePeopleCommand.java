@@ -3,13 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelPredicate;
-import seedu.address.model.visit.VisitBook;
+import seedu.address.model.tracing.ContactTracer;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -21,6 +22,8 @@ public class GeneratePeopleCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all people which a person of the specified"
             + "id (case-insensitive) have been in contact with and displays them as a list of locations.\n"
+            + "People are in contact if they visited the same location within the contact window of each other "
+            + "(" + ContactTracer.DEFAULT_WINDOW_DAYS + " days by default).\n"
             + "Parameters: PERSONID\n"
             + "Example: " + COMMAND_WORD + " 1";
 
@@ -45,13 +48,10 @@ public class GeneratePeopleCommand extends Command {
                 .get(personIdFromBook.getZeroBased()).getInfectionStatus().getStatusAsBoolean()) {
             throw new CommandException(MESSAGE_PERSON_IS_NOT_INFECTED);
         }
-        VisitBook visitsByPerson = model.getInfoHandler().generateVisitsByPerson(personIdFromBook);
-        if (visitsByPerson.getVisitList().isEmpty()) {
+        if (model.getVisitBook().getVisitsOfPerson(personIdFromBook).isEmpty()) {
             throw new CommandException(MESSAGE_PERSON_HAS_NO_VISITS);
         }
-        List<Index> locationIds = model.getInfoHandler().generateLocationIdsByVisitBook(visitsByPerson);
-        VisitBook affectedVisits = model.getInfoHandler().generateVisitsByLocationIds(locationIds);
-        List<Index> personIds = model.getInfoHandler().generatePersonIdsByVisitBook(affectedVisits, personIdFromBook);
+        List<Index> personIds = new ArrayList<>(model.getInfoHandler().generateContactIds(personIdFromBook));
         if (personIds.isEmpty()) {
             throw new CommandException(MESSAGE_NO_PEOPLE_FOUND);
         }
@@ -1,19 +1,33 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_INFECTED;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_LOCATIONS;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_QUARANTINED;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_VISITS;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ListType;
+import seedu.address.model.ListOrder;
 import seedu.address.model.Model;
 import seedu.address.model.ModelPredicate;
 import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.statistics.StatisticsSnapshot;
+import seedu.address.storage.BinaryStatisticsHistoryStorage;
 
 /**
  * Displays a list which items are the given list type.
@@ -22,11 +36,20 @@ public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final int DEFAULT_HISTORY_DAYS = 7;
+    public static final int SUPER_SPREADER_COUNT = 10;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Lists information based on a given type.\n"
             + "Parameters: l/LIST_TYPE (must be either people, locations, high-risk-locations, visits,"
-            + " infected or quarantined)\n"
-            + "Example: " + COMMAND_WORD + " people";
+            + " infected, quarantined, stats, statistics-history, visitors, clusters, alerts, at-risk,"
+            + " super-spreaders, trends or performance)"
+            + " [s/ORDER] [d/START_DATE] [d/END_DATE]\n"
+            + "ORDER can be name, exposure or risk for lists of people, date for visits, or default for both.\n"
+            + "START_DATE and END_DATE can only be given for statistics-history, which shows the last "
+            + DEFAULT_HISTORY_DAYS + " days if they are not given.\n"
+            + "Example: " + COMMAND_WORD + " l/people s/name\n"
+            + "Example: " + COMMAND_WORD + " l/statistics-history d/2020-09-01 d/2020-09-30";
 
     public static final String MESSAGE_SUCCESS_ALL_PEOPLE = "Listed all people";
     public static final String MESSAGE_SUCCESS_ALL_LOCATIONS = "Listed all locations";
@@ -35,12 +58,56 @@ public class ListCommand extends Command {
     public static final String MESSAGE_SUCCESS_ALL_QUARANTINED = "Listed all quarantined people";
     public static final String MESSAGE_SUCCESS_STATISTICS = "Listed the statistics for the day";
     public static final String MESSAGE_SUCCESS_HIGH_RISK_LOCATIONS = "Listed high risk locations";
+    public static final String MESSAGE_SUCCESS_CLUSTERS = "Listed the clusters of people in contact";
+    public static final String MESSAGE_SUCCESS_UNIQUE_VISITORS = "Listed the unique visitors of each location";
+    public static final String MESSAGE_SUCCESS_OUTBREAK_ALERTS = "Listed the active outbreak alerts";
+    public static final String MESSAGE_SUCCESS_AT_RISK = "Listed %1$d people at risk, from the highest risk score "
+            + "to the lowest";
+    public static final String MESSAGE_SUCCESS_SUPER_SPREADERS = "Listed %1$d people with the most contacts";
+    public static final String MESSAGE_SUCCESS_LOCATION_TRENDS = "Listed the locations with growing infections";
+    public static final String MESSAGE_SUCCESS_STATISTICS_HISTORY = "Listed the statistics history";
+    public static final String MESSAGE_SUCCESS_PERFORMANCE = "Listed the time taken and memory allocated by each "
+            + "command";
+    public static final String MESSAGE_HISTORY_NOT_READ = "Could not read the statistics history from file: ";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date must not be after the end date.";
+    public static final String MESSAGE_ORDER = ", ordered by %s";
     public static final String INVALID_LIST_TYPE = "There is no such list type.";
+    public static final String MESSAGE_INVALID_ORDER = "Lists of people can only be ordered by name, exposure, risk "
+            + "or default, and the list of visits can only be ordered by date or default.";
 
     private final ListType listType;
+    private final Optional<ListOrder> listOrder;
+    private final Optional<LocalDate> startDate;
+    private final Optional<LocalDate> endDate;
 
     public ListCommand(ListType listType) {
+        this(listType, Optional.empty());
+    }
+
+    /**
+     * Creates a ListCommand that also orders the list by {@code listOrder}, if it is present.
+     * Otherwise, the list keeps its current order.
+     */
+    public ListCommand(ListType listType, Optional<ListOrder> listOrder) {
+        this(listType, listOrder, Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Creates a ListCommand that lists the items from {@code startDate} to {@code endDate}, both inclusive.
+     * If {@code endDate} is not present, the items up to today are listed, and if {@code startDate} is also not
+     * present, only those of the last {@code DEFAULT_HISTORY_DAYS} days are listed.
+     */
+    public ListCommand(ListType listType, Optional<LocalDate> startDate, Optional<LocalDate> endDate) {
+        this(listType, Optional.empty(), startDate, endDate);
+    }
+
+    private ListCommand(ListType listType, Optional<ListOrder> listOrder, Optional<LocalDate> startDate,
+            Optional<LocalDate> endDate) {
+        requireAllNonNull(listOrder, startDate, endDate);
         this.listType = listType;
+        this.listOrder = listOrder;
+        this.startDate = startDate;
+        this.endDate = endDate;
     }
 
     @Override
@@ -50,7 +117,8 @@ public class ListCommand extends Command {
         switch (listType) {
         case ALL_PEOPLE:
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-            return new CommandResult(MESSAGE_SUCCESS_ALL_PEOPLE, false, false,
+            listOrder.ifPresent(model::sortFilteredPersonList);
+            return new CommandResult(MESSAGE_SUCCESS_ALL_PEOPLE + getOrderMessage(), false, false,
                     CommandResult.SWITCH_TO_VIEW_PEOPLE);
         case ALL_LOCATIONS:
             model.updateFilteredLocationList(PREDICATE_SHOW_ALL_LOCATIONS);
@@ -58,35 +126,107 @@ public class ListCommand extends Command {
                     CommandResult.SWITCH_TO_VIEW_LOCATIONS);
         case ALL_VISITS:
             model.updateFilteredVisitList(PREDICATE_SHOW_ALL_VISITS);
-            return new CommandResult(MESSAGE_SUCCESS_ALL_VISITS, false, false,
+            listOrder.ifPresent(model::sortFilteredVisitList);
+            return new CommandResult(MESSAGE_SUCCESS_ALL_VISITS + getOrderMessage(), false, false,
                     CommandResult.SWITCH_TO_VIEW_VISITS);
         case ALL_INFECTED:
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_INFECTED);
-            return new CommandResult(MESSAGE_SUCCESS_ALL_INFECTED, false, false,
+            listOrder.ifPresent(model::sortFilteredPersonList);
+            return new CommandResult(MESSAGE_SUCCESS_ALL_INFECTED + getOrderMessage(), false, false,
                     CommandResult.SWITCH_TO_VIEW_PEOPLE);
         case ALL_QUARANTINED:
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_QUARANTINED);
-            return new CommandResult(MESSAGE_SUCCESS_ALL_QUARANTINED, false, false,
+            listOrder.ifPresent(model::sortFilteredPersonList);
+            return new CommandResult(MESSAGE_SUCCESS_ALL_QUARANTINED + getOrderMessage(), false, false,
                     CommandResult.SWITCH_TO_VIEW_PEOPLE);
         case STATISTICS:
             String stats = model.getInfoHandler().getStatistics();
             return new CommandResult(MESSAGE_SUCCESS_STATISTICS + "\n" + stats);
+        case STATISTICS_HISTORY:
+            return listStatisticsHistory(model);
         case HIGH_RISK_LOCATIONS:
             Predicate<Location> predicateForHighRiskLocations =
                     ModelPredicate.getPredicateForHighRiskLocations(model);
             model.updateFilteredLocationList(predicateForHighRiskLocations);
-            return new CommandResult(MESSAGE_SUCCESS_HIGH_RISK_LOCATIONS, false, false,
+            Set<Index> highRiskLocationIds = model.getFilteredLocationList().stream()
+                    .map(Location::getId).collect(Collectors.toSet());
+            String connectedLocations = model.getInfoHandler().getConnectedLocationSummary(highRiskLocationIds);
+            return new CommandResult(MESSAGE_SUCCESS_HIGH_RISK_LOCATIONS + "\n" + connectedLocations, false, false,
                     CommandResult.SWITCH_TO_VIEW_LOCATIONS);
+        case UNIQUE_VISITORS:
+            String uniqueVisitors = model.getInfoHandler().getUniqueVisitorStatistics();
+            return new CommandResult(MESSAGE_SUCCESS_UNIQUE_VISITORS + "\n" + uniqueVisitors);
+        case CLUSTERS:
+            String clusters = model.getInfoHandler().getClusterSummary();
+            return new CommandResult(MESSAGE_SUCCESS_CLUSTERS + "\n" + clusters);
+        case OUTBREAK_ALERTS:
+            String alerts = model.getInfoHandler().getOutbreakAlertSummary();
+            return new CommandResult(MESSAGE_SUCCESS_OUTBREAK_ALERTS + "\n" + alerts);
+        case AT_RISK:
+            model.updateFilteredPersonList(ModelPredicate.getPredicateForPeopleAtRisk(model));
+            model.sortFilteredPersonList(ListOrder.RISK);
+            String atRisk = model.getInfoHandler().getRiskScoreSummary();
+            return new CommandResult(String.format(MESSAGE_SUCCESS_AT_RISK, model.getFilteredPersonList().size())
+                    + "\n" + atRisk, false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        case SUPER_SPREADERS:
+            List<Person> superSpreaders = model.getSuperSpreaders(SUPER_SPREADER_COUNT);
+            model.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(
+                    superSpreaders.stream().map(Person::getId).collect(Collectors.toList())));
+            String superSpreaderSummary = model.getInfoHandler().getSuperSpreaderSummary(superSpreaders);
+            return new CommandResult(String.format(MESSAGE_SUCCESS_SUPER_SPREADERS, superSpreaders.size())
+                    + "\n" + superSpreaderSummary, false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        case LOCATION_TRENDS:
+            String trends = model.getInfoHandler().getLocationTrendSummary();
+            return new CommandResult(MESSAGE_SUCCESS_LOCATION_TRENDS + "\n" + trends);
+        case PERFORMANCE:
+            String performance = model.getCommandMetrics().getSummary();
+            return new CommandResult(MESSAGE_SUCCESS_PERFORMANCE + "\n" + performance);
         default:
             throw new CommandException(INVALID_LIST_TYPE);
         }
     }
 
+    /**
+     * Lists the statistics recorded in the date range, reading only that range of the history file.
+     */
+    private CommandResult listStatisticsHistory(Model model) throws CommandException {
+        LocalDate end = endDate.orElseGet(LocalDate::now);
+        LocalDate start = startDate.orElseGet(() -> end.minusDays(DEFAULT_HISTORY_DAYS - 1));
+        if (start.isAfter(end)) {
+            throw new CommandException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        List<StatisticsSnapshot> snapshots;
+        try {
+            snapshots = new BinaryStatisticsHistoryStorage(getStatisticsHistoryFilePath(model))
+                    .readStatisticsHistory(start, end);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(MESSAGE_HISTORY_NOT_READ + e, e);
+        }
+        String history = model.getInfoHandler().getStatisticsHistory(snapshots, start, end);
+        return new CommandResult(MESSAGE_SUCCESS_STATISTICS_HISTORY + "\n" + history);
+    }
+
+    /**
+     * Returns the path of the statistics history, which is saved next to the visit book.
+     */
+    public static Path getStatisticsHistoryFilePath(Model model) {
+        requireNonNull(model);
+        return model.getVisitBookFilePath().resolveSibling(BinaryStatisticsHistoryStorage.FILE_NAME);
+    }
+
+    private String getOrderMessage() {
+        return listOrder.map(order -> String.format(MESSAGE_ORDER, order.toString().toLowerCase())).orElse("");
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ListCommand // instanceof handles nulls
-                && listType.equals(((ListCommand) other).listType)); // state check
+                && listType.equals(((ListCommand) other).listType)
+                && listOrder.equals(((ListCommand) other).listOrder)
+                && startDate.equals(((ListCommand) other).startDate)
+                && endDate.equals(((ListCommand) other).endDate)); // state check
     }
 }
 
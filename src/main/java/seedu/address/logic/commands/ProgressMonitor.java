@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+/**
+ * Lets a long-running command report how far it has got and find out whether the user has cancelled it.
+ */
+public interface ProgressMonitor {
+
+    /** A monitor for commands that are not watched by anyone and cannot be cancelled. */
+    ProgressMonitor NONE = new ProgressMonitor() {
+        @Override
+        public void setProgress(long done, long total) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    };
+
+    /**
+     * Reports that {@code done} out of {@code total} units of work are done.
+     */
+    void setProgress(long done, long total);
+
+    /**
+     * Returns true if the user has cancelled the command, which should then stop as soon as it can and leave the
+     * model in a consistent state.
+     */
+    boolean isCancelled();
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the last undone change to the persons, locations and visits in VirusTracker.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redid the last undone change.";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no change to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.redoBooks()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
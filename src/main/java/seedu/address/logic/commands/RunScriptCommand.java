@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.commands.CommandResult.SWITCH_NONE;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands of a script one after another, as a single command. The data is saved once after the whole
+ * script has run, instead of once after each of its commands.
+ */
+public class RunScriptCommand extends Command {
+
+    public static final String COMMAND_WORD = "runScript";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in the specified text file, one "
+            + "command per line. Blank lines and lines starting with \"#\" are skipped. "
+            + "None of the commands are run if any line is not a valid command.\n"
+            + "Parameters: FILE_PATH\n"
+            + "FILE_PATH is the absolute file path of the script.\n"
+            + "Example: " + COMMAND_WORD + " C:/Users/admin/nightly.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from the script.";
+    public static final String MESSAGE_FAILED = "Stopped at line %1$d of the script after running %2$d commands:\n"
+            + "%3$s";
+    public static final String MESSAGE_CANCELLED = "Cancelled after running %1$d of %2$d commands from the script.";
+
+    private final SortedMap<Integer, Command> commandsByLine;
+
+    /**
+     * Creates a RunScriptCommand to run the commands in {@code commandsByLine} in the order of their line numbers.
+     */
+    public RunScriptCommand(Map<Integer, Command> commandsByLine) {
+        requireNonNull(commandsByLine);
+        this.commandsByLine = new TreeMap<>(commandsByLine);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
+        requireAllNonNull(model, monitor);
+
+        // The commands of the script are cancelled with it, but their own progress is not shown.
+        ProgressMonitor commandMonitor = new ProgressMonitor() {
+            @Override
+            public void setProgress(long done, long total) {
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return monitor.isCancelled();
+            }
+        };
+
+        int commandsRun = 0;
+        String switchState = SWITCH_NONE;
+        for (Map.Entry<Integer, Command> line : commandsByLine.entrySet()) {
+            if (monitor.isCancelled()) {
+                return new CommandResult(String.format(MESSAGE_CANCELLED, commandsRun, commandsByLine.size()),
+                        false, false, switchState);
+            }
+            monitor.setProgress(commandsRun, commandsByLine.size());
+
+            CommandResult commandResult;
+            try {
+                commandResult = line.getValue().execute(model, commandMonitor);
+            } catch (CommandException e) {
+                // The commands before this one have changed the data, so they are still saved.
+                return new CommandResult(String.format(MESSAGE_FAILED, line.getKey(), commandsRun, e.getMessage()),
+                        false, false, switchState);
+            }
+            commandsRun++;
+            if (!commandResult.getSwitchState().equals(SWITCH_NONE)) {
+                switchState = commandResult.getSwitchState();
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandsRun), false, false, switchState);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunScriptCommand // instanceof handles nulls
+                && commandsByLine.equals(((RunScriptCommand) other).commandsByLine)); // state check
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tracing.SpreadSimulation;
+import seedu.address.model.tracing.SpreadSimulator;
+
+/**
+ * Simulates the spread of the virus from all infected persons over their contacts many times, and lists the persons
+ * who got infected in any of the simulations.
+ */
+public class SimulateSpreadCommand extends Command {
+
+    public static final String COMMAND_WORD = "simulateSpread";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Simulates the spread of the virus from all infected "
+            + "people over their contacts many times, and displays the people who may get infected as a list of "
+            + "people.\n"
+            + "Parameters: PROBABILITY [RUNS] [SEED]\n"
+            + "PROBABILITY is the chance, from more than 0 to 1, that the virus spreads each time two people visit the "
+            + "same location within the contact window, from the earlier visit to the later one. RUNS is the number "
+            + "of simulations, from 1 to " + SpreadSimulator.MAX_RUNS + " (default " + SpreadSimulator.DEFAULT_RUNS
+            + "). Giving a SEED makes the results the same every time.\n"
+            + "Example: " + COMMAND_WORD + " 0.05 1000 42";
+
+    public static final int MAX_PERSONS_SHOWN = 10;
+
+    public static final String MESSAGE_NO_INFECTED_PERSONS = "There are no infected people to simulate the spread from";
+    public static final String MESSAGE_NO_PEOPLE_FOUND = "No people got infected in %1$d simulations with a "
+            + "transmission probability of %2$s";
+    public static final String MESSAGE_SUCCESS = "Simulated the spread from %1$d infected people %2$d times with a "
+            + "transmission probability of %3$s and seed %4$d. %5$.2f more people got infected on average.\n"
+            + "People most likely to get infected:";
+    public static final String MESSAGE_PERSON_AT_RISK = "%1$d. %2$s: %3$.1f%%";
+
+    private final double transmissionProbability;
+    private final int runs;
+    private final Optional<Long> seed;
+
+    /**
+     * Creates a SimulateSpreadCommand that runs {@code runs} simulations with the random numbers from {@code seed},
+     * or from a new random seed each time if it is empty.
+     */
+    public SimulateSpreadCommand(double transmissionProbability, int runs, Optional<Long> seed) {
+        requireNonNull(seed);
+        this.transmissionProbability = transmissionProbability;
+        this.runs = runs;
+        this.seed = seed;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> persons = model.getPersonBook().getPersonList();
+        SpreadSimulator simulator = new SpreadSimulator(persons, model.getVisitBook(),
+                model.getUserPrefs().getContactWindowDays());
+        long seedUsed = seed.orElseGet(() -> new Random().nextLong());
+        SpreadSimulation simulation = simulator.simulate(transmissionProbability, runs, seedUsed);
+        if (simulation.getNumberOfInfected() == 0) {
+            throw new CommandException(MESSAGE_NO_INFECTED_PERSONS);
+        }
+        List<Index> personsAtRisk = simulation.getPersonsAtRisk();
+        if (personsAtRisk.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_PEOPLE_FOUND, runs, transmissionProbability));
+        }
+
+        Map<Index, Person> personsById = new HashMap<>();
+        persons.forEach(person -> personsById.put(person.getId(), person));
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, simulation.getNumberOfInfected(),
+                runs, transmissionProbability, seedUsed, simulation.getExpectedNewInfections()));
+        for (int i = 0; i < Math.min(MAX_PERSONS_SHOWN, personsAtRisk.size()); i++) {
+            Index personId = personsAtRisk.get(i);
+            feedback.append("\n").append(String.format(MESSAGE_PERSON_AT_RISK, i + 1,
+                    personsById.get(personId).getName(), simulation.getInfectionProbability(personId) * 100));
+        }
+
+        model.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(personsAtRisk));
+        return new CommandResult(feedback.toString(), false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SimulateSpreadCommand)) {
+            return false;
+        }
+
+        SimulateSpreadCommand otherCommand = (SimulateSpreadCommand) other;
+        return transmissionProbability == otherCommand.transmissionProbability
+                && runs == otherCommand.runs
+                && seed.equals(otherCommand.seed);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tracing.ExposureReport;
+
+/**
+ * Finds the contacts of all infected persons at once, lists them and saves an exposure report linking each contact to
+ * the infected persons they were in contact with.
+ */
+public class TraceAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "traceAll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all people who have been in contact with any "
+            + "infected person, displays them as a list of people and saves an exposure report in the data folder.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String REPORT_FILE_NAME = "exposurereport.csv";
+
+    public static final String MESSAGE_NO_INFECTED_PERSONS = "There are no infected people to trace";
+    public static final String MESSAGE_NO_PEOPLE_FOUND = "There were no people in contact with any infected person";
+    public static final String MESSAGE_SUCCESS = "Traced %1$d people in contact with %2$d infected people.\n"
+            + "Exposure report saved to %3$s";
+    public static final String MESSAGE_REPORT_NOT_SAVED = "Could not save exposure report to file: ";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ExposureReport report = model.getInfoHandler().generateExposureReport();
+        if (report.getNumberOfSources() == 0) {
+            throw new CommandException(MESSAGE_NO_INFECTED_PERSONS);
+        }
+        if (report.getNumberOfContacts() == 0) {
+            throw new CommandException(MESSAGE_NO_PEOPLE_FOUND);
+        }
+
+        Path reportFilePath = getReportFilePath(model);
+        Map<Index, Person> personsById = new HashMap<>();
+        model.getPersonBook().getPersonList().forEach(person -> personsById.put(person.getId(), person));
+        try {
+            FileUtil.createIfMissing(reportFilePath);
+            FileUtil.writeToFile(reportFilePath, report.toCsv(personsById));
+        } catch (IOException ioe) {
+            throw new CommandException(MESSAGE_REPORT_NOT_SAVED + ioe, ioe);
+        }
+
+        model.updateFilteredPersonList(
+                ModelPredicate.getPredicateShowPeopleById(new ArrayList<>(report.getContactIds())));
+        return new CommandResult(
+                String.format(MESSAGE_SUCCESS, report.getNumberOfContacts(), report.getNumberOfSources(),
+                        reportFilePath),
+                false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+    }
+
+    /**
+     * Returns the path of the exposure report, which is saved next to the visit book.
+     */
+    public static Path getReportFilePath(Model model) {
+        requireNonNull(model);
+        return model.getVisitBookFilePath().resolveSibling(REPORT_FILE_NAME);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || other instanceof TraceAllCommand; // instanceof handles nulls
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the last change to the persons, locations and visits in VirusTracker.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undid the last change.";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no change to undo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.undoBooks()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.logic.commands.location;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.CommandResult.SWITCH_TO_VIEW_LOCATIONS;
 
 import java.util.List;
 
 import seedu.address.logic.commands.AddFromCsvCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.location.Location;
@@ -30,7 +32,12 @@ public class AddLocationsFromCsvCommand extends AddFromCsvCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
+        requireAllNonNull(model, monitor);
 
         if (locationsToAdd.size() == 0) {
             throw new CommandException(MESSAGE_EMPTY_LIST);
@@ -38,8 +45,15 @@ public class AddLocationsFromCsvCommand extends AddFromCsvCommand {
 
         StringBuilder linesWithDuplicates = new StringBuilder();
         int successfulAdditions = 0;
+        int linesRead = 0;
 
         for (int i = 0; i < locationsToAdd.size(); i++) {
+            if (monitor.isCancelled()) {
+                break;
+            }
+            monitor.setProgress(i, locationsToAdd.size());
+            linesRead++;
+
             Location location = locationsToAdd.get(i);
 
             // Duplicate location found
@@ -52,7 +66,8 @@ public class AddLocationsFromCsvCommand extends AddFromCsvCommand {
             successfulAdditions++;
         }
 
-        String successMessage = createSuccessMessage(successfulAdditions, linesWithDuplicates.toString());
+        String successMessage = createSuccessMessage(successfulAdditions, linesRead,
+                linesWithDuplicates.toString());
         return new CommandResult(successMessage, false, false, SWITCH_TO_VIEW_LOCATIONS);
     }
 
@@ -60,17 +75,23 @@ public class AddLocationsFromCsvCommand extends AddFromCsvCommand {
      * Creates the correct success message.
      *
      * @param numOfUniqueAdditions Number of non duplicate locations added to the VirusTracker.
+     * @param linesRead Number of lines read before the command finished or was cancelled.
      * @param linesWithDuplicates Line numbers of the duplicate locations.
      * @return A success message with number of duplicates detected, if any.
      */
-    private String createSuccessMessage(int numOfUniqueAdditions, String linesWithDuplicates) {
-        assert numOfUniqueAdditions <= locationsToAdd.size();
+    private String createSuccessMessage(int numOfUniqueAdditions, int linesRead, String linesWithDuplicates) {
+        assert numOfUniqueAdditions <= linesRead && linesRead <= locationsToAdd.size();
 
         StringBuilder successMessage = new StringBuilder(String.format(MESSAGE_SUCCESS, numOfUniqueAdditions,
                 LOCATIONS));
 
+        // The command was cancelled before all the lines were read
+        if (linesRead < locationsToAdd.size()) {
+            successMessage.insert(0, String.format(MESSAGE_CANCELLED, linesRead, locationsToAdd.size()));
+        }
+
         // There are duplicates
-        if (numOfUniqueAdditions < locationsToAdd.size()) {
+        if (numOfUniqueAdditions < linesRead) {
             successMessage.append(String.format(MESSAGE_DUPLICATES_NOT_ADDED, LOCATIONS, linesWithDuplicates));
         }
 
@@ -1,12 +1,14 @@
 package seedu.address.logic.commands.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.CommandResult.SWITCH_TO_VIEW_PEOPLE;
 
 import java.util.List;
 
 import seedu.address.logic.commands.AddFromCsvCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -27,7 +29,12 @@ public class AddPersonsFromCsvCommand extends AddFromCsvCommand {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        requireNonNull(model);
+        return execute(model, ProgressMonitor.NONE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, ProgressMonitor monitor) throws CommandException {
+        requireAllNonNull(model, monitor);
 
         if (peopleToAdd.size() == 0) {
             throw new CommandException(MESSAGE_EMPTY_LIST);
@@ -35,8 +42,15 @@ public class AddPersonsFromCsvCommand extends AddFromCsvCommand {
 
         StringBuilder linesWithDuplicates = new StringBuilder();
         int successfulAdditions = 0;
+        int linesRead = 0;
 
         for (int i = 0; i < peopleToAdd.size(); i++) {
+            if (monitor.isCancelled()) {
+                break;
+            }
+            monitor.setProgress(i, peopleToAdd.size());
+            linesRead++;
+
             Person person = peopleToAdd.get(i);
 
             // Duplicate person found
@@ -49,7 +63,8 @@ public class AddPersonsFromCsvCommand extends AddFromCsvCommand {
             successfulAdditions++;
         }
 
-        String successMessage = createSuccessMessage(successfulAdditions, linesWithDuplicates.toString());
+        String successMessage = createSuccessMessage(successfulAdditions, linesRead,
+                linesWithDuplicates.toString());
         return new CommandResult(successMessage, false, false, SWITCH_TO_VIEW_PEOPLE);
     }
 
@@ -57,17 +72,23 @@ public class AddPersonsFromCsvCommand extends AddFromCsvCommand {
      * Creates the correct success message.
      *
      * @param numOfUniqueAdditions Number of non duplicate persons added to the VirusTracker.
+     * @param linesRead Number of lines read before the command finished or was cancelled.
      * @param linesWithDuplicates Line numbers of the duplicate persons.
      * @return A success message with number of duplicates detected, if any.
      */
-    private String createSuccessMessage(int numOfUniqueAdditions, String linesWithDuplicates) {
-        assert numOfUniqueAdditions <= peopleToAdd.size();
+    private String createSuccessMessage(int numOfUniqueAdditions, int linesRead, String linesWithDuplicates) {
+        assert numOfUniqueAdditions <= linesRead && linesRead <= peopleToAdd.size();
 
         StringBuilder successMessage = new StringBuilder(
                 String.format(MESSAGE_SUCCESS, numOfUniqueAdditions, PERSONS));
 
+        // The command was cancelled before all the lines were read
+        if (linesRead < peopleToAdd.size()) {
+            successMessage.insert(0, String.format(MESSAGE_CANCELLED, linesRead, peopleToAdd.size()));
+        }
+
         // There are duplicates
-        if (numOfUniqueAdditions < peopleToAdd.size()) {
+        if (numOfUniqueAdditions < linesRead) {
             successMessage.append(String.format(MESSAGE_DUPLICATES_NOT_ADDED, PERSONS, linesWithDuplicates));
         }
 
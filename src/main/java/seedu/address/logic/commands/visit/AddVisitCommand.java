@@ -13,6 +13,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.tracing.StayHomeViolation;
 import seedu.address.model.visit.Visit;
 
 /**
@@ -86,7 +87,7 @@ public class AddVisitCommand extends Command {
         boolean isPersonInfected = person.getInfectionStatus().getStatusAsBoolean();
         boolean isPersonQuarantined = person.getQuarantineStatus().getStatusAsBoolean();
 
-        if (person.getAddress().equals(location.getAddress())) { // Person stayed home
+        if (!StayHomeViolation.isViolation(person, location)) { // Person stayed home or is not flagged
             return MESSAGE_NO_WARNING;
         }
 
@@ -94,10 +95,8 @@ public class AddVisitCommand extends Command {
             return MESSAGE_INFECTED_AND_QUARANTINED_MADE_VISIT;
         } else if (isPersonInfected) { // Person is infected only
             return MESSAGE_INFECTED_MADE_VISIT;
-        } else if (isPersonQuarantined) { // Person is in quarantine only
+        } else { // Person is in quarantine only
             return MESSAGE_QUARANTINED_MADE_VISIT;
-        } else { // Person is not infected or in quarantine
-            return MESSAGE_NO_WARNING;
         }
     }
 
@@ -0,0 +1,276 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses the lines of a CSV file in stages that run at the same time. One thread reads the file, a pool of threads
+ * parses and validates the lines, and the calling thread collects the parsed rows in the order of their lines.
+ *
+ * The stages hand batches of lines to each other through bounded queues, so a large file is never read more than a
+ * few batches ahead of the slowest stage.
+ */
+class CsvPipeline {
+
+    static final int BATCH_SIZE = 512;
+    static final String MESSAGE_INTERRUPTED = "Reading the CSV file was interrupted.";
+    static final String MESSAGE_READ_FAILED = "The CSV file could not be read after line %1$d, so nothing was "
+            + "imported: %2$s";
+    static final String MESSAGE_NOT_TEXT = "The next line is not text in the %1$s character set";
+
+    // Put in place of bytes that cannot be decoded, so that the lines before them are still read.
+    private static final char NOT_TEXT_REPLACEMENT = '\uFFFD';
+
+    // Number of batches that each queue holds before the stage that fills it has to wait.
+    private static final int QUEUE_CAPACITY = 8;
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Parses a line of a CSV file into a row.
+     */
+    @FunctionalInterface
+    interface RowParser<R> {
+        /**
+         * Returns the row on the line with {@code lineNumber}, counting from 1.
+         *
+         * @throws ParseException if the line is not a valid row.
+         */
+        R parse(String line, int lineNumber) throws ParseException;
+    }
+
+    // Prevent instantiation
+    private CsvPipeline() {};
+
+    /**
+     * Parses every line of the CSV file at {@code filepath} with {@code rowParser}.
+     * Blank lines at the end of the file are ignored.
+     *
+     * @return The parsed rows, in the order of their lines.
+     * @throws ParseException if the file cannot be opened or read to the end, or with the error of the first line
+     *     that cannot be parsed, whichever comes first in the file.
+     */
+    static <R> List<R> parseRows(String filepath, RowParser<R> rowParser) throws ParseException {
+        requireAllNonNull(filepath, rowParser);
+        return parseRows(openFile(filepath), rowParser);
+    }
+
+    /**
+     * Parses every line of {@code reader} with {@code rowParser}, closing it afterwards.
+     *
+     * @see #parseRows(String, RowParser)
+     */
+    static <R> List<R> parseRows(BufferedReader reader, RowParser<R> rowParser) throws ParseException {
+        requireAllNonNull(reader, rowParser);
+        int workerCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        BlockingQueue<Batch<R>> linesRead = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Batch<R>> rowsParsed = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Batch<R> end = new Batch<>(-1, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount + 1, runnable -> {
+            Thread thread = new Thread(runnable, "csv-import-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            executor.execute(() -> readBatches(reader, linesRead, end, workerCount));
+            for (int i = 0; i < workerCount; i++) {
+                executor.execute(() -> parseBatches(rowParser, linesRead, rowsParsed, end));
+            }
+            return collectRows(rowsParsed, end, workerCount);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParseException(MESSAGE_INTERRUPTED);
+        } finally {
+            // Stops the other stages early if a line could not be parsed.
+            executor.shutdownNow();
+        }
+    }
+
+    private static BufferedReader openFile(String filepath) throws ParseException {
+        try {
+            CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                    .replaceWith(String.valueOf(NOT_TEXT_REPLACEMENT));
+            return new BufferedReader(new InputStreamReader(new FileInputStream(filepath), decoder));
+        } catch (FileNotFoundException e) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+    }
+
+    /**
+     * Reads the lines of {@code reader} into batches, then tells each of the {@code workerCount} workers to stop.
+     * If the file cannot be read to the end, such as when it is not text in the default character set, the last batch
+     * carries the error, so that the collector fails once it has checked the lines read before it.
+     */
+    private static <R> void readBatches(BufferedReader reader, BlockingQueue<Batch<R>> linesRead, Batch<R> end,
+                                        int workerCount) {
+        int sequence = 0;
+        int lineNumber = 1;
+        Batch<R> batch = new Batch<>(sequence++, lineNumber);
+        // Blank lines are only parsed once a line after them turns out not to be blank.
+        List<String> pendingLines = new ArrayList<>();
+        try (reader) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.indexOf(NOT_TEXT_REPLACEMENT) >= 0) {
+                    batch.readFailure = new ParseException(String.format(MESSAGE_READ_FAILED,
+                            lineNumber - 1 + pendingLines.size(),
+                            String.format(MESSAGE_NOT_TEXT, Charset.defaultCharset())));
+                    break;
+                }
+                pendingLines.add(line);
+                if (line.isBlank()) {
+                    continue;
+                }
+                for (String pendingLine : pendingLines) {
+                    batch.lines.add(pendingLine);
+                    lineNumber++;
+                    if (batch.lines.size() == BATCH_SIZE) {
+                        linesRead.put(batch);
+                        batch = new Batch<>(sequence++, lineNumber);
+                    }
+                }
+                pendingLines.clear();
+            }
+        } catch (IOException e) {
+            batch.readFailure = new ParseException(String.format(MESSAGE_READ_FAILED,
+                    lineNumber - 1 + pendingLines.size(), e));
+        } catch (InterruptedException e) {
+            return;
+        }
+        putQuietly(linesRead, batch);
+        for (int i = 0; i < workerCount; i++) {
+            putQuietly(linesRead, end);
+        }
+    }
+
+    /**
+     * Parses the batches in {@code linesRead} until told to stop, then tells the collector that this worker is done.
+     */
+    private static <R> void parseBatches(RowParser<R> rowParser, BlockingQueue<Batch<R>> linesRead,
+                                         BlockingQueue<Batch<R>> rowsParsed, Batch<R> end) {
+        try {
+            Batch<R> batch;
+            while ((batch = linesRead.take()) != end) {
+                batch.parse(rowParser);
+                rowsParsed.put(batch);
+            }
+            rowsParsed.put(end);
+        } catch (InterruptedException e) {
+            // The collector has stopped, so there is no one left to hand the rows to.
+        }
+    }
+
+    /**
+     * Collects the rows of the batches in {@code rowsParsed} in the order that they were read, until all
+     * {@code workerCount} workers are done.
+     */
+    private static <R> List<R> collectRows(BlockingQueue<Batch<R>> rowsParsed, Batch<R> end, int workerCount)
+            throws ParseException, InterruptedException {
+        List<R> rows = new ArrayList<>();
+        // Batches that were parsed before a batch read earlier than them.
+        Map<Integer, Batch<R>> waitingBatches = new HashMap<>();
+        int nextSequence = 0;
+        int workersDone = 0;
+        while (workersDone < workerCount) {
+            Batch<R> batch = rowsParsed.take();
+            if (batch == end) {
+                workersDone++;
+                continue;
+            }
+            waitingBatches.put(batch.sequence, batch);
+            while ((batch = waitingBatches.remove(nextSequence)) != null) {
+                batch.rethrowFailure();
+                rows.addAll(batch.rows);
+                nextSequence++;
+            }
+        }
+        assert waitingBatches.isEmpty();
+        return rows;
+    }
+
+    private static <R> void putQuietly(BlockingQueue<Batch<R>> queue, Batch<R> batch) {
+        try {
+            queue.put(batch);
+        } catch (InterruptedException e) {
+            // The collector has stopped, so there is no one left to hand the batch to.
+        }
+    }
+
+    /**
+     * Consecutive lines of the file, which become rows once they are parsed.
+     */
+    private static class Batch<R> {
+        private final int sequence;
+        private final int firstLineNumber;
+        private final List<String> lines = new ArrayList<>();
+        private final List<R> rows = new ArrayList<>();
+        private ParseException failure;
+        private Throwable uncheckedFailure;
+        // The error reading the file after the lines of this batch.
+        private ParseException readFailure;
+
+        private Batch(int sequence, int firstLineNumber) {
+            this.sequence = sequence;
+            this.firstLineNumber = firstLineNumber;
+        }
+
+        /**
+         * Parses the lines of this batch, stopping at the first line that cannot be parsed.
+         */
+        private void parse(RowParser<R> rowParser) {
+            requireNonNull(rowParser);
+            try {
+                for (int i = 0; i < lines.size(); i++) {
+                    rows.add(rowParser.parse(lines.get(i), firstLineNumber + i));
+                }
+            } catch (ParseException pe) {
+                failure = pe;
+            } catch (RuntimeException | Error e) {
+                // Handed to the calling thread, as the collector would otherwise wait for this batch forever.
+                uncheckedFailure = e;
+            }
+        }
+
+        /**
+         * Throws the error of the line that could not be parsed, if there is one, or else the error reading the file
+         * after this batch.
+         */
+        private void rethrowFailure() throws ParseException {
+            if (uncheckedFailure instanceof Error) {
+                throw (Error) uncheckedFailure;
+            }
+            if (uncheckedFailure instanceof RuntimeException) {
+                throw (RuntimeException) uncheckedFailure;
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (readFailure != null) {
+                throw readFailure;
+            }
+        }
+    }
+}
@@ -1,19 +1,17 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
 import static seedu.address.commons.core.Messages.MESSAGE_MISSING_DATA_FORMAT;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -32,6 +30,7 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Generates objects using data provided in CSV files.
+ * The lines of a file are parsed on several threads at once by a {@code CsvPipeline}.
  */
 public class DataGenerator {
     public static final Character DEFAULT_SEPARATOR = ',';
@@ -56,31 +55,23 @@ public class DataGenerator {
      * @throws ParseException if there is any formatting error present.
      */
     public static List<Person> generatePersonsList(String filepath) throws ParseException {
-        Scanner scanner = readFile(filepath);
-        List<Person> personsList = new ArrayList<>();
+        List<Supplier<Person>> personsList = CsvPipeline.parseRows(filepath, (line, lineNumber) ->
+                generatePerson(generateDataValues(line), lineNumber));
 
-        // Used to detect which line had an error
-        int lineNumber = 1;
-
-        while (scanner.hasNext()) {
-            List<String> dataValues = generateDataValues(scanner.nextLine());
-            Person person = generatePerson(dataValues, lineNumber);
-            personsList.add(person);
-            lineNumber++;
-        }
-
-        return personsList;
+        // Persons are given their ids as they are created, so they are created in the order of their lines.
+        return personsList.stream().map(Supplier::get).collect(Collectors.toList());
     }
 
     /**
      * Generates a {@code Person} from the given parameters.
+     * The parameters are checked straight away, but the person is only created when the returned supplier is called.
      *
      * @param dataValues A list containing fields to create a {@code Person}.
      * @param lineNumber The current line number of the CSV that we are on. Used for error handling.
-     * @return A person with the given parameters.
+     * @return A supplier of the person with the given parameters.
      * @throws ParseException if there are not enough parameters to create a person.
      */
-    private static Person generatePerson(List<String> dataValues, int lineNumber) throws ParseException {
+    private static Supplier<Person> generatePerson(List<String> dataValues, int lineNumber) throws ParseException {
         assert MIN_PERSON_PARAMETERS >= 6;
 
         // Check if enough parameters; 6 compulsory parameters required for adding a Person
@@ -103,7 +94,7 @@ public class DataGenerator {
             }
             Set<Tag> tagList = ParserUtil.parseTags(tags);
 
-            return new Person(name, phone, email, address, quarantineStatus, infectionStatus, tagList);
+            return () -> new Person(name, phone, email, address, quarantineStatus, infectionStatus, tagList);
         } catch (ParseException pe) {
             throw new ParseException(String.format(INVALID_ROW_FORMAT, lineNumber, pe.getMessage()));
         }
@@ -118,31 +109,23 @@ public class DataGenerator {
      * @throws ParseException if there is any formatting error present.
      */
     public static List<Location> generateLocationsList(String filepath) throws ParseException {
-        Scanner scanner = readFile(filepath);
-        List<Location> locationsList = new ArrayList<>();
+        List<Supplier<Location>> locationsList = CsvPipeline.parseRows(filepath, (line, lineNumber) ->
+                generateLocation(generateDataValues(line), lineNumber));
 
-        // Used to detect which line had an error
-        int lineNumber = 1;
-
-        while (scanner.hasNext()) {
-            List<String> dataValues = generateDataValues(scanner.nextLine());
-            Location location = generateLocation(dataValues, lineNumber);
-            locationsList.add(location);
-            lineNumber++;
-        }
-
-        return locationsList;
+        // Locations are given their ids as they are created, so they are created in the order of their lines.
+        return locationsList.stream().map(Supplier::get).collect(Collectors.toList());
     }
 
     /**
      * Generates a {@code Location} from the given parameters.
+     * The parameters are checked straight away, but the location is only created when the returned supplier is called.
      *
      * @param dataValues A list containing fields to create a {@code Location}.
      * @param lineNumber The current line number of the CSV that we are on. Used for error handling.
-     * @return A location with the given parameters.
+     * @return A supplier of the location with the given parameters.
      * @throws ParseException if there are not enough parameters to create a location.
      */
-    private static Location generateLocation(List<String> dataValues, int lineNumber) throws ParseException {
+    private static Supplier<Location> generateLocation(List<String> dataValues, int lineNumber) throws ParseException {
         assert MIN_LOCATION_PARAMETERS >= 2;
 
         // Check if enough parameters; 2 compulsory parameters required for adding a Location
@@ -154,7 +137,7 @@ public class DataGenerator {
             Name name = ParserUtil.parseName(dataValues.get(0));
             Address address = ParserUtil.parseAddress(dataValues.get(1));
 
-            return new Location(name, address);
+            return () -> new Location(name, address);
         } catch (ParseException pe) {
             throw new ParseException(String.format(INVALID_ROW_FORMAT, lineNumber, pe.getMessage()));
         }
@@ -172,20 +155,8 @@ public class DataGenerator {
      * @throws ParseException if there is any formatting error present.
      */
     public static List<VisitParametersContainer> generateVisitsList(String filepath) throws ParseException {
-        Scanner scanner = readFile(filepath);
-        List<VisitParametersContainer> visitParametersList = new ArrayList<>();
-
-        // Used to detect which line had an error
-        int lineNumber = 1;
-
-        while (scanner.hasNext()) {
-            List<String> dataValues = generateDataValues(scanner.nextLine());
-            VisitParametersContainer visitParameters = generateVisitParametersContainer(dataValues, lineNumber);
-            visitParametersList.add(visitParameters);
-            lineNumber++;
-        }
-
-        return visitParametersList;
+        return CsvPipeline.parseRows(filepath, (line, lineNumber) ->
+                generateVisitParametersContainer(generateDataValues(line), lineNumber));
     }
 
     /**
@@ -260,22 +231,6 @@ public class DataGenerator {
         return dataValues;
     }
 
-    /**
-     * Reads the file at the given file path.
-     *
-     * @param filepath The absolute file path of the file.
-     * @return A scanner containing the file's data.
-     * @throws ParseException if the specified file path is invalid.
-     */
-    private static Scanner readFile(String filepath) throws ParseException {
-        try {
-            Scanner scanner = new Scanner(new File(filepath));
-            return scanner;
-        } catch (FileNotFoundException e) {
-            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
-        }
-    }
-
     /**
      * This class serves as a container for Visits.
      * The stored parameters will be processed in the
@@ -1,10 +1,17 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListOrder;
 
 public class ListCommandParser implements Parser<ListCommand> {
 
@@ -15,13 +22,62 @@ public class ListCommandParser implements Parser<ListCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public ListCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIST);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_LIST, PREFIX_SORT, PREFIX_DATE);
         if (argMultimap.getValue(PREFIX_LIST).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         }
 
         ListType listType = ParserUtil.parseListType(argMultimap.getValue(PREFIX_LIST).get());
-        return new ListCommand(listType);
+        List<String> dates = argMultimap.getAllValues(PREFIX_DATE);
+        if (!dates.isEmpty()) {
+            return parseDateRange(listType, dates, argMultimap.getValue(PREFIX_SORT).isPresent());
+        }
+        if (argMultimap.getValue(PREFIX_SORT).isEmpty()) {
+            return new ListCommand(listType);
+        }
+
+        ListOrder listOrder = ParserUtil.parseListOrder(argMultimap.getValue(PREFIX_SORT).get());
+        if (!canBeOrderedBy(listType, listOrder)) {
+            throw new ParseException(ListCommand.MESSAGE_INVALID_ORDER);
+        }
+        return new ListCommand(listType, Optional.of(listOrder));
+    }
+
+    /**
+     * Parses the start date and the optional end date in {@code dates}, which can only be given for the statistics
+     * history.
+     */
+    private static ListCommand parseDateRange(ListType listType, List<String> dates, boolean hasOrder)
+            throws ParseException {
+        if (listType != ListType.STATISTICS_HISTORY || dates.size() > 2 || hasOrder) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(dates.get(0));
+        Optional<LocalDate> endDate = dates.size() == 2
+                ? Optional.of(ParserUtil.parseDate(dates.get(1)))
+                : Optional.empty();
+        if (endDate.isPresent() && startDate.isAfter(endDate.get())) {
+            throw new ParseException(ListCommand.MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new ListCommand(listType, Optional.of(startDate), endDate);
+    }
+
+    /**
+     * Returns true if the list shown for {@code listType} can be ordered by {@code listOrder}.
+     */
+    private static boolean canBeOrderedBy(ListType listType, ListOrder listOrder) {
+        switch (listType) {
+        case ALL_PEOPLE:
+        case ALL_INFECTED:
+        case ALL_QUARANTINED:
+            return listOrder == ListOrder.DEFAULT || listOrder == ListOrder.NAME || listOrder == ListOrder.EXPOSURE
+                    || listOrder == ListOrder.RISK;
+        case ALL_VISITS:
+            return listOrder == ListOrder.DEFAULT || listOrder == ListOrder.DATE;
+        default:
+            return false;
+        }
     }
 }
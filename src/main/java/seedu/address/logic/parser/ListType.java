@@ -7,5 +7,13 @@ public enum ListType {
     ALL_INFECTED,
     ALL_QUARANTINED,
     STATISTICS,
-    HIGH_RISK_LOCATIONS
+    STATISTICS_HISTORY,
+    HIGH_RISK_LOCATIONS,
+    CLUSTERS,
+    UNIQUE_VISITORS,
+    OUTBREAK_ALERTS,
+    AT_RISK,
+    SUPER_SPREADERS,
+    LOCATION_TRENDS,
+    PERFORMANCE
 }
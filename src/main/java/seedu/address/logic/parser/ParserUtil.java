@@ -14,6 +14,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListOrder;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.InfectionStatus;
@@ -205,11 +206,54 @@ public class ParserUtil {
             return ListType.ALL_QUARANTINED;
         case "stats":
             return ListType.STATISTICS;
+        case "statistics-history":
+            return ListType.STATISTICS_HISTORY;
         case "high-risk-locations":
             return ListType.HIGH_RISK_LOCATIONS;
+        case "clusters":
+            return ListType.CLUSTERS;
+        case "visitors":
+            return ListType.UNIQUE_VISITORS;
+        case "alerts":
+            return ListType.OUTBREAK_ALERTS;
+        case "at-risk":
+            return ListType.AT_RISK;
+        case "super-spreaders":
+            return ListType.SUPER_SPREADERS;
+        case "trends":
+            return ListType.LOCATION_TRENDS;
+        case "performance":
+            return ListType.PERFORMANCE;
         default:
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
         }
     }
 
+    /**
+     * Parses a {@code String listOrder} into a {@code ListOrder}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code listOrder} is invalid.
+     */
+    public static ListOrder parseListOrder(String listOrder) throws ParseException {
+        requireNonNull(listOrder);
+
+        String trimmedListOrder = listOrder.trim().toLowerCase();
+
+        switch (trimmedListOrder) {
+        case "default":
+            return ListOrder.DEFAULT;
+        case "name":
+            return ListOrder.NAME;
+        case "exposure":
+            return ListOrder.EXPOSURE;
+        case "risk":
+            return ListOrder.RISK;
+        case "date":
+            return ListOrder.DATE;
+        default:
+            throw new ParseException(ListCommand.MESSAGE_INVALID_ORDER);
+        }
+    }
+
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunScriptCommand object.
+ * Every line of the script is parsed before the command is created, so that a script with mistakes is not run at all.
+ */
+public class RunScriptCommandParser implements Parser<RunScriptCommand> {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_INVALID_LINES = "None of the commands were run because the script has "
+            + "mistakes:\n%1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_SCRIPT = "Scripts cannot run other scripts.";
+    public static final String MESSAGE_COMMAND_NOT_IN_SCRIPT = "%1$s cannot be used in a script. "
+            + "Run it after the script instead.";
+    public static final String MESSAGE_EMPTY_SCRIPT = "There are no commands in the script.";
+
+    // Undo and redo would act on the changes made by the script itself, and exit would stop the app partway through.
+    private static final Set<String> COMMAND_WORDS_NOT_IN_SCRIPT =
+            Set.of(UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunScriptCommand
+     * and returns a RunScriptCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the script cannot be read, or
+     *     any line of the script is not a valid command.
+     */
+    public RunScriptCommand parse(String args) throws ParseException {
+        String filepath = args.trim();
+        if (filepath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunScriptCommand.MESSAGE_USAGE));
+        }
+
+        List<String> lines;
+        try {
+            Path path = Paths.get(filepath);
+            lines = Files.readAllLines(path);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+
+        VirusTrackerParser parser = new VirusTrackerParser();
+        Map<Integer, Command> commandsByLine = new HashMap<>();
+        List<String> mistakes = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            String commandWord = line.split("\\s+")[0];
+            // Checked before parsing, which would read the other script
+            if (commandWord.equals(RunScriptCommand.COMMAND_WORD)) {
+                mistakes.add(String.format(MESSAGE_INVALID_LINE, lineNumber, MESSAGE_NESTED_SCRIPT));
+                continue;
+            }
+            if (COMMAND_WORDS_NOT_IN_SCRIPT.contains(commandWord)) {
+                mistakes.add(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                        String.format(MESSAGE_COMMAND_NOT_IN_SCRIPT, commandWord)));
+                continue;
+            }
+            try {
+                commandsByLine.put(lineNumber, parser.parseCommand(line));
+            } catch (ParseException pe) {
+                mistakes.add(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()));
+            }
+        }
+
+        if (!mistakes.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINES, String.join("\n", mistakes)));
+        }
+        if (commandsByLine.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_SCRIPT);
+        }
+        return new RunScriptCommand(commandsByLine);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SimulateSpreadCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tracing.SpreadSimulator;
+
+/**
+ * Parses input arguments and creates a new SimulateSpreadCommand object
+ */
+public class SimulateSpreadCommandParser implements Parser<SimulateSpreadCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SimulateSpreadCommand
+     * and returns a SimulateSpreadCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SimulateSpreadCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String[] values = trimmedArgs.split("\\s+");
+        if (trimmedArgs.isEmpty() || values.length > 3) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateSpreadCommand.MESSAGE_USAGE));
+        }
+
+        double transmissionProbability;
+        int runs = SpreadSimulator.DEFAULT_RUNS;
+        Optional<Long> seed = Optional.empty();
+        try {
+            transmissionProbability = Double.parseDouble(values[0]);
+            if (values.length > 1) {
+                runs = Integer.parseInt(values[1]);
+            }
+            if (values.length > 2) {
+                seed = Optional.of(Long.parseLong(values[2]));
+            }
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateSpreadCommand.MESSAGE_USAGE), nfe);
+        }
+
+        if (!(transmissionProbability > 0 && transmissionProbability <= 1)) {
+            throw new ParseException(SpreadSimulator.MESSAGE_INVALID_PROBABILITY);
+        }
+        if (runs <= 0 || runs > SpreadSimulator.MAX_RUNS) {
+            throw new ParseException(SpreadSimulator.MESSAGE_INVALID_RUNS);
+        }
+        return new SimulateSpreadCommand(transmissionProbability, runs, seed);
+    }
+
+}
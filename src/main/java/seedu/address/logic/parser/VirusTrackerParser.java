@@ -7,6 +7,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddFromCsvCommand;
+import seedu.address.logic.commands.CheckViolationsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
@@ -14,6 +15,11 @@ import seedu.address.logic.commands.GenerateLocationsCommand;
 import seedu.address.logic.commands.GeneratePeopleCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.SimulateSpreadCommand;
+import seedu.address.logic.commands.TraceAllCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.location.AddLocationCommand;
 import seedu.address.logic.commands.location.DeleteLocationCommand;
 import seedu.address.logic.commands.location.EditLocationCommand;
@@ -83,6 +89,12 @@ public class VirusTrackerParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case FindPersonCommand.COMMAND_WORD:
             return new FindPersonCommandParser().parse(arguments);
 
@@ -95,6 +107,15 @@ public class VirusTrackerParser {
         case GeneratePeopleCommand.COMMAND_WORD:
             return new GeneratePeopleCommandParser().parse(arguments);
 
+        case TraceAllCommand.COMMAND_WORD:
+            return new TraceAllCommand();
+
+        case CheckViolationsCommand.COMMAND_WORD:
+            return new CheckViolationsCommand();
+
+        case SimulateSpreadCommand.COMMAND_WORD:
+            return new SimulateSpreadCommandParser().parse(arguments);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -110,6 +131,9 @@ public class VirusTrackerParser {
         case AddFromCsvCommand.COMMAND_WORD:
             return new AddFromCsvCommandParser().parse(arguments);
 
+        case RunScriptCommand.COMMAND_WORD:
+            return new RunScriptCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
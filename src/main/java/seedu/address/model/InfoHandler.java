@@ -6,19 +6,33 @@ import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_INFECTED;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_QUARANTINED;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.statistics.HyperLogLog;
+import seedu.address.model.statistics.LocationTrend;
+import seedu.address.model.statistics.StatisticsSnapshot;
+import seedu.address.model.tracing.Cluster;
+import seedu.address.model.tracing.ContactTracer;
+import seedu.address.model.tracing.ExposureReport;
+import seedu.address.model.tracing.OutbreakAlert;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
 import seedu.address.model.visit.VisitBook;
@@ -42,6 +56,42 @@ public class InfoHandler {
     private static final String TOTAL_QUARANTINED_HEADER = "Total number of quarantined people:";
     private static final String PERCENTAGE_INFECTED = "Percentage of people infected:";
     private static final String PERCENTAGE_QUARANTINED = "Percentage of people quarantined:";
+    // Format for cluster display
+    private static final String CLUSTER_FORMAT = "Cluster %d: %d people (%d infected), locations: %s";
+    private static final String NO_CLUSTERS = "There are no clusters.";
+    private static final String NO_OUTBREAK_ALERTS = "There are no active outbreak alerts.";
+    private static final String NO_PEOPLE_AT_RISK = "There are no people at risk.";
+    private static final String RISK_SCORE_FORMAT = "%d. %s: %.2f";
+    private static final int RISK_SCORE_SUMMARY_SIZE = 10;
+    private static final String NO_SUPER_SPREADERS = "There are no people in contact with others.";
+    private static final String CONTACT_DEGREE_FORMAT = "%d. %s: %d contacts";
+    private static final int CONNECTED_LOCATION_SUMMARY_SIZE = 10;
+    private static final String CONNECTED_LOCATIONS_HEADER = "Other locations most often visited by the same people "
+            + "within %d days of a visit to a high risk location:";
+    private static final String CONNECTED_LOCATION_FORMAT = "%d. %s: %d co-visits";
+    private static final String NO_CONNECTED_LOCATIONS = "There are no other locations connected to the high risk "
+            + "locations.";
+    // Periods, in days, over which unique visitors are counted
+    private static final int SHORT_VISITOR_PERIOD = 7;
+    private static final int LONG_VISITOR_PERIOD = 28;
+    private static final String UNIQUE_VISITORS_HEADER = "Unique visitors in the %d and %d days up to %s:";
+    private static final String UNIQUE_VISITORS_FORMAT = "%s: %s in %d days, %s in %d days";
+    private static final String ESTIMATE_FORMAT = COUNT_FORMAT + " (+/- " + PERCENTAGE_FORMAT + "%%)";
+    private static final String NO_VISITS = "There are no visits.";
+
+    private static final int LOCATION_TREND_SUMMARY_SIZE = 10;
+    private static final String LOCATION_TRENDS_HEADER = "Locations with the most growth in visits by infected people "
+            + "in the week up to %s:";
+    private static final String LOCATION_TREND_FORMAT = "%d. %s: %d infected visits this week (7-day average %.2f), "
+            + "%d the week before";
+    private static final String NO_GROWING_LOCATIONS = "There are no locations with growing infections.";
+
+    private static final String STATISTICS_HISTORY_HEADER = "Statistics recorded at the end of each day from %s to %s:";
+    private static final String STATISTICS_HISTORY_FORMAT = "%s: %d people, %d infected%s, %d quarantined%s, "
+            + "%d locations, %d visits%s";
+    private static final String CHANGE_FORMAT = " (%+d)";
+    private static final String MOST_INFECTED_VISITS_FORMAT = ", most infected visits at %s (%d)";
+    private static final String NO_STATISTICS_HISTORY = "There are no statistics recorded from %s to %s.";
 
     private final Model model;
 
@@ -242,6 +292,112 @@ public class InfoHandler {
         return personIds;
     }
 
+    /**
+     * Generates the ids of the persons who visited a location within the contact window of a visit by the person
+     * with the specified id to the same location. The contact window is taken from the user prefs.
+     * @param personId Id of the person.
+     * @return Ids of the persons in contact with the person.
+     */
+    public Set<Index> generateContactIds(Index personId) {
+        requireNonNull(personId);
+        ContactTracer contactTracer = new ContactTracer(model.getUserPrefs().getContactWindowDays());
+        return contactTracer.trace(model.getVisitBook(), Set.of(personId)).keySet();
+    }
+
+    /**
+     * Generates the contacts of all infected persons in one pass, and the infected persons each contact is linked to.
+     * Contacts who are no longer in the person book are left out. The contact window is taken from the user prefs.
+     * @return Report of the contacts of all infected persons.
+     */
+    public ExposureReport generateExposureReport() {
+        Set<Index> personIds = new HashSet<>();
+        Set<Index> infectedIds = new HashSet<>();
+        for (Person person : model.getPersonBook().getPersonList()) {
+            personIds.add(person.getId());
+            if (person.getInfectionStatus().getStatusAsBoolean()) {
+                infectedIds.add(person.getId());
+            }
+        }
+
+        ContactTracer contactTracer = new ContactTracer(model.getUserPrefs().getContactWindowDays());
+        Map<Index, Set<Index>> contacts = contactTracer.trace(model.getVisitBook(), infectedIds);
+        contacts.keySet().retainAll(personIds);
+        return new ExposureReport(infectedIds.size(), contacts);
+    }
+
+    //============ Snapshots ======================================================================
+
+    /**
+     * Returns a snapshot of the counts in the person, location and visit books, taken on {@code date}.
+     * Unlike the other counts in this class, these are not affected by the filters in the model.
+     */
+    public StatisticsSnapshot getStatisticsSnapshot(LocalDate date) {
+        requireNonNull(date);
+        ReadOnlyVisitBook visitBook = model.getVisitBook();
+        int infectedCount = 0;
+        int quarantinedCount = 0;
+        Map<Index, Integer> infectedVisitsByLocation = new HashMap<>();
+        for (Person person : model.getPersonBook().getPersonList()) {
+            if (person.getQuarantineStatus().getStatusAsBoolean()) {
+                quarantinedCount++;
+            }
+            if (!person.getInfectionStatus().getStatusAsBoolean()) {
+                continue;
+            }
+            infectedCount++;
+            for (Visit visit : visitBook.getVisitsOfPerson(person.getId())) {
+                infectedVisitsByLocation.merge(visit.getLocation().getId(), 1, Integer::sum);
+            }
+        }
+
+        return new StatisticsSnapshot(date, model.getPersonBook().getPersonList().size(), infectedCount,
+                quarantinedCount, model.getLocationBook().getLocationList().size(), visitBook.getVisitList().size(),
+                infectedVisitsByLocation);
+    }
+
+    /**
+     * Returns the day-over-day statistics in {@code snapshots}, which were recorded from {@code startDate} to
+     * {@code endDate}.
+     */
+    public String getStatisticsHistory(List<StatisticsSnapshot> snapshots, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(snapshots, startDate, endDate);
+        if (snapshots.isEmpty()) {
+            return String.format(NO_STATISTICS_HISTORY, startDate, endDate);
+        }
+
+        Map<Index, Location> locationsById = model.getLocationBook().getLocationList().stream()
+                .collect(Collectors.toMap(Location::getId, location -> location));
+        StringBuilder history = new StringBuilder(String.format(STATISTICS_HISTORY_HEADER, startDate, endDate));
+        StatisticsSnapshot previous = null;
+        for (StatisticsSnapshot snapshot : snapshots) {
+            history.append("\n").append(String.format(STATISTICS_HISTORY_FORMAT, snapshot.getDate(),
+                    snapshot.getPersonCount(),
+                    snapshot.getInfectedCount(), formatChange(previous, snapshot, StatisticsSnapshot::getInfectedCount),
+                    snapshot.getQuarantinedCount(),
+                    formatChange(previous, snapshot, StatisticsSnapshot::getQuarantinedCount),
+                    snapshot.getLocationCount(),
+                    snapshot.getVisitCount(), formatChange(previous, snapshot, StatisticsSnapshot::getVisitCount)));
+            snapshot.getInfectedVisitsByLocation().entrySet().stream()
+                    .max(Map.Entry.<Index, Integer>comparingByValue()
+                            .thenComparing(entry -> -entry.getKey().getZeroBased()))
+                    .ifPresent(entry -> history.append(String.format(MOST_INFECTED_VISITS_FORMAT,
+                            Optional.ofNullable(locationsById.get(entry.getKey()))
+                                    .map(location -> location.getName().toString())
+                                    .orElse(entry.getKey().toString()),
+                            entry.getValue())));
+            previous = snapshot;
+        }
+        return history.toString();
+    }
+
+    private static String formatChange(StatisticsSnapshot previous, StatisticsSnapshot current,
+            ToIntFunction<StatisticsSnapshot> count) {
+        if (previous == null) {
+            return "";
+        }
+        return String.format(CHANGE_FORMAT, count.applyAsInt(current) - count.applyAsInt(previous));
+    }
+
     //============ Summary ========================================================================
 
     /**
@@ -262,6 +418,209 @@ public class InfoHandler {
         );
     }
 
+    //============ Unique visitors ==============================================================
+
+    /**
+     * Gets the number of unique visitors of each visited location over the last 7 and 28 days, up to the date of the
+     * latest visit. Large counts are estimates, and are shown with their relative standard error.
+     */
+    public String getUniqueVisitorStatistics() {
+        Optional<LocalDate> latestDate = model.getVisitBook().getLatestDate();
+        if (latestDate.isEmpty()) {
+            return NO_VISITS;
+        }
+
+        LocalDate endDate = latestDate.get();
+        List<UniqueVisitorCount> counts = new ArrayList<>();
+        for (Location location : model.getLocationBook().getLocationList()) {
+            HyperLogLog longPeriodVisitors = model.getUniqueVisitors(location.getId(),
+                    endDate.minusDays(LONG_VISITOR_PERIOD - 1), endDate);
+            if (longPeriodVisitors.estimate() == 0) {
+                continue;
+            }
+            HyperLogLog shortPeriodVisitors = model.getUniqueVisitors(location.getId(),
+                    endDate.minusDays(SHORT_VISITOR_PERIOD - 1), endDate);
+            counts.add(new UniqueVisitorCount(location, shortPeriodVisitors, longPeriodVisitors));
+        }
+        counts.sort(Comparator.comparingLong((UniqueVisitorCount count) -> count.longPeriodVisitors.estimate())
+                .thenComparingLong(count -> count.shortPeriodVisitors.estimate())
+                .reversed());
+
+        StringBuilder statistics = new StringBuilder(String.format(UNIQUE_VISITORS_HEADER, SHORT_VISITOR_PERIOD,
+                LONG_VISITOR_PERIOD, endDate)).append("\n");
+        for (UniqueVisitorCount count : counts) {
+            statistics.append(String.format(UNIQUE_VISITORS_FORMAT, count.location.getName(),
+                    formatEstimate(count.shortPeriodVisitors), SHORT_VISITOR_PERIOD,
+                    formatEstimate(count.longPeriodVisitors), LONG_VISITOR_PERIOD)).append("\n");
+        }
+        return statistics.toString();
+    }
+
+    private static String formatEstimate(HyperLogLog visitors) {
+        if (visitors.isExact()) {
+            return String.format(COUNT_FORMAT, visitors.estimate());
+        }
+        return String.format(ESTIMATE_FORMAT, visitors.estimate(), HUNDRED_IN_DOUBLE * visitors.getRelativeError());
+    }
+
+    /**
+     * The unique visitors of a location over the short and long periods.
+     */
+    private static class UniqueVisitorCount {
+        private final Location location;
+        private final HyperLogLog shortPeriodVisitors;
+        private final HyperLogLog longPeriodVisitors;
+
+        private UniqueVisitorCount(Location location, HyperLogLog shortPeriodVisitors,
+                                   HyperLogLog longPeriodVisitors) {
+            this.location = location;
+            this.shortPeriodVisitors = shortPeriodVisitors;
+            this.longPeriodVisitors = longPeriodVisitors;
+        }
+    }
+
+    //============ Clusters =====================================================================
+
+    /**
+     * Gets the clusters of people linked through visits to the same locations within the contact window.
+     * The clusters are ordered from the one with the most infected people to the one with the least.
+     */
+    public List<Cluster> getClusters() {
+        return model.getClusters();
+    }
+
+    /**
+     * Gets a summary of the clusters, with the size, number of infected people and locations of each cluster.
+     */
+    public String getClusterSummary() {
+        List<Cluster> clusters = getClusters();
+        if (clusters.isEmpty()) {
+            return NO_CLUSTERS;
+        }
+
+        Map<Index, Location> locationsById = new HashMap<>();
+        model.getLocationBook().getLocationList().forEach(location -> locationsById.put(location.getId(), location));
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < clusters.size(); i++) {
+            Cluster cluster = clusters.get(i);
+            String locationNames = cluster.getLocationIds().stream()
+                    .map(locationId -> locationsById.containsKey(locationId)
+                            ? locationsById.get(locationId).getName().toString()
+                            : String.valueOf(locationId.getOneBased()))
+                    .collect(Collectors.joining(", "));
+            summary.append(String.format(CLUSTER_FORMAT, i + 1, cluster.getSize(), cluster.getInfectedCount(),
+                    locationNames)).append("\n");
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Returns the locations whose number of visits by infected people grew the most in the week up to the latest
+     * visit, compared to the week before.
+     * Only the first {@code LOCATION_TREND_SUMMARY_SIZE} locations are included.
+     */
+    public String getLocationTrendSummary() {
+        Optional<LocalDate> latestDate = model.getVisitBook().getLatestDate();
+        if (latestDate.isEmpty()) {
+            return NO_VISITS;
+        }
+
+        LocalDate endDate = latestDate.get();
+        List<LocationTrend> trends = model.getTopGrowingLocations(endDate, LOCATION_TREND_SUMMARY_SIZE);
+        if (trends.isEmpty()) {
+            return NO_GROWING_LOCATIONS;
+        }
+
+        Set<Index> trendLocationIds = trends.stream().map(LocationTrend::getLocationId).collect(Collectors.toSet());
+        Map<Index, Location> locationsById = model.getLocationBook().getLocationList().stream()
+                .filter(location -> trendLocationIds.contains(location.getId()))
+                .collect(Collectors.toMap(Location::getId, location -> location));
+
+        StringBuilder summary = new StringBuilder(String.format(LOCATION_TRENDS_HEADER, endDate));
+        for (int i = 0; i < trends.size(); i++) {
+            LocationTrend trend = trends.get(i);
+            Location location = locationsById.get(trend.getLocationId());
+            String name = location == null ? trend.getLocationId().toString() : location.getName().toString();
+            summary.append("\n").append(String.format(LOCATION_TREND_FORMAT, i + 1, name,
+                    trend.getCurrentWeekCount(), trend.getMovingAverage(), trend.getPreviousWeekCount()));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Gets the active outbreak alerts, one on each line, from the location with the most visits by infected people
+     * to the one with the least.
+     */
+    public String getOutbreakAlertSummary() {
+        List<OutbreakAlert> alerts = model.getActiveOutbreakAlerts();
+        if (alerts.isEmpty()) {
+            return NO_OUTBREAK_ALERTS;
+        }
+        return alerts.stream().map(OutbreakAlert::toString).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Gets the risk scores of the first people in the filtered person list, one on each line.
+     * Only the first {@code RISK_SCORE_SUMMARY_SIZE} people are included.
+     */
+    public String getRiskScoreSummary() {
+        List<Person> persons = model.getFilteredPersonList();
+        if (persons.isEmpty()) {
+            return NO_PEOPLE_AT_RISK;
+        }
+
+        int size = Math.min(persons.size(), RISK_SCORE_SUMMARY_SIZE);
+        return IntStream.range(0, size)
+                .mapToObj(i -> String.format(RISK_SCORE_FORMAT, i + 1, persons.get(i).getName(),
+                        model.getRiskScore(persons.get(i).getId())))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Gets the number of distinct contacts of each of {@code superSpreaders}, one on each line, in the given order.
+     */
+    public String getSuperSpreaderSummary(List<Person> superSpreaders) {
+        requireNonNull(superSpreaders);
+        if (superSpreaders.isEmpty()) {
+            return NO_SUPER_SPREADERS;
+        }
+
+        return IntStream.range(0, superSpreaders.size())
+                .mapToObj(i -> String.format(CONTACT_DEGREE_FORMAT, i + 1, superSpreaders.get(i).getName(),
+                        model.getContactDegree(superSpreaders.get(i).getId())))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Gets the locations outside {@code highRiskLocationIds} that are most connected to them by people who visited
+     * both, one on each line, so that the risk can be followed to the next locations.
+     * Only the first {@code CONNECTED_LOCATION_SUMMARY_SIZE} locations are included.
+     */
+    public String getConnectedLocationSummary(Set<Index> highRiskLocationIds) {
+        requireNonNull(highRiskLocationIds);
+        List<Index> connectedLocationIds = model.getMostConnectedLocations(highRiskLocationIds,
+                CONNECTED_LOCATION_SUMMARY_SIZE);
+        if (connectedLocationIds.isEmpty()) {
+            return NO_CONNECTED_LOCATIONS;
+        }
+
+        Map<Index, Location> locationsById = model.getLocationBook().getLocationList().stream()
+                .filter(location -> connectedLocationIds.contains(location.getId()))
+                .collect(Collectors.toMap(Location::getId, location -> location));
+        StringBuilder summary = new StringBuilder(String.format(CONNECTED_LOCATIONS_HEADER,
+                model.getUserPrefs().getContactWindowDays()));
+        for (int i = 0; i < connectedLocationIds.size(); i++) {
+            Index locationId = connectedLocationIds.get(i);
+            Location location = locationsById.get(locationId);
+            String name = location == null ? locationId.toString() : location.getName().toString();
+            int coVisits = highRiskLocationIds.stream()
+                    .mapToInt(highRiskLocationId -> model.getCoVisitCount(locationId, highRiskLocationId))
+                    .sum();
+            summary.append("\n").append(String.format(CONNECTED_LOCATION_FORMAT, i + 1, name, coVisits));
+        }
+        return summary.toString();
+    }
+
     //============ High Risk Locations Related ====================================================
 
     /**
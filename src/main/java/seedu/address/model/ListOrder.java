@@ -0,0 +1,19 @@
+package seedu.address.model;
+
+/**
+ * The orders that the filtered lists in the {@code Model} can be displayed in.
+ * Every order is backed by an index that is kept up to date as the books change, so switching between
+ * orders never needs to sort a list.
+ */
+public enum ListOrder {
+    /** The order in which the entries were added to their book. Applies to all lists. */
+    DEFAULT,
+    /** Persons ordered by name. */
+    NAME,
+    /** Persons ordered from the most to the least exposed to infected persons. */
+    EXPOSURE,
+    /** Persons ordered from the highest to the lowest exposure risk score. */
+    RISK,
+    /** Visits ordered from the earliest to the latest date. */
+    DATE
+}
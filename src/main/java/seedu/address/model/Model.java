@@ -1,15 +1,25 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.HyperLogLog;
+import seedu.address.model.statistics.LocationTrend;
+import seedu.address.model.tracing.Cluster;
+import seedu.address.model.tracing.OutbreakAlert;
+import seedu.address.model.tracing.StayHomeViolation;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
 
@@ -103,6 +113,19 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Orders the filtered person list by {@code order}.
+     * @throws IllegalArgumentException if persons cannot be ordered by {@code order}.
+     */
+    void sortFilteredPersonList(ListOrder order);
+
+    /**
+     * Returns the page of the filtered person list described by {@code request}, in the order of their ids.
+     * The persons before the cursor of {@code request} are not visited, but those skipped by its offset or by the
+     * filter are, so a large list is best walked by following the cursor of each page.
+     */
+    Page<Person> getFilteredPersonPage(PageRequest request);
+
     //=========== Location Book =====================================================================================
 
     /**
@@ -157,6 +180,13 @@ public interface Model {
      */
     void updateFilteredLocationList(Predicate<Location> predicate);
 
+    /**
+     * Returns the page of the filtered location list described by {@code request}, in the order of their ids.
+     * The locations before the cursor of {@code request} are not visited, but those skipped by its offset or by the
+     * filter are, so a large list is best walked by following the cursor of each page.
+     */
+    Page<Location> getFilteredLocationPage(PageRequest request);
+
     //=========== Visit Book ========================================================================================
 
     /**
@@ -203,12 +233,129 @@ public interface Model {
      */
     void updateFilteredVisitList(Predicate<Visit> predicate);
 
+    /**
+     * Orders the filtered visit list by {@code order}.
+     * @throws IllegalArgumentException if visits cannot be ordered by {@code order}.
+     */
+    void sortFilteredVisitList(ListOrder order);
+
+    /**
+     * Returns the page of the filtered visit list described by {@code request}, in the order they were added.
+     * Visits are keyed by when they were added, so a cursor still points to the same place after visits are removed.
+     * The visits before the cursor of {@code request} are not visited, but those skipped by its offset or by the
+     * filter are, so a large list is best walked by following the cursor of each page.
+     */
+    Page<Visit> getFilteredVisitPage(PageRequest request);
+
+    //=========== History ===========================================================================================
+
+    /**
+     * Records the current data of the person, location and visit books as a state that later changes can be undone
+     * to. Does nothing if the books were not changed since the last state was recorded.
+     */
+    void commitBooks();
+
+    /**
+     * Restores the books to the state recorded before the current one.
+     * Returns false, without changing the books, if there is no such state.
+     */
+    boolean undoBooks();
+
+    /**
+     * Restores the books to the state that was last undone.
+     * Returns false, without changing the books, if there is no such state.
+     */
+    boolean redoBooks();
+
+    /**
+     * Returns an immutable snapshot of the person, location and visit books as they are now, which can be read from
+     * any thread. Taking a snapshot takes constant time, and the same snapshot is returned until the books change.
+     */
+    ModelSnapshot getSnapshot();
+
+    //=========== Command Metrics ===================================================================================
+
+    /**
+     * Returns the timings and memory use recorded for the commands executed on this model.
+     */
+    CommandMetrics getCommandMetrics();
+
     //=========== Info Handler ======================================================================================
     /**
      * @return the {@code InfoHandler} associated with the model.
      */
     InfoHandler getInfoHandler();
 
+    /**
+     * Returns the clusters of persons in the person book who are linked through visits to the same locations within
+     * the contact window, from the one with the most infected persons to the one with the least.
+     */
+    List<Cluster> getClusters();
+
+    /**
+     * Returns a sketch of the persons who visited the location with {@code locationId} from {@code startDate} to
+     * {@code endDate}, both inclusive, which estimates the number of distinct visitors.
+     */
+    HyperLogLog getUniqueVisitors(Index locationId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the trends of the {@code limit} locations whose number of visits by infected persons grew the most in
+     * the week up to {@code endDate}, compared to the week before.
+     */
+    List<LocationTrend> getTopGrowingLocations(LocalDate endDate, int limit);
+
+    /**
+     * Returns the average number of visits by infected persons to the location with {@code locationId} per day, over
+     * the {@code days} days up to {@code endDate}.
+     */
+    double getInfectedVisitMovingAverage(Index locationId, LocalDate endDate, int days);
+
+    /**
+     * Returns the outbreak alerts raised since this method was last called, and forgets them.
+     */
+    List<OutbreakAlert> takeNewOutbreakAlerts();
+
+    /**
+     * Returns the exposure risk score of the person with {@code personId} as of the date of the latest visit, which
+     * grows with the number and recency of their contacts with infected persons. Returns 0 if there is no such person.
+     */
+    double getRiskScore(Index personId);
+
+    /**
+     * Returns the number of distinct persons who visited the same location as the person with {@code personId}
+     * within the contact window of one of their visits.
+     */
+    int getContactDegree(Index personId);
+
+    /**
+     * Returns up to {@code limit} persons in the person book with the most distinct contacts, from the most to the
+     * least. Persons without contacts are not included.
+     */
+    List<Person> getSuperSpreaders(int limit);
+
+    /**
+     * Returns the number of times a person visited both locations within the contact window of each other.
+     */
+    int getCoVisitCount(Index firstLocationId, Index secondLocationId);
+
+    /**
+     * Returns up to {@code limit} locations, other than those in {@code locationIds}, with the most co-visits with
+     * the locations in {@code locationIds} put together, from the most to the least.
+     */
+    List<Index> getMostConnectedLocations(Set<Index> locationIds, int limit);
+
+    /**
+     * Returns the outbreak alerts of the locations that are still at or above the alert threshold, from the location
+     * with the most visits by infected persons to the one with the least.
+     */
+    List<OutbreakAlert> getActiveOutbreakAlerts();
+
+    /**
+     * Returns the visits by infected or quarantined persons to locations that are not at their address, ordered by
+     * person id. The violations are found lazily, from the visits of infected and quarantined persons only.
+     */
+    Stream<StayHomeViolation> getStayHomeViolations();
+
     /**
      * Gets the given person using the index.
      * {@code index} must already exist in the person book.
@@ -7,20 +7,53 @@ import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_VISITS;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.history.BookHistory;
+import seedu.address.model.history.BookState;
+import seedu.address.model.history.BookState.BookChanges;
+import seedu.address.model.history.PersistentMap;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.LocationBook;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonBook;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.HyperLogLog;
+import seedu.address.model.statistics.LocationTimeSeries;
+import seedu.address.model.statistics.LocationTrend;
+import seedu.address.model.statistics.UniqueVisitorIndex;
+import seedu.address.model.tracing.Cluster;
+import seedu.address.model.tracing.ClusterIndex;
+import seedu.address.model.tracing.CoVisitMatrix;
+import seedu.address.model.tracing.ContactDegreeIndex;
+import seedu.address.model.tracing.ExposureIndex;
+import seedu.address.model.tracing.OutbreakAlert;
+import seedu.address.model.tracing.OutbreakMonitor;
+import seedu.address.model.tracing.RiskScoreIndex;
+import seedu.address.model.tracing.StayHomeViolation;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
 import seedu.address.model.visit.VisitBook;
@@ -36,9 +69,27 @@ public class ModelManager implements Model {
     private final VisitBook visitBook;
     private final UserPrefs userPrefs;
     private final InfoHandler infoHandler;
+    private final ExposureIndex exposureIndex;
+    private final ClusterIndex clusterIndex;
+    private final UniqueVisitorIndex uniqueVisitorIndex;
+    private final LocationTimeSeries locationTimeSeries;
+    private final OutbreakMonitor outbreakMonitor;
+    private final RiskScoreIndex riskScoreIndex;
+    private final ContactDegreeIndex contactDegreeIndex;
+    private final CoVisitMatrix coVisitMatrix;
+    private final SortedView<Person> sortedPersons;
+    private final SortedView<Visit> sortedVisits;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Location> filteredLocations;
     private final FilteredList<Visit> filteredVisits;
+    private final BookHistory history;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    // The elements of each book, mapped to the order in which they were added.
+    private PersistentMap<Person, Long> personOrders;
+    private PersistentMap<Location, Long> locationOrders;
+    private PersistentMap<Visit, Long> visitOrders;
+    private long nextOrder;
+    private ModelSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given personBook, locationBook, visitBook and userPrefs.
@@ -56,9 +107,30 @@ public class ModelManager implements Model {
         this.visitBook = new VisitBook(visitBook);
         this.infoHandler = new InfoHandler(this);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.personBook.getPersonList());
+        exposureIndex = new ExposureIndex();
+        exposureIndex.resetData(this.personBook.getPersonList(), this.visitBook.getVisitList());
+        exposureIndex.setListener(this::updateExposureOrder);
+        clusterIndex = new ClusterIndex(this.visitBook.getVisitList(), this.userPrefs.getContactWindowDays());
+        uniqueVisitorIndex = new UniqueVisitorIndex(this.visitBook);
+        outbreakMonitor = new OutbreakMonitor(this.visitBook, this::isInfected,
+                this.userPrefs.getOutbreakAlertThreshold());
+        locationTimeSeries = new LocationTimeSeries();
+        locationTimeSeries.resetData(this.visitBook.getVisitList(), this::isInfected);
+        riskScoreIndex = new RiskScoreIndex(this.personBook.getPersonList(), this.visitBook,
+                this.userPrefs.getContactWindowDays());
+        riskScoreIndex.setListener(this::updateRiskOrder);
+        contactDegreeIndex = new ContactDegreeIndex(this.visitBook, uniqueVisitorIndex,
+                this.userPrefs.getContactWindowDays());
+        coVisitMatrix = new CoVisitMatrix(this.visitBook, this.userPrefs.getContactWindowDays());
+        sortedPersons = new SortedView<>(this.personBook.getPersonList());
+        sortedVisits = new SortedView<>(this.visitBook.getVisitList());
+        filteredPersons = new FilteredList<>(sortedPersons.asUnmodifiableObservableList());
         filteredLocations = new FilteredList<>(this.locationBook.getLocationList());
-        filteredVisits = new FilteredList<>(this.visitBook.getVisitList());
+        filteredVisits = new FilteredList<>(sortedVisits.asUnmodifiableObservableList());
+        personOrders = toOrders(this.personBook.getPersonList());
+        locationOrders = toOrders(this.locationBook.getLocationList());
+        visitOrders = toOrders(this.visitBook.getVisitList());
+        history = new BookHistory(getBookState(), this.userPrefs.getUndoHistoryDepth());
     }
 
     public ModelManager() {
@@ -71,6 +143,12 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        clusterIndex.setWindowDays(this.userPrefs.getContactWindowDays());
+        riskScoreIndex.setWindowDays(this.userPrefs.getContactWindowDays());
+        contactDegreeIndex.setWindowDays(this.userPrefs.getContactWindowDays());
+        coVisitMatrix.setWindowDays(this.userPrefs.getContactWindowDays());
+        outbreakMonitor.setThreshold(this.userPrefs.getOutbreakAlertThreshold());
+        history.setDepth(this.userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -109,7 +187,17 @@ public class ModelManager implements Model {
 
     @Override
     public void setPersonBook(ReadOnlyPersonBook personBook) {
+        resetPersonBook(personBook);
+        personOrders = toOrders(this.personBook.getPersonList());
+    }
+
+    private void resetPersonBook(ReadOnlyPersonBook personBook) {
         this.personBook.resetData(personBook);
+        exposureIndex.resetData(this.personBook.getPersonList(), visitBook.getVisitList());
+        outbreakMonitor.resetData();
+        locationTimeSeries.resetData(visitBook.getVisitList(), this::isInfected);
+        riskScoreIndex.resetData();
+        sortedPersons.refresh();
     }
 
     @Override
@@ -132,13 +220,36 @@ public class ModelManager implements Model {
 
     @Override
     public void addPerson(Person person) {
-        personBook.addPerson(person);
+        addPersonWithoutFilter(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    /**
+     * Adds {@code person} without showing all persons, which refilters the whole list.
+     */
+    private void addPersonWithoutFilter(Person person) {
+        personBook.addPerson(person);
+        personOrders = personOrders.plus(person, nextOrder++);
+        exposureIndex.addPerson(person);
+        riskScoreIndex.addPerson(person);
+        if (person.getInfectionStatus().getStatusAsBoolean()) {
+            outbreakMonitor.setInfected(visitBook.getVisitsOfPerson(person.getId()), true);
+            locationTimeSeries.setInfected(visitBook.getVisitsOfPerson(person.getId()), true);
+        }
+        sortedPersons.added(person);
+    }
+
     @Override
     public void deletePerson(Person target) {
         personBook.removePerson(target);
+        personOrders = personOrders.minus(target);
+        sortedPersons.removed(target);
+        exposureIndex.removePerson(target);
+        riskScoreIndex.removePerson(target);
+        if (target.getInfectionStatus().getStatusAsBoolean()) {
+            outbreakMonitor.setInfected(visitBook.getVisitsOfPerson(target.getId()), false);
+            locationTimeSeries.setInfected(visitBook.getVisitsOfPerson(target.getId()), false);
+        }
     }
 
     @Override
@@ -146,6 +257,16 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         personBook.setPerson(target, editedPerson);
+        personOrders = replaceKey(personOrders, target, editedPerson);
+        sortedPersons.replaced(target, editedPerson);
+        exposureIndex.setPerson(target, editedPerson);
+        riskScoreIndex.setPerson(target, editedPerson);
+        boolean wasInfected = target.getInfectionStatus().getStatusAsBoolean();
+        boolean isInfected = editedPerson.getInfectionStatus().getStatusAsBoolean();
+        if (wasInfected != isInfected) {
+            outbreakMonitor.setInfected(visitBook.getVisitsOfPerson(editedPerson.getId()), isInfected);
+            locationTimeSeries.setInfected(visitBook.getVisitsOfPerson(editedPerson.getId()), isInfected);
+        }
     }
 
     /**
@@ -163,6 +284,35 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void sortFilteredPersonList(ListOrder order) {
+        requireNonNull(order);
+        switch (order) {
+        case DEFAULT:
+            sortedPersons.showSourceOrder();
+            break;
+        case NAME:
+            sortedPersons.showSortedOrder(order, Person.ORDER_BY_NAME, personBook::getPersonsByName);
+            break;
+        case EXPOSURE:
+            sortedPersons.showSortedOrder(order, exposureIndex.getPersonOrder(), this::getPersonsByExposure);
+            break;
+        case RISK:
+            sortedPersons.showSortedOrder(order, riskScoreIndex.getPersonOrder(), this::getPersonsByRisk);
+            break;
+        default:
+            throw new IllegalArgumentException("Persons cannot be ordered by " + order);
+        }
+    }
+
+    @Override
+    public Page<Person> getFilteredPersonPage(PageRequest request) {
+        requireNonNull(request);
+        Predicate<? super Person> filter =
+                Objects.requireNonNullElse(filteredPersons.getPredicate(), PREDICATE_SHOW_ALL_PERSONS);
+        return Page.fromEntries(entriesById(personBook.getPersonsById(), request), filter, request);
+    }
+
     //=========== LocationBook ====================================================================================
 
     @Override
@@ -184,6 +334,7 @@ public class ModelManager implements Model {
     @Override
     public void setLocationBook(ReadOnlyLocationBook locationBook) {
         this.locationBook.resetData(locationBook);
+        locationOrders = toOrders(this.locationBook.getLocationList());
     }
 
     @Override
@@ -194,20 +345,27 @@ public class ModelManager implements Model {
 
     @Override
     public void addLocation(Location location) {
-        locationBook.addLocation(location);
+        addLocationWithoutFilter(location);
         // needs to be updated to persons when doing list command
         updateFilteredLocationList(PREDICATE_SHOW_ALL_LOCATIONS);
     }
 
+    private void addLocationWithoutFilter(Location location) {
+        locationBook.addLocation(location);
+        locationOrders = locationOrders.plus(location, nextOrder++);
+    }
+
     @Override
     public void deleteLocation(Location target) {
         locationBook.removeLocation(target);
+        locationOrders = locationOrders.minus(target);
     }
 
     @Override
     public void setLocation(Location target, Location editedLocation) {
         requireAllNonNull(target, editedLocation);
         locationBook.setLocation(target, editedLocation);
+        locationOrders = replaceKey(locationOrders, target, editedLocation);
     }
 
     /**
@@ -225,6 +383,14 @@ public class ModelManager implements Model {
         filteredLocations.setPredicate(predicate);
     }
 
+    @Override
+    public Page<Location> getFilteredLocationPage(PageRequest request) {
+        requireNonNull(request);
+        Predicate<? super Location> filter =
+                Objects.requireNonNullElse(filteredLocations.getPredicate(), PREDICATE_SHOW_ALL_LOCATIONS);
+        return Page.fromEntries(entriesById(locationBook.getLocationsById(), request), filter, request);
+    }
+
     //=========== VisitBook =======================================================================================
 
     @Override
@@ -245,7 +411,22 @@ public class ModelManager implements Model {
 
     @Override
     public void setVisitBook(ReadOnlyVisitBook visitBook) {
+        resetVisitBook(visitBook);
+        visitOrders = toOrders(this.visitBook.getVisitList());
+    }
+
+    private void resetVisitBook(ReadOnlyVisitBook visitBook) {
         this.visitBook.resetData(visitBook);
+        sortedVisits.refresh();
+        exposureIndex.resetData(personBook.getPersonList(), this.visitBook.getVisitList());
+        clusterIndex.resetData();
+        uniqueVisitorIndex.resetData();
+        outbreakMonitor.resetData();
+        locationTimeSeries.resetData(this.visitBook.getVisitList(), this::isInfected);
+        riskScoreIndex.resetData();
+        contactDegreeIndex.resetData();
+        coVisitMatrix.resetData();
+        sortedPersons.refresh();
     }
 
     @Override
@@ -256,14 +437,41 @@ public class ModelManager implements Model {
 
     @Override
     public void addVisit(Visit visit) {
-        visitBook.addVisit(visit);
+        addVisitWithoutFilter(visit);
         updateFilteredVisitList(PREDICATE_SHOW_ALL_VISITS); // needs to be updated to persons when doing list command
     }
 
+    /**
+     * Adds {@code visit} and updates the indexes, without showing all visits, which refilters the whole list.
+     */
+    private void addVisitWithoutFilter(Visit visit) {
+        visitBook.addVisit(visit);
+        visitOrders = visitOrders.plus(visit, nextOrder++);
+        sortedVisits.added(visit);
+        exposureIndex.addVisit(visit);
+        clusterIndex.addVisit(visit);
+        uniqueVisitorIndex.addVisit(visit);
+        outbreakMonitor.addVisit(visit, isInfected(visit.getPerson().getId()));
+        riskScoreIndex.addVisit(visit);
+        contactDegreeIndex.addVisit(visit);
+        coVisitMatrix.addVisit(visit);
+        locationTimeSeries.addVisit(visit, isInfected(visit.getPerson().getId()));
+    }
+
     @Override
     public void deleteVisit(Visit visit) {
         requireNonNull(visit);
         visitBook.removeVisit(visit);
+        visitOrders = visitOrders.minus(visit);
+        sortedVisits.removed(visit);
+        exposureIndex.removeVisit(visit);
+        clusterIndex.removeVisit(visit);
+        uniqueVisitorIndex.removeVisit(visit);
+        outbreakMonitor.removeVisit(visit, isInfected(visit.getPerson().getId()));
+        riskScoreIndex.removeVisit(visit);
+        contactDegreeIndex.removeVisit(visit);
+        coVisitMatrix.removeVisit(visit);
+        locationTimeSeries.removeVisit(visit, isInfected(visit.getPerson().getId()));
     }
 
     /**
@@ -281,12 +489,369 @@ public class ModelManager implements Model {
         filteredVisits.setPredicate(predicate);
     }
 
+    @Override
+    public void sortFilteredVisitList(ListOrder order) {
+        requireNonNull(order);
+        switch (order) {
+        case DEFAULT:
+            sortedVisits.showSourceOrder();
+            break;
+        case DATE:
+            sortedVisits.showSortedOrder(order, Visit.ORDER_BY_DATE, visitBook::getVisitsByDate);
+            break;
+        default:
+            throw new IllegalArgumentException("Visits cannot be ordered by " + order);
+        }
+    }
+
+    @Override
+    public Page<Visit> getFilteredVisitPage(PageRequest request) {
+        requireNonNull(request);
+        Predicate<? super Visit> filter =
+                Objects.requireNonNullElse(filteredVisits.getPredicate(), PREDICATE_SHOW_ALL_VISITS);
+        List<Visit> visits = visitBook.getVisitList();
+        int start = request.getCursor().map(cursor -> findFirstVisitAddedAfter(visits, cursor)).orElse(0);
+        Iterator<Map.Entry<Index, Visit>> entries = IntStream.range(start, visits.size())
+                .mapToObj(i -> Map.entry(getVisitKey(visits.get(i)), visits.get(i)))
+                .iterator();
+        return Page.fromEntries(entries, filter, request);
+    }
+
+    /**
+     * Returns the key of {@code visit} in a page, which is the order in which it was added.
+     */
+    private Index getVisitKey(Visit visit) {
+        return Index.fromZeroBased(Math.toIntExact(visitOrders.get(visit)));
+    }
+
+    /**
+     * Returns the position in {@code visits} of the first visit added after the visit with the key {@code cursor}.
+     * The visit book keeps its visits in the order they were added, so the position is found by a binary search.
+     */
+    private int findFirstVisitAddedAfter(List<Visit> visits, Index cursor) {
+        int low = 0;
+        int high = visits.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getVisitKey(visits.get(middle)).getZeroBased() <= cursor.getZeroBased()) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    //=========== Outbreak Alerts ===========================================================================
+
+    @Override
+    public List<OutbreakAlert> takeNewOutbreakAlerts() {
+        return outbreakMonitor.takeNewAlerts();
+    }
+
+    @Override
+    public List<OutbreakAlert> getActiveOutbreakAlerts() {
+        return outbreakMonitor.getActiveAlerts();
+    }
+
+    @Override
+    public double getRiskScore(Index personId) {
+        return riskScoreIndex.getRiskScore(personId);
+    }
+
+    @Override
+    public int getContactDegree(Index personId) {
+        return contactDegreeIndex.getContactDegree(personId);
+    }
+
+    @Override
+    public List<Person> getSuperSpreaders(int limit) {
+        NavigableMap<Index, Person> personsById = personBook.getPersonsById();
+        return contactDegreeIndex.getIdsByDegree().stream()
+                .map(personsById::get)
+                .filter(Objects::nonNull)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int getCoVisitCount(Index firstLocationId, Index secondLocationId) {
+        return coVisitMatrix.getCoVisitCount(firstLocationId, secondLocationId);
+    }
+
+    @Override
+    public List<Index> getMostConnectedLocations(Set<Index> locationIds, int limit) {
+        return coVisitMatrix.getMostConnectedLocations(locationIds, limit);
+    }
+
+    /**
+     * Returns true if the person with {@code personId} is in the person book and is infected.
+     */
+    private boolean isInfected(Index personId) {
+        return personBook.getInfectedPersonsById().containsKey(personId);
+    }
+
+    //=========== Stay-Home Notice Violations ================================================================
+
+    @Override
+    public Stream<StayHomeViolation> getStayHomeViolations() {
+        NavigableMap<Index, Person> flaggedPersonsById = new TreeMap<>(personBook.getQuarantinedPersonsById());
+        flaggedPersonsById.putAll(personBook.getInfectedPersonsById());
+        NavigableMap<Index, Location> locationsById = locationBook.getLocationsById();
+        return flaggedPersonsById.values().stream()
+                .flatMap(person -> visitBook.getVisitsOfPerson(person.getId()).stream()
+                        .map(visit -> new StayHomeViolation(person,
+                                locationsById.getOrDefault(visit.getLocation().getId(), visit.getLocation()), visit)))
+                .filter(violation -> StayHomeViolation.isViolation(violation.getPerson(), violation.getLocation()));
+    }
+
+    //=========== Sorting ===================================================================================
+
+    /**
+     * Moves the person with {@code personId} to their new position in the filtered person list, if it is ordered by
+     * exposure, after their exposure count changed.
+     */
+    private void updateExposureOrder(Index personId, int previousCount, int newCount) {
+        Person person = personBook.getPersonsById().get(personId);
+        sortedPersons.keyChanged(person, ListOrder.EXPOSURE);
+    }
+
+    /**
+     * Returns the persons in the person book, from the most to the least exposed.
+     */
+    private Iterable<Person> getPersonsByExposure() {
+        NavigableMap<Index, Person> personsById = personBook.getPersonsById();
+        return () -> exposureIndex.getIdsByExposure().stream().map(personsById::get).iterator();
+    }
+
+    /**
+     * Moves the person with {@code personId} to their new position in the filtered person list, if it is ordered by
+     * risk, after their risk score changed.
+     */
+    private void updateRiskOrder(Index personId, double previousWeightedScore) {
+        Person person = personBook.getPersonsById().get(personId);
+        sortedPersons.keyChanged(person, ListOrder.RISK);
+    }
+
+    /**
+     * Returns the persons in the person book, from the highest to the lowest risk score.
+     */
+    private Iterable<Person> getPersonsByRisk() {
+        NavigableMap<Index, Person> personsById = personBook.getPersonsById();
+        return () -> riskScoreIndex.getIdsByScore().stream().map(personsById::get).iterator();
+    }
+
+    //=========== Paging ====================================================================================
+
+    /**
+     * Returns an iterator over the entries of {@code entriesById} that come after the cursor of {@code request}.
+     */
+    private static <T> Iterator<Map.Entry<Index, T>> entriesById(NavigableMap<Index, T> entriesById,
+                                                                 PageRequest request) {
+        NavigableMap<Index, T> remaining = request.getCursor()
+                .map(cursor -> entriesById.tailMap(cursor, false))
+                .orElse(entriesById);
+        return remaining.entrySet().iterator();
+    }
+
+    //=========== History ===================================================================================
+
+    @Override
+    public void commitBooks() {
+        history.commit(getBookState());
+    }
+
+    @Override
+    public boolean undoBooks() {
+        if (!history.canUndo()) {
+            return false;
+        }
+        restoreBooks(history.undo());
+        return true;
+    }
+
+    @Override
+    public boolean redoBooks() {
+        if (!history.canRedo()) {
+            return false;
+        }
+        restoreBooks(history.redo());
+        return true;
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        BookState books = getBookState();
+        int contactWindowDays = userPrefs.getContactWindowDays();
+        if (snapshot == null) {
+            snapshot = new ModelSnapshot(books, 0, contactWindowDays);
+        } else if (!snapshot.isOf(books, contactWindowDays)) {
+            snapshot = new ModelSnapshot(books, snapshot.getVersion() + 1, contactWindowDays);
+        }
+        return snapshot;
+    }
+
+    private BookState getBookState() {
+        return new BookState(personOrders, locationOrders, visitOrders);
+    }
+
+    /**
+     * Changes the books to hold the data of {@code state}.
+     *
+     * Only the elements that differ between the current state and {@code state} are removed, edited and added, through
+     * the same methods that commands use, so that the derived indexes stay up to date. A book is replaced as a whole
+     * instead if more than half of it changed, if more than one element was edited, since edits made one at a time
+     * could clash with each other, or if an element has to be put back in the middle of the book.
+     *
+     * The elements put back are added without refiltering the list shown for each of them, and each list that had
+     * elements put back is refiltered to show everything once at the end, as a command adding them would leave it.
+     */
+    private void restoreBooks(BookState state) {
+        BookChanges<Visit> visitChanges = BookState.changesBetween(visitOrders, state.getVisits());
+        boolean canRestoreVisitsInPlace = visitChanges.isAtMostHalfOf(state.getVisits().size());
+        if (canRestoreVisitsInPlace) {
+            visitChanges.getRemoved().forEach(this::deleteVisit);
+        }
+        restorePersons(state.getPersons());
+        restoreLocations(state.getLocations());
+        if (canRestoreVisitsInPlace
+                && canAppendInOrder(visitBook.getVisitList(), visitChanges.getAdded(), state.getVisits())) {
+            visitChanges.getAdded().forEach(this::addVisitWithoutFilter);
+            if (!visitChanges.getAdded().isEmpty()) {
+                updateFilteredVisitList(PREDICATE_SHOW_ALL_VISITS);
+            }
+        } else {
+            VisitBook restoredVisitBook = new VisitBook();
+            restoredVisitBook.setVisits(BookState.inOrderAdded(state.getVisits()));
+            resetVisitBook(restoredVisitBook);
+        }
+
+        personOrders = state.getPersons();
+        locationOrders = state.getLocations();
+        visitOrders = state.getVisits();
+    }
+
+    private void restorePersons(PersistentMap<Person, Long> persons) {
+        BookChanges<Person> changes = BookState.changesBetween(personOrders, persons);
+        List<Map.Entry<Person, Person>> edits = pairById(changes, Person::getId);
+        if (edits.size() <= 1 && changes.isAtMostHalfOf(persons.size())) {
+            changes.getRemoved().forEach(this::deletePerson);
+            edits.forEach(edit -> setPerson(edit.getKey(), edit.getValue()));
+            if (canAppendInOrder(personBook.getPersonList(), changes.getAdded(), persons)) {
+                changes.getAdded().forEach(this::addPersonWithoutFilter);
+                if (!changes.getAdded().isEmpty()) {
+                    updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+                }
+                return;
+            }
+        }
+        PersonBook restoredPersonBook = new PersonBook();
+        restoredPersonBook.setPersons(BookState.inOrderAdded(persons));
+        resetPersonBook(restoredPersonBook);
+    }
+
+    private void restoreLocations(PersistentMap<Location, Long> locations) {
+        BookChanges<Location> changes = BookState.changesBetween(locationOrders, locations);
+        List<Map.Entry<Location, Location>> edits = pairById(changes, Location::getId);
+        if (edits.size() <= 1 && changes.isAtMostHalfOf(locations.size())) {
+            changes.getRemoved().forEach(this::deleteLocation);
+            edits.forEach(edit -> setLocation(edit.getKey(), edit.getValue()));
+            if (canAppendInOrder(locationBook.getLocationList(), changes.getAdded(), locations)) {
+                changes.getAdded().forEach(this::addLocationWithoutFilter);
+                if (!changes.getAdded().isEmpty()) {
+                    updateFilteredLocationList(PREDICATE_SHOW_ALL_LOCATIONS);
+                }
+                return;
+            }
+        }
+        LocationBook restoredLocationBook = new LocationBook();
+        restoredLocationBook.setLocations(BookState.inOrderAdded(locations));
+        this.locationBook.resetData(restoredLocationBook);
+    }
+
+    /**
+     * Returns true if adding {@code added} to the end of {@code book} keeps the elements in the order given by
+     * {@code orders}, which holds the elements of both.
+     */
+    private static <T> boolean canAppendInOrder(List<T> book, List<T> added, PersistentMap<T, Long> orders) {
+        return book.isEmpty() || added.isEmpty()
+                || orders.get(book.get(book.size() - 1)) < orders.get(added.get(0));
+    }
+
+    /**
+     * Takes the elements that were removed and added again with the same id out of {@code changes}, and returns them
+     * as pairs of the removed and the added element.
+     */
+    private static <T> List<Map.Entry<T, T>> pairById(BookChanges<T> changes, Function<T, Index> idOf) {
+        Map<Index, T> removedById = new HashMap<>();
+        changes.getRemoved().forEach(element -> removedById.put(idOf.apply(element), element));
+        List<Map.Entry<T, T>> pairs = new ArrayList<>();
+        Set<T> pairedElements = new HashSet<>();
+        for (T addedElement : changes.getAdded()) {
+            T removedElement = removedById.get(idOf.apply(addedElement));
+            if (removedElement != null) {
+                pairs.add(Map.entry(removedElement, addedElement));
+                pairedElements.add(removedElement);
+                pairedElements.add(addedElement);
+            }
+        }
+        changes.getRemoved().removeIf(pairedElements::contains);
+        changes.getAdded().removeIf(pairedElements::contains);
+        return pairs;
+    }
+
+    /**
+     * Returns {@code elements} mapped to the order in which they are added, from the next unused order onwards.
+     */
+    private <T> PersistentMap<T, Long> toOrders(List<T> elements) {
+        PersistentMap<T, Long> orders = PersistentMap.empty();
+        for (T element : elements) {
+            orders = orders.plus(element, nextOrder++);
+        }
+        return orders;
+    }
+
+    /**
+     * Returns {@code orders} with {@code target} replaced by {@code edited}, which keeps the order of {@code target}.
+     */
+    private <T> PersistentMap<T, Long> replaceKey(PersistentMap<T, Long> orders, T target, T edited) {
+        Long order = orders.get(target);
+        return orders.minus(target).plus(edited, order == null ? nextOrder++ : order);
+    }
+
+    //=========== Command Metrics ====================================================================================
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     //=========== InfoHandler ====================================================================================
     @Override
     public InfoHandler getInfoHandler() {
         return infoHandler;
     }
 
+    @Override
+    public List<Cluster> getClusters() {
+        return clusterIndex.getClusters(personBook.getPersonList());
+    }
+
+    @Override
+    public HyperLogLog getUniqueVisitors(Index locationId, LocalDate startDate, LocalDate endDate) {
+        return uniqueVisitorIndex.getUniqueVisitors(locationId, startDate, endDate);
+    }
+
+    @Override
+    public List<LocationTrend> getTopGrowingLocations(LocalDate endDate, int limit) {
+        return locationTimeSeries.getTopGrowingLocations(endDate, limit);
+    }
+
+    @Override
+    public double getInfectedVisitMovingAverage(Index locationId, LocalDate endDate, int days) {
+        return locationTimeSeries.getInfectedVisitMovingAverage(locationId, endDate, days);
+    }
+
     @Override
     public Person getPersonFromIndex(Index index) {
         return filteredPersons.get(index.getZeroBased());
@@ -33,6 +33,11 @@ public class ModelPredicate {
         return visit -> infectedIds.contains(visit.getPerson().getId());
     }
 
+    /** {@code Predicate} for filtering the people with a positive exposure risk score */
+    public static Predicate<Person> getPredicateForPeopleAtRisk(Model model) {
+        return person -> model.getRiskScore(person.getId()) > 0;
+    }
+
     /** {@code Predicate} for filtering high risk locations */
     public static Predicate<Location> getPredicateForHighRiskLocations(Model model) {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_INFECTED);
@@ -59,23 +64,13 @@ public class ModelPredicate {
 
     /** {@code Predicate} to generate a predicate for whether a person's Id is included in the list of person Ids  */
     public static Predicate<Person> getPredicateShowPeopleById(List<Index> personIds) {
-        return person -> {
-            boolean isIncluded = person.getId().equals(personIds.get(0));
-            for (int i = 1; i < personIds.size(); i++) {
-                isIncluded = isIncluded || person.getId().equals(personIds.get(i));
-            }
-            return isIncluded;
-        };
+        HashSet<Index> personIdSet = new HashSet<>(personIds);
+        return person -> personIdSet.contains(person.getId());
     }
 
     /** {@code Predicate} to generate predicate for whether a location's Id is included in the list of location Ids */
     public static Predicate<Location> getPredicateShowLocationsById(List<Index> locationIds) {
-        return location -> {
-            boolean isIncluded = location.getId().equals(locationIds.get(0));
-            for (int i = 1; i < locationIds.size(); i++) {
-                isIncluded = isIncluded || location.getId().equals(locationIds.get(i));
-            }
-            return isIncluded;
-        };
+        HashSet<Index> locationIdSet = new HashSet<>(locationIds);
+        return location -> locationIdSet.contains(location.getId());
     }
 }
@@ -0,0 +1,256 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.history.BookState;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.StatisticsSnapshot;
+import seedu.address.model.tracing.ContactTracer;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+
+/**
+ * An immutable view of the data in a {@code Model} at one point in time, which can be read from any thread while
+ * commands keep changing the model.
+ *
+ * A snapshot only holds on to the persistent state of the books, so taking one takes constant time and never holds up
+ * the commands. The lists, statistics and indexes that queries need are built from that state the first time they are
+ * asked for, on the thread that asks.
+ */
+public class ModelSnapshot {
+
+    private final BookState books;
+    private final long version;
+    private final int contactWindowDays;
+    private Contents contents;
+    private VisitBook visitBook;
+
+    /**
+     * Creates a snapshot of {@code books}, labelled with {@code version}, which traces contacts within
+     * {@code contactWindowDays} of each other.
+     */
+    ModelSnapshot(BookState books, long version, int contactWindowDays) {
+        requireNonNull(books);
+        this.books = books;
+        this.version = version;
+        this.contactWindowDays = contactWindowDays;
+    }
+
+    /**
+     * Returns the version of the model that this snapshot was taken of.
+     * Later snapshots of the same model have greater versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if this snapshot holds {@code books} and traces contacts within {@code contactWindowDays}.
+     */
+    boolean isOf(BookState books, int contactWindowDays) {
+        return this.books.isSameAs(books) && this.contactWindowDays == contactWindowDays;
+    }
+
+    /**
+     * Returns true if this snapshot holds the very same persons as {@code other}, which means that no person was
+     * changed between them.
+     */
+    public boolean hasSamePersonsAs(ModelSnapshot other) {
+        requireNonNull(other);
+        return books.getPersons() == other.books.getPersons();
+    }
+
+    /**
+     * Returns true if this snapshot holds the very same locations as {@code other}.
+     */
+    public boolean hasSameLocationsAs(ModelSnapshot other) {
+        requireNonNull(other);
+        return books.getLocations() == other.books.getLocations();
+    }
+
+    /**
+     * Returns true if this snapshot holds the very same visits as {@code other}.
+     */
+    public boolean hasSameVisitsAs(ModelSnapshot other) {
+        requireNonNull(other);
+        return books.getVisits() == other.books.getVisits();
+    }
+
+    public ReadOnlyPersonBook getPersonBook() {
+        ObservableList<Person> persons = getContents().persons;
+        return () -> persons;
+    }
+
+    public ReadOnlyLocationBook getLocationBook() {
+        ObservableList<Location> locations = getContents().locations;
+        return () -> locations;
+    }
+
+    /**
+     * Returns the visit book as of this snapshot. The book is only built the first time it is asked for.
+     */
+    public synchronized ReadOnlyVisitBook getVisitBook() {
+        if (visitBook == null) {
+            VisitBook copy = new VisitBook();
+            copy.setVisits(getContents().visits);
+            visitBook = copy;
+        }
+        return visitBook;
+    }
+
+    /**
+     * Returns the statistics of the data in this snapshot, labelled with {@code date}.
+     */
+    public StatisticsSnapshot getStatistics(LocalDate date) {
+        requireNonNull(date);
+        Contents current = getContents();
+        return new StatisticsSnapshot(date, current.persons.size(), current.infectedCount,
+                current.quarantinedCount, current.locations.size(), current.visits.size(),
+                current.infectedVisitsByLocation);
+    }
+
+    /**
+     * Returns the high risk locations, from the one with the most visits by infected persons.
+     */
+    public List<Location> getHighRiskLocations() {
+        return getContents().highRiskLocations;
+    }
+
+    /**
+     * Returns the person with {@code personId}, if there is one.
+     */
+    public Optional<Person> getPerson(Index personId) {
+        requireNonNull(personId);
+        return Optional.ofNullable(getContents().personsById.get(personId));
+    }
+
+    /**
+     * Returns the persons who were in contact with the person with {@code personId}, ordered by id.
+     */
+    public List<Person> getContacts(Index personId) {
+        requireNonNull(personId);
+        Map<Index, Person> personsById = getContents().personsById;
+        Map<Index, ?> contacts = new ContactTracer(contactWindowDays)
+                .trace(getVisitBook(), Collections.singleton(personId));
+        return contacts.keySet().stream()
+                .map(personsById::get)
+                .filter(person -> person != null)
+                .sorted(Comparator.comparingInt(person -> person.getId().getZeroBased()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the visits from {@code startDate} to {@code endDate}, both inclusive, ordered from the earliest to the
+     * latest date.
+     */
+    public List<Visit> getVisitsBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<Visit> visitsByDate = getContents().visitsByDate;
+        int start = indexOfFirstVisitAfter(visitsByDate, startDate.minusDays(1));
+        int end = indexOfFirstVisitAfter(visitsByDate, endDate);
+        return start < end ? visitsByDate.subList(start, end) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the index of the earliest visit made after {@code date}, or the number of visits if there is none.
+     */
+    private static int indexOfFirstVisitAfter(List<Visit> visitsByDate, LocalDate date) {
+        int low = 0;
+        int high = visitsByDate.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (visitsByDate.get(middle).getDate().isAfter(date)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private synchronized Contents getContents() {
+        if (contents == null) {
+            contents = new Contents(books);
+        }
+        return contents;
+    }
+
+    /**
+     * The lists and counts that are built from the books of a snapshot.
+     */
+    private static class Contents {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Location> locations;
+        private final List<Visit> visits;
+        private final List<Visit> visitsByDate;
+        private final Map<Index, Person> personsById;
+        private final int infectedCount;
+        private final int quarantinedCount;
+        private final Map<Index, Integer> infectedVisitsByLocation;
+        private final List<Location> highRiskLocations;
+
+        private Contents(BookState books) {
+            persons = toUnmodifiableList(BookState.inOrderAdded(books.getPersons()));
+            locations = toUnmodifiableList(BookState.inOrderAdded(books.getLocations()));
+            visits = BookState.inOrderAdded(books.getVisits());
+            List<Visit> sortedVisits = new ArrayList<>(visits);
+            sortedVisits.sort(Visit.ORDER_BY_DATE);
+            visitsByDate = Collections.unmodifiableList(sortedVisits);
+            personsById = persons.stream().collect(Collectors.toMap(Person::getId, person -> person));
+
+            Set<Index> infectedPersonIds = new HashSet<>();
+            int quarantined = 0;
+            for (Person person : persons) {
+                if (person.getQuarantineStatus().getStatusAsBoolean()) {
+                    quarantined++;
+                }
+                if (person.getInfectionStatus().getStatusAsBoolean()) {
+                    infectedPersonIds.add(person.getId());
+                }
+            }
+            infectedCount = infectedPersonIds.size();
+            quarantinedCount = quarantined;
+            infectedVisitsByLocation = new HashMap<>();
+            for (Visit visit : visits) {
+                if (infectedPersonIds.contains(visit.getPerson().getId())) {
+                    infectedVisitsByLocation.merge(visit.getLocation().getId(), 1, Integer::sum);
+                }
+            }
+
+            Map<Index, Location> locationsById = locations.stream()
+                    .collect(Collectors.toMap(Location::getId, location -> location));
+            List<Index> infectedLocationIds = new ArrayList<>(
+                    InfoHandler.sortByValues(new HashMap<>(infectedVisitsByLocation)).keySet());
+            int numberOfHighRiskLocations = InfoHandler.getNumberOfHighRiskLocations(infectedLocationIds.size(),
+                    locations.size());
+            highRiskLocations = infectedLocationIds.subList(0, numberOfHighRiskLocations).stream()
+                    .map(locationsById::get)
+                    .filter(location -> location != null)
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+        }
+
+        private static <T> ObservableList<T> toUnmodifiableList(List<T> elements) {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(elements));
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * A list of unique entries kept in a balanced binary tree, in which every node knows the size of its subtree, so that
+ * finding the entry at a position, finding the position of an entry, and adding or removing an entry all take
+ * O(log n) time.
+ *
+ * The tree is a treap: each node has a random priority, and the nodes are kept in heap order of their priorities,
+ * which keeps the tree balanced in expectation whatever the order in which the entries are added. The node of each
+ * entry is kept in a map, so an entry can be found without comparing it to the others, even after the key it was
+ * sorted by has changed.
+ */
+class OrderStatisticTree<T> implements Iterable<T> {
+
+    private final Map<T, Node<T>> nodes = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node<T> root;
+
+    int size() {
+        return size(root);
+    }
+
+    boolean contains(Object entry) {
+        return nodes.containsKey(entry);
+    }
+
+    /**
+     * Returns the entry at {@code index}.
+     */
+    T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        Node<T> node = root;
+        while (index != size(node.left)) {
+            if (index < size(node.left)) {
+                node = node.left;
+            } else {
+                index -= size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return node.entry;
+    }
+
+    /**
+     * Returns the position of {@code entry}, or -1 if it is not in the tree.
+     */
+    int indexOf(Object entry) {
+        Node<T> node = nodes.get(entry);
+        if (node == null) {
+            return -1;
+        }
+
+        int index = size(node.left);
+        for (; node.parent != null; node = node.parent) {
+            if (node == node.parent.right) {
+                index += size(node.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds {@code entry} after the entries that come before it or compare equal to it in {@code order}, or after all
+     * entries if {@code order} is null, and returns its position.
+     * The entries must already be sorted by {@code order}, and {@code entry} must not be in the tree.
+     */
+    int add(T entry, Comparator<? super T> order) {
+        assert !contains(entry) : "The entries must be unique.";
+        Node<T> node = new Node<>(entry, random.nextInt());
+        nodes.put(entry, node);
+        if (root == null) {
+            root = node;
+            return 0;
+        }
+
+        Node<T> parent = root;
+        while (true) {
+            parent.size++;
+            boolean isBefore = order != null && order.compare(entry, parent.entry) < 0;
+            Node<T> child = isBefore ? parent.left : parent.right;
+            if (child == null) {
+                if (isBefore) {
+                    parent.left = node;
+                } else {
+                    parent.right = node;
+                }
+                node.parent = parent;
+                break;
+            }
+            parent = child;
+        }
+
+        while (node.parent != null && node.priority > node.parent.priority) {
+            rotateUp(node);
+        }
+        return indexOf(entry);
+    }
+
+    /**
+     * Removes {@code entry} and returns the position it was at, or -1 if it is not in the tree.
+     */
+    int remove(T entry) {
+        int index = indexOf(entry);
+        if (index < 0) {
+            return index;
+        }
+
+        Node<T> node = nodes.remove(entry);
+        // The node is moved down until it has at most one child, which then takes its place.
+        while (node.left != null && node.right != null) {
+            rotateUp(node.left.priority > node.right.priority ? node.left : node.right);
+        }
+        Node<T> child = node.left != null ? node.left : node.right;
+        replaceChild(node.parent, node, child);
+        for (Node<T> ancestor = node.parent; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.size--;
+        }
+        return index;
+    }
+
+    /**
+     * Puts {@code replacement} in the place of {@code target}, and returns its position.
+     * {@code target} must be in the tree, and {@code replacement} must not be unless it is equal to {@code target}.
+     */
+    int replace(T target, T replacement) {
+        assert contains(target) && (target.equals(replacement) || !contains(replacement))
+                : "The entries must be unique.";
+        int index = indexOf(target);
+        Node<T> node = nodes.remove(target);
+        node.entry = replacement;
+        nodes.put(replacement, node);
+        return index;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * Returns an iterator over the entries in order, which takes O(n) time to go over all of them.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private Node<T> next = root == null ? null : getFirst(root);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                T entry = next.entry;
+                next = getNext(next);
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Moves {@code node} up to the place of its parent, keeping the order of the entries.
+     */
+    private void rotateUp(Node<T> node) {
+        Node<T> parent = node.parent;
+        if (node == parent.left) {
+            parent.left = node.right;
+            if (node.right != null) {
+                node.right.parent = parent;
+            }
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null) {
+                node.left.parent = parent;
+            }
+            node.left = parent;
+        }
+        replaceChild(parent.parent, parent, node);
+        parent.parent = node;
+        parent.size = size(parent.left) + size(parent.right) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    /**
+     * Puts {@code newChild} in the place of {@code child} under {@code parent}, or at the root if {@code parent} is
+     * null.
+     */
+    private void replaceChild(Node<T> parent, Node<T> child, Node<T> newChild) {
+        if (parent == null) {
+            root = newChild;
+        } else if (parent.left == child) {
+            parent.left = newChild;
+        } else {
+            parent.right = newChild;
+        }
+        if (newChild != null) {
+            newChild.parent = parent;
+        }
+    }
+
+    private static <T> Node<T> getFirst(Node<T> node) {
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node;
+    }
+
+    private static <T> Node<T> getNext(Node<T> node) {
+        if (node.right != null) {
+            return getFirst(node.right);
+        }
+        while (node.parent != null && node == node.parent.right) {
+            node = node.parent;
+        }
+        return node.parent;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<T> {
+        private T entry;
+        private final int priority;
+        private Node<T> left;
+        private Node<T> right;
+        private Node<T> parent;
+        private int size = 1;
+
+        Node(T entry, int priority) {
+            this.entry = entry;
+            this.priority = priority;
+        }
+    }
+}
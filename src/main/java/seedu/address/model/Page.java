@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * A window of entries taken from one of the lists in the {@code Model}, as described by a {@code PageRequest}.
+ * Guarantees: immutable.
+ */
+public class Page<T> {
+
+    private final List<T> entries;
+    private final PageRequest nextPageRequest;
+
+    /**
+     * Creates a page with the given entries.
+     * {@code nextPageRequest} should be null if there are no more entries after this page.
+     */
+    public Page(List<T> entries, PageRequest nextPageRequest) {
+        requireNonNull(entries);
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        this.nextPageRequest = nextPageRequest;
+    }
+
+    /**
+     * Builds the page described by {@code request} from {@code keyedEntries}.
+     * {@code keyedEntries} must be ordered by their keys and must already start after the cursor of {@code request},
+     * if there is one. Only the entries accepted by {@code filter} are part of the page, and iteration stops as soon as
+     * the page is full, but the entries skipped by the offset of {@code request} or rejected by {@code filter} are
+     * iterated too.
+     *
+     * @param keyedEntries The entries of a list, each paired with the key used as a cursor for it.
+     * @param filter The filter currently applied to the list.
+     * @param request The page to build.
+     */
+    public static <T> Page<T> fromEntries(Iterator<? extends Map.Entry<Index, ? extends T>> keyedEntries,
+                                          Predicate<? super T> filter, PageRequest request) {
+        requireAllNonNull(keyedEntries, filter, request);
+
+        List<T> pageEntries = new ArrayList<>();
+        int entriesToSkip = request.getOffset();
+        Index lastKey = null;
+
+        while (keyedEntries.hasNext()) {
+            Map.Entry<Index, ? extends T> entry = keyedEntries.next();
+            if (!filter.test(entry.getValue())) {
+                continue;
+            }
+            if (entriesToSkip > 0) {
+                entriesToSkip--;
+                continue;
+            }
+            if (pageEntries.size() == request.getLimit()) {
+                // There is at least one more entry, so the next page starts after the last entry of this page.
+                PageRequest next = PageRequest.after(lastKey, request.getLimit());
+                return new Page<>(pageEntries, next);
+            }
+            pageEntries.add(entry.getValue());
+            lastKey = entry.getKey();
+        }
+
+        return new Page<>(pageEntries, null);
+    }
+
+    /**
+     * Returns the entries in this page as an unmodifiable list.
+     */
+    public List<T> getEntries() {
+        return entries;
+    }
+
+    public boolean hasNextPage() {
+        return nextPageRequest != null;
+    }
+
+    /**
+     * Returns the request for the page following this one, or {@code Optional#empty()} if this is the last page.
+     */
+    public Optional<PageRequest> getNextPageRequest() {
+        return Optional.ofNullable(nextPageRequest);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Page // instanceof handles nulls
+                && entries.equals(((Page<?>) other).entries)
+                && Objects.equals(nextPageRequest, ((Page<?>) other).nextPageRequest));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entries, nextPageRequest);
+    }
+
+    @Override
+    public String toString() {
+        return entries.size() + " entries" + (hasNextPage() ? ", more after this page" : "");
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * Describes a window of entries to be fetched from one of the lists in the {@code Model}.
+ * A page is located either by an offset into the list, or by a cursor holding the key of the last entry of the
+ * previous page. Cursors are preferred when walking a large list, as the entries before the cursor are not visited
+ * again, and a cursor stays valid when entries before it are removed.
+ */
+public class PageRequest {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final String MESSAGE_CONSTRAINTS = "The offset of a page cannot be negative and "
+            + "the page size must be positive.";
+
+    private final int offset;
+    private final int limit;
+    private final Index cursor;
+
+    private PageRequest(int offset, int limit, Index cursor) {
+        checkArgument(offset >= 0 && limit > 0, MESSAGE_CONSTRAINTS);
+        this.offset = offset;
+        this.limit = limit;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns a request for the first {@code limit} entries.
+     */
+    public static PageRequest firstPage(int limit) {
+        return new PageRequest(0, limit, null);
+    }
+
+    /**
+     * Returns a request for {@code limit} entries, skipping the first {@code offset} entries.
+     */
+    public static PageRequest atOffset(int offset, int limit) {
+        return new PageRequest(offset, limit, null);
+    }
+
+    /**
+     * Returns a request for the {@code limit} entries that come after the entry with the key {@code cursor}.
+     * For persons and locations, the key is the id of the entry. For visits, the key tells when the visit was added.
+     */
+    public static PageRequest after(Index cursor, int limit) {
+        requireNonNull(cursor);
+        return new PageRequest(0, limit, cursor);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Optional<Index> getCursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PageRequest)) {
+            return false;
+        }
+
+        PageRequest otherRequest = (PageRequest) other;
+        return offset == otherRequest.offset
+                && limit == otherRequest.limit
+                && Objects.equals(cursor, otherRequest.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit, cursor);
+    }
+
+    @Override
+    public String toString() {
+        return "Page of " + limit + (cursor == null ? " from offset " + offset : " after " + cursor);
+    }
+}
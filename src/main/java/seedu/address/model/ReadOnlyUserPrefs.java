@@ -17,4 +17,27 @@ public interface ReadOnlyUserPrefs {
 
     Path getVisitBookFilePath();
 
+    /**
+     * Returns the number of days before and after an infected person's visit to a location within which other
+     * visitors to the location are counted as their contacts.
+     */
+    int getContactWindowDays();
+
+    /**
+     * Returns the number of visits by infected persons to a location within the alert window that raises an
+     * outbreak alert for the location.
+     */
+    int getOutbreakAlertThreshold();
+
+    /**
+     * Returns the number of changes to the person, location and visit books that can be undone.
+     */
+    int getUndoHistoryDepth();
+
+    /**
+     * Returns the number of milliseconds after a change to the books that it is saved, so that the changes made within
+     * that time are saved together.
+     */
+    int getSaveDelayMillis();
+
 }
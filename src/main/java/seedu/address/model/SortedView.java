@@ -0,0 +1,212 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A list that mirrors the entries of a book, either in the order of the book or in the order of one of the sorted
+ * indexes kept alongside the book.
+ * The view is updated one entry at a time as the book changes. The entries are kept in an
+ * {@link OrderStatisticTree}, so adding, removing or moving an entry takes O(log n) time, as does finding the entry at
+ * a position. The entries of a book are unique, so each entry is found by its node in the tree rather than by its key.
+ * Switching to another order copies the entries from an index that is already sorted, so the view is never sorted.
+ */
+public class SortedView<T> {
+
+    private final ObservableList<T> source;
+    private final Entries entries = new Entries();
+    private final ObservableList<T> unmodifiableEntries = FXCollections.unmodifiableObservableList(entries);
+
+    private ListOrder order = ListOrder.DEFAULT;
+    // Both are null when the view follows the order of the source list.
+    private Comparator<? super T> comparator;
+    private Supplier<? extends Iterable<? extends T>> sortedIndex;
+
+    /**
+     * Creates a view that follows the order of {@code source}.
+     */
+    public SortedView(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        entries.setAll(source);
+    }
+
+    public ListOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Shows the entries in the order of the source list.
+     */
+    public void showSourceOrder() {
+        order = ListOrder.DEFAULT;
+        comparator = null;
+        sortedIndex = null;
+        refresh();
+    }
+
+    /**
+     * Shows the entries in {@code order}, as given by {@code comparator}.
+     * {@code sortedIndex} must supply the entries of the source list already sorted by {@code comparator}.
+     */
+    public void showSortedOrder(ListOrder order, Comparator<? super T> comparator,
+                                Supplier<? extends Iterable<? extends T>> sortedIndex) {
+        requireAllNonNull(order, comparator, sortedIndex);
+        this.order = order;
+        this.comparator = comparator;
+        this.sortedIndex = sortedIndex;
+        refresh();
+    }
+
+    /**
+     * Reloads all entries of the view. Used when the whole source list has been replaced.
+     */
+    public void refresh() {
+        if (comparator == null) {
+            entries.setAll(source);
+            return;
+        }
+
+        List<T> sortedEntries = new ArrayList<>(source.size());
+        sortedIndex.get().forEach(sortedEntries::add);
+        entries.setAll(sortedEntries);
+    }
+
+    /**
+     * Adds {@code entry}, which has just been appended to the source list, to the view.
+     */
+    public void added(T entry) {
+        requireNonNull(entry);
+        // Entries that compare equal are kept in the order they were added, as they are in the sorted indexes.
+        entries.addEntry(entry, comparator);
+    }
+
+    /**
+     * Removes {@code entry}, which has just been removed from the source list, from the view.
+     */
+    public void removed(T entry) {
+        requireNonNull(entry);
+        entries.removeEntry(entry);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedEntry}, which has just replaced it in the source list.
+     */
+    public void replaced(T target, T editedEntry) {
+        requireAllNonNull(target, editedEntry);
+        if (comparator == null) {
+            entries.replaceEntry(target, editedEntry);
+            return;
+        }
+
+        entries.removeEntry(target);
+        entries.addEntry(editedEntry, comparator);
+    }
+
+    /**
+     * Moves {@code entry} to its new position after the key it is sorted by in {@code order} has changed.
+     * Does nothing if the view is not showing {@code order}.
+     */
+    public void keyChanged(T entry, ListOrder order) {
+        requireAllNonNull(entry, order);
+        if (this.order != order) {
+            return;
+        }
+
+        entries.removeEntry(entry);
+        entries.addEntry(entry, comparator);
+    }
+
+    /**
+     * Returns the entries of the view as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableEntries;
+    }
+
+    /**
+     * The entries of the view, which tells the lists built on it about each entry that is added or removed.
+     */
+    private class Entries extends ObservableListBase<T> {
+        private final OrderStatisticTree<T> tree = new OrderStatisticTree<>();
+
+        @Override
+        public T get(int index) {
+            return tree.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tree.size();
+        }
+
+        @Override
+        public int indexOf(Object entry) {
+            return tree.indexOf(entry);
+        }
+
+        @Override
+        public boolean contains(Object entry) {
+            return indexOf(entry) >= 0;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return tree.iterator();
+        }
+
+        /**
+         * Replaces all entries with {@code newEntries}, in their order.
+         */
+        @Override
+        public boolean setAll(Collection<? extends T> newEntries) {
+            List<T> removedEntries = new ArrayList<>(size());
+            tree.forEach(removedEntries::add);
+            tree.clear();
+            newEntries.forEach(entry -> tree.add(entry, null));
+
+            beginChange();
+            if (!removedEntries.isEmpty()) {
+                nextRemove(0, removedEntries);
+            }
+            if (size() > 0) {
+                nextAdd(0, size());
+            }
+            endChange();
+            return true;
+        }
+
+        void addEntry(T entry, Comparator<? super T> order) {
+            int index = tree.add(entry, order);
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void removeEntry(T entry) {
+            int index = tree.remove(entry);
+            assert index >= 0 : "The entry to remove must be in the view.";
+            beginChange();
+            nextRemove(index, entry);
+            endChange();
+        }
+
+        void replaceEntry(T target, T replacement) {
+            int index = tree.replace(target, replacement);
+            beginChange();
+            nextSet(index, target);
+            endChange();
+        }
+    }
+}
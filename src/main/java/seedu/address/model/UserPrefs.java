@@ -1,22 +1,33 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.history.BookHistory;
+import seedu.address.model.tracing.ContactTracer;
+import seedu.address.model.tracing.OutbreakMonitor;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_SAVE_DELAY_MILLIS = 500;
+    public static final String SAVE_DELAY_CONSTRAINTS = "The save delay cannot be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path personBookFilePath = Paths.get("data" , "personbook.json");
     private Path locationBookFilePath = Paths.get("data", "locationbook.json");
     private Path visitBookFilePath = Paths.get("data", "visitbook.json");
+    private int contactWindowDays = ContactTracer.DEFAULT_WINDOW_DAYS;
+    private int outbreakAlertThreshold = OutbreakMonitor.DEFAULT_THRESHOLD;
+    private int undoHistoryDepth = BookHistory.DEFAULT_DEPTH;
+    private int saveDelayMillis = DEFAULT_SAVE_DELAY_MILLIS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +51,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setPersonBookFilePath(newUserPrefs.getPersonBookFilePath());
         setLocationBookFilePath(newUserPrefs.getLocationBookFilePath());
         setVisitBookFilePath(newUserPrefs.getVisitBookFilePath());
+        setContactWindowDays(newUserPrefs.getContactWindowDays());
+        setOutbreakAlertThreshold(newUserPrefs.getOutbreakAlertThreshold());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setSaveDelayMillis(newUserPrefs.getSaveDelayMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +93,42 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.visitBookFilePath = visitBookFilePath;
     }
 
+    public int getContactWindowDays() {
+        return contactWindowDays;
+    }
+
+    public void setContactWindowDays(int contactWindowDays) {
+        checkArgument(contactWindowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        this.contactWindowDays = contactWindowDays;
+    }
+
+    public int getOutbreakAlertThreshold() {
+        return outbreakAlertThreshold;
+    }
+
+    public void setOutbreakAlertThreshold(int outbreakAlertThreshold) {
+        checkArgument(outbreakAlertThreshold > 0, OutbreakMonitor.MESSAGE_CONSTRAINTS);
+        this.outbreakAlertThreshold = outbreakAlertThreshold;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(BookHistory.isValidDepth(undoHistoryDepth), BookHistory.MESSAGE_CONSTRAINTS);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(int saveDelayMillis) {
+        checkArgument(saveDelayMillis >= 0, SAVE_DELAY_CONSTRAINTS);
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -92,12 +143,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && personBookFilePath.equals(o.personBookFilePath)
                 && locationBookFilePath.equals(o.locationBookFilePath)
-                && visitBookFilePath.equals(o.visitBookFilePath);
+                && visitBookFilePath.equals(o.visitBookFilePath)
+                && contactWindowDays == o.contactWindowDays
+                && outbreakAlertThreshold == o.outbreakAlertThreshold
+                && undoHistoryDepth == o.undoHistoryDepth
+                && saveDelayMillis == o.saveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, personBookFilePath, locationBookFilePath, visitBookFilePath);
+        return Objects.hash(guiSettings, personBookFilePath, locationBookFilePath, visitBookFilePath,
+                contactWindowDays, outbreakAlertThreshold, undoHistoryDepth, saveDelayMillis);
     }
 
     @Override
@@ -107,6 +163,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nLocal person data file location : " + personBookFilePath);
         sb.append("\nLocal location data file location : " + locationBookFilePath);
         sb.append("\nLocal visit data file location : " + visitBookFilePath);
+        sb.append("\nContact window in days : " + contactWindowDays);
+        sb.append("\nOutbreak alert threshold : " + outbreakAlertThreshold);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nSave delay in milliseconds : " + saveDelayMillis);
         return sb.toString();
     }
 
@@ -0,0 +1,100 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The states of the books that changes can be undone to and redone to.
+ *
+ * Since the states share most of their structure, keeping one costs memory in proportion to the changes made since the
+ * state before it, and moving between states takes constant time.
+ */
+public class BookHistory {
+
+    public static final int DEFAULT_DEPTH = 20;
+    public static final String MESSAGE_CONSTRAINTS = "The undo history depth cannot be a negative number.";
+
+    private final List<BookState> states = new ArrayList<>();
+    private int currentIndex;
+    private int depth;
+
+    /**
+     * Creates a history which starts at {@code initialState} and keeps up to {@code depth} changes to undo.
+     */
+    public BookHistory(BookState initialState, int depth) {
+        requireNonNull(initialState);
+        checkArgument(isValidDepth(depth), MESSAGE_CONSTRAINTS);
+        states.add(initialState);
+        this.depth = depth;
+    }
+
+    /**
+     * Returns true if {@code depth} is a valid number of changes to keep.
+     */
+    public static boolean isValidDepth(int depth) {
+        return depth >= 0;
+    }
+
+    public BookState getCurrentState() {
+        return states.get(currentIndex);
+    }
+
+    /**
+     * Records {@code state} as the newest state, dropping the states that could have been redone.
+     * Does nothing if {@code state} is the current state.
+     */
+    public void commit(BookState state) {
+        requireNonNull(state);
+        if (state.isSameAs(getCurrentState())) {
+            return;
+        }
+        states.subList(currentIndex + 1, states.size()).clear();
+        states.add(state);
+        currentIndex++;
+        dropOldestStates();
+    }
+
+    public boolean canUndo() {
+        return currentIndex > 0;
+    }
+
+    public boolean canRedo() {
+        return currentIndex < states.size() - 1;
+    }
+
+    /**
+     * Moves to the state before the current one and returns it.
+     */
+    public BookState undo() {
+        checkArgument(canUndo(), "There is no change to undo.");
+        return states.get(--currentIndex);
+    }
+
+    /**
+     * Moves to the state after the current one and returns it.
+     */
+    public BookState redo() {
+        checkArgument(canRedo(), "There is no change to redo.");
+        return states.get(++currentIndex);
+    }
+
+    /**
+     * Keeps up to {@code depth} changes to undo from now on, dropping the oldest states if there are more.
+     */
+    public void setDepth(int depth) {
+        checkArgument(isValidDepth(depth), MESSAGE_CONSTRAINTS);
+        this.depth = depth;
+        dropOldestStates();
+    }
+
+    private void dropOldestStates() {
+        int excess = currentIndex - depth;
+        if (excess > 0) {
+            states.subList(0, excess).clear();
+            currentIndex -= excess;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.model.history;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+
+/**
+ * The data of the person, location and visit books at one point in time.
+ *
+ * Each book is kept as a {@code PersistentMap} from its elements to the order in which they were added, so that states
+ * made from one another share most of their structure.
+ */
+public class BookState {
+
+    private final PersistentMap<Person, Long> persons;
+    private final PersistentMap<Location, Long> locations;
+    private final PersistentMap<Visit, Long> visits;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public BookState(PersistentMap<Person, Long> persons, PersistentMap<Location, Long> locations,
+                     PersistentMap<Visit, Long> visits) {
+        requireAllNonNull(persons, locations, visits);
+        this.persons = persons;
+        this.locations = locations;
+        this.visits = visits;
+    }
+
+    public PersistentMap<Person, Long> getPersons() {
+        return persons;
+    }
+
+    public PersistentMap<Location, Long> getLocations() {
+        return locations;
+    }
+
+    public PersistentMap<Visit, Long> getVisits() {
+        return visits;
+    }
+
+    /**
+     * Returns true if both states hold the very same maps, which means that nothing was changed between them.
+     */
+    public boolean isSameAs(BookState other) {
+        return other == this
+                || (other != null
+                && persons == other.persons
+                && locations == other.locations
+                && visits == other.visits);
+    }
+
+    /**
+     * Returns the elements of {@code book}, from the earliest to the latest added.
+     */
+    public static <T> List<T> inOrderAdded(PersistentMap<T, Long> book) {
+        List<Map.Entry<T, Long>> entries = new ArrayList<>(book.size());
+        book.forEach((element, order) -> entries.add(Map.entry(element, order)));
+        entries.sort(Map.Entry.comparingByValue());
+        List<T> elements = new ArrayList<>(entries.size());
+        entries.forEach(entry -> elements.add(entry.getKey()));
+        return elements;
+    }
+
+    /**
+     * Returns the changes that turn {@code from} into {@code to}.
+     */
+    public static <T> BookChanges<T> changesBetween(PersistentMap<T, Long> from, PersistentMap<T, Long> to) {
+        List<T> removed = new ArrayList<>();
+        List<Map.Entry<T, Long>> added = new ArrayList<>();
+        PersistentMap.diff(from, to, new PersistentMap.DiffListener<>() {
+            @Override
+            public void removed(T element, Long order) {
+                removed.add(element);
+            }
+
+            @Override
+            public void added(T element, Long order) {
+                added.add(Map.entry(element, order));
+            }
+        });
+        added.sort(Map.Entry.comparingByValue());
+        return new BookChanges<>(removed, added);
+    }
+
+    /**
+     * The elements removed from and added to a book between two states.
+     */
+    public static class BookChanges<T> {
+        private final List<T> removed;
+        private final List<T> added;
+
+        private BookChanges(List<T> removed, List<Map.Entry<T, Long>> added) {
+            this.removed = removed;
+            this.added = new ArrayList<>(added.size());
+            added.forEach(entry -> this.added.add(entry.getKey()));
+        }
+
+        public List<T> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * Returns the added elements, from the earliest to the latest added.
+         */
+        public List<T> getAdded() {
+            return added;
+        }
+
+        /**
+         * Returns true if applying the changes one at a time is cheaper than replacing the whole book with the
+         * {@code bookSize} elements of the new state.
+         */
+        public boolean isAtMostHalfOf(int bookSize) {
+            return removed.size() + added.size() <= bookSize / 2;
+        }
+    }
+}
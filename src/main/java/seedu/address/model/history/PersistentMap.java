@@ -0,0 +1,402 @@
+package seedu.address.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An immutable map which shares most of its structure with the maps it was made from, implemented as a hash array
+ * mapped trie.
+ *
+ * Adding or removing a key only copies the O(log n) nodes on the path to that key, so every version of the map can be
+ * kept for little more memory than the changes between them. Keys and values cannot be null.
+ */
+public final class PersistentMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns a map with no keys.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if this map does not contain it.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        requireNonNull(key);
+        return (V) root.get(key.hashCode(), key, 0);
+    }
+
+    /**
+     * Returns true if this map contains {@code key}.
+     */
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with the keys of this map, where {@code key} has {@code value}.
+     * Returns this map if {@code key} already has {@code value}.
+     */
+    public PersistentMap<K, V> plus(K key, V value) {
+        requireAllNonNull(key, value);
+        V previous = get(key);
+        if (value.equals(previous)) {
+            return this;
+        }
+        return new PersistentMap<>(root.plus(new Entry(key.hashCode(), key, value), 0),
+                previous == null ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map with the keys of this map except {@code key}.
+     * Returns this map if it does not contain {@code key}.
+     */
+    public PersistentMap<K, V> minus(Object key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        Node newRoot = root.minus(key.hashCode(), key, 0);
+        return new PersistentMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    /**
+     * Calls {@code action} with each key and its value, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        requireNonNull(action);
+        root.forEach(entry -> action.accept((K) entry.key, (V) entry.value));
+    }
+
+    /**
+     * Tells {@code listener} about every key that was removed from {@code from} or added to it to give {@code to}.
+     * A key whose value changed is reported as removed with its old value and added with its new value.
+     *
+     * Parts of the maps that are shared are skipped, so comparing a map with one made from it by a few changes only
+     * takes time in proportion to the number of changes.
+     */
+    public static <K, V> void diff(PersistentMap<K, V> from, PersistentMap<K, V> to, DiffListener<K, V> listener) {
+        requireAllNonNull(from, to, listener);
+        diffSlots(from.root, to.root, 0, listener);
+    }
+
+    /**
+     * Receives the differences found by {@link #diff}.
+     */
+    public interface DiffListener<K, V> {
+        void removed(K key, V value);
+
+        void added(K key, V value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> void diffSlots(Object from, Object to, int shift, DiffListener<K, V> listener) {
+        if (from == to) {
+            return;
+        }
+        if (from instanceof BitmapNode && to instanceof BitmapNode) {
+            BitmapNode fromNode = (BitmapNode) from;
+            BitmapNode toNode = (BitmapNode) to;
+            int bits = fromNode.bitmap | toNode.bitmap;
+            while (bits != 0) {
+                int bit = Integer.lowestOneBit(bits);
+                bits &= bits - 1;
+                diffSlots(fromNode.slotAt(bit), toNode.slotAt(bit), shift + BITS_PER_LEVEL, listener);
+            }
+            return;
+        }
+
+        Map<Object, Object> fromEntries = entriesOf(from);
+        Map<Object, Object> toEntries = entriesOf(to);
+        fromEntries.forEach((key, value) -> {
+            if (!value.equals(toEntries.get(key))) {
+                listener.removed((K) key, (V) value);
+            }
+        });
+        toEntries.forEach((key, value) -> {
+            if (!value.equals(fromEntries.get(key))) {
+                listener.added((K) key, (V) value);
+            }
+        });
+    }
+
+    private static Map<Object, Object> entriesOf(Object slot) {
+        Map<Object, Object> entries = new HashMap<>();
+        if (slot instanceof Entry) {
+            entries.put(((Entry) slot).key, ((Entry) slot).value);
+        } else if (slot != null) {
+            ((Node) slot).forEach(entry -> entries.put(entry.key, entry.value));
+        }
+        return entries;
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * A key with its value and the hash of the key.
+     */
+    private static final class Entry {
+        private final int hash;
+        private final Object key;
+        private final Object value;
+
+        private Entry(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A node of the trie. Nodes are never changed after they are made.
+     */
+    private abstract static class Node {
+        abstract Object get(int hash, Object key, int shift);
+
+        abstract Node plus(Entry entry, int shift);
+
+        /**
+         * Returns the node without {@code key}, or null if the node would be empty.
+         */
+        abstract Node minus(int hash, Object key, int shift);
+
+        abstract void forEach(Consumer<Entry> action);
+
+        /**
+         * Returns the only entry of this node, or null if it holds more than one entry.
+         */
+        abstract Entry getOnlyEntry();
+    }
+
+    /**
+     * A node which holds up to 32 slots, one for each value of the next five bits of the hash.
+     * Each slot holds either an {@code Entry} or a child {@code Node}.
+     */
+    private static final class BitmapNode extends Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private Object slotAt(int bit) {
+            return (bitmap & bit) == 0 ? null : slots[indexOf(bit)];
+        }
+
+        @Override
+        Object get(int hash, Object key, int shift) {
+            Object slot = slotAt(bitFor(hash, shift));
+            if (slot instanceof Entry) {
+                Entry entry = (Entry) slot;
+                return entry.key.equals(key) ? entry.value : null;
+            }
+            return slot == null ? null : ((Node) slot).get(hash, key, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        Node plus(Entry entry, int shift) {
+            int bit = bitFor(entry.hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            Object newSlot;
+            if (slot instanceof Entry) {
+                Entry existing = (Entry) slot;
+                newSlot = existing.key.equals(entry.key)
+                        ? entry
+                        : merge(existing, entry, shift + BITS_PER_LEVEL);
+            } else {
+                newSlot = ((Node) slot).plus(entry, shift + BITS_PER_LEVEL);
+            }
+            return withSlot(index, newSlot);
+        }
+
+        @Override
+        Node minus(int hash, Object key, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = indexOf(bit);
+            Object slot = slots[index];
+            if (slot instanceof Entry) {
+                return ((Entry) slot).key.equals(key) ? withoutSlot(bit, index) : this;
+            }
+
+            Node child = (Node) slot;
+            Node newChild = child.minus(hash, key, shift + BITS_PER_LEVEL);
+            if (newChild == child) {
+                return this;
+            }
+            if (newChild == null) {
+                return withoutSlot(bit, index);
+            }
+            Entry onlyEntry = newChild.getOnlyEntry();
+            return withSlot(index, onlyEntry == null ? newChild : onlyEntry);
+        }
+
+        @Override
+        void forEach(Consumer<Entry> action) {
+            for (Object slot : slots) {
+                if (slot instanceof Entry) {
+                    action.accept((Entry) slot);
+                } else {
+                    ((Node) slot).forEach(action);
+                }
+            }
+        }
+
+        @Override
+        Entry getOnlyEntry() {
+            return slots.length == 1 && slots[0] instanceof Entry ? (Entry) slots[0] : null;
+        }
+
+        private BitmapNode withSlot(int index, Object slot) {
+            Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new BitmapNode(bitmap, newSlots);
+        }
+
+        private BitmapNode withoutSlot(int bit, int index) {
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, newSlots.length - index);
+            return new BitmapNode(bitmap & ~bit, newSlots);
+        }
+
+        /**
+         * Returns a node holding both entries, which have different keys and are at the same slot of the level above.
+         */
+        private static Node merge(Entry first, Entry second, int shift) {
+            if (first.hash == second.hash) {
+                return new CollisionNode(first.hash, new Entry[] {first, second});
+            }
+            int firstBit = bitFor(first.hash, shift);
+            int secondBit = bitFor(second.hash, shift);
+            if (firstBit == secondBit) {
+                return new BitmapNode(firstBit, new Object[] {merge(first, second, shift + BITS_PER_LEVEL)});
+            }
+            Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                    ? new Object[] {first, second}
+                    : new Object[] {second, first};
+            return new BitmapNode(firstBit | secondBit, slots);
+        }
+    }
+
+    /**
+     * A node which holds the entries of keys that have the same hash.
+     */
+    private static final class CollisionNode extends Node {
+        private final int hash;
+        private final Entry[] entries;
+
+        private CollisionNode(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(int hash, Object key, int shift) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            return index < 0 ? null : entries[index].value;
+        }
+
+        @Override
+        Node plus(Entry entry, int shift) {
+            if (entry.hash != hash) {
+                return new BitmapNode(bitFor(hash, shift), new Object[] {this}).plus(entry, shift);
+            }
+            int index = indexOf(entry.key);
+            Entry[] newEntries;
+            if (index < 0) {
+                newEntries = Arrays.copyOf(entries, entries.length + 1);
+                newEntries[entries.length] = entry;
+            } else {
+                newEntries = entries.clone();
+                newEntries[index] = entry;
+            }
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        Node minus(int hash, Object key, int shift) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index < 0) {
+                return this;
+            }
+            if (entries.length == 1) {
+                return null;
+            }
+            Entry[] newEntries = new Entry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, newEntries.length - index);
+            return new CollisionNode(hash, newEntries);
+        }
+
+        @Override
+        void forEach(Consumer<Entry> action) {
+            for (Entry entry : entries) {
+                action.accept(entry);
+            }
+        }
+
+        @Override
+        Entry getOnlyEntry() {
+            return entries.length == 1 ? entries[0] : null;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package seedu.address.model.location;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.NavigableMap;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 
 /**
  * Wraps all data at the location-book level
@@ -105,6 +107,13 @@ public class LocationBook implements ReadOnlyLocationBook {
         return locations.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the locations in this book as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Location> getLocationsById() {
+        return locations.asUnmodifiableIdMap();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
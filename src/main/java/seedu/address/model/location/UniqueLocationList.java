@@ -3,14 +3,24 @@ package seedu.address.model.location;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.location.exceptions.DuplicateLocationException;
 import seedu.address.model.location.exceptions.LocationNotFoundException;
 import seedu.address.model.location.exceptions.LocationNotIdentifiableException;
+import seedu.address.model.person.Name;
 
 /**
  * A list of locations that enforces uniqueness between its elements and does not allow nulls.
@@ -29,6 +39,12 @@ public class UniqueLocationList implements Iterable<Location> {
     private final ObservableList<Location> internalList = FXCollections.observableArrayList();
     private final ObservableList<Location> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NavigableMap<Index, Location> locationsById =
+            new TreeMap<>(Comparator.comparingInt(Index::getZeroBased));
+    private final NavigableMap<Index, Location> unmodifiableLocationsById =
+            Collections.unmodifiableNavigableMap(locationsById);
+    // Locations with the same name are the same location, so each name belongs to at most one location in the list.
+    private final Map<Name, Location> locationsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent location as the given argument.
@@ -36,7 +52,7 @@ public class UniqueLocationList implements Iterable<Location> {
      */
     public boolean contains(Location toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLocation);
+        return locationsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -44,7 +60,7 @@ public class UniqueLocationList implements Iterable<Location> {
      */
     public boolean containsSameIdLocation(Location toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameId);
+        return locationsById.containsKey(toCheck.getId());
     }
 
     /**
@@ -61,6 +77,8 @@ public class UniqueLocationList implements Iterable<Location> {
             throw new LocationNotIdentifiableException();
         }
         internalList.add(toAdd);
+        locationsById.put(toAdd.getId(), toAdd);
+        locationsByName.put(toAdd.getName(), toAdd);
     }
 
     /**
@@ -82,6 +100,9 @@ public class UniqueLocationList implements Iterable<Location> {
         assert(target.isSameId(editedLocation));
 
         internalList.set(index, editedLocation);
+        locationsById.put(editedLocation.getId(), editedLocation);
+        locationsByName.remove(target.getName());
+        locationsByName.put(editedLocation.getName(), editedLocation);
     }
 
     /**
@@ -93,11 +114,17 @@ public class UniqueLocationList implements Iterable<Location> {
         if (!internalList.remove(toRemove)) {
             throw new LocationNotFoundException();
         }
+        locationsById.remove(toRemove.getId());
+        locationsByName.remove(toRemove.getName());
     }
 
     public void setLocations(UniqueLocationList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        locationsById.clear();
+        locationsById.putAll(replacement.locationsById);
+        locationsByName.clear();
+        locationsByName.putAll(replacement.locationsByName);
     }
 
     /**
@@ -114,6 +141,12 @@ public class UniqueLocationList implements Iterable<Location> {
         }
 
         internalList.setAll(locations);
+        locationsById.clear();
+        locationsByName.clear();
+        locations.forEach(location -> {
+            locationsById.put(location.getId(), location);
+            locationsByName.put(location.getName(), location);
+        });
     }
 
     /**
@@ -123,6 +156,13 @@ public class UniqueLocationList implements Iterable<Location> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the locations in the list as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Location> asUnmodifiableIdMap() {
+        return unmodifiableLocationsById;
+    }
+
     @Override
     public Iterator<Location> iterator() {
         return internalList.iterator();
@@ -144,11 +184,10 @@ public class UniqueLocationList implements Iterable<Location> {
      * Returns true if {@code locations} contains only unique locations.
      */
     private boolean locationsAreUnique(List<Location> locations) {
-        for (int i = 0; i < locations.size() - 1; i++) {
-            for (int j = i + 1; j < locations.size(); j++) {
-                if (locations.get(i).isSameLocation(locations.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Location location : locations) {
+            if (!names.add(location.getName())) {
+                return false;
             }
         }
         return true;
@@ -159,11 +198,10 @@ public class UniqueLocationList implements Iterable<Location> {
      * This is true if all locations have different ids.
      */
     private boolean locationsAreIdentifiable(List<Location> locations) {
-        for (int i = 0; i < locations.size() - 1; i++) {
-            for (int j = i + 1; j < locations.size(); j++) {
-                if (locations.get(i).isSameId(locations.get(j))) {
-                    return false;
-                }
+        Set<Index> ids = new HashSet<>();
+        for (Location location : locations) {
+            if (!ids.add(location.getId())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,121 @@
+package seedu.address.model.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * How long each phase of the commands took and how much memory the commands allocated, recorded separately for each
+ * command word.
+ */
+public class CommandMetrics {
+
+    public static final String FILE_NAME = "commandMetrics.csv";
+    public static final String NO_COMMANDS = "No commands have been executed yet.";
+    public static final String COMMAND_FORMAT = "%1$s (%2$d runs)";
+    public static final String MEASURE_FORMAT = "  %1$s: p50 %2$s, p90 %3$s, p99 %4$s, max %5$s";
+    public static final String CSV_HEADER = "command,measure,unit,count,mean,p50,p90,p99,max";
+
+    private static final long NANOS_PER_MILLI = 1_000_000;
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    /**
+     * The things measured for each command.
+     */
+    public enum Measure {
+        PARSE_TIME("parse", Unit.NANOSECONDS),
+        EXECUTE_TIME("execute", Unit.NANOSECONDS),
+        SAVE_TIME("schedule save", Unit.NANOSECONDS),
+        BACKGROUND_SAVE_TIME("background save", Unit.NANOSECONDS),
+        ALLOCATED_BYTES("allocated", Unit.BYTES);
+
+        private final String description;
+        private final Unit unit;
+
+        Measure(String description, Unit unit) {
+            this.description = description;
+            this.unit = unit;
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+
+    private enum Unit {
+        NANOSECONDS,
+        BYTES
+    }
+
+    // Ordered by command word, so that the summary lists the commands in the same order every time.
+    private final Map<String, Map<Measure, Histogram>> histograms = new TreeMap<>();
+
+    /**
+     * Records {@code value} as one measurement of {@code measure} for the command with {@code commandWord}.
+     */
+    public synchronized void record(String commandWord, Measure measure, long value) {
+        requireAllNonNull(commandWord, measure);
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Measure.class))
+                .computeIfAbsent(measure, unused -> new Histogram())
+                .record(value);
+    }
+
+    /**
+     * Returns the percentiles of every measure of every command that was executed, in a form that can be shown to the
+     * user.
+     */
+    public synchronized String getSummary() {
+        if (histograms.isEmpty()) {
+            return NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        histograms.forEach((commandWord, measures) -> {
+            long runs = measures.values().stream().mapToLong(Histogram::getTotalCount).max().orElse(0);
+            summary.append(String.format(COMMAND_FORMAT, commandWord, runs)).append("\n");
+            measures.forEach((measure, histogram) -> summary.append(String.format(MEASURE_FORMAT, measure,
+                    format(measure, histogram.getValueAtPercentile(50)),
+                    format(measure, histogram.getValueAtPercentile(90)),
+                    format(measure, histogram.getValueAtPercentile(99)),
+                    format(measure, histogram.getMax()))).append("\n"));
+        });
+        return summary.toString();
+    }
+
+    /**
+     * Returns every measure of every command that was executed as comma separated values, one measure on each line,
+     * with times in nanoseconds and memory in bytes.
+     */
+    public synchronized String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append("\n");
+        histograms.forEach((commandWord, measures) -> measures.forEach((measure, histogram) -> csv
+                .append(String.join(",", commandWord, measure.name(), measure.unit.name(),
+                        String.valueOf(histogram.getTotalCount()),
+                        String.valueOf(Math.round(histogram.getMean())),
+                        String.valueOf(histogram.getValueAtPercentile(50)),
+                        String.valueOf(histogram.getValueAtPercentile(90)),
+                        String.valueOf(histogram.getValueAtPercentile(99)),
+                        String.valueOf(histogram.getMax())))
+                .append("\n")));
+        return csv.toString();
+    }
+
+    /**
+     * Formats {@code value} of {@code measure} in milliseconds or kilobytes.
+     */
+    private static String format(Measure measure, long value) {
+        requireNonNull(measure);
+        switch (measure.unit) {
+        case NANOSECONDS:
+            return String.format("%.2f ms", (double) value / NANOS_PER_MILLI);
+        case BYTES:
+            return String.format("%.1f KB", (double) value / BYTES_PER_KILOBYTE);
+        default:
+            throw new AssertionError(measure.unit);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.metrics;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts how often values were recorded in buckets whose width grows with the values they hold, so that any
+ * percentile can be told to within about 3% of the value while using a fixed amount of memory.
+ *
+ * Values below {@code 2^SUB_BUCKET_BITS} each have their own bucket. Every higher power of two is split into
+ * {@code 2^(SUB_BUCKET_BITS - 1)} buckets of equal width, as in an HDR histogram.
+ */
+public class Histogram {
+
+    public static final String MESSAGE_CONSTRAINTS = "Only values that are not negative can be recorded.";
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    // Larger values are counted as this value, which is over a day in nanoseconds.
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << 47) - 1;
+    private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long total;
+    private long max;
+
+    /**
+     * Counts one occurrence of {@code value}.
+     */
+    public void record(long value) {
+        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        counts[indexOf(Math.min(value, HIGHEST_TRACKABLE_VALUE))]++;
+        totalCount++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if no value was recorded.
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) total / totalCount;
+    }
+
+    /**
+     * Returns the value that {@code percentile} percent of the recorded values are at most, or 0 if no value was
+     * recorded. The value returned is the highest in its bucket, but never more than the highest value recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "The percentile must be from 0 to 100.");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long countSoFar = 0;
+        for (int i = 0; i < counts.length; i++) {
+            countSoFar += counts[i];
+            if (countSoFar >= countAtPercentile) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the index of the bucket that counts {@code value}.
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int highestBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (highestBit - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted by the bucket at {@code index}.
+     */
+    private static long highestValueIn(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int highestBit = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        int shift = highestBit - (SUB_BUCKET_BITS - 1);
+        return ((long) (subBucket + 1) << shift) - 1;
+    }
+}
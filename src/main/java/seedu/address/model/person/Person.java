@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -16,6 +17,11 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    /** Orders persons by name, ignoring case. Persons with the same name are ordered by id. */
+    public static final Comparator<Person> ORDER_BY_NAME =
+            Comparator.comparing((Person person) -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparingInt(person -> person.getId().getZeroBased());
+
     private static int personCount = 1;
 
     // Identity fields
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 
 /**
  * Wraps all data at the person-book level
@@ -120,6 +123,34 @@ public class PersonBook implements ReadOnlyPersonBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the persons in this book as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Person> getPersonsById() {
+        return persons.asUnmodifiableIdMap();
+    }
+
+    /**
+     * Returns the infected persons in this book as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Person> getInfectedPersonsById() {
+        return persons.asUnmodifiableInfectedIdMap();
+    }
+
+    /**
+     * Returns the quarantined persons in this book as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Person> getQuarantinedPersonsById() {
+        return persons.asUnmodifiableQuarantinedIdMap();
+    }
+
+    /**
+     * Returns the persons in this book as an unmodifiable set ordered by name.
+     */
+    public NavigableSet<Person> getPersonsByName() {
+        return persons.asUnmodifiableNameOrderedSet();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -3,11 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.PersonNotIdentifiableException;
@@ -28,13 +40,27 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NavigableMap<Index, Person> personsById = new TreeMap<>(Comparator.comparingInt(Index::getZeroBased));
+    private final NavigableMap<Index, Person> unmodifiablePersonsById =
+            Collections.unmodifiableNavigableMap(personsById);
+    private final NavigableSet<Person> personsByName = new TreeSet<>(Person.ORDER_BY_NAME);
+    private final NavigableSet<Person> unmodifiablePersonsByName = Collections.unmodifiableNavigableSet(personsByName);
+    private final NavigableMap<Index, Person> infectedPersonsById =
+            new TreeMap<>(Comparator.comparingInt(Index::getZeroBased));
+    private final NavigableMap<Index, Person> unmodifiableInfectedPersonsById =
+            Collections.unmodifiableNavigableMap(infectedPersonsById);
+    private final NavigableMap<Index, Person> quarantinedPersonsById =
+            new TreeMap<>(Comparator.comparingInt(Index::getZeroBased));
+    private final NavigableMap<Index, Person> unmodifiableQuarantinedPersonsById =
+            Collections.unmodifiableNavigableMap(quarantinedPersonsById);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        // Equivalent persons always share the same id.
+        return toCheck.isSamePerson(personsById.get(toCheck.getId()));
     }
 
     /**
@@ -42,7 +68,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsSameIdPerson(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameId);
+        return personsById.containsKey(toCheck.getId());
     }
 
     /**
@@ -66,6 +92,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotIdentifiableException();
         }
         internalList.add(toAdd);
+        personsById.put(toAdd.getId(), toAdd);
+        personsByName.add(toAdd);
+        addToStatusMaps(toAdd);
     }
 
     /**
@@ -90,6 +119,12 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
+        personsByName.remove(target);
+        personsByName.add(editedPerson);
+        removeFromStatusMaps(target);
+        addToStatusMaps(editedPerson);
     }
 
     /**
@@ -101,11 +136,22 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        personsById.remove(toRemove.getId());
+        personsByName.remove(toRemove);
+        removeFromStatusMaps(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
+        personsByName.clear();
+        personsByName.addAll(replacement.personsByName);
+        infectedPersonsById.clear();
+        infectedPersonsById.putAll(replacement.infectedPersonsById);
+        quarantinedPersonsById.clear();
+        quarantinedPersonsById.putAll(replacement.quarantinedPersonsById);
     }
 
     /**
@@ -122,6 +168,13 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        personsById.clear();
+        persons.forEach(person -> personsById.put(person.getId(), person));
+        personsByName.clear();
+        personsByName.addAll(persons);
+        infectedPersonsById.clear();
+        quarantinedPersonsById.clear();
+        persons.forEach(this::addToStatusMaps);
     }
 
     /**
@@ -131,6 +184,34 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons in the list as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Person> asUnmodifiableIdMap() {
+        return unmodifiablePersonsById;
+    }
+
+    /**
+     * Returns the persons in the list as an unmodifiable set ordered by {@code Person#ORDER_BY_NAME}.
+     */
+    public NavigableSet<Person> asUnmodifiableNameOrderedSet() {
+        return unmodifiablePersonsByName;
+    }
+
+    /**
+     * Returns the infected persons in the list as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Person> asUnmodifiableInfectedIdMap() {
+        return unmodifiableInfectedPersonsById;
+    }
+
+    /**
+     * Returns the quarantined persons in the list as an unmodifiable map ordered by their ids.
+     */
+    public NavigableMap<Index, Person> asUnmodifiableQuarantinedIdMap() {
+        return unmodifiableQuarantinedPersonsById;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -148,16 +229,32 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    private void addToStatusMaps(Person person) {
+        if (person.getInfectionStatus().getStatusAsBoolean()) {
+            infectedPersonsById.put(person.getId(), person);
+        }
+        if (person.getQuarantineStatus().getStatusAsBoolean()) {
+            quarantinedPersonsById.put(person.getId(), person);
+        }
+    }
+
+    private void removeFromStatusMaps(Person person) {
+        infectedPersonsById.remove(person.getId());
+        quarantinedPersonsById.remove(person.getId());
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        // Equivalent persons always share the same id, so each person is only compared to those with its id.
+        Map<Index, List<Person>> personsWithId = new HashMap<>();
+        for (Person person : persons) {
+            List<Person> personsWithSameId = personsWithId.computeIfAbsent(person.getId(), unused -> new ArrayList<>());
+            if (personsWithSameId.stream().anyMatch(person::isSamePerson)) {
+                return false;
             }
+            personsWithSameId.add(person);
         }
         return true;
     }
@@ -167,11 +264,10 @@ public class UniquePersonList implements Iterable<Person> {
      * This is true if all locations have different ids.
      */
     private boolean personsAreIdentifiable(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSameId(persons.get(j))) {
-                    return false;
-                }
+        Set<Index> ids = new HashSet<>();
+        for (Person person : persons) {
+            if (!ids.add(person.getId())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,198 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Estimates the number of distinct values offered to it, using a fixed amount of memory however many values there
+ * are. Two sketches with the same precision can be merged into a sketch of the union of their values.
+ *
+ * A sketch starts by keeping the hashes of the values, and counts them exactly. Once keeping the hashes would take
+ * more memory than the {@code 2^precision} registers of a HyperLogLog sketch, it switches to the registers. The count
+ * is then an estimate with a relative standard error of {@code 1.04 / sqrt(2^precision)}.
+ */
+public class HyperLogLog {
+
+    public static final int DEFAULT_PRECISION = 10;
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 16;
+    public static final String MESSAGE_CONSTRAINTS = "The precision of a sketch must be between " + MIN_PRECISION
+            + " and " + MAX_PRECISION + ".";
+
+    private static final int INITIAL_SPARSE_CAPACITY = 4;
+
+    private final int precision;
+    private final int registerCount;
+    // Null while the sketch is still keeping the hashes of its values.
+    private byte[] registers;
+    private long[] hashes = new long[INITIAL_SPARSE_CAPACITY];
+    private int hashCount;
+
+    /**
+     * Creates an empty sketch with the default precision.
+     */
+    public HyperLogLog() {
+        this(DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates an empty sketch with {@code 2^precision} registers.
+     */
+    public HyperLogLog(int precision) {
+        checkArgument(precision >= MIN_PRECISION && precision <= MAX_PRECISION, MESSAGE_CONSTRAINTS);
+        this.precision = precision;
+        this.registerCount = 1 << precision;
+    }
+
+    /**
+     * Creates a copy of {@code other}.
+     */
+    public HyperLogLog(HyperLogLog other) {
+        requireNonNull(other);
+        precision = other.precision;
+        registerCount = other.registerCount;
+        registers = other.registers == null ? null : other.registers.clone();
+        hashes = other.hashes == null ? null : other.hashes.clone();
+        hashCount = other.hashCount;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Adds {@code value} to the sketch, and returns true if that changed the sketch, and so possibly its estimate.
+     */
+    public boolean offer(long value) {
+        return addHash(hash(value));
+    }
+
+    /**
+     * Adds all values in {@code other} to this sketch.
+     * Both sketches must have the same precision.
+     */
+    public void merge(HyperLogLog other) {
+        requireNonNull(other);
+        checkArgument(precision == other.precision, "Only sketches with the same precision can be merged.");
+        if (other.registers == null) {
+            for (int i = 0; i < other.hashCount; i++) {
+                addHash(other.hashes[i]);
+            }
+            return;
+        }
+
+        switchToRegisters();
+        for (int i = 0; i < registerCount; i++) {
+            registers[i] = (byte) Math.max(registers[i], other.registers[i]);
+        }
+    }
+
+    /**
+     * Returns true if the count of the sketch is exact.
+     */
+    public boolean isExact() {
+        return registers == null;
+    }
+
+    /**
+     * Returns the relative standard error of {@link #estimate()}, which is 0 while the count is exact.
+     */
+    public double getRelativeError() {
+        return isExact() ? 0 : 1.04 / Math.sqrt(registerCount);
+    }
+
+    /**
+     * Returns the number of distinct values added to the sketch, which is an estimate unless {@link #isExact()}.
+     */
+    public long estimate() {
+        if (isExact()) {
+            return hashCount;
+        }
+
+        double sum = 0;
+        int zeroRegisters = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        double estimate = getAlpha() * registerCount * registerCount / sum;
+        // Small counts are estimated better from the number of registers that were never set.
+        if (estimate <= 2.5 * registerCount && zeroRegisters > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    private boolean addHash(long hash) {
+        if (registers != null) {
+            return updateRegister(hash);
+        }
+
+        for (int i = 0; i < hashCount; i++) {
+            if (hashes[i] == hash) {
+                return false;
+            }
+        }
+        if (hashCount == hashes.length) {
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+        }
+        hashes[hashCount++] = hash;
+
+        // The hashes are kept only while they take less memory than the registers.
+        if (hashCount * Long.BYTES > registerCount) {
+            switchToRegisters();
+        }
+        return true;
+    }
+
+    private void switchToRegisters() {
+        if (registers != null) {
+            return;
+        }
+        registers = new byte[registerCount];
+        for (int i = 0; i < hashCount; i++) {
+            updateRegister(hashes[i]);
+        }
+        hashes = null;
+        hashCount = 0;
+    }
+
+    private boolean updateRegister(long hash) {
+        int register = (int) (hash >>> (Long.SIZE - precision));
+        // The bit set below the remaining bits bounds the rank if they are all zero.
+        long remainingBits = (hash << precision) | (1L << (precision - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remainingBits) + 1);
+        if (rank <= registers[register]) {
+            return false;
+        }
+        registers[register] = rank;
+        return true;
+    }
+
+    private double getAlpha() {
+        switch (registerCount) {
+        case 16:
+            return 0.673;
+        case 32:
+            return 0.697;
+        case 64:
+            return 0.709;
+        default:
+            return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+
+    /**
+     * Spreads the bits of {@code value} over a 64-bit hash, so that consecutive values such as ids are not close.
+     */
+    private static long hash(long value) {
+        long hash = value + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,234 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps the number of visits and of visits by infected persons to each location on each day, so that trends over
+ * days can be found without going through the visits.
+ *
+ * The counts of each location are kept in blocks of {@code BLOCK_DAYS} days, each a primitive array, found by a binary
+ * search of their block numbers. Only the blocks that have visits are allocated, so a location that is visited on a
+ * few days of the year takes a few blocks, however far apart the days are.
+ */
+public class LocationTimeSeries {
+
+    public static final int BLOCK_DAYS = 16;
+    public static final int WEEK_DAYS = 7;
+    public static final String MESSAGE_CONSTRAINTS = "The number of days must be positive.";
+
+    // The counts of each day in a block are stored next to each other.
+    private static final int VISITS = 0;
+    private static final int INFECTED_VISITS = 1;
+    private static final int COUNTS_PER_DAY = 2;
+
+    private final Map<Index, DailyCounts> countsByLocation = new HashMap<>();
+
+    /**
+     * Replaces all counts with those of {@code visits}, where {@code isInfected} tells whether the person with an id
+     * is infected.
+     */
+    public void resetData(List<Visit> visits, Predicate<Index> isInfected) {
+        requireAllNonNull(visits, isInfected);
+        countsByLocation.clear();
+        for (Visit visit : visits) {
+            count(visit, 1, isInfected.test(visit.getPerson().getId()) ? 1 : 0);
+        }
+    }
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit, boolean isByInfectedPerson) {
+        requireNonNull(visit);
+        count(visit, 1, isByInfectedPerson ? 1 : 0);
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     */
+    public void removeVisit(Visit visit, boolean isByInfectedPerson) {
+        requireNonNull(visit);
+        count(visit, -1, isByInfectedPerson ? -1 : 0);
+    }
+
+    /**
+     * Counts or stops counting {@code visitsOfPerson} as infected visits, after the person who made them became
+     * infected or recovered.
+     */
+    public void setInfected(List<Visit> visitsOfPerson, boolean isInfected) {
+        requireNonNull(visitsOfPerson);
+        visitsOfPerson.forEach(visit -> count(visit, 0, isInfected ? 1 : -1));
+    }
+
+    //=========== Queries ============================================================================================
+
+    /**
+     * Returns the number of visits to the location with {@code locationId} from {@code startDate} to {@code endDate},
+     * both inclusive.
+     */
+    public int getVisitCount(Index locationId, LocalDate startDate, LocalDate endDate) {
+        return sum(locationId, startDate, endDate, VISITS);
+    }
+
+    /**
+     * Returns the number of visits by infected persons to the location with {@code locationId} from
+     * {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public int getInfectedVisitCount(Index locationId, LocalDate startDate, LocalDate endDate) {
+        return sum(locationId, startDate, endDate, INFECTED_VISITS);
+    }
+
+    /**
+     * Returns the average number of visits by infected persons to the location with {@code locationId} per day, over
+     * the {@code days} days up to {@code endDate}.
+     */
+    public double getInfectedVisitMovingAverage(Index locationId, LocalDate endDate, int days) {
+        checkArgument(days > 0, MESSAGE_CONSTRAINTS);
+        return (double) getInfectedVisitCount(locationId, endDate.minusDays(days - 1), endDate) / days;
+    }
+
+    /**
+     * Returns the trends of the {@code limit} locations whose number of visits by infected persons grew the most in
+     * the week up to {@code endDate}, compared to the week before. Locations whose number did not grow are left out.
+     */
+    public List<LocationTrend> getTopGrowingLocations(LocalDate endDate, int limit) {
+        requireNonNull(endDate);
+        checkArgument(limit > 0, MESSAGE_CONSTRAINTS);
+        LocalDate weekStart = endDate.minusDays(WEEK_DAYS - 1);
+        LocalDate previousWeekStart = weekStart.minusDays(WEEK_DAYS);
+
+        List<LocationTrend> trends = new ArrayList<>();
+        for (Index locationId : countsByLocation.keySet()) {
+            int currentCount = getInfectedVisitCount(locationId, weekStart, endDate);
+            int previousCount = getInfectedVisitCount(locationId, previousWeekStart, weekStart.minusDays(1));
+            if (currentCount > previousCount) {
+                trends.add(new LocationTrend(locationId, currentCount, previousCount));
+            }
+        }
+        trends.sort(LocationTrend.ORDER_BY_GROWTH);
+        return new ArrayList<>(trends.subList(0, Math.min(limit, trends.size())));
+    }
+
+    /**
+     * Returns the number of blocks of days that have been allocated for all locations.
+     */
+    public int getBlockCount() {
+        return countsByLocation.values().stream().mapToInt(counts -> counts.blockCount).sum();
+    }
+
+    //=========== Counting ===========================================================================================
+
+    private void count(Visit visit, int visitChange, int infectedVisitChange) {
+        Index locationId = visit.getLocation().getId();
+        long day = visit.getDate().toEpochDay();
+        DailyCounts counts = countsByLocation.computeIfAbsent(locationId, unused -> new DailyCounts());
+        counts.add(day, visitChange, infectedVisitChange);
+        if (counts.blockCount == 0) {
+            countsByLocation.remove(locationId);
+        }
+    }
+
+    private int sum(Index locationId, LocalDate startDate, LocalDate endDate, int countType) {
+        requireAllNonNull(locationId, startDate, endDate);
+        DailyCounts counts = countsByLocation.get(locationId);
+        if (counts == null) {
+            return 0;
+        }
+        return counts.sum(startDate.toEpochDay(), endDate.toEpochDay(), countType);
+    }
+
+    /**
+     * The counts of one location, in blocks of days. {@code blocks[i]} holds the block numbered
+     * {@code blockNumbers[i]}, and the first {@code blockCount} block numbers are kept in ascending order. Only the
+     * blocks that have visits are kept, so a visit on an outlying date, such as one with a mistyped year, adds one
+     * block rather than every block in between.
+     */
+    private static class DailyCounts {
+        private long[] blockNumbers = new long[1];
+        private int[][] blocks = new int[1][];
+        private int blockCount;
+
+        private void add(long day, int visitChange, int infectedVisitChange) {
+            long block = Math.floorDiv(day, (long) BLOCK_DAYS);
+            int offset = (int) Math.floorMod(day, (long) BLOCK_DAYS) * COUNTS_PER_DAY;
+            int position = Arrays.binarySearch(blockNumbers, 0, blockCount, block);
+            if (position < 0) {
+                position = insertBlock(-position - 1, block);
+            }
+            int[] counts = blocks[position];
+            counts[offset + VISITS] += visitChange;
+            counts[offset + INFECTED_VISITS] += infectedVisitChange;
+
+            if (visitChange < 0 && isEmpty(counts)) {
+                removeBlock(position);
+            }
+        }
+
+        private int sum(long startDay, long endDay, int countType) {
+            long startBlock = Math.floorDiv(startDay, (long) BLOCK_DAYS);
+            long endBlock = Math.floorDiv(endDay, (long) BLOCK_DAYS);
+            int position = Arrays.binarySearch(blockNumbers, 0, blockCount, startBlock);
+            if (position < 0) {
+                position = -position - 1;
+            }
+
+            int sum = 0;
+            for (; position < blockCount && blockNumbers[position] <= endBlock; position++) {
+                int[] counts = blocks[position];
+                long blockStartDay = blockNumbers[position] * BLOCK_DAYS;
+                int from = (int) Math.max(startDay - blockStartDay, 0);
+                int to = (int) Math.min(endDay - blockStartDay, BLOCK_DAYS - 1);
+                for (int i = from; i <= to; i++) {
+                    sum += counts[i * COUNTS_PER_DAY + countType];
+                }
+            }
+            return sum;
+        }
+
+        /**
+         * Allocates the block numbered {@code block} at {@code position}, and returns the position.
+         */
+        private int insertBlock(int position, long block) {
+            if (blockCount == blockNumbers.length) {
+                int capacity = blockCount * 2;
+                blockNumbers = Arrays.copyOf(blockNumbers, capacity);
+                blocks = Arrays.copyOf(blocks, capacity);
+            }
+            System.arraycopy(blockNumbers, position, blockNumbers, position + 1, blockCount - position);
+            System.arraycopy(blocks, position, blocks, position + 1, blockCount - position);
+            blockNumbers[position] = block;
+            blocks[position] = new int[BLOCK_DAYS * COUNTS_PER_DAY];
+            blockCount++;
+            return position;
+        }
+
+        private void removeBlock(int position) {
+            System.arraycopy(blockNumbers, position + 1, blockNumbers, position, blockCount - position - 1);
+            System.arraycopy(blocks, position + 1, blocks, position, blockCount - position - 1);
+            blockCount--;
+            blocks[blockCount] = null;
+        }
+
+        private static boolean isEmpty(int[] counts) {
+            for (int i = VISITS; i < counts.length; i += COUNTS_PER_DAY) {
+                if (counts[i] != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
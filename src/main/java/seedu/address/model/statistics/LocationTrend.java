@@ -0,0 +1,77 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * The number of visits by infected persons to a location in one week, compared to the week before.
+ */
+public class LocationTrend {
+
+    /** Orders trends from the most to the least growth, then by the number of visits in the week. */
+    public static final Comparator<LocationTrend> ORDER_BY_GROWTH =
+            Comparator.comparingInt(LocationTrend::getGrowth).reversed()
+                    .thenComparing(Comparator.comparingInt(LocationTrend::getCurrentWeekCount).reversed())
+                    .thenComparingInt(trend -> trend.getLocationId().getZeroBased());
+
+    private final Index locationId;
+    private final int currentWeekCount;
+    private final int previousWeekCount;
+
+    /**
+     * Creates a trend for the location with {@code locationId}.
+     */
+    public LocationTrend(Index locationId, int currentWeekCount, int previousWeekCount) {
+        requireNonNull(locationId);
+        this.locationId = locationId;
+        this.currentWeekCount = currentWeekCount;
+        this.previousWeekCount = previousWeekCount;
+    }
+
+    public Index getLocationId() {
+        return locationId;
+    }
+
+    public int getCurrentWeekCount() {
+        return currentWeekCount;
+    }
+
+    public int getPreviousWeekCount() {
+        return previousWeekCount;
+    }
+
+    public int getGrowth() {
+        return currentWeekCount - previousWeekCount;
+    }
+
+    /**
+     * Returns the average number of visits by infected persons per day in the week.
+     */
+    public double getMovingAverage() {
+        return (double) currentWeekCount / LocationTimeSeries.WEEK_DAYS;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LocationTrend // instanceof handles nulls
+                && locationId.equals(((LocationTrend) other).locationId)
+                && currentWeekCount == ((LocationTrend) other).currentWeekCount
+                && previousWeekCount == ((LocationTrend) other).previousWeekCount); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(locationId, currentWeekCount, previousWeekCount);
+    }
+
+    @Override
+    public String toString() {
+        return "Location " + locationId.getOneBased() + ": " + currentWeekCount + " infected visits, "
+                + previousWeekCount + " the week before";
+    }
+}
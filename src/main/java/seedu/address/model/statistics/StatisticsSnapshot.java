@@ -0,0 +1,108 @@
+package seedu.address.model.statistics;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * The counts of people, locations and visits in VirusTracker at the end of a day.
+ */
+public class StatisticsSnapshot {
+
+    private final LocalDate date;
+    private final int personCount;
+    private final int infectedCount;
+    private final int quarantinedCount;
+    private final int locationCount;
+    private final int visitCount;
+    // Only locations with at least one visit by an infected person are included.
+    private final SortedMap<Index, Integer> infectedVisitsByLocation;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public StatisticsSnapshot(LocalDate date, int personCount, int infectedCount, int quarantinedCount,
+            int locationCount, int visitCount, Map<Index, Integer> infectedVisitsByLocation) {
+        requireAllNonNull(date, infectedVisitsByLocation);
+        this.date = date;
+        this.personCount = personCount;
+        this.infectedCount = infectedCount;
+        this.quarantinedCount = quarantinedCount;
+        this.locationCount = locationCount;
+        this.visitCount = visitCount;
+        SortedMap<Index, Integer> sortedInfectedVisits = new TreeMap<>(Comparator.comparingInt(Index::getZeroBased));
+        sortedInfectedVisits.putAll(infectedVisitsByLocation);
+        this.infectedVisitsByLocation = Collections.unmodifiableSortedMap(sortedInfectedVisits);
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getInfectedCount() {
+        return infectedCount;
+    }
+
+    public int getQuarantinedCount() {
+        return quarantinedCount;
+    }
+
+    public int getLocationCount() {
+        return locationCount;
+    }
+
+    public int getVisitCount() {
+        return visitCount;
+    }
+
+    /**
+     * Returns the number of visits by infected persons to each location, ordered by location id.
+     */
+    public SortedMap<Index, Integer> getInfectedVisitsByLocation() {
+        return infectedVisitsByLocation;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof StatisticsSnapshot)) {
+            return false;
+        }
+
+        StatisticsSnapshot otherSnapshot = (StatisticsSnapshot) other;
+        return date.equals(otherSnapshot.date)
+                && personCount == otherSnapshot.personCount
+                && infectedCount == otherSnapshot.infectedCount
+                && quarantinedCount == otherSnapshot.quarantinedCount
+                && locationCount == otherSnapshot.locationCount
+                && visitCount == otherSnapshot.visitCount
+                && infectedVisitsByLocation.equals(otherSnapshot.infectedVisitsByLocation);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, personCount, infectedCount, quarantinedCount, locationCount, visitCount,
+                infectedVisitsByLocation);
+    }
+
+    @Override
+    public String toString() {
+        return date + ": " + personCount + " people (" + infectedCount + " infected, " + quarantinedCount
+                + " quarantined), " + locationCount + " locations, " + visitCount + " visits";
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps a {@code HyperLogLog} sketch of the persons who visited each location on each day, so that the number of
+ * distinct visitors of a location over any range of days can be estimated without grouping the visits.
+ * Each sketch takes a fixed amount of memory, however many visits the location had on that day.
+ */
+public class UniqueVisitorIndex {
+
+    private final ReadOnlyVisitBook visitBook;
+    private final Map<Index, NavigableMap<LocalDate, HyperLogLog>> sketchesByLocation = new HashMap<>();
+
+    /**
+     * Creates an index of the visits in {@code visitBook}, which is read again when visits are removed.
+     */
+    public UniqueVisitorIndex(ReadOnlyVisitBook visitBook) {
+        requireNonNull(visitBook);
+        this.visitBook = visitBook;
+        resetData();
+    }
+
+    /**
+     * Rebuilds all sketches after the visits in the visit book have been replaced.
+     */
+    public void resetData() {
+        sketchesByLocation.clear();
+        visitBook.getVisitList().forEach(this::addVisit);
+    }
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit) {
+        requireNonNull(visit);
+        sketchesByLocation.computeIfAbsent(visit.getLocation().getId(), unused -> new TreeMap<>())
+                .computeIfAbsent(visit.getDate(), unused -> new HyperLogLog())
+                .offer(visit.getPerson().getId().getZeroBased());
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     * Values cannot be taken out of a sketch, so the sketch of the location on the day of the visit is rebuilt.
+     */
+    public void removeVisit(Visit visit) {
+        requireNonNull(visit);
+        Index locationId = visit.getLocation().getId();
+        NavigableMap<LocalDate, HyperLogLog> sketchesByDate = sketchesByLocation.get(locationId);
+        if (sketchesByDate == null) {
+            return;
+        }
+
+        HyperLogLog sketch = new HyperLogLog();
+        boolean hasVisits = false;
+        for (Visit remainingVisit : visitBook.getVisitsAtLocation(locationId, visit.getDate(), visit.getDate())) {
+            sketch.offer(remainingVisit.getPerson().getId().getZeroBased());
+            hasVisits = true;
+        }
+
+        if (hasVisits) {
+            sketchesByDate.put(visit.getDate(), sketch);
+            return;
+        }
+        sketchesByDate.remove(visit.getDate());
+        if (sketchesByDate.isEmpty()) {
+            sketchesByLocation.remove(locationId);
+        }
+    }
+
+    /**
+     * Returns a sketch of the persons who visited the location with {@code locationId} from {@code startDate} to
+     * {@code endDate}, both inclusive.
+     */
+    public HyperLogLog getUniqueVisitors(Index locationId, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(locationId, startDate, endDate);
+        HyperLogLog visitors = new HyperLogLog();
+        NavigableMap<LocalDate, HyperLogLog> sketchesByDate = sketchesByLocation.get(locationId);
+        if (sketchesByDate == null || startDate.isAfter(endDate)) {
+            return visitors;
+        }
+
+        sketchesByDate.subMap(startDate, true, endDate, true).values().forEach(visitors::merge);
+        return visitors;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.tracing;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+
+/**
+ * A group of persons who are linked to each other through visits to the same locations within the contact window,
+ * either directly or through other persons in the group.
+ */
+public class Cluster {
+
+    /**
+     * Orders clusters from the one with the most infected persons to the one with the least, then from the largest
+     * to the smallest.
+     */
+    public static final Comparator<Cluster> ORDER_BY_INFECTED_COUNT =
+            Comparator.comparingInt(Cluster::getInfectedCount).reversed()
+                    .thenComparing(Comparator.comparingInt(Cluster::getSize).reversed())
+                    .thenComparingInt(cluster -> cluster.getMembers().get(0).getId().getZeroBased());
+
+    private final List<Person> members;
+    private final Set<Index> locationIds;
+    private final int infectedCount;
+
+    /**
+     * Creates a cluster of {@code members}, who visited the locations with {@code locationIds}.
+     * {@code members} must not be empty.
+     */
+    public Cluster(List<Person> members, Set<Index> locationIds) {
+        requireAllNonNull(members, locationIds);
+        assert !members.isEmpty();
+        List<Person> sortedMembers = new ArrayList<>(members);
+        sortedMembers.sort(Comparator.comparingInt(person -> person.getId().getZeroBased()));
+        Set<Index> sortedLocationIds = new TreeSet<>(Comparator.comparingInt(Index::getZeroBased));
+        sortedLocationIds.addAll(locationIds);
+
+        this.members = Collections.unmodifiableList(sortedMembers);
+        this.locationIds = Collections.unmodifiableSet(sortedLocationIds);
+        this.infectedCount = (int) members.stream()
+                .filter(person -> person.getInfectionStatus().getStatusAsBoolean())
+                .count();
+    }
+
+    /**
+     * Returns the members of the cluster, in order of id.
+     */
+    public List<Person> getMembers() {
+        return members;
+    }
+
+    /**
+     * Returns the ids of the locations visited by the members of the cluster, in order of id.
+     */
+    public Set<Index> getLocationIds() {
+        return locationIds;
+    }
+
+    public int getSize() {
+        return members.size();
+    }
+
+    public int getInfectedCount() {
+        return infectedCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Cluster // instanceof handles nulls
+                && members.equals(((Cluster) other).members)
+                && locationIds.equals(((Cluster) other).locationIds)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return members.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getSize() + " people (" + infectedCount + " infected), " + locationIds.size() + " locations";
+    }
+}
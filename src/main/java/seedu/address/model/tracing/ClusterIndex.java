@@ -0,0 +1,205 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Groups the persons who visited the same location within {@code windowDays} days of each other into clusters.
+ * Persons are in the same cluster if they are linked by a chain of such visits.
+ *
+ * The clusters are kept as disjoint sets, which are merged as visits are added. For each location, only one visitor
+ * is kept for each day, as everyone who visited a location on the same day is already in the same cluster. Adding a
+ * visit then merges at most one set for each day in the window. Disjoint sets cannot be split, so the clusters are
+ * rebuilt from the visit list the next time they are needed after a visit is removed.
+ */
+public class ClusterIndex {
+
+    /** Persons who are not linked to anyone else do not form a cluster. */
+    public static final int MIN_CLUSTER_SIZE = 2;
+
+    private final List<Visit> visits;
+    private int windowDays;
+
+    private final Map<Index, Index> parents = new HashMap<>();
+    private final Map<Index, Integer> sizes = new HashMap<>();
+    private final Map<Index, Set<Index>> locationIdsByRoot = new HashMap<>();
+    private final Map<Index, NavigableMap<LocalDate, Index>> visitorsByLocation = new HashMap<>();
+    private boolean isStale;
+
+    /**
+     * Creates a ClusterIndex over {@code visits}, which must be the live list of visits in the visit book.
+     */
+    public ClusterIndex(List<Visit> visits, int windowDays) {
+        requireNonNull(visits);
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        this.visits = visits;
+        this.windowDays = windowDays;
+        rebuild();
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * Changes the contact window. The clusters are rebuilt the next time they are needed.
+     */
+    public void setWindowDays(int windowDays) {
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        if (this.windowDays != windowDays) {
+            this.windowDays = windowDays;
+            isStale = true;
+        }
+    }
+
+    /**
+     * Marks the clusters as out of date after the visit list has been replaced.
+     */
+    public void resetData() {
+        isStale = true;
+    }
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit) {
+        requireNonNull(visit);
+        if (!isStale) {
+            link(visit);
+        }
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     */
+    public void removeVisit(Visit visit) {
+        requireNonNull(visit);
+        isStale = true;
+    }
+
+    /**
+     * Returns the clusters formed by {@code persons}, ordered by {@link Cluster#ORDER_BY_INFECTED_COUNT}.
+     * Persons who are not in {@code persons} are left out of the clusters, but still link the persons they visited
+     * locations with.
+     */
+    public List<Cluster> getClusters(List<Person> persons) {
+        requireNonNull(persons);
+        if (isStale) {
+            rebuild();
+        }
+
+        Map<Index, List<Person>> membersByRoot = new HashMap<>();
+        for (Person person : persons) {
+            if (parents.containsKey(person.getId())) {
+                membersByRoot.computeIfAbsent(find(person.getId()), unused -> new ArrayList<>()).add(person);
+            }
+        }
+
+        List<Cluster> clusters = new ArrayList<>();
+        membersByRoot.forEach((root, members) -> {
+            if (members.size() >= MIN_CLUSTER_SIZE) {
+                clusters.add(new Cluster(members, locationIdsByRoot.get(root)));
+            }
+        });
+        clusters.sort(Cluster.ORDER_BY_INFECTED_COUNT);
+        return clusters;
+    }
+
+    /**
+     * Returns true if the persons with {@code firstId} and {@code secondId} are in the same cluster.
+     */
+    public boolean isInSameCluster(Index firstId, Index secondId) {
+        if (isStale) {
+            rebuild();
+        }
+        return parents.containsKey(firstId) && parents.containsKey(secondId)
+                && find(firstId).equals(find(secondId));
+    }
+
+    private void rebuild() {
+        parents.clear();
+        sizes.clear();
+        locationIdsByRoot.clear();
+        visitorsByLocation.clear();
+        visits.forEach(this::link);
+        isStale = false;
+    }
+
+    /**
+     * Merges the cluster of the visitor of {@code visit} with the clusters of the other visitors to the same location
+     * within the contact window.
+     */
+    private void link(Visit visit) {
+        Index personId = visit.getPerson().getId();
+        Index locationId = visit.getLocation().getId();
+        LocalDate date = visit.getDate();
+        if (!parents.containsKey(personId)) {
+            parents.put(personId, personId);
+            sizes.put(personId, 1);
+            locationIdsByRoot.put(personId, new HashSet<>());
+        }
+
+        NavigableMap<LocalDate, Index> visitorsByDate =
+                visitorsByLocation.computeIfAbsent(locationId, unused -> new TreeMap<>());
+        for (Index visitorId : visitorsByDate.subMap(date.minusDays(windowDays), true,
+                date.plusDays(windowDays), true).values()) {
+            union(personId, visitorId);
+        }
+        visitorsByDate.putIfAbsent(date, personId);
+        locationIdsByRoot.get(find(personId)).add(locationId);
+    }
+
+    private Index find(Index personId) {
+        Index root = personId;
+        while (!parents.get(root).equals(root)) {
+            root = parents.get(root);
+        }
+
+        // Point every person on the path directly at the root, so later finds are faster.
+        Index current = personId;
+        while (!current.equals(root)) {
+            Index next = parents.get(current);
+            parents.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    private void union(Index firstId, Index secondId) {
+        Index firstRoot = find(firstId);
+        Index secondRoot = find(secondId);
+        if (firstRoot.equals(secondRoot)) {
+            return;
+        }
+
+        // The smaller set is attached to the larger one, so the paths stay short.
+        Index root = sizes.get(firstRoot) >= sizes.get(secondRoot) ? firstRoot : secondRoot;
+        Index child = root == firstRoot ? secondRoot : firstRoot;
+        parents.put(child, root);
+        sizes.put(root, sizes.get(root) + sizes.remove(child));
+
+        Set<Index> rootLocationIds = locationIdsByRoot.remove(root);
+        Set<Index> childLocationIds = locationIdsByRoot.remove(child);
+        if (rootLocationIds.size() < childLocationIds.size()) {
+            Set<Index> swap = rootLocationIds;
+            rootLocationIds = childLocationIds;
+            childLocationIds = swap;
+        }
+        rootLocationIds.addAll(childLocationIds);
+        locationIdsByRoot.put(root, rootLocationIds);
+    }
+}
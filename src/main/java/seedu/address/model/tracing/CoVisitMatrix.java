@@ -0,0 +1,261 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Counts, for every pair of locations, the number of times a person visited both within {@code windowDays} days,
+ * as such persons may carry the virus from one location to the other.
+ *
+ * Most pairs of locations are never visited by the same person, so only the counts that are not 0 are kept, in one
+ * {@link CountTable} for each location. The counts are first built from the visits of each person, splitting the
+ * persons between tasks that run in parallel, and are then kept up to date as visits are added and removed by only
+ * looking at the visits of the same person.
+ */
+public class CoVisitMatrix {
+
+    // Fewer persons than this are not worth splitting into more tasks.
+    private static final int PERSONS_PER_TASK = 256;
+
+    private final ReadOnlyVisitBook visitBook;
+    private int windowDays;
+
+    // The co-visit counts of each location with at least one, keyed by the zero-based id of the other location.
+    private final Map<Index, CountTable> rows = new HashMap<>();
+
+    /**
+     * Creates a CoVisitMatrix over the visits in {@code visitBook}.
+     */
+    public CoVisitMatrix(ReadOnlyVisitBook visitBook, int windowDays) {
+        requireNonNull(visitBook);
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        this.visitBook = visitBook;
+        this.windowDays = windowDays;
+        resetData();
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * Changes the window within which two visits by the same person count as a co-visit, and recomputes all counts.
+     */
+    public void setWindowDays(int windowDays) {
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        if (this.windowDays != windowDays) {
+            this.windowDays = windowDays;
+            resetData();
+        }
+    }
+
+    /**
+     * Recomputes all counts after the visits have been replaced.
+     */
+    public void resetData() {
+        rows.clear();
+
+        Set<Index> personIdSet = new LinkedHashSet<>();
+        visitBook.getVisitList().forEach(visit -> personIdSet.add(visit.getPerson().getId()));
+        Index[] personIds = personIdSet.toArray(new Index[0]);
+        long[] pairs = ForkJoinPool.commonPool().invoke(new PairTask(personIds, 0, personIds.length));
+
+        // Sorting brings the co-visits of the same pair of locations together, so each pair is counted once.
+        Arrays.parallelSort(pairs);
+        for (int i = 0; i < pairs.length; ) {
+            int start = i;
+            while (i < pairs.length && pairs[i] == pairs[start]) {
+                i++;
+            }
+            int first = (int) (pairs[start] >>> Integer.SIZE);
+            int second = (int) pairs[start];
+            addCoVisits(first, second, i - start);
+        }
+    }
+
+    //=========== Visits =============================================================================================
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit) {
+        requireNonNull(visit);
+        updateCoVisits(visit, 1);
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     */
+    public void removeVisit(Visit visit) {
+        requireNonNull(visit);
+        updateCoVisits(visit, -1);
+    }
+
+    //=========== Queries ============================================================================================
+
+    /**
+     * Returns the number of times a person visited both locations within the window.
+     */
+    public int getCoVisitCount(Index firstLocationId, Index secondLocationId) {
+        requireAllNonNull(firstLocationId, secondLocationId);
+        CountTable row = rows.get(firstLocationId);
+        return row == null ? 0 : row.get(secondLocationId.getZeroBased());
+    }
+
+    /**
+     * Returns up to {@code limit} locations, other than those in {@code locationIds}, with the most co-visits with
+     * the locations in {@code locationIds} put together, from the most to the least. Locations with the same number
+     * of co-visits are ordered by id, and locations without any are not included.
+     */
+    public List<Index> getMostConnectedLocations(Set<Index> locationIds, int limit) {
+        requireNonNull(locationIds);
+        checkArgument(limit >= 0, "The limit cannot be negative.");
+
+        CountTable totals = new CountTable();
+        for (Index locationId : locationIds) {
+            CountTable row = rows.get(locationId);
+            if (row != null) {
+                row.forEach((otherId, count) -> totals.add(otherId, count));
+            }
+        }
+
+        List<long[]> connections = new ArrayList<>();
+        totals.forEach((otherId, count) -> {
+            if (!locationIds.contains(Index.fromZeroBased((int) otherId))) {
+                connections.add(new long[] {otherId, count});
+            }
+        });
+        return connections.stream()
+                .sorted(Comparator.<long[]>comparingLong(connection -> -connection[1])
+                        .thenComparingLong(connection -> connection[0]))
+                .limit(limit)
+                .map(connection -> Index.fromZeroBased((int) connection[0]))
+                .collect(Collectors.toList());
+    }
+
+    //=========== Counting ===========================================================================================
+
+    /**
+     * Adds or removes the co-visits that {@code visit} makes, depending on the sign of {@code change}.
+     */
+    private void updateCoVisits(Visit visit, int change) {
+        int locationId = getLocationId(visit);
+        for (Visit otherVisit : visitBook.getVisitsOfPerson(visit.getPerson().getId())) {
+            int otherLocationId = getLocationId(otherVisit);
+            if (otherLocationId != locationId && isInWindow(visit, otherVisit)) {
+                addCoVisits(locationId, otherLocationId, change);
+            }
+        }
+    }
+
+    private void addCoVisits(int firstLocationId, int secondLocationId, int change) {
+        addToRow(Index.fromZeroBased(firstLocationId), secondLocationId, change);
+        addToRow(Index.fromZeroBased(secondLocationId), firstLocationId, change);
+    }
+
+    private void addToRow(Index locationId, int otherLocationId, int change) {
+        CountTable row = rows.computeIfAbsent(locationId, id -> new CountTable());
+        row.add(otherLocationId, change);
+        if (row.size() == 0) {
+            rows.remove(locationId);
+        }
+    }
+
+    private boolean isInWindow(Visit visit, Visit otherVisit) {
+        return !otherVisit.getDate().isBefore(visit.getDate().minusDays(windowDays))
+                && !otherVisit.getDate().isAfter(visit.getDate().plusDays(windowDays));
+    }
+
+    private static int getLocationId(Visit visit) {
+        return visit.getLocation().getId().getZeroBased();
+    }
+
+    /**
+     * Returns the key of the pair of locations with the given ids, which is the same in either order.
+     */
+    private static long pair(int firstId, int secondId) {
+        return ((long) Math.min(firstId, secondId) << Integer.SIZE) | Math.max(firstId, secondId);
+    }
+
+    /**
+     * Finds the co-visits of the persons from {@code start} (inclusive) to {@code end} (exclusive) in
+     * {@code personIds}, once for each co-visit, splitting them into smaller tasks that run in parallel.
+     * The visit book is only read while the tasks run.
+     */
+    private class PairTask extends RecursiveTask<long[]> {
+        private final Index[] personIds;
+        private final int start;
+        private final int end;
+
+        PairTask(Index[] personIds, int start, int end) {
+            this.personIds = personIds;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (end - start <= PERSONS_PER_TASK) {
+                return findPairs();
+            }
+
+            int middle = (start + end) >>> 1;
+            PairTask firstHalf = new PairTask(personIds, start, middle);
+            PairTask secondHalf = new PairTask(personIds, middle, end);
+            firstHalf.fork();
+            long[] secondPairs = secondHalf.compute();
+            long[] firstPairs = firstHalf.join();
+            long[] pairs = Arrays.copyOf(firstPairs, firstPairs.length + secondPairs.length);
+            System.arraycopy(secondPairs, 0, pairs, firstPairs.length, secondPairs.length);
+            return pairs;
+        }
+
+        private long[] findPairs() {
+            long[] pairs = new long[16];
+            int pairCount = 0;
+            for (int p = start; p < end; p++) {
+                List<Visit> visits = new ArrayList<>(visitBook.getVisitsOfPerson(personIds[p]));
+                visits.sort(Comparator.comparing(Visit::getDate));
+
+                // The visits are in date order, so the visits in range of the current one start at windowStart.
+                int windowStart = 0;
+                for (int i = 0; i < visits.size(); i++) {
+                    LocalDate earliestDate = visits.get(i).getDate().minusDays(windowDays);
+                    while (visits.get(windowStart).getDate().isBefore(earliestDate)) {
+                        windowStart++;
+                    }
+                    int locationId = getLocationId(visits.get(i));
+                    for (int j = windowStart; j < i; j++) {
+                        int otherLocationId = getLocationId(visits.get(j));
+                        if (otherLocationId == locationId) {
+                            continue;
+                        }
+                        if (pairCount == pairs.length) {
+                            pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                        }
+                        pairs[pairCount++] = pair(locationId, otherLocationId);
+                    }
+                }
+            }
+            return Arrays.copyOf(pairs, pairCount);
+        }
+    }
+}
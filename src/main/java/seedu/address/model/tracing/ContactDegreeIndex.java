@@ -0,0 +1,272 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.statistics.HyperLogLog;
+import seedu.address.model.statistics.UniqueVisitorIndex;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps the contact degree of every person with visits, which is the number of other persons who visited the same
+ * location within {@code windowDays} days of one of their visits, and the persons ordered by it.
+ *
+ * Each person has a {@link HyperLogLog} sketch of the persons who visited the locations they visited within the
+ * window, themselves included, so the memory taken by a person is capped however many contacts they have. The
+ * degrees are exact until a person has more contacts than the sketch keeps exactly, and estimates after that.
+ *
+ * The sketch of a person is built by merging the sketches of the visitors of each location on each day in the
+ * {@link UniqueVisitorIndex}, so the work for each day in the window is capped by the size of a sketch rather than
+ * growing with the number of visits on that day. Adding a visit also offers its person to the sketch of everyone else
+ * in the window, which takes constant time for each of them and keeps nothing for each pair of persons.
+ *
+ * Values cannot be taken out of a sketch. When a removed visit ends a contact, the contact is noted as lost and taken
+ * off the degree, and the sketch is only rebuilt from the visits once the lost contacts are more than its error.
+ * Rebuilding is put off until the degrees are next asked for, so that removing many visits rebuilds each sketch once.
+ */
+public class ContactDegreeIndex {
+
+    private final ReadOnlyVisitBook visitBook;
+    private final UniqueVisitorIndex uniqueVisitorIndex;
+    private int windowDays;
+
+    private final Map<Index, Contacts> contactsByPerson = new HashMap<>();
+    private final Map<Index, Integer> degrees = new HashMap<>();
+    // Ids of the persons with at least one contact, from the highest to the lowest degree.
+    private final NavigableSet<Index> idsByDegree = new TreeSet<>(this::compareByDegree);
+    // Ids of the persons whose sketches must be rebuilt before their degrees can be told.
+    private final Set<Index> staleIds = new HashSet<>();
+
+    /**
+     * Creates a ContactDegreeIndex over the visits in {@code visitBook}, whose visitors on each day are kept by
+     * {@code uniqueVisitorIndex}. The unique visitor index must be updated before this index whenever a visit is added
+     * or removed.
+     */
+    public ContactDegreeIndex(ReadOnlyVisitBook visitBook, UniqueVisitorIndex uniqueVisitorIndex, int windowDays) {
+        requireAllNonNull(visitBook, uniqueVisitorIndex);
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        this.visitBook = visitBook;
+        this.uniqueVisitorIndex = uniqueVisitorIndex;
+        this.windowDays = windowDays;
+        resetData();
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * Changes the contact window, and recomputes all degrees.
+     */
+    public void setWindowDays(int windowDays) {
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        if (this.windowDays != windowDays) {
+            this.windowDays = windowDays;
+            resetData();
+        }
+    }
+
+    /**
+     * Recomputes all degrees after the visits have been replaced.
+     */
+    public void resetData() {
+        contactsByPerson.clear();
+        degrees.clear();
+        idsByDegree.clear();
+        staleIds.clear();
+
+        for (Visit visit : visitBook.getVisitList()) {
+            contactsByPerson.computeIfAbsent(visit.getPerson().getId(), unused -> new Contacts())
+                    .sketch.merge(getVisitorsInWindow(visit));
+        }
+        contactsByPerson.forEach((personId, contacts) -> {
+            int degree = contacts.getDegree();
+            if (degree > 0) {
+                degrees.put(personId, degree);
+            }
+        });
+        idsByDegree.addAll(degrees.keySet());
+    }
+
+    //=========== Visits =============================================================================================
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book and the unique visitor index.
+     */
+    public void addVisit(Visit visit) {
+        requireNonNull(visit);
+        Index personId = visit.getPerson().getId();
+        Contacts contacts = contactsByPerson.computeIfAbsent(personId, unused -> new Contacts());
+        contacts.sketch.merge(getVisitorsInWindow(visit));
+        // Any contact noted as lost is back in contact if they are in the window of the new visit.
+        contacts.lostIds.removeIf(lostId -> isInContact(personId, lostId));
+        updateDegree(personId);
+
+        for (Index contactId : getPersonsInWindow(visit)) {
+            Contacts contactContacts = contactsByPerson.get(contactId);
+            // The estimate is only worked out again if the sketch changed or the contact was noted as lost.
+            boolean isChanged = contactContacts.sketch.offer(personId.getZeroBased());
+            if (contactContacts.lostIds.remove(personId) || isChanged) {
+                updateDegree(contactId);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book and the unique visitor index.
+     */
+    public void removeVisit(Visit visit) {
+        requireNonNull(visit);
+        Index personId = visit.getPerson().getId();
+        // The person may have lost many contacts at once, so their sketch is always rebuilt.
+        staleIds.add(personId);
+
+        for (Index contactId : getPersonsInWindow(visit)) {
+            if (isInContact(personId, contactId)) {
+                continue;
+            }
+            Contacts contactContacts = contactsByPerson.get(contactId);
+            contactContacts.lostIds.add(personId);
+            if (contactContacts.lostIds.size() > contactContacts.getTolerance()) {
+                staleIds.add(contactId);
+            } else {
+                updateDegree(contactId);
+            }
+        }
+    }
+
+    //=========== Queries ============================================================================================
+
+    /**
+     * Returns the number of distinct persons the person with {@code personId} was in contact with.
+     */
+    public int getContactDegree(Index personId) {
+        requireNonNull(personId);
+        rebuildStaleSketches();
+        return degrees.getOrDefault(personId, 0);
+    }
+
+    /**
+     * Returns the ids of the persons with at least one contact, from the highest to the lowest degree.
+     * Persons with the same degree are ordered by id.
+     */
+    public NavigableSet<Index> getIdsByDegree() {
+        rebuildStaleSketches();
+        return Collections.unmodifiableNavigableSet(idsByDegree);
+    }
+
+    //=========== Counting ===========================================================================================
+
+    private void rebuildStaleSketches() {
+        for (Index personId : staleIds) {
+            List<Visit> visits = visitBook.getVisitsOfPerson(personId);
+            if (visits.isEmpty()) {
+                contactsByPerson.remove(personId);
+                setDegree(personId, 0);
+                continue;
+            }
+
+            Contacts contacts = new Contacts();
+            visits.forEach(visit -> contacts.sketch.merge(getVisitorsInWindow(visit)));
+            contactsByPerson.put(personId, contacts);
+            updateDegree(personId);
+        }
+        staleIds.clear();
+    }
+
+    private void updateDegree(Index personId) {
+        setDegree(personId, contactsByPerson.get(personId).getDegree());
+    }
+
+    private void setDegree(Index personId, int degree) {
+        if (degree == degrees.getOrDefault(personId, 0)) {
+            return;
+        }
+
+        // The person must be taken out of the ordered set before their degree changes.
+        idsByDegree.remove(personId);
+        if (degree > 0) {
+            degrees.put(personId, degree);
+            idsByDegree.add(personId);
+        } else {
+            degrees.remove(personId);
+        }
+    }
+
+    private int compareByDegree(Index first, Index second) {
+        int comparison = Integer.compare(degrees.getOrDefault(second, 0), degrees.getOrDefault(first, 0));
+        return comparison != 0 ? comparison : Integer.compare(first.getZeroBased(), second.getZeroBased());
+    }
+
+    /**
+     * Returns true if the persons with {@code firstId} and {@code secondId} visited the same location within the
+     * window. Only their own visits are compared, and persons rarely have many.
+     */
+    private boolean isInContact(Index firstId, Index secondId) {
+        for (Visit first : visitBook.getVisitsOfPerson(firstId)) {
+            for (Visit second : visitBook.getVisitsOfPerson(secondId)) {
+                if (first.getLocation().getId().equals(second.getLocation().getId())
+                        && Math.abs(ChronoUnit.DAYS.between(first.getDate(), second.getDate())) <= windowDays) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private HyperLogLog getVisitorsInWindow(Visit visit) {
+        LocalDate date = visit.getDate();
+        return uniqueVisitorIndex.getUniqueVisitors(visit.getLocation().getId(), date.minusDays(windowDays),
+                date.plusDays(windowDays));
+    }
+
+    /**
+     * Returns the ids of the persons other than the person of {@code visit} who visited its location within the
+     * window.
+     */
+    private Set<Index> getPersonsInWindow(Visit visit) {
+        LocalDate date = visit.getDate();
+        Set<Index> personIds = new HashSet<>();
+        for (Visit otherVisit : visitBook.getVisitsAtLocation(visit.getLocation().getId(),
+                date.minusDays(windowDays), date.plusDays(windowDays))) {
+            personIds.add(otherVisit.getPerson().getId());
+        }
+        personIds.remove(visit.getPerson().getId());
+        return personIds;
+    }
+
+    /**
+     * The contacts of a person, as a sketch of the persons in the windows of their visits and the ids of the persons
+     * in the sketch who are no longer their contacts.
+     */
+    private static class Contacts {
+        private final HyperLogLog sketch = new HyperLogLog();
+        private final Set<Index> lostIds = new HashSet<>();
+
+        int getDegree() {
+            // The sketch also holds the person themselves.
+            return (int) Math.max(0, sketch.estimate() - 1 - lostIds.size());
+        }
+
+        /**
+         * Returns how many contacts can be noted as lost before the degree is less accurate than the sketch.
+         */
+        double getTolerance() {
+            return sketch.estimate() * sketch.getRelativeError();
+        }
+    }
+}
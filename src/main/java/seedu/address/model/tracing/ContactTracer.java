@@ -0,0 +1,160 @@
+package seedu.address.model.tracing;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Finds the contacts of a group of source persons, usually the infected persons.
+ * A person is a contact of a source if they visited a location within {@code windowDays} days before or after a visit
+ * by the source to the same location.
+ *
+ * Only the locations visited by the sources are looked at. The visits to each location are swept once from the
+ * earliest to the latest date while keeping a window over the source visits that are in range, so no pair of visits is
+ * ever compared unless they are in range of each other. Different locations are swept in parallel.
+ */
+public class ContactTracer {
+
+    public static final int DEFAULT_WINDOW_DAYS = 14;
+    public static final String MESSAGE_CONSTRAINTS = "The contact window cannot be a negative number of days.";
+
+    // Sweeping fewer locations than this is not worth splitting into more tasks.
+    private static final int LOCATIONS_PER_TASK = 32;
+
+    private final int windowDays;
+
+    /**
+     * Creates a ContactTracer that counts visits within {@code windowDays} days of each other as contact.
+     */
+    public ContactTracer(int windowDays) {
+        checkArgument(windowDays >= 0, MESSAGE_CONSTRAINTS);
+        this.windowDays = windowDays;
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * Returns the contacts of the persons with {@code sourceIds} in {@code visitBook}.
+     * Each contact is mapped to the ids of the sources they were in contact with. A source can be the contact of
+     * another source, but never of themselves.
+     */
+    public Map<Index, Set<Index>> trace(ReadOnlyVisitBook visitBook, Set<Index> sourceIds) {
+        requireAllNonNull(visitBook, sourceIds);
+
+        Set<Index> locationIds = new LinkedHashSet<>();
+        for (Index sourceId : sourceIds) {
+            for (Visit visit : visitBook.getVisitsOfPerson(sourceId)) {
+                locationIds.add(visit.getLocation().getId());
+            }
+        }
+        if (locationIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return ForkJoinPool.commonPool().invoke(
+                new SweepTask(visitBook, sourceIds, new ArrayList<>(locationIds), 0, locationIds.size()));
+    }
+
+    /**
+     * Sweeps the date-ordered {@code visitsAtLocation}, adding every visitor within range of a visit by a source to
+     * {@code contacts}.
+     */
+    private void sweep(Iterable<Visit> visitsAtLocation, Set<Index> sourceIds, Map<Index, Set<Index>> contacts) {
+        List<Visit> visits = new ArrayList<>();
+        List<Visit> sourceVisits = new ArrayList<>();
+        for (Visit visit : visitsAtLocation) {
+            visits.add(visit);
+            if (sourceIds.contains(visit.getPerson().getId())) {
+                sourceVisits.add(visit);
+            }
+        }
+
+        // The source visits in range of the current visit are those from windowStart (inclusive) to windowEnd
+        // (exclusive). Both only move forward, as the visits are in date order.
+        int windowStart = 0;
+        int windowEnd = 0;
+        for (Visit visit : visits) {
+            LocalDate earliestDate = visit.getDate().minusDays(windowDays);
+            LocalDate latestDate = visit.getDate().plusDays(windowDays);
+            while (windowEnd < sourceVisits.size() && !sourceVisits.get(windowEnd).getDate().isAfter(latestDate)) {
+                windowEnd++;
+            }
+            while (windowStart < windowEnd && sourceVisits.get(windowStart).getDate().isBefore(earliestDate)) {
+                windowStart++;
+            }
+
+            Index visitorId = visit.getPerson().getId();
+            for (int i = windowStart; i < windowEnd; i++) {
+                Index sourceId = sourceVisits.get(i).getPerson().getId();
+                if (!sourceId.equals(visitorId)) {
+                    contacts.computeIfAbsent(visitorId, unused -> new HashSet<>()).add(sourceId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sweeps the locations from {@code start} (inclusive) to {@code end} (exclusive) in {@code locationIds},
+     * splitting them into smaller tasks that run in parallel.
+     */
+    private class SweepTask extends RecursiveTask<Map<Index, Set<Index>>> {
+        private final ReadOnlyVisitBook visitBook;
+        private final Set<Index> sourceIds;
+        private final List<Index> locationIds;
+        private final int start;
+        private final int end;
+
+        SweepTask(ReadOnlyVisitBook visitBook, Set<Index> sourceIds, List<Index> locationIds, int start, int end) {
+            this.visitBook = visitBook;
+            this.sourceIds = sourceIds;
+            this.locationIds = locationIds;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Map<Index, Set<Index>> compute() {
+            if (end - start <= LOCATIONS_PER_TASK) {
+                Map<Index, Set<Index>> contacts = new HashMap<>();
+                for (int i = start; i < end; i++) {
+                    sweep(visitBook.getVisitsAtLocation(locationIds.get(i)), sourceIds, contacts);
+                }
+                return contacts;
+            }
+
+            int middle = (start + end) >>> 1;
+            SweepTask firstHalf = new SweepTask(visitBook, sourceIds, locationIds, start, middle);
+            SweepTask secondHalf = new SweepTask(visitBook, sourceIds, locationIds, middle, end);
+            firstHalf.fork();
+            return merge(secondHalf.compute(), firstHalf.join());
+        }
+
+        /**
+         * Merges the smaller of the two maps of contacts into the larger one, and returns the larger one.
+         */
+        private Map<Index, Set<Index>> merge(Map<Index, Set<Index>> first, Map<Index, Set<Index>> second) {
+            Map<Index, Set<Index>> larger = first.size() >= second.size() ? first : second;
+            Map<Index, Set<Index>> smaller = larger == first ? second : first;
+            for (Map.Entry<Index, Set<Index>> entry : smaller.entrySet()) {
+                larger.computeIfAbsent(entry.getKey(), unused -> new HashSet<>()).addAll(entry.getValue());
+            }
+            return larger;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.tracing;
+
+import java.util.Arrays;
+
+/**
+ * A hash table of counts keyed by non-negative longs, using open addressing over arrays of primitives so that it
+ * takes far less memory than a map of boxed values. Keys whose count drops to 0 are removed.
+ */
+class CountTable {
+
+    private static final long EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    CountTable() {
+        clear();
+    }
+
+    /**
+     * Removes all keys.
+     */
+    void clear() {
+        keys = new long[INITIAL_CAPACITY];
+        Arrays.fill(keys, EMPTY);
+        counts = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the count of {@code key}, or 0 if it is not in the table.
+     */
+    int get(long key) {
+        int slot = find(key);
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    /**
+     * Adds {@code change} to the count of {@code key}, and returns the new count.
+     * The count must not become negative.
+     */
+    int add(long key, int change) {
+        assert key >= 0;
+        int slot = find(key);
+        if (keys[slot] == EMPTY) {
+            assert change >= 0;
+            if (change == 0) {
+                return 0;
+            }
+            keys[slot] = key;
+            counts[slot] = change;
+            if (++size * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            return change;
+        }
+
+        int count = counts[slot] + change;
+        assert count >= 0;
+        if (count == 0) {
+            remove(slot);
+        } else {
+            counts[slot] = count;
+        }
+        return count;
+    }
+
+    /**
+     * Calls {@code action} with every key in the table and its count, in no particular order.
+     */
+    void forEach(CountAction action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                action.accept(keys[i], counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot that holds {@code key}, or the empty slot where it would be added.
+     */
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties {@code slot}, and moves the keys after it back so that they can still be found.
+     */
+    private void remove(int slot) {
+        int mask = keys.length - 1;
+        int emptySlot = slot;
+        int next = (slot + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = hash(keys[next]) & mask;
+            // The key can fill the empty slot if the empty slot is on the way from its home slot to it.
+            if (((next - home) & mask) >= ((next - emptySlot) & mask)) {
+                keys[emptySlot] = keys[next];
+                counts[emptySlot] = counts[next];
+                emptySlot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[emptySlot] = EMPTY;
+        counts[emptySlot] = 0;
+        size--;
+
+        // Shrink the table once most of it is empty, so that removing keys gives the memory back.
+        if (keys.length > INITIAL_CAPACITY && size * 8 < keys.length) {
+            resize(keys.length / 2);
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        counts = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    @FunctionalInterface
+    interface CountAction {
+        void accept(long key, int count);
+    }
+}
@@ -0,0 +1,331 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps the exposure count of every person in the person book, and the persons ordered by it.
+ * The exposure count of a person is the number of their visits to a location on a day that another infected person
+ * visited the same location.
+ *
+ * The counts are kept up to date as visits are added and removed and as persons become infected or recover. The
+ * visits to each location on each day are kept as the number of visits made by each visitor, so each change only
+ * updates the counts that it changes: those of the visitor, and of the other visitors to the same location on the same
+ * day only when the change decides whether they were in contact with an infected person.
+ */
+public class ExposureIndex {
+
+    /**
+     * Notified after the exposure count of a person changes.
+     */
+    @FunctionalInterface
+    public interface ExposureChangeListener {
+        void exposureChanged(Index personId, int previousCount, int newCount);
+    }
+
+    private final Map<Index, Integer> exposureCounts = new HashMap<>();
+    // Ids of the persons in the person book, from the most to the least exposed.
+    private final NavigableSet<Index> idsByExposure = new TreeSet<>(this::compareByExposure);
+    private final Set<Index> infectedIds = new HashSet<>();
+    private final Map<SlotKey, Slot> slots = new HashMap<>();
+    private final Map<Index, Set<SlotKey>> slotKeysByPerson = new HashMap<>();
+
+    private ExposureChangeListener listener = (personId, previousCount, newCount) -> {};
+
+    public void setListener(ExposureChangeListener listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    /**
+     * Replaces all data in the index with {@code persons} and {@code visits}.
+     * No listener is notified.
+     */
+    public void resetData(List<Person> persons, List<Visit> visits) {
+        requireAllNonNull(persons, visits);
+        exposureCounts.clear();
+        idsByExposure.clear();
+        infectedIds.clear();
+        slots.clear();
+        slotKeysByPerson.clear();
+
+        persons.forEach(person -> exposureCounts.put(person.getId(), 0));
+        persons.stream().filter(ExposureIndex::isInfected).forEach(person -> infectedIds.add(person.getId()));
+        for (Visit visit : visits) {
+            Index personId = getPersonId(visit);
+            SlotKey key = SlotKey.of(visit);
+            Slot slot = slots.computeIfAbsent(key, unused -> new Slot());
+            slot.visitCounts.merge(personId, 1, Integer::sum);
+            if (infectedIds.contains(personId)) {
+                slot.infectedVisitorIds.add(personId);
+            }
+            slotKeysByPerson.computeIfAbsent(personId, unused -> new HashSet<>()).add(key);
+        }
+        for (Slot slot : slots.values()) {
+            slot.visitCounts.keySet().forEach(personId -> exposureCounts.computeIfPresent(personId,
+                (unused, total) -> total + countExposedVisits(slot, personId)));
+        }
+        idsByExposure.addAll(exposureCounts.keySet());
+    }
+
+    //=========== Persons ============================================================================================
+
+    /**
+     * Adds {@code person}, who has just been added to the person book.
+     */
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        Index personId = person.getId();
+        if (isInfected(person)) {
+            setInfected(personId, true);
+        }
+
+        // The person may already have visits recorded against their id.
+        int count = getSlotsOf(personId).stream()
+                .mapToInt(slot -> countExposedVisits(slot, personId))
+                .sum();
+        exposureCounts.put(personId, count);
+        idsByExposure.add(personId);
+    }
+
+    /**
+     * Removes {@code person}, who has just been removed from the person book.
+     * Their remaining visits no longer expose other persons.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+        Index personId = person.getId();
+        idsByExposure.remove(personId);
+        exposureCounts.remove(personId);
+        setInfected(personId, false);
+    }
+
+    /**
+     * Updates the infection status of {@code target}, who has just been replaced by {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        setInfected(editedPerson.getId(), isInfected(editedPerson));
+    }
+
+    //=========== Visits =============================================================================================
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit) {
+        requireNonNull(visit);
+        SlotKey key = SlotKey.of(visit);
+        changeVisitCount(slots.computeIfAbsent(key, unused -> new Slot()), key, getPersonId(visit), 1);
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     */
+    public void removeVisit(Visit visit) {
+        requireNonNull(visit);
+        SlotKey key = SlotKey.of(visit);
+        Slot slot = slots.get(key);
+        if (slot == null || !slot.visitCounts.containsKey(getPersonId(visit))) {
+            return;
+        }
+
+        changeVisitCount(slot, key, getPersonId(visit), -1);
+        if (slot.visitCounts.isEmpty()) {
+            slots.remove(key);
+        }
+    }
+
+    //=========== Queries ============================================================================================
+
+    /**
+     * Returns the exposure count of the person with {@code personId}, or 0 if there is no such person.
+     */
+    public int getExposureCount(Index personId) {
+        requireNonNull(personId);
+        return exposureCounts.getOrDefault(personId, 0);
+    }
+
+    /**
+     * Returns the ids of the persons in the person book, from the most to the least exposed.
+     * Persons with the same exposure count are ordered by id.
+     */
+    public NavigableSet<Index> getIdsByExposure() {
+        return Collections.unmodifiableNavigableSet(idsByExposure);
+    }
+
+    /**
+     * Returns a comparator that orders persons in the same way as {@link #getIdsByExposure()}.
+     */
+    public Comparator<Person> getPersonOrder() {
+        return (first, second) -> compareByExposure(first.getId(), second.getId());
+    }
+
+    //=========== Counting ===========================================================================================
+
+    private void setInfected(Index personId, boolean isInfected) {
+        boolean hasChanged = isInfected ? infectedIds.add(personId) : infectedIds.remove(personId);
+        if (hasChanged) {
+            getSlotsOf(personId).forEach(slot -> setInfectedVisitor(slot, personId, isInfected));
+        }
+    }
+
+    /**
+     * Changes the number of visits in {@code slot}, at {@code key}, made by the person with {@code personId} by
+     * {@code change}, and applies the change to the exposure counts.
+     */
+    private void changeVisitCount(Slot slot, SlotKey key, Index personId, int change) {
+        int previousVisits = slot.visitCounts.getOrDefault(personId, 0);
+        int visits = previousVisits + change;
+        if (visits == 0) {
+            slot.visitCounts.remove(personId);
+            Set<SlotKey> slotKeys = slotKeysByPerson.get(personId);
+            slotKeys.remove(key);
+            if (slotKeys.isEmpty()) {
+                slotKeysByPerson.remove(personId);
+            }
+        } else {
+            slot.visitCounts.put(personId, visits);
+            slotKeysByPerson.computeIfAbsent(personId, unused -> new HashSet<>()).add(key);
+        }
+
+        if (hasOtherInfectedVisitor(slot, personId)) {
+            changeExposureCount(personId, change);
+        }
+        if (infectedIds.contains(personId) && (previousVisits == 0 || visits == 0)) {
+            setInfectedVisitor(slot, personId, visits > 0);
+        }
+    }
+
+    /**
+     * Adds the person with {@code personId} to the infected visitors of {@code slot}, or removes them, and applies the
+     * change to the exposure counts of the other visitors. Only the visitors who had no other infected visitor, or
+     * will have none, are affected.
+     */
+    private void setInfectedVisitor(Slot slot, Index personId, boolean isInfectedVisitor) {
+        if (isInfectedVisitor) {
+            slot.infectedVisitorIds.add(personId);
+        } else {
+            slot.infectedVisitorIds.remove(personId);
+        }
+        int otherInfectedVisitors = slot.infectedVisitorIds.size() - (isInfectedVisitor ? 1 : 0);
+        int sign = isInfectedVisitor ? 1 : -1;
+        if (otherInfectedVisitors == 0) {
+            // The person is the only infected visitor that the others share the slot with.
+            slot.visitCounts.forEach((visitorId, visits) -> {
+                if (!visitorId.equals(personId)) {
+                    changeExposureCount(visitorId, sign * visits);
+                }
+            });
+        } else if (otherInfectedVisitors == 1) {
+            // The other infected visitor shares the slot with no infected visitor but the person.
+            for (Index visitorId : slot.infectedVisitorIds) {
+                if (!visitorId.equals(personId)) {
+                    changeExposureCount(visitorId, sign * slot.visitCounts.get(visitorId));
+                }
+            }
+        }
+    }
+
+    private void changeExposureCount(Index personId, int difference) {
+        Integer previousCount = exposureCounts.get(personId);
+        if (previousCount == null) {
+            // Visits of persons who are no longer in the person book are not counted.
+            return;
+        }
+
+        // The person must be taken out of the ordered set before their count changes.
+        idsByExposure.remove(personId);
+        exposureCounts.put(personId, previousCount + difference);
+        idsByExposure.add(personId);
+        listener.exposureChanged(personId, previousCount, previousCount + difference);
+    }
+
+    /**
+     * Returns the number of visits in {@code slot} made by the person with {@code personId} that are exposed.
+     */
+    private static int countExposedVisits(Slot slot, Index personId) {
+        return hasOtherInfectedVisitor(slot, personId) ? slot.visitCounts.getOrDefault(personId, 0) : 0;
+    }
+
+    private static boolean hasOtherInfectedVisitor(Slot slot, Index personId) {
+        int infectedVisitors = slot.infectedVisitorIds.size();
+        return infectedVisitors > 1 || (infectedVisitors == 1 && !slot.infectedVisitorIds.contains(personId));
+    }
+
+    private Set<Slot> getSlotsOf(Index personId) {
+        Set<Slot> slotsOfPerson = new LinkedHashSet<>();
+        for (SlotKey key : slotKeysByPerson.getOrDefault(personId, Set.of())) {
+            slotsOfPerson.add(slots.get(key));
+        }
+        return slotsOfPerson;
+    }
+
+    private int compareByExposure(Index first, Index second) {
+        int comparison = Integer.compare(getExposureCount(second), getExposureCount(first));
+        return comparison != 0 ? comparison : Integer.compare(first.getZeroBased(), second.getZeroBased());
+    }
+
+    private static Index getPersonId(Visit visit) {
+        return visit.getPerson().getId();
+    }
+
+    private static boolean isInfected(Person person) {
+        return person.getInfectionStatus().getStatusAsBoolean();
+    }
+
+    /**
+     * Identifies the visits made to one location on one day.
+     */
+    private static class SlotKey {
+        private final Index locationId;
+        private final LocalDate date;
+
+        private SlotKey(Index locationId, LocalDate date) {
+            this.locationId = locationId;
+            this.date = date;
+        }
+
+        static SlotKey of(Visit visit) {
+            return new SlotKey(visit.getLocation().getId(), visit.getDate());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof SlotKey // instanceof handles nulls
+                    && locationId.equals(((SlotKey) other).locationId)
+                    && date.equals(((SlotKey) other).date)); // state check
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(locationId, date);
+        }
+    }
+
+    /**
+     * The number of visits made to one location on one day by each visitor, and the visitors who are infected.
+     */
+    private static class Slot {
+        private final Map<Index, Integer> visitCounts = new HashMap<>();
+        private final Set<Index> infectedVisitorIds = new HashSet<>();
+    }
+}
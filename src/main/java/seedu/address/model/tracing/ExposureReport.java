@@ -0,0 +1,104 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+
+/**
+ * The contacts of a group of infected persons, and the infected persons that each contact is linked to.
+ * Contacts are ordered by id, and the sources of each contact are ordered by id.
+ */
+public class ExposureReport {
+
+    public static final String CSV_HEADER = "Contact ID,Contact name,Number of sources,Infected source IDs";
+    private static final String SOURCE_ID_SEPARATOR = ";";
+
+    private static final Comparator<Index> ORDER_BY_ID = Comparator.comparingInt(Index::getZeroBased);
+
+    private final int numberOfSources;
+    private final NavigableMap<Index, List<Index>> sourcesByContact = new TreeMap<>(ORDER_BY_ID);
+
+    /**
+     * Creates a report of {@code numberOfSources} infected persons and their {@code contacts}, with each contact
+     * mapped to the ids of the sources they were in contact with.
+     */
+    public ExposureReport(int numberOfSources, Map<Index, ? extends Set<Index>> contacts) {
+        requireNonNull(contacts);
+        this.numberOfSources = numberOfSources;
+        contacts.forEach((contactId, sourceIds) -> {
+            List<Index> sortedSourceIds = new ArrayList<>(sourceIds);
+            sortedSourceIds.sort(ORDER_BY_ID);
+            sourcesByContact.put(contactId, Collections.unmodifiableList(sortedSourceIds));
+        });
+    }
+
+    public int getNumberOfSources() {
+        return numberOfSources;
+    }
+
+    public int getNumberOfContacts() {
+        return sourcesByContact.size();
+    }
+
+    /**
+     * Returns the ids of the contacts, in order of id.
+     */
+    public Set<Index> getContactIds() {
+        return Collections.unmodifiableSet(sourcesByContact.keySet());
+    }
+
+    /**
+     * Returns the ids of the infected persons that the contact with {@code contactId} is linked to, in order of id.
+     * Returns an empty list if {@code contactId} is not a contact.
+     */
+    public List<Index> getSourceIds(Index contactId) {
+        requireNonNull(contactId);
+        return sourcesByContact.getOrDefault(contactId, List.of());
+    }
+
+    /**
+     * Returns the report as CSV, with one line for each contact.
+     * {@code personsById} is used to look up the names of the contacts.
+     */
+    public String toCsv(Map<Index, Person> personsById) {
+        requireAllNonNull(personsById);
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (Map.Entry<Index, List<Index>> entry : sourcesByContact.entrySet()) {
+            Person contact = personsById.get(entry.getKey());
+            String contactName = contact == null ? "" : contact.getName().fullName;
+            String sourceIds = entry.getValue().stream()
+                    .map(sourceId -> String.valueOf(sourceId.getOneBased()))
+                    .collect(Collectors.joining(SOURCE_ID_SEPARATOR));
+            csv.append(entry.getKey().getOneBased()).append(',')
+                    .append(contactName).append(',')
+                    .append(entry.getValue().size()).append(',')
+                    .append(sourceIds).append('\n');
+        }
+        return csv.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExposureReport // instanceof handles nulls
+                && numberOfSources == ((ExposureReport) other).numberOfSources
+                && sourcesByContact.equals(((ExposureReport) other).sourcesByContact)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return sourcesByContact.hashCode();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.tracing;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import seedu.address.model.location.Location;
+
+/**
+ * Raised when the number of visits by infected persons to a location within the alert window reaches the alert
+ * threshold.
+ */
+public class OutbreakAlert {
+
+    private final Location location;
+    private final int infectedVisitCount;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates an alert for {@code location}, which had {@code infectedVisitCount} visits by infected persons from
+     * {@code startDate} to {@code endDate}, both inclusive.
+     */
+    public OutbreakAlert(Location location, int infectedVisitCount, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(location, startDate, endDate);
+        this.location = location;
+        this.infectedVisitCount = infectedVisitCount;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    public int getInfectedVisitCount() {
+        return infectedVisitCount;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OutbreakAlert // instanceof handles nulls
+                && location.equals(((OutbreakAlert) other).location)
+                && infectedVisitCount == ((OutbreakAlert) other).infectedVisitCount
+                && startDate.equals(((OutbreakAlert) other).startDate)
+                && endDate.equals(((OutbreakAlert) other).endDate)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, infectedVisitCount, startDate, endDate);
+    }
+
+    @Override
+    public String toString() {
+        return "Outbreak alert: " + infectedVisitCount + " visits by infected people to " + location.getName()
+                + " from " + startDate + " to " + endDate;
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Raises an {@code OutbreakAlert} when the number of visits by infected persons to a location in the last
+ * {@code WINDOW_DAYS} days reaches the alert threshold. The last day of the window is the latest date of any visit.
+ *
+ * The visits by infected persons to each location are counted by day in a ring buffer that covers the window, so
+ * a visit only changes one count, and moving the window forward only clears the days that fall out of it. The window
+ * only moves back when the visits on its last days are removed, and then the visits in the new window are counted
+ * again.
+ */
+public class OutbreakMonitor {
+
+    public static final int WINDOW_DAYS = 7;
+    public static final int DEFAULT_THRESHOLD = 3;
+    public static final String MESSAGE_CONSTRAINTS = "The outbreak alert threshold must be a positive number.";
+
+    private static final Comparator<OutbreakAlert> ORDER_BY_COUNT =
+            Comparator.comparingInt(OutbreakAlert::getInfectedVisitCount).reversed()
+                    .thenComparingInt(alert -> alert.getLocation().getId().getZeroBased());
+
+    private final ReadOnlyVisitBook visitBook;
+    private final Predicate<Index> isInfected;
+    private final Map<Index, DailyCounts> countsByLocation = new HashMap<>();
+    private final Map<Index, OutbreakAlert> activeAlerts = new HashMap<>();
+    private final List<OutbreakAlert> newAlerts = new ArrayList<>();
+    private int threshold;
+    // Null until the first visit is added.
+    private LocalDate latestDate;
+
+    /**
+     * Creates an OutbreakMonitor of the visits in {@code visitBook} that raises alerts for locations with at least
+     * {@code threshold} visits by infected persons within the window, where {@code isInfected} tells whether the
+     * person with an id is infected. The visit book is read again when the window moves back.
+     */
+    public OutbreakMonitor(ReadOnlyVisitBook visitBook, Predicate<Index> isInfected, int threshold) {
+        requireAllNonNull(visitBook, isInfected);
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+        this.visitBook = visitBook;
+        this.isInfected = isInfected;
+        this.threshold = threshold;
+        resetData();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Changes the alert threshold. Locations that reach the new threshold raise new alerts.
+     */
+    public void setThreshold(int threshold) {
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+        if (this.threshold == threshold) {
+            return;
+        }
+        this.threshold = threshold;
+        countsByLocation.forEach((locationId, counts) -> {
+            counts.moveTo(latestDate);
+            updateAlert(locationId, counts, true);
+        });
+    }
+
+    /**
+     * Counts the visits in the visit book again after they have been replaced. Locations that reach the threshold
+     * have active alerts, but do not raise new alerts.
+     */
+    public void resetData() {
+        newAlerts.clear();
+        recountWindow();
+    }
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit, boolean isByInfectedPerson) {
+        requireNonNull(visit);
+        if (latestDate == null || visit.getDate().isAfter(latestDate)) {
+            latestDate = visit.getDate();
+        }
+        if (isByInfectedPerson) {
+            count(visit, 1, true);
+        }
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     */
+    public void removeVisit(Visit visit, boolean isByInfectedPerson) {
+        requireNonNull(visit);
+        if (isByInfectedPerson) {
+            count(visit, -1, true);
+        }
+
+        LocalDate newLatestDate = visitBook.getLatestDate().orElse(null);
+        if (newLatestDate == null || newLatestDate.isBefore(latestDate)) {
+            // The days before the old window were not counted, so the new window is counted from the visits.
+            recountWindow();
+        }
+    }
+
+    /**
+     * Counts or stops counting {@code visitsOfPerson}, after the person who made them became infected or recovered.
+     */
+    public void setInfected(List<Visit> visitsOfPerson, boolean isInfected) {
+        requireNonNull(visitsOfPerson);
+        visitsOfPerson.forEach(visit -> count(visit, isInfected ? 1 : -1, true));
+    }
+
+    /**
+     * Returns the alerts raised since this method was last called, and forgets them.
+     */
+    public List<OutbreakAlert> takeNewAlerts() {
+        List<OutbreakAlert> alerts = new ArrayList<>(newAlerts);
+        newAlerts.clear();
+        return alerts;
+    }
+
+    /**
+     * Returns the alerts of the locations that are still at or above the threshold, from the location with the most
+     * visits by infected persons to the one with the least.
+     */
+    public List<OutbreakAlert> getActiveAlerts() {
+        // Alerts of locations that have not been visited recently are only updated here.
+        for (Index locationId : new ArrayList<>(activeAlerts.keySet())) {
+            DailyCounts counts = countsByLocation.get(locationId);
+            counts.moveTo(latestDate);
+            updateAlert(locationId, counts, false);
+        }
+
+        List<OutbreakAlert> alerts = new ArrayList<>(activeAlerts.values());
+        alerts.sort(ORDER_BY_COUNT);
+        return alerts;
+    }
+
+    /**
+     * Counts the visits by infected persons in the window that ends on the latest date in the visit book, without
+     * raising new alerts.
+     */
+    private void recountWindow() {
+        countsByLocation.clear();
+        activeAlerts.clear();
+        latestDate = visitBook.getLatestDate().orElse(null);
+        if (latestDate == null) {
+            return;
+        }
+
+        for (Visit visit : visitBook.getVisitsByDate(getWindowStart(latestDate), latestDate)) {
+            if (isInfected.test(visit.getPerson().getId())) {
+                count(visit, 1, false);
+            }
+        }
+    }
+
+    private void count(Visit visit, int change, boolean shouldRaiseAlert) {
+        if (latestDate == null || visit.getDate().isBefore(getWindowStart(latestDate))) {
+            return;
+        }
+
+        Index locationId = visit.getLocation().getId();
+        DailyCounts counts = countsByLocation.computeIfAbsent(locationId,
+            unused -> new DailyCounts(visit.getLocation()));
+        counts.location = visit.getLocation();
+        counts.moveTo(latestDate);
+        counts.add(visit.getDate(), change);
+        updateAlert(locationId, counts, shouldRaiseAlert);
+        if (counts.total == 0) {
+            countsByLocation.remove(locationId);
+        }
+    }
+
+    private void updateAlert(Index locationId, DailyCounts counts, boolean shouldRaiseAlert) {
+        if (counts.total < threshold) {
+            activeAlerts.remove(locationId);
+            return;
+        }
+
+        LocalDate endDate = LocalDate.ofEpochDay(counts.endDay);
+        OutbreakAlert alert = new OutbreakAlert(counts.location, counts.total, getWindowStart(endDate), endDate);
+        OutbreakAlert previousAlert = activeAlerts.put(locationId, alert);
+        if (previousAlert == null && shouldRaiseAlert) {
+            newAlerts.add(alert);
+        }
+    }
+
+    private static LocalDate getWindowStart(LocalDate endDate) {
+        return endDate.minusDays(WINDOW_DAYS - 1);
+    }
+
+    /**
+     * The number of visits by infected persons to one location on each day of the window, in a ring buffer.
+     */
+    private static class DailyCounts {
+        private final int[] counts = new int[WINDOW_DAYS];
+        private Location location;
+        private long endDay;
+        private int total;
+
+        private DailyCounts(Location location) {
+            this.location = location;
+            this.endDay = Long.MIN_VALUE;
+        }
+
+        /**
+         * Moves the window forward so that it ends on {@code date}, clearing the days that fall out of it.
+         */
+        private void moveTo(LocalDate date) {
+            long day = date.toEpochDay();
+            if (endDay == Long.MIN_VALUE) {
+                endDay = day;
+                return;
+            }
+            if (day <= endDay) {
+                return;
+            }
+
+            long daysToClear = Math.min(day - endDay, WINDOW_DAYS);
+            for (long i = 1; i <= daysToClear; i++) {
+                int slot = (int) Math.floorMod(endDay + i, (long) WINDOW_DAYS);
+                total -= counts[slot];
+                counts[slot] = 0;
+            }
+            endDay = day;
+        }
+
+        /**
+         * Adds {@code change} to the count of {@code date}, which must be within the window.
+         */
+        private void add(LocalDate date, int change) {
+            long day = date.toEpochDay();
+            assert day <= endDay && day > endDay - WINDOW_DAYS;
+            int slot = (int) Math.floorMod(day, (long) WINDOW_DAYS);
+            counts[slot] += change;
+            total += change;
+        }
+    }
+}
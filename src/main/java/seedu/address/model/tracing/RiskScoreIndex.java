@@ -0,0 +1,348 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Keeps the exposure risk score of every person in the person book, and the persons ordered by it.
+ *
+ * A person has a contact for each pair of their visit and a visit by another infected person to the same location
+ * within {@code windowDays} days of each other. Each contact adds 1 to the score if it happened on the date of the
+ * latest visit, and half as much for every {@code HALF_LIFE_DAYS} days before that. The contact is dated by the later
+ * of the two visits.
+ *
+ * The scores are kept up to date as visits are added and removed and as persons become infected or recover, and each
+ * change only looks at the visits to the same location within the window. So that the scores do not have to be
+ * decayed every time the latest date moves, each contact is weighted from a fixed epoch instead, growing by 2 for
+ * every half-life after it. Scaling all scores by the same factor keeps their order, so the scores are only scaled
+ * down to the date of the latest visit when they are read, and the epoch is moved forward from time to time so
+ * that the weights stay small.
+ */
+public class RiskScoreIndex {
+
+    public static final int HALF_LIFE_DAYS = 7;
+
+    /** The epoch is moved forward by this many half-lives at a time. */
+    private static final int REBASE_HALF_LIVES = 20;
+    private static final int REBASE_DAYS = REBASE_HALF_LIVES * HALF_LIFE_DAYS;
+
+    /**
+     * Notified after the risk score of a person changes.
+     */
+    @FunctionalInterface
+    public interface RiskScoreChangeListener {
+        /**
+         * Called with the weighted score the person had before the change.
+         */
+        void riskScoreChanged(Index personId, double previousWeightedScore);
+    }
+
+    private final List<Person> persons;
+    private final ReadOnlyVisitBook visitBook;
+    private int windowDays;
+
+    private final Map<Index, RiskScore> scores = new HashMap<>();
+    // Ids of the persons in the person book, from the highest to the lowest score.
+    private final NavigableSet<Index> idsByScore = new TreeSet<>(this::compareByScore);
+    private final Set<Index> infectedIds = new HashSet<>();
+    // Null until the first contact is weighted.
+    private Long epochDay;
+
+    private RiskScoreChangeListener listener = (personId, previousWeightedScore) -> {};
+
+    /**
+     * Creates a RiskScoreIndex over {@code persons}, which must be the live list of persons in the person book, and
+     * the visits in {@code visitBook}.
+     */
+    public RiskScoreIndex(List<Person> persons, ReadOnlyVisitBook visitBook, int windowDays) {
+        requireAllNonNull(persons, visitBook);
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        this.persons = persons;
+        this.visitBook = visitBook;
+        this.windowDays = windowDays;
+        resetData();
+    }
+
+    public void setListener(RiskScoreChangeListener listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    public int getWindowDays() {
+        return windowDays;
+    }
+
+    /**
+     * Changes the contact window, and recomputes all scores.
+     */
+    public void setWindowDays(int windowDays) {
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+        if (this.windowDays != windowDays) {
+            this.windowDays = windowDays;
+            resetData();
+        }
+    }
+
+    /**
+     * Recomputes all scores after the persons or visits have been replaced.
+     * No listener is notified.
+     */
+    public void resetData() {
+        scores.clear();
+        idsByScore.clear();
+        infectedIds.clear();
+        epochDay = null;
+
+        for (Person person : persons) {
+            scores.put(person.getId(), new RiskScore());
+            if (isInfected(person)) {
+                infectedIds.add(person.getId());
+            }
+        }
+        for (Index infectedId : infectedIds) {
+            for (Visit visit : visitBook.getVisitsOfPerson(infectedId)) {
+                forEachContact(visit, (contactVisit, weight) -> {
+                    RiskScore score = scores.get(getPersonId(contactVisit));
+                    if (score != null) {
+                        score.add(1, weight);
+                    }
+                });
+            }
+        }
+        idsByScore.addAll(scores.keySet());
+    }
+
+    //=========== Persons ============================================================================================
+
+    /**
+     * Adds {@code person}, who has just been added to the person book.
+     */
+    public void addPerson(Person person) {
+        requireNonNull(person);
+        Index personId = person.getId();
+        // The person may already have visits recorded against their id.
+        RiskScore score = new RiskScore();
+        for (Visit visit : visitBook.getVisitsOfPerson(personId)) {
+            forEachContact(visit, (contactVisit, weight) -> {
+                if (infectedIds.contains(getPersonId(contactVisit))) {
+                    score.add(1, weight);
+                }
+            });
+        }
+        scores.put(personId, score);
+        idsByScore.add(personId);
+
+        if (isInfected(person)) {
+            setInfected(personId, true);
+        }
+    }
+
+    /**
+     * Removes {@code person}, who has just been removed from the person book.
+     * Their remaining visits no longer add to the scores of other persons.
+     */
+    public void removePerson(Person person) {
+        requireNonNull(person);
+        Index personId = person.getId();
+        setInfected(personId, false);
+        idsByScore.remove(personId);
+        scores.remove(personId);
+    }
+
+    /**
+     * Updates the infection status of {@code target}, who has just been replaced by {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        setInfected(editedPerson.getId(), isInfected(editedPerson));
+    }
+
+    //=========== Visits =============================================================================================
+
+    /**
+     * Adds {@code visit}, which has just been added to the visit book.
+     */
+    public void addVisit(Visit visit) {
+        requireNonNull(visit);
+        updateContacts(visit, 1);
+    }
+
+    /**
+     * Removes {@code visit}, which has just been removed from the visit book.
+     */
+    public void removeVisit(Visit visit) {
+        requireNonNull(visit);
+        updateContacts(visit, -1);
+    }
+
+    //=========== Queries ============================================================================================
+
+    /**
+     * Returns the risk score of the person with {@code personId} as of the date of the latest visit, or 0 if there is
+     * no such person.
+     */
+    public double getRiskScore(Index personId) {
+        requireNonNull(personId);
+        RiskScore score = scores.get(personId);
+        if (score == null || score.contactCount == 0) {
+            return 0;
+        }
+
+        long latestDay = visitBook.getLatestDate().map(LocalDate::toEpochDay).orElse(epochDay);
+        return score.weightedScore * Math.pow(2, -(double) (latestDay - epochDay) / HALF_LIFE_DAYS);
+    }
+
+    /**
+     * Returns the ids of the persons in the person book, from the highest to the lowest risk score.
+     * Persons with the same score are ordered by id.
+     */
+    public NavigableSet<Index> getIdsByScore() {
+        return Collections.unmodifiableNavigableSet(idsByScore);
+    }
+
+    /**
+     * Returns a comparator that orders persons in the same way as {@link #getIdsByScore()}.
+     */
+    public Comparator<Person> getPersonOrder() {
+        return (first, second) -> compareByScore(first.getId(), second.getId());
+    }
+
+    //=========== Scoring ============================================================================================
+
+    /**
+     * Adds or removes the contacts that {@code visit} makes, depending on the sign of {@code change}.
+     */
+    private void updateContacts(Visit visit, int change) {
+        Index personId = getPersonId(visit);
+        boolean isVisitorScored = scores.containsKey(personId);
+        boolean isVisitorInfected = infectedIds.contains(personId);
+        if (!isVisitorScored && !isVisitorInfected) {
+            return;
+        }
+
+        forEachContact(visit, (contactVisit, weight) -> {
+            Index contactId = getPersonId(contactVisit);
+            if (isVisitorScored && infectedIds.contains(contactId)) {
+                changeScore(personId, change, weight);
+            }
+            if (isVisitorInfected) {
+                changeScore(contactId, change, weight);
+            }
+        });
+    }
+
+    private void setInfected(Index personId, boolean isInfected) {
+        boolean hasChanged = isInfected ? infectedIds.add(personId) : infectedIds.remove(personId);
+        if (!hasChanged) {
+            return;
+        }
+
+        int change = isInfected ? 1 : -1;
+        for (Visit visit : visitBook.getVisitsOfPerson(personId)) {
+            forEachContact(visit, (contactVisit, weight) -> changeScore(getPersonId(contactVisit), change, weight));
+        }
+    }
+
+    private void changeScore(Index personId, int contactChange, double weight) {
+        RiskScore score = scores.get(personId);
+        if (score == null) {
+            // Visits of persons who are no longer in the person book are not scored.
+            return;
+        }
+
+        // The person must be taken out of the ordered set before their score changes.
+        double previousWeightedScore = score.weightedScore;
+        idsByScore.remove(personId);
+        score.add(contactChange, contactChange * weight);
+        idsByScore.add(personId);
+        listener.riskScoreChanged(personId, previousWeightedScore);
+    }
+
+    /**
+     * Calls {@code action} with every visit by another person to the location of {@code visit} within the contact
+     * window, and the weight of the contact between the two visits.
+     */
+    private void forEachContact(Visit visit, ContactAction action) {
+        Index personId = getPersonId(visit);
+        LocalDate date = visit.getDate();
+        Iterable<Visit> visitsInWindow = visitBook.getVisitsAtLocation(visit.getLocation().getId(),
+                date.minusDays(windowDays), date.plusDays(windowDays));
+        for (Visit contactVisit : visitsInWindow) {
+            if (!getPersonId(contactVisit).equals(personId)) {
+                LocalDate contactDate = date.isAfter(contactVisit.getDate()) ? date : contactVisit.getDate();
+                action.accept(contactVisit, getWeight(contactDate.toEpochDay()));
+            }
+        }
+    }
+
+    /**
+     * Returns the weight of a contact on {@code day}, moving the epoch forward first if the weight would be too large.
+     */
+    private double getWeight(long day) {
+        if (epochDay == null) {
+            epochDay = day;
+        }
+        if (day - epochDay > REBASE_DAYS) {
+            long rebaseCount = (day - epochDay) / REBASE_DAYS;
+            epochDay += rebaseCount * REBASE_DAYS;
+            // Scaling by a power of 2 is exact, so the order of the persons does not change.
+            int scale = (int) Math.min(rebaseCount * REBASE_HALF_LIVES, Integer.MAX_VALUE);
+            scores.values().forEach(score -> score.weightedScore = Math.scalb(score.weightedScore, -scale));
+        }
+        return Math.pow(2, (double) (day - epochDay) / HALF_LIFE_DAYS);
+    }
+
+    private double getWeightedScore(Index personId) {
+        RiskScore score = scores.get(personId);
+        return score == null ? 0 : score.weightedScore;
+    }
+
+    private int compareByScore(Index first, Index second) {
+        int comparison = Double.compare(getWeightedScore(second), getWeightedScore(first));
+        return comparison != 0 ? comparison : Integer.compare(first.getZeroBased(), second.getZeroBased());
+    }
+
+    private static Index getPersonId(Visit visit) {
+        return visit.getPerson().getId();
+    }
+
+    private static boolean isInfected(Person person) {
+        return person.getInfectionStatus().getStatusAsBoolean();
+    }
+
+    @FunctionalInterface
+    private interface ContactAction {
+        void accept(Visit contactVisit, double weight);
+    }
+
+    /**
+     * The number of contacts of a person, and the sum of their weights.
+     */
+    private static class RiskScore {
+        private int contactCount;
+        private double weightedScore;
+
+        private void add(int contactChange, double weightChange) {
+            contactCount += contactChange;
+            // Adding and taking away the same weights can leave a rounding error instead of 0.
+            weightedScore = contactCount == 0 ? 0 : Math.max(0, weightedScore + weightChange);
+        }
+    }
+}
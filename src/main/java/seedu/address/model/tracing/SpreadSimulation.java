@@ -0,0 +1,101 @@
+package seedu.address.model.tracing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.index.Index;
+
+/**
+ * The results of a {@link SpreadSimulator}, which is the number of runs in which each person got infected.
+ */
+public class SpreadSimulation {
+
+    private final Index[] personIds;
+    private final boolean[] isInfected;
+    private final int[] infectionCounts;
+    private final double transmissionProbability;
+    private final int runs;
+    private final Map<Index, Integer> personNumbers = new HashMap<>();
+
+    /**
+     * Creates the results of {@code runs} runs, where person {@code personIds[i]} got infected in
+     * {@code infectionCounts[i]} of them, and was infected from the start if {@code isInfected[i]}.
+     */
+    SpreadSimulation(Index[] personIds, boolean[] isInfected, int[] infectionCounts, double transmissionProbability,
+            int runs) {
+        this.personIds = personIds;
+        this.isInfected = isInfected;
+        this.infectionCounts = infectionCounts;
+        this.transmissionProbability = transmissionProbability;
+        this.runs = runs;
+        for (int i = 0; i < personIds.length; i++) {
+            personNumbers.put(personIds[i], i);
+        }
+    }
+
+    public double getTransmissionProbability() {
+        return transmissionProbability;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    /**
+     * Returns the number of persons who were infected from the start of every run.
+     */
+    public int getNumberOfInfected() {
+        int count = 0;
+        for (boolean infected : isInfected) {
+            count += infected ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the fraction of runs in which the person with {@code personId} got infected, which is 0 for persons
+     * that were not simulated.
+     */
+    public double getInfectionProbability(Index personId) {
+        requireNonNull(personId);
+        Integer person = personNumbers.get(personId);
+        return person == null ? 0 : (double) infectionCounts[person] / runs;
+    }
+
+    /**
+     * Returns the average number of persons who were not infected from the start but got infected in a run.
+     */
+    public double getExpectedNewInfections() {
+        long newInfections = 0;
+        for (int i = 0; i < personIds.length; i++) {
+            if (!isInfected[i]) {
+                newInfections += infectionCounts[i];
+            }
+        }
+        return (double) newInfections / runs;
+    }
+
+    /**
+     * Returns the ids of the persons who were not infected from the start but got infected in at least one run,
+     * ordered from the highest infection probability to the lowest, then by id.
+     */
+    public List<Index> getPersonsAtRisk() {
+        List<Integer> persons = new ArrayList<>();
+        for (int i = 0; i < personIds.length; i++) {
+            if (!isInfected[i] && infectionCounts[i] > 0) {
+                persons.add(i);
+            }
+        }
+        persons.sort(Comparator.<Integer>comparingInt(person -> -infectionCounts[person])
+                .thenComparingInt(person -> personIds[person].getZeroBased()));
+
+        List<Index> personsAtRisk = new ArrayList<>();
+        persons.forEach(person -> personsAtRisk.add(personIds[person]));
+        return personsAtRisk;
+    }
+}
@@ -0,0 +1,357 @@
+package seedu.address.model.tracing;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+/**
+ * Simulates the spread of the virus from the infected persons over their contacts, many times over, to estimate the
+ * probability that each person gets infected.
+ *
+ * Two persons share a visit each time they visit the same location within {@code windowDays} days of each other, and
+ * each shared visit passes the virus on with the transmission probability, but only forward in time: from the person
+ * whose visit came first to the person who visited later, or both ways if they visited on the same day. A person who
+ * gets infected can only pass the virus on through their visits on or after the day they got infected, and the
+ * infected persons can pass it on through all of their visits.
+ *
+ * Each shared visit is built once into arrays of primitives, with the shared visits of each person stored next to
+ * each other in the order of their visit dates. In each run, the persons are infected in date order, as in finding the
+ * shortest paths in a graph, so that each person passes the virus on from the earliest day they can be infected.
+ * The runs are split between tasks that run in parallel, and each task has its own random number generator split
+ * from that of the task that created it, so the results only depend on the seed.
+ */
+public class SpreadSimulator {
+
+    public static final int DEFAULT_RUNS = 1000;
+    public static final int MAX_RUNS = 100000;
+    public static final String MESSAGE_INVALID_PROBABILITY = "The transmission probability must be more than 0 and "
+            + "at most 1.";
+    public static final String MESSAGE_INVALID_RUNS = "The number of runs must be from 1 to " + MAX_RUNS + ".";
+
+    // Fewer runs than this are not worth splitting into more tasks.
+    private static final int RUNS_PER_TASK = 64;
+    // The day on which the infected persons are taken to have been infected, before any visit.
+    private static final int ALWAYS_INFECTED = Integer.MIN_VALUE;
+
+    private final Index[] personIds;
+    private final int[] infectedPersons;
+    // Person i can pass the virus on through shared visits contactStart[i] to contactStart[i + 1] - 1, in which they
+    // visited on visitDays[j] and contacts[j] visited on contactDays[j], as days since the epoch. The shared visits of
+    // each person are in increasing order of visitDays.
+    private final int[] contactStart;
+    private final int[] contacts;
+    private final int[] visitDays;
+    private final int[] contactDays;
+
+    /**
+     * Creates a SpreadSimulator over {@code persons} and their visits in {@code visitBook}.
+     */
+    public SpreadSimulator(List<Person> persons, ReadOnlyVisitBook visitBook, int windowDays) {
+        requireAllNonNull(persons, visitBook);
+        checkArgument(windowDays >= 0, ContactTracer.MESSAGE_CONSTRAINTS);
+
+        personIds = new Index[persons.size()];
+        Map<Index, Integer> personNumbers = new HashMap<>();
+        List<Integer> infected = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            personIds[i] = person.getId();
+            personNumbers.put(person.getId(), i);
+            if (person.getInfectionStatus().getStatusAsBoolean()) {
+                infected.add(i);
+            }
+        }
+        infectedPersons = infected.stream().mapToInt(Integer::intValue).toArray();
+
+        SharedVisitList sharedVisits = findSharedVisits(personNumbers, visitBook, windowDays);
+
+        contactStart = new int[personIds.length + 1];
+        for (int i = 0; i < sharedVisits.size; i++) {
+            contactStart[sharedVisits.persons[i] + 1]++;
+        }
+        for (int i = 1; i < contactStart.length; i++) {
+            contactStart[i] += contactStart[i - 1];
+        }
+
+        // Each entry holds the day of the visit, counted from the earliest one, in the high bits and the number of the
+        // shared visit in the low bits, so that sorting the entries of a person orders them by the day of the visit.
+        long minDay = Long.MAX_VALUE;
+        for (int i = 0; i < sharedVisits.size; i++) {
+            minDay = Math.min(minDay, sharedVisits.visitDays[i]);
+        }
+        long[] entries = new long[sharedVisits.size];
+        int[] nextEntry = Arrays.copyOf(contactStart, personIds.length);
+        for (int i = 0; i < sharedVisits.size; i++) {
+            entries[nextEntry[sharedVisits.persons[i]]++] = ((sharedVisits.visitDays[i] - minDay) << Integer.SIZE) | i;
+        }
+        for (int person = 0; person < personIds.length; person++) {
+            Arrays.sort(entries, contactStart[person], contactStart[person + 1]);
+        }
+
+        contacts = new int[entries.length];
+        visitDays = new int[entries.length];
+        contactDays = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            int sharedVisit = (int) entries[i];
+            contacts[i] = sharedVisits.contacts[sharedVisit];
+            visitDays[i] = sharedVisits.visitDays[sharedVisit];
+            contactDays[i] = sharedVisits.contactDays[sharedVisit];
+        }
+    }
+
+    /**
+     * Returns every shared visit through which the virus can be passed on, from the person who visited first to the
+     * person who visited later, and both ways between persons who visited on the same day.
+     */
+    private static SharedVisitList findSharedVisits(Map<Index, Integer> personNumbers, ReadOnlyVisitBook visitBook,
+            int windowDays) {
+        Set<Index> locationIds = new LinkedHashSet<>();
+        visitBook.getVisitList().forEach(visit -> locationIds.add(visit.getLocation().getId()));
+
+        SharedVisitList sharedVisits = new SharedVisitList();
+        for (Index locationId : locationIds) {
+            List<Visit> visits = new ArrayList<>();
+            visitBook.getVisitsAtLocation(locationId).forEach(visits::add);
+
+            // The visits are in date order, so the visits in range of the current one start at windowStart, and none
+            // of them came after it.
+            int windowStart = 0;
+            for (int i = 0; i < visits.size(); i++) {
+                LocalDate date = visits.get(i).getDate();
+                LocalDate earliestDate = date.minusDays(windowDays);
+                while (visits.get(windowStart).getDate().isBefore(earliestDate)) {
+                    windowStart++;
+                }
+                Integer person = personNumbers.get(visits.get(i).getPerson().getId());
+                if (person == null) {
+                    continue;
+                }
+                int day = Math.toIntExact(date.toEpochDay());
+                for (int j = windowStart; j < i; j++) {
+                    Integer contact = personNumbers.get(visits.get(j).getPerson().getId());
+                    if (contact == null || contact.equals(person)) {
+                        continue;
+                    }
+                    int contactDay = Math.toIntExact(visits.get(j).getDate().toEpochDay());
+                    sharedVisits.add(contact, contactDay, person, day);
+                    if (contactDay == day) {
+                        sharedVisits.add(person, day, contact, contactDay);
+                    }
+                }
+            }
+        }
+        return sharedVisits;
+    }
+
+    /**
+     * Runs the simulation {@code runs} times with the random numbers from {@code seed}, where each shared visit with
+     * an infected person passes the virus on with {@code transmissionProbability}.
+     */
+    public SpreadSimulation simulate(double transmissionProbability, int runs, long seed) {
+        checkArgument(transmissionProbability > 0 && transmissionProbability <= 1, MESSAGE_INVALID_PROBABILITY);
+        checkArgument(runs > 0 && runs <= MAX_RUNS, MESSAGE_INVALID_RUNS);
+
+        int[] infectionCounts = ForkJoinPool.commonPool().invoke(
+                new SimulationTask(transmissionProbability, 0, runs, new SplittableRandom(seed)));
+        boolean[] isInfected = new boolean[personIds.length];
+        for (int person : infectedPersons) {
+            isInfected[person] = true;
+        }
+        return new SpreadSimulation(personIds, isInfected, infectionCounts, transmissionProbability, runs);
+    }
+
+    /**
+     * Runs the simulation once for each run from {@code start} (inclusive) to {@code end} (exclusive), and adds the
+     * number of runs in which each person got infected to {@code infectionCounts}.
+     */
+    private void run(double transmissionProbability, int start, int end, SplittableRandom random,
+            int[] infectionCounts) {
+        // infectedInRun[i] is the number of the last run in which person i got infected, counting from 1, and
+        // infectionDays[i] is the earliest day on which they got infected in that run.
+        int[] infectedInRun = new int[personIds.length];
+        int[] infectionDays = new int[personIds.length];
+        InfectionQueue queue = new InfectionQueue();
+        for (int run = 1; run <= end - start; run++) {
+            for (int person : infectedPersons) {
+                infectedInRun[person] = run;
+                infectionDays[person] = ALWAYS_INFECTED;
+                queue.add(ALWAYS_INFECTED, person);
+            }
+
+            while (!queue.isEmpty()) {
+                long next = queue.remove();
+                int person = InfectionQueue.getPerson(next);
+                int infectionDay = InfectionQueue.getDay(next);
+                if (infectionDay != infectionDays[person]) {
+                    // The person was infected on an earlier day after this was queued.
+                    continue;
+                }
+                infectionCounts[person]++;
+                for (int i = findFirstVisitFrom(person, infectionDay); i < contactStart[person + 1]; i++) {
+                    int contact = contacts[i];
+                    boolean isInfectedEarlier = infectedInRun[contact] == run
+                            && infectionDays[contact] <= contactDays[i];
+                    if (!isInfectedEarlier && random.nextDouble() < transmissionProbability) {
+                        infectedInRun[contact] = run;
+                        infectionDays[contact] = contactDays[i];
+                        queue.add(contactDays[i], contact);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the first shared visit of {@code person} made on or after {@code day}.
+     */
+    private int findFirstVisitFrom(int person, int day) {
+        int low = contactStart[person];
+        int high = contactStart[person + 1];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (visitDays[middle] < day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A list of shared visits kept in arrays of primitives, each from the person who can pass the virus on to the
+     * contact they can pass it on to.
+     */
+    private static class SharedVisitList {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int[] persons = new int[INITIAL_CAPACITY];
+        private int[] visitDays = new int[INITIAL_CAPACITY];
+        private int[] contacts = new int[INITIAL_CAPACITY];
+        private int[] contactDays = new int[INITIAL_CAPACITY];
+        private int size;
+
+        void add(int person, int visitDay, int contact, int contactDay) {
+            if (size == persons.length) {
+                // Fails rather than wraps around if there are more shared visits than an array can hold.
+                int capacity = Math.multiplyExact(size, 2);
+                persons = Arrays.copyOf(persons, capacity);
+                visitDays = Arrays.copyOf(visitDays, capacity);
+                contacts = Arrays.copyOf(contacts, capacity);
+                contactDays = Arrays.copyOf(contactDays, capacity);
+            }
+            persons[size] = person;
+            visitDays[size] = visitDay;
+            contacts[size] = contact;
+            contactDays[size] = contactDay;
+            size++;
+        }
+    }
+
+    /**
+     * A binary heap of the persons infected in a run that have yet to pass the virus on, with the earliest day of
+     * infection first. Each entry holds the day in the high bits and the person in the low bits.
+     */
+    private static class InfectionQueue {
+        private long[] entries = new long[16];
+        private int size;
+
+        static int getDay(long entry) {
+            return (int) (entry >> Integer.SIZE);
+        }
+
+        static int getPerson(long entry) {
+            return (int) entry;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(int day, int person) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, Math.multiplyExact(size, 2));
+            }
+            long entry = ((long) day << Integer.SIZE) | person;
+            int i = size++;
+            while (i > 0 && entries[(i - 1) / 2] > entry) {
+                entries[i] = entries[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            entries[i] = entry;
+        }
+
+        long remove() {
+            long first = entries[0];
+            long last = entries[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && entries[child + 1] < entries[child]) {
+                    child++;
+                }
+                if (entries[child] >= last) {
+                    break;
+                }
+                entries[i] = entries[child];
+                i = child;
+            }
+            entries[i] = last;
+            return first;
+        }
+    }
+
+    /**
+     * Runs the simulation for the runs from {@code start} (inclusive) to {@code end} (exclusive), splitting them into
+     * smaller tasks that run in parallel.
+     */
+    private class SimulationTask extends RecursiveTask<int[]> {
+        private final double transmissionProbability;
+        private final int start;
+        private final int end;
+        private final SplittableRandom random;
+
+        SimulationTask(double transmissionProbability, int start, int end, SplittableRandom random) {
+            this.transmissionProbability = transmissionProbability;
+            this.start = start;
+            this.end = end;
+            this.random = random;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (end - start <= RUNS_PER_TASK) {
+                int[] infectionCounts = new int[personIds.length];
+                run(transmissionProbability, start, end, random, infectionCounts);
+                return infectionCounts;
+            }
+
+            int middle = (start + end) >>> 1;
+            SimulationTask firstHalf = new SimulationTask(transmissionProbability, start, middle, random.split());
+            SimulationTask secondHalf = new SimulationTask(transmissionProbability, middle, end, random);
+            firstHalf.fork();
+            int[] infectionCounts = secondHalf.compute();
+            int[] firstHalfCounts = firstHalf.join();
+            for (int i = 0; i < infectionCounts.length; i++) {
+                infectionCounts[i] += firstHalfCounts[i];
+            }
+            return infectionCounts;
+        }
+    }
+}
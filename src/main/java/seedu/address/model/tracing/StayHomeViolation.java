@@ -0,0 +1,87 @@
+package seedu.address.model.tracing;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+
+/**
+ * A visit by an infected or quarantined person to a location that is not their home, which may have violated their
+ * Stay-Home Notice.
+ */
+public class StayHomeViolation {
+
+    public static final String CSV_HEADER = "Person ID,Person name,Infected,Quarantined,Location ID,Location name,Date";
+
+    private final Person person;
+    private final Location location;
+    private final Visit visit;
+
+    /**
+     * Creates a violation of {@code person} for {@code visit} to {@code location}. {@code person} and {@code location}
+     * are the current versions of the person and location of the visit, which may have been edited since the visit
+     * was added.
+     */
+    public StayHomeViolation(Person person, Location location, Visit visit) {
+        requireAllNonNull(person, location, visit);
+        this.person = person;
+        this.location = location;
+        this.visit = visit;
+    }
+
+    /**
+     * Returns true if {@code person} visiting {@code location} may violate a Stay-Home Notice, which is when the person
+     * is infected or in quarantine, and the location is not at their address.
+     */
+    public static boolean isViolation(Person person, Location location) {
+        requireAllNonNull(person, location);
+        boolean isFlagged = person.getInfectionStatus().getStatusAsBoolean()
+                || person.getQuarantineStatus().getStatusAsBoolean();
+        return isFlagged && !person.getAddress().equals(location.getAddress());
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    public Visit getVisit() {
+        return visit;
+    }
+
+    /**
+     * Returns the violation as a row of a CSV report with the columns in {@code CSV_HEADER}.
+     */
+    public String toCsvRow() {
+        return String.join(",", String.valueOf(person.getId().getOneBased()), person.getName().toString(),
+                String.valueOf(person.getInfectionStatus().getStatusAsBoolean()),
+                String.valueOf(person.getQuarantineStatus().getStatusAsBoolean()),
+                String.valueOf(location.getId().getOneBased()), location.getName().toString(),
+                visit.getDate().toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StayHomeViolation // instanceof handles nulls
+                && person.equals(((StayHomeViolation) other).person)
+                && location.equals(((StayHomeViolation) other).location)
+                && visit.equals(((StayHomeViolation) other).visit)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, location, visit);
+    }
+
+    @Override
+    public String toString() {
+        return person.getName() + " visited " + location.getName() + " on " + visit.getDate();
+    }
+}
@@ -1,6 +1,12 @@
 package seedu.address.model.visit;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 
 /**
  * Unmodifiable view of a visit book
@@ -12,4 +18,41 @@ public interface ReadOnlyVisitBook {
      */
     ObservableList<Visit> getVisitList();
 
+    /**
+     * Returns the visits ordered from the earliest to the latest date.
+     */
+    Iterable<Visit> getVisitsByDate();
+
+    /**
+     * Returns the visits from {@code startDate} to {@code endDate}, both inclusive, ordered from the earliest to the
+     * latest date.
+     */
+    Iterable<Visit> getVisitsByDate(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the visits made by the person with {@code personId}.
+     */
+    List<Visit> getVisitsOfPerson(Index personId);
+
+    /**
+     * Returns the visits made to the location with {@code locationId}, ordered from the earliest to the latest date.
+     */
+    Iterable<Visit> getVisitsAtLocation(Index locationId);
+
+    /**
+     * Returns the visits made to the location with {@code locationId} from {@code startDate} to {@code endDate}, both
+     * inclusive, ordered from the earliest to the latest date.
+     */
+    Iterable<Visit> getVisitsAtLocation(Index locationId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Returns the ids of the locations that have been visited at least once.
+     */
+    Set<Index> getVisitedLocationIds();
+
+    /**
+     * Returns the latest date of a visit, or an empty {@code Optional} if there are no visits.
+     */
+    Optional<LocalDate> getLatestDate();
+
 }
@@ -3,11 +3,22 @@ package seedu.address.model.visit;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 import seedu.address.model.location.exceptions.DuplicateLocationException;
 import seedu.address.model.visit.exceptions.DuplicateVisitException;
 import seedu.address.model.visit.exceptions.VisitNotFoundException;
@@ -27,13 +38,21 @@ public class UniqueVisitList implements Iterable<Visit> {
     private final ObservableList<Visit> internalList = FXCollections.observableArrayList();
     private final ObservableList<Visit> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The same visits as the list, to look them up without going through the list.
+    private final Set<Visit> visitSet = new HashSet<>();
+    // Visits grouped by date, each group in the order the visits were added.
+    private final NavigableMap<LocalDate, List<Visit>> visitsByDate = new TreeMap<>();
+    // Visits grouped by the id of the person who made them, each group in the order the visits were added.
+    private final Map<Index, List<Visit>> visitsByPerson = new HashMap<>();
+    // Visits grouped by the id of the location visited, each group grouped again by date.
+    private final Map<Index, NavigableMap<LocalDate, List<Visit>>> visitsByLocation = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent visit as the given argument.
      */
     public boolean contains(Visit toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return visitSet.contains(toCheck);
     }
 
     /**
@@ -46,6 +65,7 @@ public class UniqueVisitList implements Iterable<Visit> {
             throw new DuplicateLocationException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -57,6 +77,7 @@ public class UniqueVisitList implements Iterable<Visit> {
         if (!internalList.remove(toRemove)) {
             throw new VisitNotFoundException();
         }
+        removeFromIndexes(toRemove);
     }
 
     /**
@@ -77,10 +98,14 @@ public class UniqueVisitList implements Iterable<Visit> {
         }
 
         internalList.set(index, editedVisit);
+        removeFromIndexes(target);
+        addToIndexes(editedVisit);
     }
+
     public void setVisits(UniqueVisitList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -94,6 +119,7 @@ public class UniqueVisitList implements Iterable<Visit> {
         }
 
         internalList.setAll(visits);
+        rebuildIndexes();
     }
 
     /**
@@ -103,6 +129,73 @@ public class UniqueVisitList implements Iterable<Visit> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the visits in the list ordered by {@code Visit#ORDER_BY_DATE}.
+     * Visits on the same date are in the order they were added.
+     */
+    public Iterable<Visit> inDateOrder() {
+        return () -> visitsByDate.values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * Returns the visits in the list from {@code startDate} to {@code endDate}, both inclusive, ordered by
+     * {@code Visit#ORDER_BY_DATE}. Visits on the same date are in the order they were added.
+     */
+    public Iterable<Visit> inDateOrder(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        NavigableMap<LocalDate, List<Visit>> visitsInRange = visitsByDate.subMap(startDate, true, endDate, true);
+        return () -> visitsInRange.values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * Returns the visits made by the person with {@code personId}, in the order they were added.
+     */
+    public List<Visit> getVisitsOfPerson(Index personId) {
+        requireNonNull(personId);
+        return Collections.unmodifiableList(visitsByPerson.getOrDefault(personId, List.of()));
+    }
+
+    /**
+     * Returns the visits made to the location with {@code locationId}, ordered by {@code Visit#ORDER_BY_DATE}.
+     */
+    public Iterable<Visit> getVisitsAtLocation(Index locationId) {
+        requireNonNull(locationId);
+        NavigableMap<LocalDate, List<Visit>> visitsAtLocation = visitsByLocation.getOrDefault(locationId,
+                Collections.emptyNavigableMap());
+        return () -> visitsAtLocation.values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * Returns the visits made to the location with {@code locationId} from {@code startDate} to {@code endDate}, both
+     * inclusive, ordered by {@code Visit#ORDER_BY_DATE}.
+     */
+    public Iterable<Visit> getVisitsAtLocation(Index locationId, LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(locationId, startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return List.of();
+        }
+        NavigableMap<LocalDate, List<Visit>> visitsInRange = visitsByLocation.getOrDefault(locationId,
+                Collections.emptyNavigableMap()).subMap(startDate, true, endDate, true);
+        return () -> visitsInRange.values().stream().flatMap(List::stream).iterator();
+    }
+
+    /**
+     * Returns the ids of the locations that have at least one visit in the list.
+     */
+    public Set<Index> getVisitedLocationIds() {
+        return Collections.unmodifiableSet(visitsByLocation.keySet());
+    }
+
+    /**
+     * Returns the latest date of a visit in the list, or an empty {@code Optional} if the list is empty.
+     */
+    public Optional<LocalDate> getLatestDate() {
+        return visitsByDate.isEmpty() ? Optional.empty() : Optional.of(visitsByDate.lastKey());
+    }
+
     @Override
     public Iterator<Visit> iterator() {
         return internalList.iterator();
@@ -120,15 +213,52 @@ public class UniqueVisitList implements Iterable<Visit> {
         return internalList.hashCode();
     }
 
+    private void addToIndexes(Visit visit) {
+        visitSet.add(visit);
+        visitsByDate.computeIfAbsent(visit.getDate(), unused -> new ArrayList<>()).add(visit);
+        visitsByPerson.computeIfAbsent(visit.getPerson().getId(), unused -> new ArrayList<>()).add(visit);
+        visitsByLocation.computeIfAbsent(visit.getLocation().getId(), unused -> new TreeMap<>())
+                .computeIfAbsent(visit.getDate(), unused -> new ArrayList<>()).add(visit);
+    }
+
+    private void removeFromIndexes(Visit visit) {
+        visitSet.remove(visit);
+        removeFromGroup(visitsByDate, visit.getDate(), visit);
+        removeFromGroup(visitsByPerson, visit.getPerson().getId(), visit);
+        NavigableMap<LocalDate, List<Visit>> visitsAtLocation = visitsByLocation.get(visit.getLocation().getId());
+        removeFromGroup(visitsAtLocation, visit.getDate(), visit);
+        if (visitsAtLocation.isEmpty()) {
+            visitsByLocation.remove(visit.getLocation().getId());
+        }
+    }
+
+    /**
+     * Removes {@code visit} from the group with {@code key} in {@code groups}, and removes the group if it is empty.
+     */
+    private static <K> void removeFromGroup(Map<K, List<Visit>> groups, K key, Visit visit) {
+        List<Visit> group = groups.get(key);
+        group.remove(visit);
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private void rebuildIndexes() {
+        visitSet.clear();
+        visitsByDate.clear();
+        visitsByPerson.clear();
+        visitsByLocation.clear();
+        internalList.forEach(this::addToIndexes);
+    }
+
     /**
      * Returns true if {@code visits} contains only unique visits.
      */
     private boolean visitsAreUnique(List<Visit> visits) {
-        for (int i = 0; i < visits.size() - 1; i++) {
-            for (int j = i + 1; j < visits.size(); j++) {
-                if (visits.get(i).equals(visits.get(j))) {
-                    return false;
-                }
+        Set<Visit> uniqueVisits = new HashSet<>();
+        for (Visit visit : visits) {
+            if (!uniqueVisits.add(visit)) {
+                return false;
             }
         }
         return true;
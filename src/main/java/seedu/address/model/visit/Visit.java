@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
 import java.util.Objects;
 
 import seedu.address.model.location.Location;
@@ -17,6 +18,9 @@ import seedu.address.model.person.Person;
 
 public class Visit {
 
+    /** Orders visits from the earliest to the latest date. */
+    public static final Comparator<Visit> ORDER_BY_DATE = Comparator.comparing(Visit::getDate);
+
     private final Person person;
     private final Location location;
     private final LocalDate date;
@@ -2,9 +2,13 @@ package seedu.address.model.visit;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.index.Index;
 
 /**
  * Wraps all data at the visit-book level
@@ -105,6 +109,41 @@ public class VisitBook implements ReadOnlyVisitBook {
         return visits.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Iterable<Visit> getVisitsByDate() {
+        return visits.inDateOrder();
+    }
+
+    @Override
+    public Iterable<Visit> getVisitsByDate(LocalDate startDate, LocalDate endDate) {
+        return visits.inDateOrder(startDate, endDate);
+    }
+
+    @Override
+    public List<Visit> getVisitsOfPerson(Index personId) {
+        return visits.getVisitsOfPerson(personId);
+    }
+
+    @Override
+    public Iterable<Visit> getVisitsAtLocation(Index locationId) {
+        return visits.getVisitsAtLocation(locationId);
+    }
+
+    @Override
+    public Iterable<Visit> getVisitsAtLocation(Index locationId, LocalDate startDate, LocalDate endDate) {
+        return visits.getVisitsAtLocation(locationId, startDate, endDate);
+    }
+
+    @Override
+    public Set<Index> getVisitedLocationIds() {
+        return visits.getVisitedLocationIds();
+    }
+
+    @Override
+    public Optional<LocalDate> getLatestDate() {
+        return visits.getLatestDate();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,396 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWorker;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.statistics.StatisticsSnapshot;
+import seedu.address.storage.JsonAdaptedLocation;
+import seedu.address.storage.JsonAdaptedPerson;
+import seedu.address.storage.JsonAdaptedVisit;
+
+/**
+ * Serves a JSON API over HTTP on this machine only, so that other programs can query VirusTracker while it runs.
+ *
+ * Queries are answered by a pool of threads from the immutable {@link ModelSnapshot} of the last command executed, so
+ * they never wait for the command that is running. Commands sent to the API are queued on the same
+ * {@link CommandWorker} as those entered by the user, which stays the only thread that changes the model.
+ *
+ * Since any web page open in a browser on this machine can send requests to the loopback address, requests naming
+ * another host, which a page gets by pointing its own domain at this machine, and requests sent by a page, which have
+ * an {@code Origin} header, are refused. Commands must also be sent as JSON with the token given when the server is
+ * created in the {@link #HEADER_TOKEN} header, which a web page cannot do without the token.
+ */
+public class QueryServer {
+
+    public static final int THREAD_COUNT = 4;
+
+    public static final String PATH_STATISTICS = "/statistics";
+    public static final String PATH_HIGH_RISK_LOCATIONS = "/high-risk-locations";
+    public static final String PATH_VISITS = "/visits";
+    public static final String PATH_COMMANDS = "/commands";
+    public static final Pattern PATH_CONTACTS = Pattern.compile("/persons/(?<personId>[^/]+)/contacts");
+
+    public static final String TOKEN_FILE_NAME = "queryServerToken.txt";
+    public static final String HEADER_TOKEN = "X-VirusTracker-Token";
+    public static final String CONTENT_TYPE_JSON = "application/json";
+
+    public static final String MESSAGE_NOT_FOUND = "There is no query at %1$s.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s cannot be used with %2$s.";
+    public static final String MESSAGE_UNKNOWN_PERSON = "There is no person with id %1$s.";
+    public static final String MESSAGE_MISSING_DATES = "Both dates must be given, as in " + PATH_VISITS
+            + "?from=2020-02-01&to=2020-02-29";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date cannot be after the end date.";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests must be sent to localhost or 127.0.0.1.";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests cannot be sent from web pages.";
+    public static final String MESSAGE_INVALID_TOKEN = "Commands must be sent with the token in " + TOKEN_FILE_NAME
+            + " in the " + HEADER_TOKEN + " header.";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "Commands must be sent as " + CONTENT_TYPE_JSON
+            + ".";
+    public static final String MESSAGE_EMPTY_COMMAND = "The command to execute must be sent as {\"command\" : "
+            + "\"COMMAND\"}.";
+    public static final String MESSAGE_UNAVAILABLE = "VirusTracker is stopping.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be completed: %1$s";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_UNAUTHORIZED = 401;
+    private static final int STATUS_FORBIDDEN = 403;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int STATUS_UNAVAILABLE = 503;
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Set<String> LOOPBACK_HOST_NAMES = Set.of("localhost", "127.0.0.1");
+
+    private static final Logger logger = LogsCenter.getLogger(QueryServer.class);
+
+    private final Logic logic;
+    private final CommandWorker commandWorker;
+    private final byte[] commandToken;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Creates a {@code QueryServer} that answers queries about the model of {@code logic} on {@code port} of the
+     * loopback address, and executes commands sent with {@code commandToken} with {@code commandWorker}. A
+     * {@code port} of 0 picks a free port.
+     *
+     * @throws IOException if the port cannot be used.
+     */
+    public QueryServer(Logic logic, CommandWorker commandWorker, int port, String commandToken) throws IOException {
+        requireAllNonNull(logic, commandWorker, commandToken);
+        this.logic = logic;
+        this.commandWorker = commandWorker;
+        this.commandToken = commandToken.getBytes(StandardCharsets.UTF_8);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "query-server-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Returns a new random token for sending commands, which cannot be guessed.
+     */
+    public static String generateToken() {
+        byte[] token = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(token);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+    }
+
+    /**
+     * Returns the port that the queries are served on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Starts answering queries.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving queries on " + server.getAddress());
+    }
+
+    /**
+     * Stops answering queries. The commands that were sent are left to finish on the command worker.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Stopped serving queries");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Response response;
+        try {
+            response = respond(exchange);
+        } catch (ParseException | CommandException e) {
+            response = Response.error(STATUS_BAD_REQUEST, e.getMessage());
+        } catch (RejectedExecutionException e) {
+            response = Response.error(STATUS_UNAVAILABLE, MESSAGE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response = Response.error(STATUS_UNAVAILABLE, MESSAGE_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            logger.severe("Unexpected error while answering " + exchange.getRequestURI() + ": "
+                    + StringUtil.getDetails(e));
+            response = Response.error(STATUS_INTERNAL_ERROR, String.format(MESSAGE_INTERNAL_ERROR, e));
+        }
+
+        try {
+            byte[] body = JsonUtil.toJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Response respond(HttpExchange exchange)
+            throws IOException, ParseException, CommandException, InterruptedException {
+        String method = exchange.getRequestMethod();
+        URI uri = exchange.getRequestURI();
+        Headers headers = exchange.getRequestHeaders();
+        if (!isLoopbackHost(headers.getFirst("Host"))) {
+            return Response.error(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_HOST);
+        }
+        if (headers.containsKey("Origin")) {
+            return Response.error(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+        }
+
+        String path = uri.getPath();
+        if (path.equals(PATH_COMMANDS)) {
+            if (!method.equals("POST")) {
+                return Response.error(STATUS_METHOD_NOT_ALLOWED,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+            }
+            if (!isValidToken(headers.getFirst(HEADER_TOKEN))) {
+                return Response.error(STATUS_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+            }
+            if (!isJson(headers.getFirst("Content-Type"))) {
+                return Response.error(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+            }
+            return executeCommand(exchange.getRequestBody());
+        }
+
+        Matcher contactsMatcher = PATH_CONTACTS.matcher(path);
+        boolean isQuery = contactsMatcher.matches() || path.equals(PATH_STATISTICS)
+                || path.equals(PATH_HIGH_RISK_LOCATIONS) || path.equals(PATH_VISITS);
+        if (!isQuery) {
+            return Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+        if (!method.equals("GET")) {
+            return Response.error(STATUS_METHOD_NOT_ALLOWED,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+        }
+
+        ModelSnapshot current = logic.getModelSnapshot();
+        switch (path) {
+        case PATH_STATISTICS:
+            return Response.ok(getStatistics(current));
+        case PATH_HIGH_RISK_LOCATIONS:
+            return Response.ok(current.getHighRiskLocations().stream()
+                    .map(JsonAdaptedLocation::new)
+                    .collect(Collectors.toList()));
+        case PATH_VISITS:
+            return Response.ok(getVisits(current, parseQuery(uri.getRawQuery())));
+        default:
+            return getContacts(current, contactsMatcher.group("personId"));
+        }
+    }
+
+    private Response executeCommand(InputStream requestBody)
+            throws ParseException, CommandException, InterruptedException {
+        Map<?, ?> request;
+        try {
+            request = JsonUtil.fromJsonString(new String(requestBody.readAllBytes(), StandardCharsets.UTF_8),
+                    Map.class);
+        } catch (IOException e) {
+            return Response.error(STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+        }
+        Object commandText = request == null ? null : request.get("command");
+        if (!(commandText instanceof String) || ((String) commandText).isBlank()) {
+            return Response.error(STATUS_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+        }
+
+        // The snapshot of the command is taken before it completes, so later queries see its changes.
+        CommandResult commandResult = await(commandWorker.submit(((String) commandText).trim()));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("feedback", commandResult.getFeedbackToUser());
+        return Response.ok(body);
+    }
+
+    private static Map<String, Object> getStatistics(ModelSnapshot snapshot) {
+        StatisticsSnapshot statistics = snapshot.getStatistics(LocalDate.now());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("date", statistics.getDate().toString());
+        body.put("people", statistics.getPersonCount());
+        body.put("infected", statistics.getInfectedCount());
+        body.put("quarantined", statistics.getQuarantinedCount());
+        body.put("locations", statistics.getLocationCount());
+        body.put("visits", statistics.getVisitCount());
+        return body;
+    }
+
+    private static List<JsonAdaptedVisit> getVisits(ModelSnapshot snapshot, Map<String, String> query)
+            throws ParseException {
+        if (!query.containsKey("from") || !query.containsKey("to")) {
+            throw new ParseException(MESSAGE_MISSING_DATES);
+        }
+        LocalDate startDate = ParserUtil.parseDate(query.get("from"));
+        LocalDate endDate = ParserUtil.parseDate(query.get("to"));
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        return snapshot.getVisitsBetween(startDate, endDate).stream()
+                .map(JsonAdaptedVisit::new)
+                .collect(Collectors.toList());
+    }
+
+    private static Response getContacts(ModelSnapshot snapshot, String personIdText) throws ParseException {
+        Index personId = ParserUtil.parseIndex(personIdText);
+        if (snapshot.getPerson(personId).isEmpty()) {
+            return Response.error(STATUS_NOT_FOUND, String.format(MESSAGE_UNKNOWN_PERSON, personIdText));
+        }
+
+        List<Person> contacts = snapshot.getContacts(personId);
+        return Response.ok(contacts.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if {@code host}, the Host header of a request, names the loopback address and the port served on.
+     */
+    private boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int separator = host.lastIndexOf(':');
+        return separator > 0 && LOOPBACK_HOST_NAMES.contains(host.substring(0, separator).toLowerCase())
+                && host.substring(separator + 1).equals(String.valueOf(getPort()));
+    }
+
+    private boolean isValidToken(String token) {
+        // Compared in constant time, so that the token cannot be guessed from how long the comparison takes.
+        return token != null && MessageDigest.isEqual(commandToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null
+                && contentType.split(";")[0].trim().equalsIgnoreCase(CONTENT_TYPE_JSON);
+    }
+
+    /**
+     * Waits for {@code future}, rethrowing the exception it completed with.
+     */
+    private static <T> T await(CompletableFuture<T> future)
+            throws ParseException, CommandException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * The status and JSON body of the response to a request.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        private Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(Object body) {
+            return new Response(STATUS_OK, body);
+        }
+
+        static Response error(int status, String message) {
+            Map<String, String> body = new LinkedHashMap<>();
+            body.put("error", message);
+            return new Response(status, body);
+        }
+    }
+}
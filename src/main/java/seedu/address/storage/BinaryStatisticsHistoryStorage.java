@@ -0,0 +1,296 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.statistics.StatisticsSnapshot;
+
+/**
+ * A class to access the history of statistics snapshots stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a header, followed by one record per snapshot. Each record starts with the epoch day of the
+ * snapshot and the length of the rest of the record, so that the records before a range can be skipped without
+ * being read. The counts in a record are written as variable-length integers, and the locations in it as the
+ * difference from the id of the location before, so that most counts take a single byte.
+ * An incomplete last record, such as one left by a crash while it was being written, is ignored when reading and cut
+ * off before the next record is appended. A snapshot of the same date as the last record replaces it, so that the
+ * history keeps one snapshot per day however often it is recorded.
+ *
+ * The end of the last record is remembered between appends, so the record headers are only read again when the file
+ * is not the size it was left at.
+ */
+public class BinaryStatisticsHistoryStorage implements StatisticsHistoryStorage {
+
+    public static final String FILE_NAME = "statisticshistory.bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStatisticsHistoryStorage.class);
+
+    private static final int MAGIC_NUMBER = 0x56545348;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = Integer.BYTES * 2;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES * 2;
+
+    private Path filePath;
+
+    // Where the last complete record starts and ends, and its epoch day, as last read or written. Only valid while
+    // the file is knownEnd bytes long.
+    private long knownEnd = -1;
+    private long lastRecordStart = -1;
+    private long lastRecordDay;
+
+    public BinaryStatisticsHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getStatisticsHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void appendStatisticsSnapshot(StatisticsSnapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+        FileUtil.createIfMissing(filePath);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (knownEnd != channel.size()) {
+                findLastRecord(channel);
+            }
+            long end = knownEnd;
+            // A record left half written by a crash would otherwise hide every record appended after it.
+            if (end < channel.size()) {
+                logger.warning("Removing the incomplete last record in " + filePath);
+                channel.truncate(end);
+            }
+            long day = snapshot.getDate().toEpochDay();
+            if (lastRecordStart >= 0 && lastRecordDay == day) {
+                end = lastRecordStart;
+                channel.truncate(end);
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            if (end == 0) {
+                out.writeInt(MAGIC_NUMBER);
+                out.writeInt(VERSION);
+            }
+            byte[] payload = encode(snapshot);
+            out.writeInt(Math.toIntExact(day));
+            out.writeInt(payload.length);
+            out.write(payload);
+
+            // The record is written at once, so that it is not left half written if another record fails to save.
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            long position = end;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            lastRecordStart = end + (end == 0 ? FILE_HEADER_BYTES : 0);
+            lastRecordDay = day;
+            knownEnd = position;
+        }
+    }
+
+    /**
+     * Finds where the last complete record in {@code channel} starts and ends. The end is 0 if even the header of the
+     * file is incomplete. Only the record headers are read.
+     */
+    private void findLastRecord(FileChannel channel) throws IOException {
+        long size = channel.size();
+        lastRecordStart = -1;
+        if (size < FILE_HEADER_BYTES) {
+            knownEnd = 0;
+            return;
+        }
+
+        ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        long end = FILE_HEADER_BYTES;
+        while (size - end >= RECORD_HEADER_BYTES) {
+            recordHeader.clear();
+            while (recordHeader.hasRemaining()) {
+                channel.read(recordHeader, end + recordHeader.position());
+            }
+            int length = recordHeader.getInt(Integer.BYTES);
+            if (length < 0 || size - end - RECORD_HEADER_BYTES < length) {
+                break;
+            }
+            lastRecordStart = end;
+            lastRecordDay = recordHeader.getInt(0);
+            end += RECORD_HEADER_BYTES + length;
+        }
+        knownEnd = end;
+    }
+
+    @Override
+    public List<StatisticsSnapshot> readStatisticsHistory(LocalDate startDate, LocalDate endDate)
+            throws DataConversionException, IOException {
+        requireAllNonNull(startDate, endDate);
+        if (!Files.exists(filePath) || Files.size(filePath) == 0) {
+            return new ArrayList<>();
+        }
+
+        long startDay = startDate.toEpochDay();
+        long endDay = endDate.toEpochDay();
+        Map<LocalDate, StatisticsSnapshot> snapshotsByDate = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            readHeader(in);
+            byte[] recordHeader = new byte[RECORD_HEADER_BYTES];
+            while (readRecordHeader(in, recordHeader)) {
+                DataInputStream header = new DataInputStream(new ByteArrayInputStream(recordHeader));
+                long day = header.readInt();
+                int length = header.readInt();
+                if (length < 0) {
+                    throw new DataConversionException(new IllegalValueException("Invalid record length " + length));
+                }
+                if (day > endDay) {
+                    break;
+                }
+                if (day < startDay) {
+                    if (in.skipBytes(length) < length) {
+                        break;
+                    }
+                    continue;
+                }
+
+                byte[] payload = new byte[length];
+                try {
+                    in.readFully(payload);
+                } catch (EOFException eofe) {
+                    logger.warning("Ignoring the incomplete last record in " + filePath);
+                    break;
+                }
+                LocalDate date = LocalDate.ofEpochDay(day);
+                snapshotsByDate.put(date, decode(date, payload));
+            }
+        }
+        return new ArrayList<>(snapshotsByDate.values());
+    }
+
+    private void readHeader(DataInputStream in) throws DataConversionException, IOException {
+        try {
+            int magicNumber = in.readInt();
+            int version = in.readInt();
+            if (magicNumber != MAGIC_NUMBER || version != VERSION) {
+                throw new DataConversionException(
+                        new IllegalValueException(filePath + " is not a statistics history file"));
+            }
+        } catch (EOFException eofe) {
+            throw new DataConversionException(eofe);
+        }
+    }
+
+    /**
+     * Reads the next record header into {@code recordHeader}, and returns false if there are no more records.
+     */
+    private boolean readRecordHeader(DataInputStream in, byte[] recordHeader) throws IOException {
+        int read = 0;
+        while (read < recordHeader.length) {
+            int count = in.read(recordHeader, read, recordHeader.length - read);
+            if (count < 0) {
+                if (read > 0) {
+                    logger.warning("Ignoring the incomplete last record in " + filePath);
+                }
+                return false;
+            }
+            read += count;
+        }
+        return true;
+    }
+
+    //=========== Encoding ===========================================================================================
+
+    private static byte[] encode(StatisticsSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeVarInt(out, snapshot.getPersonCount());
+        writeVarInt(out, snapshot.getInfectedCount());
+        writeVarInt(out, snapshot.getQuarantinedCount());
+        writeVarInt(out, snapshot.getLocationCount());
+        writeVarInt(out, snapshot.getVisitCount());
+
+        Map<Index, Integer> infectedVisitsByLocation = snapshot.getInfectedVisitsByLocation();
+        writeVarInt(out, infectedVisitsByLocation.size());
+        int previousId = 0;
+        for (Map.Entry<Index, Integer> entry : infectedVisitsByLocation.entrySet()) {
+            int id = entry.getKey().getZeroBased();
+            writeVarInt(out, id - previousId);
+            writeVarInt(out, entry.getValue());
+            previousId = id;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static StatisticsSnapshot decode(LocalDate date, byte[] payload) throws DataConversionException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        try {
+            int personCount = readVarInt(in);
+            int infectedCount = readVarInt(in);
+            int quarantinedCount = readVarInt(in);
+            int locationCount = readVarInt(in);
+            int visitCount = readVarInt(in);
+
+            int entryCount = readVarInt(in);
+            Map<Index, Integer> infectedVisitsByLocation = new HashMap<>();
+            int id = 0;
+            for (int i = 0; i < entryCount; i++) {
+                id += readVarInt(in);
+                infectedVisitsByLocation.put(Index.fromZeroBased(id), readVarInt(in));
+            }
+            return new StatisticsSnapshot(date, personCount, infectedCount, quarantinedCount, locationCount,
+                    visitCount, infectedVisitsByLocation);
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes a non-negative {@code value} 7 bits at a time, lowest bits first, setting the highest bit of every byte
+     * but the last.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int nextByte = in.readUnsignedByte();
+            value |= (nextByte & 0x7F) << shift;
+            if ((nextByte & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid variable-length integer");
+    }
+}
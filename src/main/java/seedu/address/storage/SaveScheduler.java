@@ -0,0 +1,153 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelSnapshot;
+
+/**
+ * Saves the latest snapshot of the model that it was given on a background thread, {@code delay} after the first
+ * snapshot that is not saved yet, so that a burst of commands within the delay is saved only once.
+ *
+ * With a zero delay, every snapshot is saved as soon as it is given, on the thread that gives it.
+ */
+class SaveScheduler {
+
+    public static final String MESSAGE_CONSTRAINTS = "The save delay cannot be negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(SaveScheduler.class);
+
+    /**
+     * Saves the books of a snapshot of the model.
+     */
+    @FunctionalInterface
+    interface BookSaver {
+        /**
+         * Saves the books of {@code snapshot} that are not the same as in {@code lastSaved}, which is the snapshot
+         * that was last saved successfully, or null if none was.
+         */
+        void save(ModelSnapshot snapshot, ModelSnapshot lastSaved) throws IOException;
+    }
+
+    private final Duration delay;
+    private final BookSaver bookSaver;
+    private final ScheduledExecutorService executor;
+    // Held for the whole of a save, so that the files are only written by one save at a time.
+    private final Object saveLock = new Object();
+
+    // Guarded by saveLock.
+    private ModelSnapshot lastSaved;
+
+    // Guarded by this, which is only ever locked after saveLock.
+    private ModelSnapshot pending;
+    private boolean isSaveScheduled;
+    private IOException failure;
+
+    /**
+     * Creates a {@code SaveScheduler} that saves with {@code bookSaver}, {@code delay} after a snapshot is scheduled.
+     */
+    SaveScheduler(Duration delay, BookSaver bookSaver) {
+        requireAllNonNull(delay, bookSaver);
+        checkArgument(!delay.isNegative(), MESSAGE_CONSTRAINTS);
+        this.delay = delay;
+        this.bookSaver = bookSaver;
+        executor = delay.isZero() ? null : Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-scheduler");
+            // Unsaved changes are flushed explicitly on exit, so the thread should not keep the app running.
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved in place of any snapshot that was scheduled but is not saved yet.
+     * @throws IOException If the delay is zero and the snapshot could not be saved, or if a save in the background
+     *     failed since the last time this was called. The snapshot is still scheduled, and saving it is retried.
+     */
+    void schedule(ModelSnapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+        IOException previousFailure;
+        synchronized (this) {
+            pending = snapshot;
+            previousFailure = failure;
+            failure = null;
+            if (executor != null && !isSaveScheduled) {
+                isSaveScheduled = true;
+                executor.schedule(this::saveInBackground, delay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (executor == null) {
+            savePending();
+        }
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Saves the snapshot that was scheduled but is not saved yet, if any, on this thread.
+     * @throws IOException If the snapshot could not be saved.
+     */
+    void flush() throws IOException {
+        savePending();
+    }
+
+    private void saveInBackground() {
+        synchronized (this) {
+            isSaveScheduled = false;
+        }
+        // The failure is recorded before the lock is let go, so that a flush after this save sees it.
+        synchronized (saveLock) {
+            try {
+                savePending();
+            } catch (IOException ioe) {
+                logger.warning("Could not save data to file: " + ioe);
+                synchronized (this) {
+                    failure = ioe;
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves the pending snapshot. If it could not be saved, it stays pending unless a later one was scheduled since.
+     */
+    private void savePending() throws IOException {
+        synchronized (saveLock) {
+            ModelSnapshot snapshot;
+            synchronized (this) {
+                snapshot = pending;
+                pending = null;
+            }
+            if (snapshot == null) {
+                return;
+            }
+
+            try {
+                bookSaver.save(snapshot, lastSaved);
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (pending == null) {
+                        pending = snapshot;
+                    }
+                }
+                throw ioe;
+            }
+            lastSaved = snapshot;
+            synchronized (this) {
+                // The failure is of no concern anymore, since the snapshot it failed to save is now superseded.
+                failure = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.statistics.StatisticsSnapshot;
+
+/**
+ * Represents a storage for the history of {@link StatisticsSnapshot}s, which can only be appended to.
+ */
+public interface StatisticsHistoryStorage {
+
+    /**
+     * Returns the file path of the history file.
+     */
+    Path getStatisticsHistoryFilePath();
+
+    /**
+     * Appends {@code snapshot} to the history. Snapshots must be appended in order of date.
+     * A later snapshot of the same date replaces the earlier one, so that the history keeps one snapshot per day.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendStatisticsSnapshot(StatisticsSnapshot snapshot) throws IOException;
+
+    /**
+     * Returns the snapshots from {@code startDate} to {@code endDate}, both inclusive, ordered by date.
+     * Returns an empty list if the history file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<StatisticsSnapshot> readStatisticsHistory(LocalDate startDate, LocalDate endDate)
+            throws DataConversionException, IOException;
+}
@@ -2,19 +2,25 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.StatisticsSnapshot;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends PersonBookStorage, LocationBookStorage, UserPrefsStorage, VisitBookStorage {
+public interface Storage extends PersonBookStorage, LocationBookStorage, UserPrefsStorage, VisitBookStorage,
+        StatisticsHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -48,4 +54,32 @@ public interface Storage extends PersonBookStorage, LocationBookStorage, UserPre
 
     @Override
     void saveVisitBook(ReadOnlyVisitBook visitBook) throws IOException;
+
+    /**
+     * Schedules the books in {@code snapshot} to be saved, together with any snapshot scheduled before it that is not
+     * saved yet. Only the books that changed since the last save are written.
+     * @throws IOException If the books could not be saved, now or in an earlier save in the background.
+     */
+    void scheduleSave(ModelSnapshot snapshot) throws IOException;
+
+    /**
+     * Saves the snapshot that was scheduled but is not saved yet, if any, before returning.
+     * @throws IOException If the books could not be saved.
+     */
+    void flushSaves() throws IOException;
+
+    /**
+     * Records how long each book took to write, when saved after being scheduled, in {@code commandMetrics}.
+     */
+    void setSaveMetrics(CommandMetrics commandMetrics);
+
+    @Override
+    Path getStatisticsHistoryFilePath();
+
+    @Override
+    void appendStatisticsSnapshot(StatisticsSnapshot snapshot) throws IOException;
+
+    @Override
+    List<StatisticsSnapshot> readStatisticsHistory(LocalDate startDate, LocalDate endDate)
+            throws DataConversionException, IOException;
 }
@@ -1,16 +1,25 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
+import seedu.address.model.metrics.CommandMetrics.Measure;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.StatisticsSnapshot;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 
 /**
@@ -18,23 +27,48 @@ import seedu.address.model.visit.ReadOnlyVisitBook;
  */
 public class StorageManager implements Storage {
 
+    /** The names under which the time taken to save each book in the background is recorded. */
+    public static final String SAVE_PERSON_BOOK = "(save person book)";
+    public static final String SAVE_LOCATION_BOOK = "(save location book)";
+    public static final String SAVE_VISIT_BOOK = "(save visit book)";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private PersonBookStorage personBookStorage;
     private LocationBookStorage locationBookStorage;
     private VisitBookStorage visitBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private StatisticsHistoryStorage statisticsHistoryStorage;
+    private final SaveScheduler saveScheduler;
+    // Set on the thread that schedules saves, but read on the thread that saves them.
+    private volatile CommandMetrics saveMetrics;
 
     /**
      * Creates a {@code StorageManager} with the given {@code PersonBookStorage}, {@code LocationBookStorage},
-     * {@code VisitBookStorage} and {@code UserPrefStorage}.
+     * {@code VisitBookStorage}, {@code UserPrefStorage} and {@code StatisticsHistoryStorage}, which saves scheduled
+     * snapshots as soon as they are scheduled.
      */
     public StorageManager(PersonBookStorage personBookStorage, LocationBookStorage locationBookStorage,
-                          UserPrefsStorage userPrefsStorage, VisitBookStorage visitBookStorage) {
+                          UserPrefsStorage userPrefsStorage, VisitBookStorage visitBookStorage,
+                          StatisticsHistoryStorage statisticsHistoryStorage) {
+        this(personBookStorage, locationBookStorage, userPrefsStorage, visitBookStorage, statisticsHistoryStorage,
+                Duration.ZERO);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code PersonBookStorage}, {@code LocationBookStorage},
+     * {@code VisitBookStorage}, {@code UserPrefStorage} and {@code StatisticsHistoryStorage}, which saves scheduled
+     * snapshots in the background {@code saveDelay} after they are scheduled.
+     */
+    public StorageManager(PersonBookStorage personBookStorage, LocationBookStorage locationBookStorage,
+                          UserPrefsStorage userPrefsStorage, VisitBookStorage visitBookStorage,
+                          StatisticsHistoryStorage statisticsHistoryStorage, Duration saveDelay) {
         super();
         this.personBookStorage = personBookStorage;
         this.locationBookStorage = locationBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.visitBookStorage = visitBookStorage;
+        this.statisticsHistoryStorage = statisticsHistoryStorage;
+        this.saveScheduler = new SaveScheduler(saveDelay, this::saveChangedBooks);
     }
 
     // ================ UserPrefs methods ==============================
@@ -141,4 +175,71 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         visitBookStorage.saveVisitBook(visitBook, filePath);
     }
+
+    // ================ Scheduled save methods ==============================
+
+    @Override
+    public void scheduleSave(ModelSnapshot snapshot) throws IOException {
+        saveScheduler.schedule(snapshot);
+    }
+
+    @Override
+    public void flushSaves() throws IOException {
+        saveScheduler.flush();
+    }
+
+    /**
+     * Saves the books of {@code snapshot} that changed since {@code lastSaved}, or all of them if {@code lastSaved} is
+     * null.
+     */
+    private void saveChangedBooks(ModelSnapshot snapshot, ModelSnapshot lastSaved) throws IOException {
+        if (lastSaved == null || !snapshot.hasSamePersonsAs(lastSaved)) {
+            long saveStart = System.nanoTime();
+            saveAddressBook(snapshot.getPersonBook());
+            recordSaveTime(SAVE_PERSON_BOOK, saveStart);
+        }
+        if (lastSaved == null || !snapshot.hasSameLocationsAs(lastSaved)) {
+            long saveStart = System.nanoTime();
+            saveLocationBook(snapshot.getLocationBook());
+            recordSaveTime(SAVE_LOCATION_BOOK, saveStart);
+        }
+        if (lastSaved == null || !snapshot.hasSameVisitsAs(lastSaved)) {
+            long saveStart = System.nanoTime();
+            saveVisitBook(snapshot.getVisitBook());
+            recordSaveTime(SAVE_VISIT_BOOK, saveStart);
+        }
+    }
+
+    private void recordSaveTime(String bookName, long saveStart) {
+        CommandMetrics commandMetrics = saveMetrics;
+        if (commandMetrics != null) {
+            commandMetrics.record(bookName, Measure.BACKGROUND_SAVE_TIME, System.nanoTime() - saveStart);
+        }
+    }
+
+    @Override
+    public void setSaveMetrics(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        saveMetrics = commandMetrics;
+    }
+
+    // ================ Statistics history methods ==============================
+
+    @Override
+    public Path getStatisticsHistoryFilePath() {
+        return statisticsHistoryStorage.getStatisticsHistoryFilePath();
+    }
+
+    @Override
+    public void appendStatisticsSnapshot(StatisticsSnapshot snapshot) throws IOException {
+        logger.fine("Attempting to append to data file: " + getStatisticsHistoryFilePath());
+        statisticsHistoryStorage.appendStatisticsSnapshot(snapshot);
+    }
+
+    @Override
+    public List<StatisticsSnapshot> readStatisticsHistory(LocalDate startDate, LocalDate endDate)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + getStatisticsHistoryFilePath());
+        return statisticsHistoryStorage.readStatisticsHistory(startDate, endDate);
+    }
 }
@@ -0,0 +1,418 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Generates persons, locations and visits for trying out the app with large amounts of data, and writes them straight
+ * to the JSON files that the app stores its data in and to the CSV files that it imports.
+ *
+ * The same seed always generates the same data. Each person and location is generated from the seed and its id
+ * alone, so the data is written one entity at a time without building the model. How popular the locations are
+ * follows a Zipfian distribution, so location 1 is visited the most, and the visits are spread evenly over the days
+ * from the first date. Infected persons are also quarantined.
+ *
+ * Only the visits of one location on one day are kept in memory while the visits are written, so a data set with
+ * more visits than fit in memory can still be generated.
+ */
+public class SyntheticDataGenerator {
+
+    public static final String MESSAGE_CONSTRAINTS = "There must be at least one person, location and day, "
+            + "the number of visits and the Zipfian exponent must not be negative, "
+            + "and the infection rate must be from 0 to 1.";
+    public static final String MESSAGE_TOO_MANY_VISITS = "There are fewer than %1$d different visits to generate.";
+    public static final String MESSAGE_USAGE = "Parameters: OUTPUT_DIRECTORY SEED PERSONS LOCATIONS VISITS\n"
+            + "Example: data 42 100000 10000 500000";
+
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+    public static final LocalDate DEFAULT_FIRST_DATE = LocalDate.of(2020, 10, 1);
+    public static final int DEFAULT_DAY_COUNT = 30;
+    public static final double DEFAULT_INFECTION_RATE = 0.05;
+
+    public static final String PERSON_BOOK_FILE_NAME = "personbook.json";
+    public static final String LOCATION_BOOK_FILE_NAME = "locationbook.json";
+    public static final String VISIT_BOOK_FILE_NAME = "visitbook.json";
+    public static final String PERSONS_CSV_FILE_NAME = "persons.csv";
+    public static final String LOCATIONS_CSV_FILE_NAME = "locations.csv";
+    public static final String VISITS_CSV_FILE_NAME = "visits.csv";
+
+    private static final Logger logger = LogsCenter.getLogger(SyntheticDataGenerator.class);
+
+    // Spreads the seeds of neighbouring ids apart, so that their random numbers are not alike.
+    private static final long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+    private static final int PERSON_SALT = 0;
+    private static final int LOCATION_SALT = 1;
+    private static final long FIRST_PHONE = 80000000;
+
+    private static final List<String> FIRST_NAMES = Arrays.asList("Alex", "Bernice", "Charlotte", "David", "Irfan",
+            "Roy", "Wei Ling", "Siti", "Arjun", "Mei Xin", "Hafiz", "Priya", "Jun Jie", "Nur Aisyah", "Kumar", "Grace");
+    private static final List<String> LAST_NAMES = Arrays.asList("Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim",
+            "Balakrishnan", "Tan", "Lim", "Ng", "Rahman", "Pillai", "Wong", "Chua", "Goh", "Nair", "Teo");
+    private static final List<String> STREETS = Arrays.asList("Geylang Street", "Serangoon Gardens Street",
+            "Ang Mo Kio Avenue", "Tampines Street", "Aljunied Street", "Clementi Avenue", "Jurong West Street",
+            "Bedok North Road", "Woodlands Drive", "Yishun Ring Road");
+    private static final List<String> LOCATION_KINDS = Arrays.asList("Hawker Centre", "Mall", "Clinic", "Library",
+            "Supermarket", "Gym", "Community Club", "Food Court", "MRT Station", "Cinema");
+
+    private final long seed;
+    private final int personCount;
+    private final int locationCount;
+    private final int visitCount;
+    private final double zipfExponent;
+    private final LocalDate firstDate;
+    private final int dayCount;
+    private final double infectionRate;
+
+    /**
+     * Creates a generator of {@code visitCount} visits by {@code personCount} persons to {@code locationCount}
+     * locations, with the default popularity of locations, dates and infection rate.
+     */
+    public SyntheticDataGenerator(long seed, int personCount, int locationCount, int visitCount) {
+        this(seed, personCount, locationCount, visitCount, DEFAULT_ZIPF_EXPONENT, DEFAULT_FIRST_DATE,
+                DEFAULT_DAY_COUNT, DEFAULT_INFECTION_RATE);
+    }
+
+    /**
+     * Creates a generator of {@code visitCount} visits by {@code personCount} persons to {@code locationCount}
+     * locations, on the {@code dayCount} days from {@code firstDate}.
+     *
+     * @param zipfExponent How much more popular popular locations are, where 0 makes every location as popular.
+     * @param infectionRate The chance of each person being infected, from 0 to 1.
+     */
+    public SyntheticDataGenerator(long seed, int personCount, int locationCount, int visitCount, double zipfExponent,
+                                  LocalDate firstDate, int dayCount, double infectionRate) {
+        requireNonNull(firstDate);
+        checkArgument(personCount > 0 && locationCount > 0 && dayCount > 0 && visitCount >= 0 && zipfExponent >= 0
+                && infectionRate >= 0 && infectionRate <= 1, MESSAGE_CONSTRAINTS);
+        checkArgument((double) personCount * locationCount * dayCount >= visitCount,
+                String.format(MESSAGE_TOO_MANY_VISITS, visitCount));
+        this.seed = seed;
+        this.personCount = personCount;
+        this.locationCount = locationCount;
+        this.visitCount = visitCount;
+        this.zipfExponent = zipfExponent;
+        this.firstDate = firstDate;
+        this.dayCount = dayCount;
+        this.infectionRate = infectionRate;
+    }
+
+    /**
+     * Writes every generated file to {@code directory}, with the names the app gives its data files.
+     */
+    public void writeAll(Path directory) throws IOException {
+        requireNonNull(directory);
+        writePersonBook(directory.resolve(PERSON_BOOK_FILE_NAME));
+        writeLocationBook(directory.resolve(LOCATION_BOOK_FILE_NAME));
+        writeVisitBook(directory.resolve(VISIT_BOOK_FILE_NAME));
+        writePersonsCsv(directory.resolve(PERSONS_CSV_FILE_NAME));
+        writeLocationsCsv(directory.resolve(LOCATIONS_CSV_FILE_NAME));
+        writeVisitsCsv(directory.resolve(VISITS_CSV_FILE_NAME));
+    }
+
+    /**
+     * Writes the persons to {@code filePath} in the format of a person book.
+     */
+    public void writePersonBook(Path filePath) throws IOException {
+        writeJson(filePath, "persons", personCount, id -> generatePerson(id).toJsonAdapted());
+    }
+
+    /**
+     * Writes the locations to {@code filePath} in the format of a location book.
+     */
+    public void writeLocationBook(Path filePath) throws IOException {
+        writeJson(filePath, "locations", locationCount, id -> generateLocation(id).toJsonAdapted());
+    }
+
+    /**
+     * Writes the visits to {@code filePath} in the format of a visit book.
+     */
+    public void writeVisitBook(Path filePath) throws IOException {
+        VisitSampler visitSampler = new VisitSampler();
+        writeJson(filePath, "visits", visitCount, unused -> visitSampler.next().toJsonAdapted());
+    }
+
+    /**
+     * Writes the persons to {@code filePath} in the format that persons are imported from CSV files.
+     */
+    public void writePersonsCsv(Path filePath) throws IOException {
+        writeCsv(filePath, personCount, id -> generatePerson(id).toCsvRow());
+    }
+
+    /**
+     * Writes the locations to {@code filePath} in the format that locations are imported from CSV files.
+     */
+    public void writeLocationsCsv(Path filePath) throws IOException {
+        writeCsv(filePath, locationCount, id -> generateLocation(id).toCsvRow());
+    }
+
+    /**
+     * Writes the visits to {@code filePath} in the format that visits are imported from CSV files.
+     * The persons and locations are referred to by their ids, which are also their positions in the CSV files.
+     */
+    public void writeVisitsCsv(Path filePath) throws IOException {
+        VisitSampler visitSampler = new VisitSampler();
+        writeCsv(filePath, visitCount, unused -> visitSampler.next().toCsvRow());
+    }
+
+    /**
+     * Writes a JSON object to {@code filePath} with an array named {@code arrayName} of the {@code count} entities
+     * with the ids 1 to {@code count}.
+     */
+    private static void writeJson(Path filePath, String arrayName, int count, IntFunction<Object> entityWithId)
+            throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (Writer writer = Files.newBufferedWriter(filePath);
+             JsonGenerator generator = JsonUtil.createJsonGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayName);
+            for (int id = 1; id <= count; id++) {
+                generator.writeObject(entityWithId.apply(id));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes the rows of the {@code count} entities with the ids 1 to {@code count} to {@code filePath}.
+     */
+    private static void writeCsv(Path filePath, int count, IntFunction<String> rowWithId) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
+            for (int id = 1; id <= count; id++) {
+                writer.write(rowWithId.apply(id));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Returns the random numbers that the entity with {@code id} is generated from.
+     */
+    private SplittableRandom randomFor(int id, int salt) {
+        return new SplittableRandom(seed + (2L * id + salt) * SEED_MULTIPLIER);
+    }
+
+    private GeneratedPerson generatePerson(int id) {
+        SplittableRandom random = randomFor(id, PERSON_SALT);
+        String firstName = pick(random, FIRST_NAMES);
+        String name = firstName + " " + pick(random, LAST_NAMES);
+        String email = firstName.toLowerCase().replace(" ", "") + id + "@example.com";
+        String address = String.format("Blk %d %s %d, #%02d-%02d", random.nextInt(1, 1000), pick(random, STREETS),
+                random.nextInt(1, 100), random.nextInt(1, 30), random.nextInt(1, 100));
+        boolean isInfected = random.nextDouble() < infectionRate;
+        return new GeneratedPerson(id, name, String.valueOf(FIRST_PHONE + id), email, address, isInfected);
+    }
+
+    private GeneratedLocation generateLocation(int id) {
+        SplittableRandom random = randomFor(id, LOCATION_SALT);
+        String street = pick(random, STREETS);
+        String name = street + " " + pick(random, LOCATION_KINDS) + " " + id;
+        String address = String.format("%d %s, Singapore %06d", random.nextInt(1, 1000), street,
+                random.nextInt(10000, 830000));
+        return new GeneratedLocation(id, name, address);
+    }
+
+    private static String pick(SplittableRandom random, List<String> choices) {
+        return choices.get(random.nextInt(choices.size()));
+    }
+
+    /**
+     * Returns {@code field} in quotes, as it may contain commas.
+     */
+    private static String quote(String field) {
+        return "\"" + field + "\"";
+    }
+
+    /**
+     * Picks the visits one after another, day by day and location by location. Every sampler of the same generator
+     * picks the same visits in the same order, and never picks the same visit twice.
+     *
+     * The visits are first shared out among the locations by their popularity, with no location given more visits
+     * than it can have from different persons, and each location's visits are spread evenly over the days. The
+     * persons visiting a location on a day are then drawn without replacement, so only the persons of one location
+     * and day are kept at a time, and every draw gives a visit.
+     */
+    private class VisitSampler {
+        private final SplittableRandom random = new SplittableRandom(seed);
+        private final int[] visitsOfLocation = new int[locationCount];
+
+        private int day;
+        private int locationIndex = -1;
+        // The persons drawn for the current location and day, and how many of them have been picked.
+        private int[] personIndexes = new int[0];
+        private int personsPicked;
+
+        private VisitSampler() {
+            double[] popularity = new double[locationCount];
+            double remainingPopularity = 0;
+            for (int i = 0; i < locationCount; i++) {
+                popularity[i] = 1 / Math.pow(i + 1, zipfExponent);
+                remainingPopularity += popularity[i];
+            }
+
+            long visitsPerLocationLimit = (long) personCount * dayCount;
+            long remainingVisits = visitCount;
+            // The locations are from the most to the least popular, so the ones that reach the limit come first.
+            for (int i = 0; i < locationCount; i++) {
+                long share = Math.round(remainingVisits * popularity[i] / remainingPopularity);
+                // Takes more if the less popular locations cannot have the rest, which rounding can cause.
+                long leastShare = remainingVisits - visitsPerLocationLimit * (locationCount - i - 1);
+                visitsOfLocation[i] = (int) Math.min(visitsPerLocationLimit,
+                        Math.max(leastShare, Math.min(share, remainingVisits)));
+                remainingVisits -= visitsOfLocation[i];
+                remainingPopularity -= popularity[i];
+            }
+            assert remainingVisits == 0;
+        }
+
+        private GeneratedVisit next() {
+            while (personsPicked == personIndexes.length) {
+                drawPersonsOfNextLocation();
+            }
+            int personId = personIndexes[personsPicked++] + 1;
+            return new GeneratedVisit(generatePerson(personId), generateLocation(locationIndex + 1),
+                    firstDate.plusDays(day));
+        }
+
+        private void drawPersonsOfNextLocation() {
+            locationIndex++;
+            if (locationIndex == locationCount) {
+                locationIndex = 0;
+                day++;
+            }
+            assert day < dayCount : "Only as many visits as were shared out are picked";
+
+            int visits = visitsOfLocation[locationIndex] / dayCount
+                    + (day < visitsOfLocation[locationIndex] % dayCount ? 1 : 0);
+            personIndexes = drawWithoutReplacement(visits, personCount);
+            personsPicked = 0;
+        }
+
+        /**
+         * Returns {@code count} different numbers from 0 to {@code bound} - 1, in {@code count} draws.
+         */
+        private int[] drawWithoutReplacement(int count, int bound) {
+            // Robert Floyd's algorithm: a number that was drawn already is replaced by the largest one that can be.
+            int[] drawn = new int[count];
+            Set<Integer> isDrawn = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                int largest = bound - count + i;
+                int number = random.nextInt(largest + 1);
+                if (!isDrawn.add(number)) {
+                    // The largest number cannot have been drawn yet, as it was out of range for the earlier draws.
+                    number = largest;
+                    isDrawn.add(number);
+                }
+                drawn[i] = number;
+            }
+            return drawn;
+        }
+    }
+
+    private static class GeneratedPerson {
+        private final int id;
+        private final String name;
+        private final String phone;
+        private final String email;
+        private final String address;
+        private final boolean isInfected;
+
+        private GeneratedPerson(int id, String name, String phone, String email, String address, boolean isInfected) {
+            this.id = id;
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.isInfected = isInfected;
+        }
+
+        private JsonAdaptedPerson toJsonAdapted() {
+            return new JsonAdaptedPerson(name, phone, email, address, String.valueOf(isInfected),
+                    String.valueOf(isInfected), String.valueOf(id), null);
+        }
+
+        private String toCsvRow() {
+            return String.join(",", name, phone, email, quote(address), String.valueOf(isInfected),
+                    String.valueOf(isInfected));
+        }
+    }
+
+    private static class GeneratedLocation {
+        private final int id;
+        private final String name;
+        private final String address;
+
+        private GeneratedLocation(int id, String name, String address) {
+            this.id = id;
+            this.name = name;
+            this.address = address;
+        }
+
+        private JsonAdaptedLocation toJsonAdapted() {
+            return new JsonAdaptedLocation(name, address, String.valueOf(id));
+        }
+
+        private String toCsvRow() {
+            return String.join(",", name, quote(address));
+        }
+    }
+
+    private static class GeneratedVisit {
+        private final GeneratedPerson person;
+        private final GeneratedLocation location;
+        private final LocalDate date;
+
+        private GeneratedVisit(GeneratedPerson person, GeneratedLocation location, LocalDate date) {
+            this.person = person;
+            this.location = location;
+            this.date = date;
+        }
+
+        private JsonAdaptedVisit toJsonAdapted() {
+            return new JsonAdaptedVisit(person.name, person.phone, person.email, person.address,
+                    String.valueOf(person.isInfected), String.valueOf(person.isInfected), String.valueOf(person.id),
+                    null, location.name, location.address, String.valueOf(location.id), date.toString());
+        }
+
+        private String toCsvRow() {
+            return String.join(",", String.valueOf(person.id), String.valueOf(location.id), date.toString());
+        }
+    }
+
+    /**
+     * Writes a synthetic data set to a directory, with the parameters in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 5) {
+            throw new IllegalArgumentException(MESSAGE_USAGE);
+        }
+        Path directory = Paths.get(args[0]);
+        new SyntheticDataGenerator(Long.parseLong(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                Integer.parseInt(args[4])).writeAll(directory);
+        logger.info("Synthetic data written to " + directory.toAbsolutePath());
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -17,18 +19,22 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final Runnable commandCanceller;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which cancels the running command with
+     * {@code commandCanceller} when Esc is pressed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, Runnable commandCanceller) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCanceller = commandCanceller;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventHandler(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -36,11 +42,27 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        String commandText = commandTextField.getText();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error == null) {
+                return;
+            }
+            // Gives the failed command back to be corrected, unless another one is being typed
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+            }
             setStyleToIndicateCommandFailure();
+        });
+    }
+
+    /**
+     * Handles the Esc button pressed event by cancelling the running command.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE) {
+            commandCanceller.run();
+            event.consume();
         }
     }
 
@@ -70,11 +92,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns the result, which is completed on the JavaFX application thread
+         * when the command is done.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -0,0 +1,125 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list in the model that is only changed on the JavaFX application thread, so that the list can be shown
+ * while commands change the model on the background thread.
+ *
+ * The changes to the list in the model are logged on the background thread as they happen, and the update taken
+ * replays them on the copy, so that a command that adds one item to a long list does not copy the whole list. Once
+ * the log holds more items than the list itself, or more changes than are cheap to replay one by one, the log is
+ * dropped and the update copies the whole list instead.
+ */
+public class ListMirror<T> {
+
+    /** The most changes that are replayed one by one, since each one may shift the rest of the copy. */
+    public static final int MAX_LOGGED_CHANGES = 64;
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+
+    // Only used on the thread that changes the model.
+    private List<LoggedChange<T>> changeLog = new ArrayList<>();
+    private int loggedItemCount;
+    private boolean isOverflowed;
+
+    /**
+     * Creates a {@code ListMirror} of {@code source}, which must not be changed while this is being created.
+     */
+    public ListMirror(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::logChange);
+    }
+
+    /** Returns an unmodifiable view of the copy, to be shown in the user interface. */
+    public ObservableList<T> getMirror() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Takes the changes to the list in the model since the last update. This must be called on the thread that
+     * changes the model.
+     *
+     * @return the update to run on the JavaFX application thread, or null if there is nothing to update.
+     */
+    public Runnable takeUpdate() {
+        if (isOverflowed) {
+            List<T> copy = new ArrayList<>(source);
+            clearLog();
+            return () -> mirror.setAll(copy);
+        }
+        if (changeLog.isEmpty()) {
+            return null;
+        }
+
+        List<LoggedChange<T>> changes = changeLog;
+        clearLog();
+        return () -> changes.forEach(change -> change.replay(mirror));
+    }
+
+    private void logChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next() && !isOverflowed) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // Both leave the same number of items in place, which are copied again.
+                log(new LoggedChange<>(from, change.getTo() - from, source.subList(from, change.getTo())));
+            } else {
+                log(new LoggedChange<>(from, change.getRemovedSize(), change.getAddedSubList()));
+            }
+        }
+    }
+
+    private void log(LoggedChange<T> change) {
+        changeLog.add(change);
+        loggedItemCount += change.added.size();
+        if (changeLog.size() > MAX_LOGGED_CHANGES || loggedItemCount > source.size()) {
+            isOverflowed = true;
+            changeLog = new ArrayList<>();
+        }
+    }
+
+    private void clearLog() {
+        changeLog = new ArrayList<>();
+        loggedItemCount = 0;
+        isOverflowed = false;
+    }
+
+    /**
+     * A change that replaces {@code removedSize} items from {@code from} in the copy with {@code added}.
+     */
+    private static class LoggedChange<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        LoggedChange(int from, int removedSize, List<? extends T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            // The added items are copied, since the list in the model may change again before this is replayed.
+            this.added = new ArrayList<>(added);
+        }
+
+        void replay(ObservableList<T> mirror) {
+            if (removedSize == added.size()) {
+                for (int i = 0; i < removedSize; i++) {
+                    mirror.set(from + i, added.get(i));
+                }
+                return;
+            }
+            mirror.remove(from, from + removedSize);
+            mirror.addAll(from, added);
+        }
+    }
+}
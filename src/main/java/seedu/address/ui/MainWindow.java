@@ -1,7 +1,13 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +18,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandWorker;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
 import seedu.address.ui.list.LocationListPanel;
 import seedu.address.ui.list.PersonListPanel;
 import seedu.address.ui.list.VisitListPanel;
@@ -26,12 +34,18 @@ import seedu.address.ui.list.VisitListPanel;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_PROGRESS = "Running %1$s: %2$d of %3$d done. Press Esc to cancel.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandWorker commandWorker;
+    private ListMirror<Person> personListMirror;
+    private ListMirror<Location> locationListMirror;
+    private ListMirror<Visit> visitListMirror;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -56,14 +70,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, which executes its commands with
+     * {@code commandWorker}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandWorker commandWorker) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandWorker = commandWorker;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -115,11 +131,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // The lists in the model are changed by the command worker, so the panels show copies of them instead.
+        personListMirror = new ListMirror<>(logic.getFilteredPersonList());
+        locationListMirror = new ListMirror<>(logic.getFilteredLocationList());
+        visitListMirror = new ListMirror<>(logic.getFilteredVisitList());
+
+        personListPanel = new PersonListPanel(personListMirror.getMirror());
         listPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        locationListPanel = new LocationListPanel(logic.getFilteredLocationList());
-        visitListPanel = new VisitListPanel(logic.getFilteredVisitList());
+        locationListPanel = new LocationListPanel(locationListMirror.getMirror());
+        visitListPanel = new VisitListPanel(visitListMirror.getMirror());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -127,7 +148,9 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getPersonBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandWorker.setModelPublisher(this::publishModelChanges);
+        commandWorker.setProgressListener(this::showProgress);
+        CommandBox commandBox = new CommandBox(this::executeCommand, commandWorker::cancel);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -176,13 +199,36 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Copies the lists in the model that have changed to the lists shown, in one batch on the JavaFX application
+     * thread. This is called on the command worker's thread.
+     */
+    private void publishModelChanges() {
+        List<Runnable> updates = Stream.of(personListMirror, locationListMirror, visitListMirror)
+                .map(ListMirror::takeUpdate)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        if (!updates.isEmpty()) {
+            Platform.runLater(() -> updates.forEach(Runnable::run));
+        }
+    }
+
+    private void showProgress(String commandText, long done, long total) {
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_PROGRESS, commandText, done, total));
+    }
+
+    /**
+     * Executes the command on the command worker and shows the result when it is done.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandWorker.submit(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info("Invalid command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -208,12 +254,6 @@ public class MainWindow extends UiPart<Stage> {
                 listPanelPlaceholder.getChildren().clear();
                 listPanelPlaceholder.getChildren().add(visitListPanel.getRoot());
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
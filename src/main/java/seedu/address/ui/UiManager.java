@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWorker;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,14 +24,17 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/virus_32.png";
 
     private Logic logic;
+    private CommandWorker commandWorker;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which executes the commands entered with
+     * {@code commandWorker}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandWorker commandWorker) {
         super();
         this.logic = logic;
+        this.commandWorker = commandWorker;
     }
 
     @Override
@@ -41,7 +45,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandWorker);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
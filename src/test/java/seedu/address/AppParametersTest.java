@@ -37,6 +37,30 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParametersMap_success() {
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("config", "config.json");
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
+    @Test
+    public void parse_validHttpPort_success() {
+        parametersStub.namedParameters.put("http-port", "8080");
+        expected.setHttpPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidHttpPort_success() {
+        parametersStub.namedParameters.put("http-port", "65536");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("http-port", "port");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,126 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandWorker;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryStatisticsHistoryStorage;
+import seedu.address.storage.JsonLocationBookStorage;
+import seedu.address.storage.JsonPersonBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonVisitBookStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    private static final String MESSAGE_BUG = "bug";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private CommandWorker commandWorker;
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream error = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        commandWorker = createCommandWorker(new ModelManager());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandWorker.shutdown();
+    }
+
+    @Test
+    public void run_validCommands_resultsPrinted() throws Exception {
+        String commands = ClearCommand.COMMAND_WORD + "\n"
+                + "\n"
+                + "# comments are skipped\n"
+                + ListCommand.COMMAND_WORD + " l/people\n";
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(commands));
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS_ALL_PEOPLE + System.lineSeparator(), getOutput(output));
+        assertEquals("", getOutput(error));
+    }
+
+    @Test
+    public void run_invalidCommand_reportedAndLaterCommandsRun() throws Exception {
+        String commands = "frobnicate\n"
+                + ClearCommand.COMMAND_WORD + "\n";
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run(commands));
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), getOutput(output));
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 1, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator(), getOutput(error));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        String commands = ExitCommand.COMMAND_WORD + "\n"
+                + "frobnicate\n";
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, run(commands));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), getOutput(output));
+        assertEquals("", getOutput(error));
+    }
+
+    @Test
+    public void run_unexpectedError_reportedAndLaterCommandsRun() throws Exception {
+        commandWorker.shutdown();
+        commandWorker = createCommandWorker(new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw new IllegalStateException(MESSAGE_BUG);
+            }
+        });
+        String commands = ListCommand.COMMAND_WORD + " l/people\n"
+                + ClearCommand.COMMAND_WORD + "\n";
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, run(commands));
+        assertEquals(ClearCommand.MESSAGE_SUCCESS + System.lineSeparator(), getOutput(output));
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 1, String.format(
+                HeadlessApp.MESSAGE_UNEXPECTED_ERROR, new IllegalStateException(MESSAGE_BUG)))
+                + System.lineSeparator(), getOutput(error));
+    }
+
+    private CommandWorker createCommandWorker(ModelManager model) {
+        StorageManager storage = new StorageManager(
+                new JsonPersonBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonLocationBookStorage(temporaryFolder.resolve("locationBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonVisitBookStorage(temporaryFolder.resolve("visitBook.json")),
+                new BinaryStatisticsHistoryStorage(temporaryFolder.resolve("statisticsHistory.bin")));
+        return new CommandWorker(new LogicManager(model, storage), Runnable::run);
+    }
+
+    private int run(String commands) throws Exception {
+        return HeadlessApp.run(commandWorker, new BufferedReader(new StringReader(commands)),
+                new PrintStream(output, false, StandardCharsets.UTF_8),
+                new PrintStream(error, true, StandardCharsets.UTF_8));
+    }
+
+    private static String getOutput(ByteArrayOutputStream stream) {
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
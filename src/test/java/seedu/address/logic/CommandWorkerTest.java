@@ -0,0 +1,273 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.location.Location;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+public class CommandWorkerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final String COMMAND_FAIL = "fail";
+    private static final String COMMAND_ASSERTION_ERROR = "assert";
+    private static final String COMMAND_PROGRESS = "progress";
+    private static final String COMMAND_WAIT_FOR_CANCEL = "wait";
+    private static final String MESSAGE_FAILED = "failed";
+    private static final String MESSAGE_CANCELLED = "cancelled";
+
+    // The results are handed over on the worker's thread, so the events are recorded in the order they happened.
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch waitStarted = new CountDownLatch(1);
+    private final CommandWorker worker = new CommandWorker(new LogicStub(), Runnable::run);
+
+    @BeforeEach
+    public void setUp() {
+        worker.setModelPublisher(() -> events.add("publish"));
+        worker.setProgressListener((commandText, done, total) -> events.add(commandText + " " + done + "/" + total));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    public void constructor_nullLogic_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandWorker(null, Runnable::run));
+    }
+
+    @Test
+    public void submit_validCommand_modelPublishedBeforeResult() throws Exception {
+        CommandResult result = worker.submit("list").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        events.add(result.getFeedbackToUser());
+
+        assertEquals(Arrays.asList("publish", "list"), events);
+    }
+
+    @Test
+    public void submit_failingCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = worker.submit(COMMAND_FAIL);
+        assertThrows(ExecutionException.class, () -> result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Throwable error = result.handle((commandResult, e) -> e).get();
+        assertTrue(error instanceof CommandException);
+        assertEquals(MESSAGE_FAILED, error.getMessage());
+        // The changes made before the command failed are still shown
+        assertEquals(Collections.singletonList("publish"), events);
+    }
+
+    @Test
+    public void submit_commandThrowsError_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = worker.submit(COMMAND_ASSERTION_ERROR);
+        assertThrows(ExecutionException.class, () -> result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Throwable error = result.handle((commandResult, e) -> e).get();
+        assertTrue(error instanceof AssertionError);
+        assertEquals(Collections.singletonList("publish"), events);
+
+        // The worker still runs the commands submitted after it.
+        assertEquals("list", worker.submit("list").get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+    }
+
+    @Test
+    public void submit_severalCommands_executedInOrder() throws Exception {
+        CompletableFuture<CommandResult> first = worker.submit("first");
+        CompletableFuture<CommandResult> second = worker.submit("second");
+
+        assertEquals("second", second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+        assertTrue(first.isDone());
+    }
+
+    @Test
+    public void submit_slowProgress_progressReportedAfterPublishing() throws Exception {
+        worker.submit(COMMAND_PROGRESS).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        // The progress at the start is reported too soon after the command started, so it is left out
+        assertEquals(Arrays.asList("publish", COMMAND_PROGRESS + " 1/2", "publish"), events);
+    }
+
+    @Test
+    public void call_afterRunningCommand_runsAfterCommandFinishes() throws Exception {
+        worker.submit(COMMAND_WAIT_FOR_CANCEL);
+        assertTrue(waitStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> task = worker.call(() -> "task");
+
+        assertFalse(task.isDone());
+        worker.cancel();
+        assertEquals("task", task.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void cancel_runningCommand_commandStops() throws Exception {
+        CompletableFuture<CommandResult> result = worker.submit(COMMAND_WAIT_FOR_CANCEL);
+        assertTrue(waitStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertTrue(worker.cancel());
+        assertEquals(MESSAGE_CANCELLED, result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+    }
+
+    @Test
+    public void cancel_noRunningCommand_returnsFalse() throws Exception {
+        assertFalse(worker.cancel());
+
+        worker.submit("list").get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertFalse(worker.cancel());
+    }
+
+    @Test
+    public void shutdown_runningCommand_cancelledAndNoMoreCommandsAccepted() throws Exception {
+        CompletableFuture<CommandResult> result = worker.submit(COMMAND_WAIT_FOR_CANCEL);
+        assertTrue(waitStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        worker.shutdown();
+        assertEquals(MESSAGE_CANCELLED, result.getNow(null).getFeedbackToUser());
+        assertThrows(RejectedExecutionException.class, () -> worker.submit("list"));
+    }
+
+    /**
+     * A Logic stub that executes the commands of this test, and has all of its other methods failing.
+     */
+    private class LogicStub implements Logic {
+        @Override
+        public CommandResult execute(String commandText) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandResult execute(String commandText, ProgressMonitor monitor)
+                throws CommandException, ParseException {
+            switch (commandText) {
+            case COMMAND_FAIL:
+                throw new CommandException(MESSAGE_FAILED);
+            case COMMAND_ASSERTION_ERROR:
+                throw new AssertionError(MESSAGE_FAILED);
+            case COMMAND_PROGRESS:
+                monitor.setProgress(0, 2);
+                sleep(CommandWorker.PROGRESS_INTERVAL_MILLIS + 20);
+                monitor.setProgress(1, 2);
+                break;
+            case COMMAND_WAIT_FOR_CANCEL:
+                waitStarted.countDown();
+                while (!monitor.isCancelled()) {
+                    sleep(1);
+                }
+                return new CommandResult(MESSAGE_CANCELLED);
+            default:
+                break;
+            }
+            return new CommandResult(commandText);
+        }
+
+        private void sleep(long millis) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public void recordStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flushSaves() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getModelSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyPersonBook getPersonBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFilteredPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getPersonBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyLocationBook getLocationBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Location> getFilteredLocationList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getLocationBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyVisitBook getVisitBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Visit> getFilteredVisitList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getVisitBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
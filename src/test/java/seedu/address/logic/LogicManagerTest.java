@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -14,11 +16,19 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -28,9 +38,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
+import seedu.address.model.metrics.CommandMetrics.Measure;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.StatisticsSnapshot;
 import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.storage.BinaryStatisticsHistoryStorage;
 import seedu.address.storage.JsonLocationBookStorage;
 import seedu.address.storage.JsonPersonBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -45,6 +59,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -56,8 +71,10 @@ public class LogicManagerTest {
         JsonVisitBookStorage visitBookStorage =
                 new JsonVisitBookStorage(temporaryFolder.resolve("visitBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, locationBookStorage,
-                userPrefsStorage, visitBookStorage);
+        BinaryStatisticsHistoryStorage statisticsHistoryStorage =
+                new BinaryStatisticsHistoryStorage(temporaryFolder.resolve("statisticsHistory.bin"));
+        storage = new StorageManager(addressBookStorage, locationBookStorage,
+                userPrefsStorage, visitBookStorage, statisticsHistoryStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -90,8 +107,10 @@ public class LogicManagerTest {
                 new JsonVisitBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionVisitBook.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        BinaryStatisticsHistoryStorage statisticsHistoryStorage =
+                new BinaryStatisticsHistoryStorage(temporaryFolder.resolve("ioExceptionStatisticsHistory.bin"));
         StorageManager storage = new StorageManager(addressBookStorage, locationBookStorage,
-                userPrefsStorage, visitBookStorage);
+                userPrefsStorage, visitBookStorage, statisticsHistoryStorage);
         logic = new LogicManager(model, storage);
 
         // Execute add command
@@ -105,6 +124,52 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_firstCommandOfNewDay_statisticsOfPreviousDayRecorded() throws Exception {
+        LocalDate firstDate = LocalDate.parse("2020-09-12");
+        SettableClock clock = new SettableClock(firstDate);
+        logic = new LogicManager(model, storage, clock);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(Collections.emptyList(), storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+
+        clock.setDate(firstDate.plusDays(1));
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        StatisticsSnapshot expectedSnapshot = model.getInfoHandler().getStatisticsSnapshot(firstDate);
+        assertEquals(Collections.singletonList(expectedSnapshot),
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+
+        logic.recordStatistics();
+        assertEquals(Arrays.asList(expectedSnapshot, model.getInfoHandler().getStatisticsSnapshot(
+                firstDate.plusDays(1))), storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void execute_validCommand_metricsRecordedForCommandWord() throws Exception {
+        logic.execute(ClearCommand.COMMAND_WORD);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        String metrics = model.getCommandMetrics().toCsv();
+        assertTrue(metrics.contains(ClearCommand.COMMAND_WORD + "," + Measure.PARSE_TIME.name() + ",NANOSECONDS,2,"));
+        assertTrue(metrics.contains(ClearCommand.COMMAND_WORD + "," + Measure.SAVE_TIME.name()
+                + ",NANOSECONDS,2,"));
+        assertTrue(metrics.contains(StorageManager.SAVE_PERSON_BOOK + "," + Measure.BACKGROUND_SAVE_TIME.name()
+                + ",NANOSECONDS,"));
+    }
+
+    @Test
+    public void execute_commandAfterSaveInterval_metricsSaved() throws Exception {
+        LocalDate firstDate = LocalDate.parse("2020-09-12");
+        SettableClock clock = new SettableClock(firstDate);
+        logic = new LogicManager(model, storage, clock);
+        Path metricsFilePath = temporaryFolder.resolve(CommandMetrics.FILE_NAME);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertFalse(FileUtil.isFileExists(metricsFilePath));
+
+        clock.setDate(firstDate.plusDays(1));
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(model.getCommandMetrics().toCsv(), FileUtil.readFromFile(metricsFilePath));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -174,6 +239,36 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * A clock whose date can be changed.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        private SettableClock(LocalDate date) {
+            setDate(date);
+        }
+
+        private void setDate(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
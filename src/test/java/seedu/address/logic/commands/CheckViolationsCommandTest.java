@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CheckViolationsCommand.MESSAGE_NO_VIOLATIONS;
+import static seedu.address.logic.commands.CheckViolationsCommand.MESSAGE_SUCCESS;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tracing.StayHomeViolation;
+import seedu.address.model.visit.Visit;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code CheckViolationsCommand}.
+ */
+public class CheckViolationsCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.setVisitBookFilePath(testFolder.resolve("visitbook.json"));
+        expectedModel.setVisitBookFilePath(testFolder.resolve("visitbook.json"));
+    }
+
+    @Test
+    public void equals() {
+        CheckViolationsCommand checkViolationsCommand = new CheckViolationsCommand();
+
+        // same object -> returns true
+        assertTrue(checkViolationsCommand.equals(checkViolationsCommand));
+
+        // same type -> returns true
+        assertTrue(checkViolationsCommand.equals(new CheckViolationsCommand()));
+
+        // different types -> returns false
+        assertFalse(checkViolationsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(checkViolationsCommand.equals(null));
+    }
+
+    @Test
+    public void execute_everyoneStayedHome_noViolations() {
+        // All typical visits are made by people to their own homes.
+        assertCommandSuccess(new CheckViolationsCommand(), model, MESSAGE_NO_VIOLATIONS, expectedModel);
+        assertFalse(FileUtil.isFileExists(CheckViolationsCommand.getReportFilePath(model)));
+    }
+
+    @Test
+    public void execute_visitsAwayFromHome_reportSaved() throws Exception {
+        // ALICE is in quarantine, BENSON is infected and in quarantine, and CARL is neither.
+        Visit aliceVisit = new VisitBuilder().withPerson(ALICE).withLocation(DANIEL_LOCATION)
+                .withDate("2020-09-13").build();
+        Visit bensonVisit = new VisitBuilder().withPerson(BENSON).withLocation(CARL_LOCATION)
+                .withDate("2020-09-12").build();
+        Visit carlVisit = new VisitBuilder().withPerson(CARL).withLocation(ALICE_LOCATION)
+                .withDate("2020-09-11").build();
+        model.addVisit(aliceVisit);
+        model.addVisit(bensonVisit);
+        model.addVisit(carlVisit);
+
+        CommandResult result = new CheckViolationsCommand().execute(model);
+
+        Path reportFilePath = CheckViolationsCommand.getReportFilePath(model);
+        assertEquals(String.format(MESSAGE_SUCCESS, 2, 2, reportFilePath), result.getFeedbackToUser());
+        assertEquals(CommandResult.SWITCH_TO_VIEW_VISITS, result.getSwitchState());
+        assertEquals(Arrays.asList(aliceVisit, bensonVisit), model.getFilteredVisitList());
+        assertEquals(StayHomeViolation.CSV_HEADER + "\n"
+                + "1,Alice Pauline,false,true,7,Daniel Meier House,2020-09-13\n"
+                + "2,Benson Meier,true,true,5,Carl Kurz House,2020-09-12\n", FileUtil.readFromFile(reportFilePath));
+    }
+
+    @Test
+    public void execute_personInfectedAfterVisit_violationFound() throws Exception {
+        Visit carlVisit = new VisitBuilder().withPerson(CARL).withLocation(ALICE_LOCATION)
+                .withDate("2020-09-11").build();
+        model.addVisit(carlVisit);
+        Person infectedCarl = new PersonBuilder(CARL).withInfectionStatus("true").build();
+        model.setPerson(CARL, infectedCarl);
+
+        CommandResult result = new CheckViolationsCommand().execute(model);
+
+        Path reportFilePath = CheckViolationsCommand.getReportFilePath(model);
+        assertEquals(String.format(MESSAGE_SUCCESS, 1, 1, reportFilePath), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(carlVisit), model.getFilteredVisitList());
+    }
+}
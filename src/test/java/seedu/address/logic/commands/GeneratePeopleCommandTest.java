@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -26,6 +27,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.tracing.ContactTracer;
 import seedu.address.model.visit.Visit;
 import seedu.address.testutil.PersonBuilder;
 
@@ -134,6 +136,16 @@ public class GeneratePeopleCommandTest {
         assertCommandSuccess(command, model, expectedCommandResult, expectedModelForGenerate);
     }
 
+    @Test
+    public void execute_visitOutsideContactWindow_noPeopleFound() {
+        Visit testVisit = new Visit(new PersonBuilder().withId(Index.fromOneBased(8)).build(),
+                DANIEL_LOCATION, DEFAULT_DATE.minusDays(ContactTracer.DEFAULT_WINDOW_DAYS + 2));
+        model.addVisit(testVisit);
+        GeneratePeopleCommand command = new GeneratePeopleCommand(Index.fromOneBased(4));
+        CommandException exception = assertThrows(CommandException.class, () -> command.execute(model));
+        assertEquals(MESSAGE_NO_PEOPLE_FOUND, exception.getMessage());
+    }
+
     @Test
     public void execute_validInputFromViewingAllInfected_noPeopleFound() {
         String expectedMessage = MESSAGE_NO_PEOPLE_FOUND;
@@ -5,18 +5,41 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.parser.ListType;
+import seedu.address.model.ListOrder;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ModelPredicate;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.metrics.CommandMetrics;
+import seedu.address.model.metrics.CommandMetrics.Measure;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.storage.BinaryStatisticsHistoryStorage;
+import seedu.address.testutil.VisitBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListCommand.
@@ -29,6 +52,17 @@ public class ListCommandTest {
     private static final ListType QUARANTINED_LIST = ListType.ALL_QUARANTINED;
     private static final ListType STATISTICS_LIST = ListType.STATISTICS;
     private static final ListType HIGH_RISK_LOCATIONS_LIST = ListType.HIGH_RISK_LOCATIONS;
+    private static final ListType CLUSTERS_LIST = ListType.CLUSTERS;
+    private static final ListType UNIQUE_VISITORS_LIST = ListType.UNIQUE_VISITORS;
+    private static final ListType OUTBREAK_ALERTS_LIST = ListType.OUTBREAK_ALERTS;
+    private static final ListType AT_RISK_LIST = ListType.AT_RISK;
+    private static final ListType SUPER_SPREADERS_LIST = ListType.SUPER_SPREADERS;
+    private static final ListType LOCATION_TRENDS_LIST = ListType.LOCATION_TRENDS;
+    private static final ListType STATISTICS_HISTORY_LIST = ListType.STATISTICS_HISTORY;
+    private static final ListType PERFORMANCE_LIST = ListType.PERFORMANCE;
+
+    @TempDir
+    public Path testFolder;
 
     private Model model;
     private Model expectedModel;
@@ -72,6 +106,16 @@ public class ListCommandTest {
                 CommandResult.SWITCH_TO_VIEW_VISITS);
     }
 
+    @Test
+    public void execute_personsListWithOrder_showsOrderedList() {
+        expectedModel.sortFilteredPersonList(ListOrder.NAME);
+        CommandResult expectedCommandResult = new CommandResult(ListCommand.MESSAGE_SUCCESS_ALL_PEOPLE
+                + String.format(ListCommand.MESSAGE_ORDER, "name"), false, false,
+                CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        assertCommandSuccess(new ListCommand(PEOPLE_LIST, Optional.of(ListOrder.NAME)),
+                model, expectedCommandResult, expectedModel);
+    }
+
     @Test
     public void execute_infectedList_showsSameList() {
         Model expectedModelInfected = expectedModel;
@@ -112,12 +156,186 @@ public class ListCommandTest {
         Model expectedModelHighRiskLocations = expectedModel;
         expectedModelHighRiskLocations.updateFilteredLocationList(
                 ModelPredicate.getPredicateForHighRiskLocations(expectedModelHighRiskLocations));
-        CommandResult expectedCommandResult = new CommandResult(ListCommand.MESSAGE_SUCCESS_HIGH_RISK_LOCATIONS,
+        CommandResult expectedCommandResult = new CommandResult(ListCommand.MESSAGE_SUCCESS_HIGH_RISK_LOCATIONS
+                + "\nThere are no other locations connected to the high risk locations.",
                 false, false, CommandResult.SWITCH_TO_VIEW_LOCATIONS);
         assertCommandSuccess(new ListCommand(HIGH_RISK_LOCATIONS_LIST),
                 model, expectedCommandResult, expectedModelHighRiskLocations);
     }
 
+    @Test
+    public void execute_highRiskLocations_showsConnectedLocations() {
+        // BENSON's home is a high risk location. CARL visited it between visits to his own home and ALICE's home.
+        for (Visit visit : Arrays.asList(
+                new VisitBuilder().withPerson(CARL).withLocation(BENSON_LOCATION).withDate("2020-09-14").build(),
+                new VisitBuilder().withPerson(CARL).withLocation(ALICE_LOCATION).withDate("2020-09-15").build())) {
+            model.addVisit(visit);
+            expectedModel.addVisit(visit);
+        }
+        expectedModel.updateFilteredLocationList(ModelPredicate.getPredicateForHighRiskLocations(expectedModel));
+
+        CommandResult expectedCommandResult = new CommandResult(ListCommand.MESSAGE_SUCCESS_HIGH_RISK_LOCATIONS
+                + "\nOther locations most often visited by the same people within 14 days of a visit to a high risk "
+                + "location:\n1. Alice Pauline House: 1 co-visits\n2. Carl Kurz House: 1 co-visits",
+                false, false, CommandResult.SWITCH_TO_VIEW_LOCATIONS);
+        assertCommandSuccess(new ListCommand(HIGH_RISK_LOCATIONS_LIST), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_clusters_showsClusterSummary() {
+        assertCommandSuccess(new ListCommand(CLUSTERS_LIST), model,
+                ListCommand.MESSAGE_SUCCESS_CLUSTERS + "\nThere are no clusters.", expectedModel);
+
+        Visit carlAtDaniel = new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION)
+                .withDate("2020-09-14").build();
+        model.addVisit(carlAtDaniel);
+        expectedModel.addVisit(carlAtDaniel);
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS_CLUSTERS + "\n"
+                + "Cluster 1: 2 people (1 infected), locations: Carl Kurz House, Daniel Meier House\n";
+        assertCommandSuccess(new ListCommand(CLUSTERS_LIST), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_uniqueVisitors_showsCountsUpToLatestVisit() {
+        Visit carlAtDaniel = new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION)
+                .withDate("2020-09-01").build();
+        model.addVisit(carlAtDaniel);
+        expectedModel.addVisit(carlAtDaniel);
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS_UNIQUE_VISITORS + "\n"
+                + "Unique visitors in the 7 and 28 days up to 2020-09-14:\n"
+                + "Alice Pauline House: 2 in 7 days, 2 in 28 days\n"
+                + "Daniel Meier House: 1 in 7 days, 2 in 28 days\n"
+                + "Benson Meier House: 1 in 7 days, 1 in 28 days\n"
+                + "Carl Kurz House: 1 in 7 days, 1 in 28 days\n"
+                + "Elle Meyer House: 1 in 7 days, 1 in 28 days\n"
+                + "Fiona Kunz House: 1 in 7 days, 1 in 28 days\n"
+                + "George Best House: 1 in 7 days, 1 in 28 days\n";
+        assertCommandSuccess(new ListCommand(UNIQUE_VISITORS_LIST), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_atRisk_showsPeopleByRiskScore() {
+        // CARL visited DANIEL's home on the day of the latest visit, and DANIEL visited it the day before.
+        Visit carlAtDaniel = new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION)
+                .withDate("2020-09-14").build();
+        model.addVisit(carlAtDaniel);
+        expectedModel.addVisit(carlAtDaniel);
+        expectedModel.updateFilteredPersonList(ModelPredicate.getPredicateForPeopleAtRisk(expectedModel));
+        expectedModel.sortFilteredPersonList(ListOrder.RISK);
+
+        CommandResult expectedCommandResult = new CommandResult(String.format(ListCommand.MESSAGE_SUCCESS_AT_RISK, 1)
+                + "\n1. Carl Kurz: 1.00", false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        assertCommandSuccess(new ListCommand(AT_RISK_LIST), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_superSpreaders_showsPeopleByContacts() {
+        // ALICE visited AMY's home with AMY, who is not in the person book.
+        // CARL visited the homes of DANIEL and ELLE, twice at DANIEL's, within the contact window.
+        for (Visit visit : Arrays.asList(
+                new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION).withDate("2020-09-14").build(),
+                new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION).withDate("2020-09-15").build(),
+                new VisitBuilder().withPerson(CARL).withLocation(ELLE_LOCATION).withDate("2020-09-14").build())) {
+            model.addVisit(visit);
+            expectedModel.addVisit(visit);
+        }
+        expectedModel.updateFilteredPersonList(ModelPredicate.getPredicateShowPeopleById(
+                Arrays.asList(CARL.getId(), ALICE.getId(), DANIEL.getId(), ELLE.getId())));
+
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ListCommand.MESSAGE_SUCCESS_SUPER_SPREADERS, 4)
+                + "\n1. Carl Kurz: 2 contacts\n2. Alice Pauline: 1 contacts\n3. Daniel Meier: 1 contacts"
+                + "\n4. Elle Meyer: 1 contacts",
+                false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        assertCommandSuccess(new ListCommand(SUPER_SPREADERS_LIST), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_outbreakAlerts_showsActiveAlerts() {
+        assertCommandSuccess(new ListCommand(OUTBREAK_ALERTS_LIST), model,
+                ListCommand.MESSAGE_SUCCESS_OUTBREAK_ALERTS + "\nThere are no active outbreak alerts.", expectedModel);
+
+        // DANIEL, ELLE and FIONA are infected.
+        for (Person person : Arrays.asList(DANIEL, ELLE, FIONA)) {
+            Visit visit = new VisitBuilder().withPerson(person).withLocation(CARL_LOCATION)
+                    .withDate("2020-09-12").build();
+            model.addVisit(visit);
+            expectedModel.addVisit(visit);
+        }
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS_OUTBREAK_ALERTS + "\n"
+                + "Outbreak alert: 3 visits by infected people to Carl Kurz House from 2020-09-08 to 2020-09-14";
+        assertCommandSuccess(new ListCommand(OUTBREAK_ALERTS_LIST), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_performance_showsCommandMetrics() {
+        assertCommandSuccess(new ListCommand(PERFORMANCE_LIST), model,
+                ListCommand.MESSAGE_SUCCESS_PERFORMANCE + "\n" + CommandMetrics.NO_COMMANDS, expectedModel);
+
+        model.getCommandMetrics().record(ListCommand.COMMAND_WORD, Measure.EXECUTE_TIME, 1_000_000);
+        assertCommandSuccess(new ListCommand(PERFORMANCE_LIST), model, ListCommand.MESSAGE_SUCCESS_PERFORMANCE + "\n"
+                + model.getCommandMetrics().getSummary(), expectedModel);
+    }
+
+    @Test
+    public void execute_locationTrends_showsGrowingLocations() {
+        String expectedHeader = ListCommand.MESSAGE_SUCCESS_LOCATION_TRENDS + "\n"
+                + "Locations with the most growth in visits by infected people in the week up to 2020-09-14:\n";
+        for (Person person : Arrays.asList(DANIEL, ELLE)) {
+            Visit visit = new VisitBuilder().withPerson(person).withLocation(CARL_LOCATION)
+                    .withDate("2020-09-13").build();
+            model.addVisit(visit);
+            expectedModel.addVisit(visit);
+        }
+        Visit earlierVisit = new VisitBuilder().withPerson(FIONA).withLocation(DANIEL_LOCATION)
+                .withDate("2020-09-01").build();
+        model.addVisit(earlierVisit);
+        expectedModel.addVisit(earlierVisit);
+
+        // The infected people each visited their own home in the week up to the latest visit, and DANIEL's home was
+        // also visited the week before.
+        String expectedMessage = expectedHeader
+                + "1. Carl Kurz House: 2 infected visits this week (7-day average 0.29), 0 the week before\n"
+                + "2. Benson Meier House: 1 infected visits this week (7-day average 0.14), 0 the week before\n"
+                + "3. George Best House: 1 infected visits this week (7-day average 0.14), 0 the week before\n"
+                + "4. Elle Meyer House: 1 infected visits this week (7-day average 0.14), 0 the week before\n"
+                + "5. Fiona Kunz House: 1 infected visits this week (7-day average 0.14), 0 the week before";
+        assertCommandSuccess(new ListCommand(LOCATION_TRENDS_LIST), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_statisticsHistory_showsDayOverDayStatistics() throws Exception {
+        model.setVisitBookFilePath(testFolder.resolve("visitbook.json"));
+        expectedModel.setVisitBookFilePath(testFolder.resolve("visitbook.json"));
+        LocalDate startDate = LocalDate.parse("2020-09-13");
+        LocalDate endDate = LocalDate.parse("2020-09-14");
+        ListCommand listCommand = new ListCommand(STATISTICS_HISTORY_LIST, Optional.of(startDate),
+                Optional.of(endDate));
+        assertCommandSuccess(listCommand, model, ListCommand.MESSAGE_SUCCESS_STATISTICS_HISTORY
+                + "\nThere are no statistics recorded from 2020-09-13 to 2020-09-14.", expectedModel);
+
+        BinaryStatisticsHistoryStorage storage =
+                new BinaryStatisticsHistoryStorage(ListCommand.getStatisticsHistoryFilePath(model));
+        storage.appendStatisticsSnapshot(model.getInfoHandler().getStatisticsSnapshot(startDate.minusDays(1)));
+        storage.appendStatisticsSnapshot(model.getInfoHandler().getStatisticsSnapshot(startDate));
+        // DANIEL and ELLE are infected.
+        for (Person person : Arrays.asList(DANIEL, ELLE)) {
+            Visit visit = new VisitBuilder().withPerson(person).withLocation(CARL_LOCATION)
+                    .withDate("2020-09-14").build();
+            model.addVisit(visit);
+            expectedModel.addVisit(visit);
+        }
+        storage.appendStatisticsSnapshot(model.getInfoHandler().getStatisticsSnapshot(endDate));
+
+        String expectedMessage = ListCommand.MESSAGE_SUCCESS_STATISTICS_HISTORY + "\n"
+                + "Statistics recorded at the end of each day from 2020-09-13 to 2020-09-14:\n"
+                + "2020-09-13: 7 people, 5 infected, 2 quarantined, 7 locations, 9 visits, "
+                + "most infected visits at Benson Meier House (1)\n"
+                + "2020-09-14: 7 people, 5 infected (+0), 2 quarantined (+0), 7 locations, 11 visits (+2), "
+                + "most infected visits at Carl Kurz House (2)";
+        assertCommandSuccess(listCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void equals() {
         ListCommand listPersonsCommand = new ListCommand(PEOPLE_LIST);
@@ -133,6 +351,15 @@ public class ListCommandTest {
         ListCommand differentListCommand = new ListCommand(LOCATIONS_LIST);
         assertFalse(listPersonsCommand.equals(differentListCommand));
 
+        // different order -> returns false
+        assertFalse(listPersonsCommand.equals(new ListCommand(PEOPLE_LIST, Optional.of(ListOrder.NAME))));
+
+        // different dates -> returns false
+        ListCommand listHistoryCommand = new ListCommand(STATISTICS_HISTORY_LIST);
+        assertTrue(listHistoryCommand.equals(new ListCommand(STATISTICS_HISTORY_LIST)));
+        assertFalse(listHistoryCommand.equals(new ListCommand(STATISTICS_HISTORY_LIST,
+                Optional.of(LocalDate.parse("2020-09-01")), Optional.empty())));
+
         // different types -> returns false
         assertFalse(listPersonsCommand.equals(1));
 
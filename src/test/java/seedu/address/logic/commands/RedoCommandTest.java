@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.visit.Visit;
+import seedu.address.testutil.VisitBuilder;
+
+public class RedoCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(),
+                new UserPrefs());
+    }
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_changeRedone() throws Exception {
+        model.deletePerson(BENSON);
+        model.commitBooks();
+        new UndoCommand().execute(model);
+        model.commitBooks();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+                getTypicalVisitBook(), new UserPrefs());
+        expectedModel.deletePerson(BENSON);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_addedVisitsRedone_visitListRefilteredOnce() throws Exception {
+        List<Predicate<Visit>> predicates = new ArrayList<>();
+        model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(),
+                new UserPrefs()) {
+            @Override
+            public void updateFilteredVisitList(Predicate<Visit> predicate) {
+                predicates.add(predicate);
+                super.updateFilteredVisitList(predicate);
+            }
+        };
+        Visit firstAdded = new VisitBuilder().withPerson(ALICE).withLocation(BENSON_LOCATION)
+                .withDate("2020-09-20").build();
+        Visit secondAdded = new VisitBuilder().withPerson(BENSON).withLocation(BENSON_LOCATION)
+                .withDate("2020-09-20").build();
+        model.addVisit(firstAdded);
+        model.addVisit(secondAdded);
+        model.commitBooks();
+        new UndoCommand().execute(model);
+        model.updateFilteredVisitList(visit -> false);
+        predicates.clear();
+
+        new RedoCommand().execute(model);
+
+        assertEquals(1, predicates.size());
+        assertEquals(model.getVisitBook().getVisitList().size(), model.getFilteredVisitList().size());
+        assertTrue(model.getFilteredVisitList().containsAll(List.of(firstAdded, secondAdded)));
+    }
+
+    @Test
+    public void execute_afterNewChange_throwsCommandException() throws Exception {
+        model.deletePerson(BENSON);
+        model.commitBooks();
+        new UndoCommand().execute(model);
+        new ClearCommand().execute(model);
+        model.commitBooks();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.person.DeletePersonCommand;
+import seedu.address.logic.parser.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RunScriptCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullCommands_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunScriptCommand(null));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        RunScriptCommand command = new RunScriptCommand(script(
+                4, new DeletePersonCommand(INDEX_FIRST),
+                1, new ListCommand(ListType.ALL_LOCATIONS),
+                5, new DeletePersonCommand(INDEX_FIRST)));
+
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        // The lines are run in order, so the last list shown is that of the people
+        CommandResult expectedResult = new CommandResult(String.format(RunScriptCommand.MESSAGE_SUCCESS, 3),
+                false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_earlierCommandsKept() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        RunScriptCommand command = new RunScriptCommand(script(
+                2, new DeletePersonCommand(INDEX_FIRST),
+                5, new DeletePersonCommand(outOfBoundIndex),
+                7, new DeletePersonCommand(INDEX_SECOND)));
+
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        String expectedMessage = String.format(RunScriptCommand.MESSAGE_FAILED, 5, 1,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        CommandResult expectedResult = new CommandResult(expectedMessage, false, false,
+                CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        assertCommandSuccess(command, model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_cancelled_stopsBeforeNextCommand() throws Exception {
+        RunScriptCommand command = new RunScriptCommand(script(
+                1, new DeletePersonCommand(INDEX_FIRST),
+                2, new DeletePersonCommand(INDEX_FIRST)));
+
+        // Cancelled after the first command has started
+        ProgressMonitor monitor = new ProgressMonitor() {
+            private long done = -1;
+
+            @Override
+            public void setProgress(long done, long total) {
+                assertEquals(2, total);
+                this.done = done;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return done == 0;
+            }
+        };
+
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        CommandResult expectedResult = new CommandResult(String.format(RunScriptCommand.MESSAGE_CANCELLED, 1, 2),
+                false, false, CommandResult.SWITCH_TO_VIEW_PEOPLE);
+        assertEquals(expectedResult, command.execute(model, monitor));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void equals() {
+        RunScriptCommand deleteFirstCommand = new RunScriptCommand(script(1, new DeletePersonCommand(INDEX_FIRST)));
+        RunScriptCommand deleteSecondCommand = new RunScriptCommand(script(1, new DeletePersonCommand(INDEX_SECOND)));
+
+        // same object -> returns true
+        assertTrue(deleteFirstCommand.equals(deleteFirstCommand));
+
+        // same values -> returns true
+        assertTrue(deleteFirstCommand.equals(new RunScriptCommand(script(1, new DeletePersonCommand(INDEX_FIRST)))));
+
+        // different types -> returns false
+        assertFalse(deleteFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(deleteFirstCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
+
+        // different line numbers -> returns false
+        assertFalse(deleteFirstCommand.equals(new RunScriptCommand(script(2, new DeletePersonCommand(INDEX_FIRST)))));
+    }
+
+    /**
+     * Returns the commands of a script, given as pairs of a line number and the command on that line.
+     */
+    private static Map<Integer, Command> script(Object... lineNumbersAndCommands) {
+        Map<Integer, Command> commandsByLine = new HashMap<>();
+        for (int i = 0; i < lineNumbersAndCommands.length; i += 2) {
+            commandsByLine.put((Integer) lineNumbersAndCommands[i], (Command) lineNumbersAndCommands[i + 1]);
+        }
+        return commandsByLine;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.SimulateSpreadCommand.MESSAGE_NO_INFECTED_PERSONS;
+import static seedu.address.logic.commands.SimulateSpreadCommand.MESSAGE_NO_PEOPLE_FOUND;
+import static seedu.address.logic.commands.SimulateSpreadCommand.MESSAGE_PERSON_AT_RISK;
+import static seedu.address.logic.commands.SimulateSpreadCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SimulateSpreadCommand}.
+ */
+public class SimulateSpreadCommandTest {
+
+    private static final Optional<Long> SEED = Optional.of(42L);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SimulateSpreadCommand simulateSpreadCommand = new SimulateSpreadCommand(0.5, 100, SEED);
+
+        // same object -> returns true
+        assertTrue(simulateSpreadCommand.equals(simulateSpreadCommand));
+
+        // same values -> returns true
+        assertTrue(simulateSpreadCommand.equals(new SimulateSpreadCommand(0.5, 100, Optional.of(42L))));
+
+        // different types -> returns false
+        assertFalse(simulateSpreadCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(simulateSpreadCommand.equals(null));
+
+        // different probability -> returns false
+        assertFalse(simulateSpreadCommand.equals(new SimulateSpreadCommand(0.4, 100, SEED)));
+
+        // different runs -> returns false
+        assertFalse(simulateSpreadCommand.equals(new SimulateSpreadCommand(0.5, 10, SEED)));
+
+        // different seed -> returns false
+        assertFalse(simulateSpreadCommand.equals(new SimulateSpreadCommand(0.5, 100, Optional.empty())));
+    }
+
+    @Test
+    public void execute_noInfectedPersons_throwsCommandException() {
+        Model emptyModel = new ModelManager(new PersonBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        emptyModel.addPerson(new PersonBuilder().withInfectionStatus("false").build());
+        assertCommandFailure(new SimulateSpreadCommand(0.5, 100, SEED), emptyModel, MESSAGE_NO_INFECTED_PERSONS);
+    }
+
+    @Test
+    public void execute_noContacts_throwsCommandException() {
+        assertCommandFailure(new SimulateSpreadCommand(0.5, 100, SEED), model,
+                String.format(MESSAGE_NO_PEOPLE_FOUND, 100, 0.5));
+    }
+
+    @Test
+    public void execute_contactsOfInfectedPerson_personsAtRiskListed() throws Exception {
+        // DANIEL is infected, and CARL and then ALICE visit his home.
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION).withDate("2020-09-15")
+                .build());
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(DANIEL_LOCATION).withDate("2020-09-20")
+                .build());
+
+        CommandResult result = new SimulateSpreadCommand(1, 10, SEED).execute(model);
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 5, 10, 1.0, 42L, 2.0)
+                + "\n" + String.format(MESSAGE_PERSON_AT_RISK, 1, ALICE.getName(), 100.0)
+                + "\n" + String.format(MESSAGE_PERSON_AT_RISK, 2, CARL.getName(), 100.0);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(CommandResult.SWITCH_TO_VIEW_PEOPLE, result.getSwitchState());
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+    }
+}
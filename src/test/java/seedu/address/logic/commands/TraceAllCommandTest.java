@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.TraceAllCommand.MESSAGE_NO_INFECTED_PERSONS;
+import static seedu.address.logic.commands.TraceAllCommand.MESSAGE_NO_PEOPLE_FOUND;
+import static seedu.address.logic.commands.TraceAllCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.ELLE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.location.LocationBook;
+import seedu.address.model.person.PersonBook;
+import seedu.address.model.tracing.ExposureReport;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.VisitBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code TraceAllCommand}.
+ */
+public class TraceAllCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+            getTypicalVisitBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        model.setVisitBookFilePath(testFolder.resolve("visitbook.json"));
+    }
+
+    @Test
+    public void equals() {
+        TraceAllCommand traceAllCommand = new TraceAllCommand();
+
+        // same object -> returns true
+        assertTrue(traceAllCommand.equals(traceAllCommand));
+
+        // same type -> returns true
+        assertTrue(traceAllCommand.equals(new TraceAllCommand()));
+
+        // different types -> returns false
+        assertFalse(traceAllCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(traceAllCommand.equals(null));
+    }
+
+    @Test
+    public void execute_noInfectedPersons_throwsCommandException() {
+        Model emptyModel = new ModelManager(new PersonBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        assertCommandFailure(new TraceAllCommand(), emptyModel, MESSAGE_NO_INFECTED_PERSONS);
+    }
+
+    @Test
+    public void execute_noContacts_throwsCommandException() {
+        assertCommandFailure(new TraceAllCommand(), model, MESSAGE_NO_PEOPLE_FOUND);
+    }
+
+    @Test
+    public void execute_contactsOfSeveralInfectedPersons_reportSaved() throws Exception {
+        // DANIEL and ELLE are infected, ALICE and CARL are not.
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION).withDate("2020-09-15")
+                .build());
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(DANIEL_LOCATION).withDate("2020-09-13")
+                .build());
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(ELLE_LOCATION).withDate("2020-09-20")
+                .build());
+
+        CommandResult result = new TraceAllCommand().execute(model);
+
+        Path reportFilePath = TraceAllCommand.getReportFilePath(model);
+        assertEquals(String.format(MESSAGE_SUCCESS, 2, 5, reportFilePath), result.getFeedbackToUser());
+        assertEquals(CommandResult.SWITCH_TO_VIEW_PEOPLE, result.getSwitchState());
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredPersonList());
+        assertEquals(ExposureReport.CSV_HEADER + "\n"
+                + "1,Alice Pauline,2,4;5\n"
+                + "3,Carl Kurz,1,4\n", FileUtil.readFromFile(reportFilePath));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.FIRST_VISIT;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+public class UndoCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(),
+                new UserPrefs());
+        expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(),
+                new UserPrefs());
+    }
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_afterClear_booksRestored() {
+        new ClearCommand().execute(model);
+        model.commitBooks();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_afterSmallChanges_booksRestoredInOrder() throws Exception {
+        model.deletePerson(BENSON);
+        model.commitBooks();
+        model.setPerson(ALICE, new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build());
+        model.commitBooks();
+        model.deleteVisit(FIRST_VISIT);
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(BENSON_LOCATION)
+                .withDate("2020-09-15").build());
+        model.commitBooks();
+
+        new UndoCommand().execute(model);
+        new UndoCommand().execute(model);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands.person;
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.logic.commands.AddFromCsvCommand.MESSAGE_CANCELLED;
 import static seedu.address.logic.commands.AddFromCsvCommand.MESSAGE_DUPLICATES_NOT_ADDED;
 import static seedu.address.logic.commands.AddFromCsvCommand.MESSAGE_SUCCESS;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
@@ -18,6 +19,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ProgressMonitor;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ModelStub;
 import seedu.address.model.person.Person;
@@ -93,6 +95,34 @@ public class AddPersonsFromCsvCommandTest {
         assertCommandSuccess(actualCommand, actualModel, commandResult, expectedModel);
     }
 
+    @Test
+    public void execute_cancelled_personsReadBeforeCancellingAdded() throws Exception {
+        AddPersonsFromCsvCommandTest.ModelStubAcceptingPersonsAdded model =
+                new AddPersonsFromCsvCommandTest.ModelStubAcceptingPersonsAdded();
+        List<Person> personsToAdd = TypicalPersons.getTypicalPersons();
+
+        // Cancelled while the second person is being added
+        ProgressMonitor monitor = new ProgressMonitor() {
+            private long done;
+
+            @Override
+            public void setProgress(long done, long total) {
+                assertEquals(personsToAdd.size(), total);
+                this.done = done;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return done == 1;
+            }
+        };
+
+        CommandResult commandResult = new AddPersonsFromCsvCommand(personsToAdd).execute(model, monitor);
+        String expectedMessage = String.format(MESSAGE_CANCELLED, 2, personsToAdd.size())
+                + String.format(MESSAGE_SUCCESS, 2, PERSONS);
+        assertEquals(expectedMessage, commandResult.getFeedbackToUser());
+        assertEquals(personsToAdd.subList(0, 2), model.getPersonsAdded());
+    }
 
     @Test
     public void equals() {
@@ -0,0 +1,164 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
+import static seedu.address.logic.parser.CsvPipeline.BATCH_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CsvPipelineTest {
+
+    private static final String MESSAGE_INVALID_LINE = "Invalid line %d.";
+
+    /**
+     * Parses lines holding their own line number, and fails on any other line.
+     */
+    private static final CsvPipeline.RowParser<Integer> LINE_NUMBER_PARSER = (line, lineNumber) -> {
+        if (!line.equals(String.valueOf(lineNumber))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber));
+        }
+        return lineNumber;
+    };
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void parseRows_invalidFilePath_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_FILE_PATH, () -> CsvPipeline.parseRows(
+                temporaryFolder.resolve("fileDoesNotExist.csv").toString(), LINE_NUMBER_PARSER));
+    }
+
+    @Test
+    public void parseRows_emptyFile_returnsNoRows() throws Exception {
+        String filepath = writeLines(List.of());
+        assertEquals(List.of(), CsvPipeline.parseRows(filepath, LINE_NUMBER_PARSER));
+    }
+
+    @Test
+    public void parseRows_manyBatches_rowsInOrderOfLines() throws Exception {
+        List<Integer> expectedRows = lineNumbersUpTo(BATCH_SIZE * 5 + 3);
+        String filepath = writeLines(toLines(expectedRows));
+        assertEquals(expectedRows, CsvPipeline.parseRows(filepath, LINE_NUMBER_PARSER));
+    }
+
+    @Test
+    public void parseRows_invalidLinesInDifferentBatches_throwsErrorOfFirstInvalidLine() throws Exception {
+        List<String> lines = toLines(lineNumbersUpTo(BATCH_SIZE * 5));
+        lines.set(BATCH_SIZE * 4, "invalid");
+        lines.set(BATCH_SIZE + 1, "invalid");
+        String filepath = writeLines(lines);
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_LINE, BATCH_SIZE + 2), () ->
+                CsvPipeline.parseRows(filepath, LINE_NUMBER_PARSER));
+    }
+
+    @Test
+    public void parseRows_blankLines_onlyTrailingBlankLinesIgnored() throws Exception {
+        String filepath = writeLines(Arrays.asList("first", "", "second", "", " "));
+        List<String> rows = CsvPipeline.parseRows(filepath, (line, lineNumber) -> lineNumber + ":" + line);
+        assertEquals(Arrays.asList("1:first", "2:", "3:second"), rows);
+    }
+
+    @Test
+    public void parseRows_rowParserThrowsUncheckedException_exceptionRethrown() throws Exception {
+        String filepath = writeLines(toLines(lineNumbersUpTo(BATCH_SIZE * 2)));
+        assertThrows(IllegalStateException.class, () -> CsvPipeline.parseRows(filepath, (line, lineNumber) -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void parseRows_readFailsAfterManyBatches_throwsParseExceptionWithLastLineRead() {
+        int lineCount = BATCH_SIZE * 3 + 5;
+        IOException readFailure = new IOException("Disk removed");
+        BufferedReader reader = new BufferedReader(new FailingReader(toLines(lineNumbersUpTo(lineCount)), readFailure));
+
+        assertThrows(ParseException.class, String.format(CsvPipeline.MESSAGE_READ_FAILED, lineCount, readFailure), ()
+                -> CsvPipeline.parseRows(reader, LINE_NUMBER_PARSER));
+    }
+
+    @Test
+    public void parseRows_malformedByteAfterManyBatches_throwsParseExceptionWithLastLineRead() throws Exception {
+        int lineCount = BATCH_SIZE * 3 + 5;
+        Path file = temporaryFolder.resolve("rows.csv");
+        Files.write(file, toLines(lineNumbersUpTo(lineCount)));
+        // 0xFF is not valid in any charset that the default could be, as it never starts a UTF-8 or ASCII character.
+        Files.write(file, new byte[] {'1', (byte) 0xFF, '\n', '2', '\n'}, StandardOpenOption.APPEND);
+
+        String notText = String.format(CsvPipeline.MESSAGE_NOT_TEXT, Charset.defaultCharset());
+        assertThrows(ParseException.class, String.format(CsvPipeline.MESSAGE_READ_FAILED, lineCount, notText), ()
+                -> CsvPipeline.parseRows(file.toString(), LINE_NUMBER_PARSER));
+    }
+
+    @Test
+    public void parseRows_invalidLineBeforeReadFails_throwsErrorOfInvalidLine() {
+        List<String> lines = toLines(lineNumbersUpTo(BATCH_SIZE + 5));
+        lines.set(BATCH_SIZE, "invalid");
+        BufferedReader reader = new BufferedReader(new FailingReader(lines, new IOException("Disk removed")));
+
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_LINE, BATCH_SIZE + 1), () ->
+                CsvPipeline.parseRows(reader, LINE_NUMBER_PARSER));
+    }
+
+    private String writeLines(List<String> lines) throws IOException {
+        Path file = temporaryFolder.resolve("rows.csv");
+        Files.write(file, lines);
+        return file.toString();
+    }
+
+    private static List<Integer> lineNumbersUpTo(int lastLineNumber) {
+        List<Integer> lineNumbers = new ArrayList<>();
+        for (int i = 1; i <= lastLineNumber; i++) {
+            lineNumbers.add(i);
+        }
+        return lineNumbers;
+    }
+
+    private static List<String> toLines(List<Integer> lineNumbers) {
+        List<String> lines = new ArrayList<>();
+        lineNumbers.forEach(lineNumber -> lines.add(String.valueOf(lineNumber)));
+        return lines;
+    }
+
+    /**
+     * A reader of {@code lines} that fails with {@code failure} once they have all been read.
+     */
+    private static class FailingReader extends Reader {
+        private final Reader lines;
+        private final IOException failure;
+
+        FailingReader(List<String> lines, IOException failure) {
+            this.lines = new StringReader(String.join("\n", lines) + "\n");
+            this.failure = failure;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int charsRead = lines.read(buffer, offset, length);
+            if (charsRead < 0) {
+                throw failure;
+            }
+            return charsRead;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
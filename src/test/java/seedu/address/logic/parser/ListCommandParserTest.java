@@ -1,13 +1,19 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LIST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SORT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.ListOrder;
 
 public class ListCommandParserTest {
 
@@ -17,6 +23,7 @@ public class ListCommandParserTest {
     private static final ListType INFECTED_LIST = ListType.ALL_INFECTED;
     private static final ListType QUARANTINED_LIST = ListType.ALL_QUARANTINED;
     private static final ListType STATISTICS_LIST = ListType.STATISTICS;
+    private static final ListType STATISTICS_HISTORY_LIST = ListType.STATISTICS_HISTORY;
 
     private ListCommandParser parser = new ListCommandParser();
 
@@ -62,6 +69,58 @@ public class ListCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_LIST + "stats", expectedListCommand);
     }
 
+    @Test
+    public void parse_validOrder_returnsListCommand() {
+        assertParseSuccess(parser, " " + PREFIX_LIST + "people " + PREFIX_SORT + "name",
+                new ListCommand(PEOPLE_LIST, Optional.of(ListOrder.NAME)));
+        assertParseSuccess(parser, " " + PREFIX_LIST + "infected " + PREFIX_SORT + "Exposure",
+                new ListCommand(INFECTED_LIST, Optional.of(ListOrder.EXPOSURE)));
+        assertParseSuccess(parser, " " + PREFIX_LIST + "visits " + PREFIX_SORT + "date",
+                new ListCommand(VISITS_LIST, Optional.of(ListOrder.DATE)));
+    }
+
+    @Test
+    public void parse_invalidOrder_throwsParseException() {
+        // unknown order
+        assertParseFailure(parser, " " + PREFIX_LIST + "people " + PREFIX_SORT + "age",
+                ListCommand.MESSAGE_INVALID_ORDER);
+
+        // order that does not apply to the list
+        assertParseFailure(parser, " " + PREFIX_LIST + "people " + PREFIX_SORT + "date",
+                ListCommand.MESSAGE_INVALID_ORDER);
+        assertParseFailure(parser, " " + PREFIX_LIST + "locations " + PREFIX_SORT + "name",
+                ListCommand.MESSAGE_INVALID_ORDER);
+    }
+
+    @Test
+    public void parse_statisticsHistoryWithDates_returnsListCommand() {
+        LocalDate startDate = LocalDate.parse("2020-09-01");
+        LocalDate endDate = LocalDate.parse("2020-09-30");
+        assertParseSuccess(parser, " " + PREFIX_LIST + "statistics-history",
+                new ListCommand(STATISTICS_HISTORY_LIST));
+        assertParseSuccess(parser, " " + PREFIX_LIST + "statistics-history " + PREFIX_DATE + "2020-09-01",
+                new ListCommand(STATISTICS_HISTORY_LIST, Optional.of(startDate), Optional.empty()));
+        assertParseSuccess(parser, " " + PREFIX_LIST + "statistics-history " + PREFIX_DATE + "2020-09-01 "
+                + PREFIX_DATE + "2020-09-30",
+                new ListCommand(STATISTICS_HISTORY_LIST, Optional.of(startDate), Optional.of(endDate)));
+    }
+
+    @Test
+    public void parse_invalidDates_throwsParseException() {
+        // start date after end date
+        assertParseFailure(parser, " " + PREFIX_LIST + "statistics-history " + PREFIX_DATE + "2020-09-30 "
+                + PREFIX_DATE + "2020-09-01", ListCommand.MESSAGE_INVALID_DATE_RANGE);
+
+        // dates for a list that is not dated
+        assertParseFailure(parser, " " + PREFIX_LIST + "people " + PREFIX_DATE + "2020-09-01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+
+        // too many dates
+        assertParseFailure(parser, " " + PREFIX_LIST + "statistics-history " + PREFIX_DATE + "2020-09-01 "
+                + PREFIX_DATE + "2020-09-02 " + PREFIX_DATE + "2020-09-03",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+    }
+
     @Test
     public void parse_emptyArg_throwsParseException() {
         assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
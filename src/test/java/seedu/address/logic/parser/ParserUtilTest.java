@@ -15,6 +15,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListOrder;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -241,8 +242,60 @@ public class ParserUtilTest {
         assertEquals(expectedListType, actualListType);
     }
 
+    @Test
+    public void parseListType_clustersList_returnsClustersEnum() throws Exception {
+        assertEquals(ListType.CLUSTERS, ParserUtil.parseListType("clusters"));
+    }
+
+    @Test
+    public void parseListType_visitorsList_returnsUniqueVisitorsEnum() throws Exception {
+        assertEquals(ListType.UNIQUE_VISITORS, ParserUtil.parseListType("visitors"));
+    }
+
+    @Test
+    public void parseListType_alertsList_returnsOutbreakAlertsEnum() throws Exception {
+        assertEquals(ListType.OUTBREAK_ALERTS, ParserUtil.parseListType("alerts"));
+    }
+
+    @Test
+    public void parseListType_atRiskList_returnsAtRiskEnum() throws Exception {
+        assertEquals(ListType.AT_RISK, ParserUtil.parseListType("at-risk"));
+    }
+
+    @Test
+    public void parseListType_superSpreadersList_returnsSuperSpreadersEnum() throws Exception {
+        assertEquals(ListType.SUPER_SPREADERS, ParserUtil.parseListType("super-spreaders"));
+    }
+
+    @Test
+    public void parseListType_statisticsHistoryList_returnsStatisticsHistoryEnum() throws Exception {
+        assertEquals(ListType.STATISTICS_HISTORY, ParserUtil.parseListType("statistics-history"));
+    }
+
+    @Test
+    public void parseListType_trendsList_returnsLocationTrendsEnum() throws Exception {
+        assertEquals(ListType.LOCATION_TRENDS, ParserUtil.parseListType("trends"));
+    }
+
+    @Test
+    public void parseListType_performanceList_returnsPerformanceEnum() throws Exception {
+        assertEquals(ListType.PERFORMANCE, ParserUtil.parseListType("performance"));
+    }
+
     @Test
     public void parseListType_invalidListType_throwsParseException() {
         assertThrows(ParseException.class, () -> ParserUtil.parseListType("invalid keyword"));
     }
+
+    @Test
+    public void parseListOrder_validOrder_returnsOrder() throws Exception {
+        assertEquals(ListOrder.NAME, ParserUtil.parseListOrder(" Name "));
+        assertEquals(ListOrder.DATE, ParserUtil.parseListOrder("date"));
+        assertEquals(ListOrder.RISK, ParserUtil.parseListOrder("risk"));
+    }
+
+    @Test
+    public void parseListOrder_invalidOrder_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseListOrder("invalid order"));
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FILE_PATH;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.person.DeletePersonCommand;
+
+public class RunScriptCommandParserTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "RunScriptCommandTest");
+
+    private RunScriptCommandParser parser = new RunScriptCommandParser();
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                RunScriptCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        assertParseFailure(parser, TEST_DATA_FOLDER.resolve("MissingScript.txt").toString(),
+                MESSAGE_INVALID_FILE_PATH);
+    }
+
+    @Test
+    public void parse_validScript_returnsRunScriptCommand() {
+        Map<Integer, Command> commandsByLine = new HashMap<>();
+        commandsByLine.put(2, new ListCommand(ListType.ALL_PEOPLE));
+        commandsByLine.put(4, new DeletePersonCommand(INDEX_FIRST));
+        commandsByLine.put(5, new DeletePersonCommand(INDEX_FIRST));
+
+        assertParseSuccess(parser, " " + TEST_DATA_FOLDER.resolve("Script.txt") + " ",
+                new RunScriptCommand(commandsByLine));
+    }
+
+    @Test
+    public void parse_scriptWithMistakes_allMistakesReported() {
+        String expectedMistakes = String.format(RunScriptCommandParser.MESSAGE_INVALID_LINE, 2,
+                MESSAGE_UNKNOWN_COMMAND) + "\n"
+                + String.format(RunScriptCommandParser.MESSAGE_INVALID_LINE, 4,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeletePersonCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, TEST_DATA_FOLDER.resolve("ScriptWithMistakes.txt").toString(),
+                String.format(RunScriptCommandParser.MESSAGE_INVALID_LINES, expectedMistakes));
+    }
+
+    @Test
+    public void parse_nestedScript_throwsParseException() {
+        String expectedMistake = String.format(RunScriptCommandParser.MESSAGE_INVALID_LINE, 2,
+                RunScriptCommandParser.MESSAGE_NESTED_SCRIPT);
+        assertParseFailure(parser, TEST_DATA_FOLDER.resolve("NestedScript.txt").toString(),
+                String.format(RunScriptCommandParser.MESSAGE_INVALID_LINES, expectedMistake));
+    }
+
+    @Test
+    public void parse_scriptWithUndo_throwsParseException() {
+        assertCommandNotInScript("UndoScript.txt", UndoCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void parse_scriptWithRedo_throwsParseException() {
+        assertCommandNotInScript("RedoScript.txt", RedoCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void parse_scriptWithExit_throwsParseException() {
+        assertCommandNotInScript("ExitScript.txt", ExitCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void parse_emptyScript_throwsParseException() {
+        assertParseFailure(parser, TEST_DATA_FOLDER.resolve("EmptyScript.txt").toString(),
+                RunScriptCommandParser.MESSAGE_EMPTY_SCRIPT);
+    }
+
+    /**
+     * Asserts that parsing the script in {@code fileName}, whose second line is {@code commandWord}, fails because
+     * that command cannot be used in a script.
+     */
+    private void assertCommandNotInScript(String fileName, String commandWord) {
+        String expectedMistake = String.format(RunScriptCommandParser.MESSAGE_INVALID_LINE, 2,
+                String.format(RunScriptCommandParser.MESSAGE_COMMAND_NOT_IN_SCRIPT, commandWord));
+        assertParseFailure(parser, TEST_DATA_FOLDER.resolve(fileName).toString(),
+                String.format(RunScriptCommandParser.MESSAGE_INVALID_LINES, expectedMistake));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SimulateSpreadCommand;
+import seedu.address.model.tracing.SpreadSimulator;
+
+public class SimulateSpreadCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SimulateSpreadCommand.MESSAGE_USAGE);
+
+    private SimulateSpreadCommandParser parser = new SimulateSpreadCommandParser();
+
+    @Test
+    public void parse_invalidFormat_throwsParseException() {
+        // no arguments
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+
+        // too many arguments
+        assertParseFailure(parser, "0.5 100 42 1", MESSAGE_INVALID_FORMAT);
+
+        // not numbers
+        assertParseFailure(parser, "half", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0.5 1.5", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0.5 100 seed", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_throwsParseException() {
+        assertParseFailure(parser, "0", SpreadSimulator.MESSAGE_INVALID_PROBABILITY);
+        assertParseFailure(parser, "1.5", SpreadSimulator.MESSAGE_INVALID_PROBABILITY);
+        assertParseFailure(parser, "NaN", SpreadSimulator.MESSAGE_INVALID_PROBABILITY);
+        assertParseFailure(parser, "0.5 0", SpreadSimulator.MESSAGE_INVALID_RUNS);
+        assertParseFailure(parser, "0.5 " + (SpreadSimulator.MAX_RUNS + 1), SpreadSimulator.MESSAGE_INVALID_RUNS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSimulateSpreadCommand() {
+        assertParseSuccess(parser, "0.05",
+                new SimulateSpreadCommand(0.05, SpreadSimulator.DEFAULT_RUNS, Optional.empty()));
+        assertParseSuccess(parser, " 0.05  500 ", new SimulateSpreadCommand(0.05, 500, Optional.empty()));
+        assertParseSuccess(parser, "1 500 -7", new SimulateSpreadCommand(1, 500, Optional.of(-7L)));
+    }
+
+}
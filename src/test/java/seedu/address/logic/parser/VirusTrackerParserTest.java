@@ -17,15 +17,22 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddFromCsvCommand;
+import seedu.address.logic.commands.CheckViolationsCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RunScriptCommand;
+import seedu.address.logic.commands.SimulateSpreadCommand;
+import seedu.address.logic.commands.TraceAllCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.location.AddLocationCommand;
 import seedu.address.logic.commands.location.AddLocationsFromCsvCommand;
 import seedu.address.logic.commands.location.DeleteLocationCommand;
@@ -90,6 +97,12 @@ public class VirusTrackerParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeletePersonCommand command = (DeletePersonCommand) parser.parseCommand(
@@ -136,6 +149,32 @@ public class VirusTrackerParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_traceAll() throws Exception {
+        assertTrue(parser.parseCommand(TraceAllCommand.COMMAND_WORD) instanceof TraceAllCommand);
+        assertTrue(parser.parseCommand(TraceAllCommand.COMMAND_WORD + " 3") instanceof TraceAllCommand);
+    }
+
+    @Test
+    public void parseCommand_checkViolations() throws Exception {
+        assertTrue(parser.parseCommand(CheckViolationsCommand.COMMAND_WORD) instanceof CheckViolationsCommand);
+        assertTrue(parser.parseCommand(CheckViolationsCommand.COMMAND_WORD + " 3") instanceof CheckViolationsCommand);
+    }
+
+    @Test
+    public void parseCommand_simulateSpread() throws Exception {
+        SimulateSpreadCommand command = (SimulateSpreadCommand) parser.parseCommand(
+                SimulateSpreadCommand.COMMAND_WORD + " 0.05 200 7");
+        assertEquals(new SimulateSpreadCommand(0.05, 200, Optional.of(7L)), command);
+    }
+
+    @Test
+    public void parseCommand_runScript() throws Exception {
+        String scriptPath = Paths.get("src", "test", "data", "RunScriptCommandTest", "Script.txt").toString();
+        assertTrue(parser.parseCommand(RunScriptCommand.COMMAND_WORD + " " + scriptPath)
+                instanceof RunScriptCommand);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
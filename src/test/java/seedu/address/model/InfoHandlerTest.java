@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocations;
 import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.location.Location;
 import seedu.address.model.person.Person;
+import seedu.address.model.statistics.StatisticsSnapshot;
 import seedu.address.model.visit.Visit;
 import seedu.address.testutil.TypicalPersons;
 import seedu.address.testutil.TypicalVisits;
@@ -160,6 +162,18 @@ public class InfoHandlerTest {
         assertEquals(expectedHashMap, actualHashMap);
     }
 
+    @Test
+    public void getStatisticsSnapshot_filteredList_countsAllPeople() {
+        LocalDate date = LocalDate.parse("2020-09-14");
+        modelManager.updateFilteredPersonList(person -> false);
+        StatisticsSnapshot snapshot = infoHandler.getStatisticsSnapshot(date);
+
+        // There are no visits, so no locations have infected visits.
+        assertEquals(new StatisticsSnapshot(date, typicalPersons.size(), 5, 2, typicalLocations.size(), 0,
+                new HashMap<>()), snapshot);
+        assertEquals(0, modelManager.getFilteredPersonList().size());
+    }
+
     @Test
     public void getNumberOfHighRiskLocations_moreThanSixtyPercent_success() {
         assertEquals(40, getNumberOfHighRiskLocations(89, 100));
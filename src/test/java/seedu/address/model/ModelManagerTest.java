@@ -3,6 +3,7 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_INFECTED;
 import static seedu.address.model.ModelPredicate.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
@@ -11,16 +12,35 @@ import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
 import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+import static seedu.address.testutil.TypicalVisits.FIFTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.FIRST_VISIT;
+import static seedu.address.testutil.TypicalVisits.FOURTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.NINTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.SECOND_VISIT;
+import static seedu.address.testutil.TypicalVisits.SIXTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.THIRD_VISIT;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.location.LocationBook;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonBook;
 import seedu.address.model.visit.Visit;
 import seedu.address.model.visit.VisitBook;
@@ -171,6 +191,102 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasVisit(sampleA));
     }
 
+    @Test
+    public void getFilteredPersonPage_firstPage_returnsPersonsInIdOrder() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        Page<Person> page = modelManager.getFilteredPersonPage(PageRequest.firstPage(3));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), page.getEntries());
+        assertEquals(PageRequest.after(CARL.getId(), 3), page.getNextPageRequest().get());
+    }
+
+    @Test
+    public void getFilteredPersonPage_followingCursors_returnsAllPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        List<Person> walkedPersons = new ArrayList<>();
+        Page<Person> page = modelManager.getFilteredPersonPage(PageRequest.firstPage(2));
+        walkedPersons.addAll(page.getEntries());
+        while (page.hasNextPage()) {
+            page = modelManager.getFilteredPersonPage(page.getNextPageRequest().get());
+            walkedPersons.addAll(page.getEntries());
+        }
+        assertEquals(getTypicalPersons(), walkedPersons);
+    }
+
+    @Test
+    public void getFilteredPersonPage_filteredList_returnsOnlyFilteredPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_INFECTED);
+        Page<Person> page = modelManager.getFilteredPersonPage(PageRequest.atOffset(1, 2));
+        assertEquals(Arrays.asList(DANIEL, ELLE), page.getEntries());
+        assertTrue(page.hasNextPage());
+    }
+
+    @Test
+    public void getFilteredVisitPage_visitDeletedBetweenPages_nextPageUnchanged() {
+        modelManager = new ModelManager(new PersonBook(), new LocationBook(), getTypicalVisitBook(), new UserPrefs());
+        Page<Visit> page = modelManager.getFilteredVisitPage(PageRequest.firstPage(2));
+        assertEquals(Arrays.asList(FIRST_VISIT, SECOND_VISIT), page.getEntries());
+
+        modelManager.deleteVisit(FIRST_VISIT);
+        page = modelManager.getFilteredVisitPage(page.getNextPageRequest().get());
+        assertEquals(Arrays.asList(THIRD_VISIT, FOURTH_VISIT), page.getEntries());
+    }
+
+    @Test
+    public void getFilteredVisitPage_lastPage_noNextPage() {
+        modelManager = new ModelManager(new PersonBook(), new LocationBook(), getTypicalVisitBook(), new UserPrefs());
+        int visitCount = modelManager.getVisitBook().getVisitList().size();
+        Page<Visit> page = modelManager.getFilteredVisitPage(PageRequest.firstPage(visitCount - 1));
+
+        page = modelManager.getFilteredVisitPage(page.getNextPageRequest().get());
+        assertEquals(1, page.getEntries().size());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void sortFilteredPersonList_byName_keepsOrderAfterChanges() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        modelManager.sortFilteredPersonList(ListOrder.NAME);
+        modelManager.addPerson(HOON);
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL, ELLE, FIONA, GEORGE, HOON),
+                modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(ListOrder.DEFAULT);
+        assertEquals(modelManager.getPersonBook().getPersonList(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_byExposure_movesExposedPersons() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new LocationBook(), new VisitBook(), new UserPrefs());
+        modelManager.sortFilteredPersonList(ListOrder.EXPOSURE);
+        assertEquals(getTypicalPersons(), modelManager.getFilteredPersonList());
+
+        // CARL visits the same location as DANIEL, who is infected, on the same day
+        modelManager.addVisit(SIXTH_VISIT);
+        modelManager.addVisit(new VisitBuilder(SIXTH_VISIT).withPerson(CARL).build());
+        assertEquals(CARL, modelManager.getFilteredPersonList().get(0));
+
+        modelManager.deletePerson(DANIEL);
+        assertEquals(ALICE, modelManager.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void sortFilteredPersonList_invalidOrder_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> modelManager.sortFilteredPersonList(ListOrder.DATE));
+    }
+
+    @Test
+    public void sortFilteredVisitList_byDate_insertsVisitsByDate() {
+        modelManager.addVisit(NINTH_VISIT);
+        modelManager.addVisit(THIRD_VISIT);
+        modelManager.sortFilteredVisitList(ListOrder.DATE);
+        modelManager.addVisit(FIFTH_VISIT);
+        modelManager.addVisit(FOURTH_VISIT);
+        assertEquals(Arrays.asList(THIRD_VISIT, FOURTH_VISIT, FIFTH_VISIT, NINTH_VISIT),
+                modelManager.getFilteredVisitList());
+    }
+
     @Test
     public void equals() {
         PersonBook personBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalLocations.FIONA_LOCATION;
+import static seedu.address.testutil.TypicalLocations.GEORGE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.EIGHTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.FIFTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.SEVENTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.SIXTH_VISIT;
+import static seedu.address.testutil.TypicalVisits.getLessThanSixtyPercentVisitBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.VisitBuilder;
+
+public class ModelSnapshotTest {
+
+    private static final LocalDate DATE = LocalDate.of(2020, 10, 1);
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(),
+                new UserPrefs());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ModelSnapshot(null, 0, 0));
+    }
+
+    @Test
+    public void getSnapshot_booksChanged_newVersion() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        assertSame(snapshot, model.getSnapshot());
+
+        model.deletePerson(BENSON);
+        ModelSnapshot newSnapshot = model.getSnapshot();
+        assertNotSame(snapshot, newSnapshot);
+        assertEquals(snapshot.getVersion() + 1, newSnapshot.getVersion());
+    }
+
+    @Test
+    public void hasSameBooksAs_onlyVisitsChanged_onlyVisitsDiffer() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        model.setVisitBook(new VisitBook());
+        ModelSnapshot newSnapshot = model.getSnapshot();
+
+        assertTrue(newSnapshot.hasSamePersonsAs(snapshot));
+        assertTrue(newSnapshot.hasSameLocationsAs(snapshot));
+        assertFalse(newSnapshot.hasSameVisitsAs(snapshot));
+    }
+
+    @Test
+    public void getStatistics_sameAsInfoHandler() {
+        assertEquals(model.getInfoHandler().getStatisticsSnapshot(DATE), model.getSnapshot().getStatistics(DATE));
+    }
+
+    @Test
+    public void getBooks_sameAsModel() {
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        assertEquals(model.getPersonBook().getPersonList(), snapshot.getPersonBook().getPersonList());
+        assertEquals(model.getLocationBook().getLocationList(), snapshot.getLocationBook().getLocationList());
+        assertEquals(model.getVisitBook(), snapshot.getVisitBook());
+    }
+
+    @Test
+    public void getHighRiskLocations_sameAsHighRiskLocationsList() {
+        // Infected Locations(3) are less than 60% of total locations(7)
+        model.setVisitBook(getLessThanSixtyPercentVisitBook());
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        assertEquals(new HashSet<>(Arrays.asList(FIONA_LOCATION, GEORGE_LOCATION)),
+                new HashSet<>(snapshot.getHighRiskLocations()));
+    }
+
+    @Test
+    public void getVisitsBetween_validDates_visitsInRangeReturned() {
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        LocalDate date = LocalDate.of(2020, 9, 13);
+        assertEquals(new HashSet<>(Arrays.asList(FIFTH_VISIT, SIXTH_VISIT, SEVENTH_VISIT, EIGHTH_VISIT)),
+                new HashSet<>(snapshot.getVisitsBetween(date, date)));
+        assertEquals(9, snapshot.getVisitsBetween(LocalDate.of(2020, 1, 1), DATE).size());
+        assertTrue(snapshot.getVisitsBetween(DATE, DATE.plusDays(1)).isEmpty());
+        assertTrue(snapshot.getVisitsBetween(date.plusDays(1), date).isEmpty());
+    }
+
+    @Test
+    public void getContacts_visitsWithinWindow_contactsReturned() {
+        // BENSON visits BENSON_LOCATION on 2020-09-12 in the typical visits
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(BENSON_LOCATION)
+                .withDate("2020-09-15").build());
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(BENSON_LOCATION)
+                .withDate("2020-10-20").build());
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getContacts(INDEX_SECOND));
+        assertTrue(snapshot.getContacts(Index.fromOneBased(100)).isEmpty());
+    }
+
+    @Test
+    public void modelChanged_snapshotUnchanged() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        model.setVisitBook(new VisitBook());
+        model.deletePerson(BENSON);
+
+        assertEquals(BENSON, snapshot.getPerson(INDEX_SECOND).get());
+        assertEquals(9, snapshot.getVisitsBetween(LocalDate.of(2020, 1, 1), DATE).size());
+        assertEquals(9, snapshot.getStatistics(DATE).getVisitCount());
+        assertEquals(7, snapshot.getPersonBook().getPersonList().size());
+    }
+}
@@ -1,15 +1,25 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.location.Location;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.statistics.HyperLogLog;
+import seedu.address.model.statistics.LocationTrend;
+import seedu.address.model.tracing.Cluster;
+import seedu.address.model.tracing.OutbreakAlert;
+import seedu.address.model.tracing.StayHomeViolation;
 import seedu.address.model.visit.ReadOnlyVisitBook;
 import seedu.address.model.visit.Visit;
 
@@ -100,6 +110,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Page<Person> getFilteredPersonPage(PageRequest request) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortFilteredPersonList(ListOrder order) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     //=========== Location Book ========================================================================================
 
     @Override
@@ -152,6 +172,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Page<Location> getFilteredLocationPage(PageRequest request) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     //=========== Visit Book ========================================================================================
 
     @Override
@@ -199,6 +224,105 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Page<Visit> getFilteredVisitPage(PageRequest request) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Cluster> getClusters() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public HyperLogLog getUniqueVisitors(Index locationId, LocalDate startDate, LocalDate endDate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<LocationTrend> getTopGrowingLocations(LocalDate endDate, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public double getInfectedVisitMovingAverage(Index locationId, LocalDate endDate, int days) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<OutbreakAlert> takeNewOutbreakAlerts() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public double getRiskScore(Index personId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getContactDegree(Index personId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> getSuperSpreaders(int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int getCoVisitCount(Index firstLocationId, Index secondLocationId) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Index> getMostConnectedLocations(Set<Index> locationIds, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<OutbreakAlert> getActiveOutbreakAlerts() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Stream<StayHomeViolation> getStayHomeViolations() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void sortFilteredVisitList(ListOrder order) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    //=========== History ===========================================================================================
+
+    @Override
+    public void commitBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean undoBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean redoBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    //=========== Command Metrics =====================================================================================
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     //=========== Info Handler ========================================================================================
 
     @Override
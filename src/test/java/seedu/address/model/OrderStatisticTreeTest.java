@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderStatisticTreeTest {
+
+    // Orders the entries by their tens digit only, so that entries can compare equal.
+    private static final Comparator<Integer> ORDER_BY_TENS = Comparator.comparingInt(entry -> entry / 10);
+
+    @Test
+    public void add_nullOrder_appendedInOrderAdded() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        for (int entry = 0; entry < 100; entry++) {
+            assertEquals(entry, tree.add(99 - entry, null));
+        }
+        for (int index = 0; index < 100; index++) {
+            assertEquals(Integer.valueOf(99 - index), tree.get(index));
+            assertEquals(index, tree.indexOf(99 - index));
+        }
+    }
+
+    @Test
+    public void add_equalEntries_keptInOrderAdded() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        assertEquals(0, tree.add(21, ORDER_BY_TENS));
+        assertEquals(0, tree.add(15, ORDER_BY_TENS));
+        assertEquals(2, tree.add(23, ORDER_BY_TENS));
+        assertEquals(1, tree.add(12, ORDER_BY_TENS));
+        assertEquals(List.of(15, 12, 21, 23), toList(tree));
+    }
+
+    @Test
+    public void remove_entryNotInTree_returnsMinusOne() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        tree.add(1, null);
+        assertEquals(-1, tree.remove(2));
+        assertEquals(0, tree.remove(1));
+        assertEquals(0, tree.size());
+        assertFalse(tree.contains(1));
+    }
+
+    @Test
+    public void replace_entryKeepsPosition() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        for (int entry = 0; entry < 10; entry++) {
+            tree.add(entry, null);
+        }
+        assertEquals(4, tree.replace(4, 40));
+        assertEquals(Integer.valueOf(40), tree.get(4));
+        assertEquals(-1, tree.indexOf(4));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        tree.add(1, null);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.get(-1));
+    }
+
+    @Test
+    public void addRemove_manyEntries_sameAsSortedList() {
+        Random random = new Random(7);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int entry = random.nextInt(1000);
+            int index = expected.indexOf(entry);
+            if (index >= 0) {
+                assertEquals(index, tree.remove(entry));
+                expected.remove(index);
+            } else {
+                int position = 0;
+                while (position < expected.size() && ORDER_BY_TENS.compare(expected.get(position), entry) <= 0) {
+                    position++;
+                }
+                expected.add(position, entry);
+                assertEquals(position, tree.add(entry, ORDER_BY_TENS));
+            }
+            assertEquals(expected.size(), tree.size());
+        }
+
+        assertEquals(expected, toList(tree));
+        for (int index = 0; index < expected.size(); index++) {
+            assertEquals(expected.get(index), tree.get(index));
+            assertEquals(index, tree.indexOf(expected.get(index)));
+        }
+    }
+
+    private static List<Integer> toList(OrderStatisticTree<Integer> tree) {
+        List<Integer> entries = new ArrayList<>();
+        tree.forEach(entries::add);
+        return entries;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND;
+
+import org.junit.jupiter.api.Test;
+
+public class PageRequestTest {
+
+    @Test
+    public void firstPage_invalidLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.firstPage(0));
+    }
+
+    @Test
+    public void atOffset_negativeOffset_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.atOffset(-1, 10));
+    }
+
+    @Test
+    public void after_nullCursor_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PageRequest.after(null, 10));
+    }
+
+    @Test
+    public void getCursor() {
+        assertFalse(PageRequest.atOffset(5, 10).getCursor().isPresent());
+        assertEquals(INDEX_FIRST, PageRequest.after(INDEX_FIRST, 10).getCursor().get());
+    }
+
+    @Test
+    public void equals() {
+        PageRequest request = PageRequest.after(INDEX_FIRST, 10);
+
+        // same values -> returns true
+        assertTrue(request.equals(PageRequest.after(INDEX_FIRST, 10)));
+
+        // same object -> returns true
+        assertTrue(request.equals(request));
+
+        // null -> returns false
+        assertFalse(request.equals(null));
+
+        // different cursor -> returns false
+        assertFalse(request.equals(PageRequest.after(INDEX_SECOND, 10)));
+
+        // different limit -> returns false
+        assertFalse(request.equals(PageRequest.after(INDEX_FIRST, 20)));
+
+        // offset instead of cursor -> returns false
+        assertFalse(request.equals(PageRequest.atOffset(1, 10)));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class BookHistoryTest {
+
+    private static final BookState EMPTY_STATE = withPersons(PersistentMap.empty());
+
+    @Test
+    public void constructor_negativeDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BookHistory(EMPTY_STATE, -1));
+    }
+
+    @Test
+    public void commit_sameState_nothingToUndo() {
+        BookHistory history = new BookHistory(EMPTY_STATE, BookHistory.DEFAULT_DEPTH);
+        history.commit(withPersons(EMPTY_STATE.getPersons()));
+
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoRedo_committedStates_movesBetweenStates() {
+        BookState first = withPersons(EMPTY_STATE.getPersons().plus(ALICE, 0L));
+        BookState second = withPersons(first.getPersons().plus(BENSON, 1L));
+        BookHistory history = new BookHistory(EMPTY_STATE, BookHistory.DEFAULT_DEPTH);
+        history.commit(first);
+        history.commit(second);
+
+        assertSame(first, history.undo());
+        assertSame(EMPTY_STATE, history.undo());
+        assertFalse(history.canUndo());
+        assertSame(first, history.redo());
+        assertSame(second, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoDropped() {
+        BookState first = withPersons(EMPTY_STATE.getPersons().plus(ALICE, 0L));
+        BookHistory history = new BookHistory(EMPTY_STATE, BookHistory.DEFAULT_DEPTH);
+        history.commit(first);
+        history.undo();
+        history.commit(withPersons(EMPTY_STATE.getPersons().plus(BENSON, 1L)));
+
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void setDepth_fewerStates_oldestStatesDropped() {
+        BookHistory history = new BookHistory(EMPTY_STATE, BookHistory.DEFAULT_DEPTH);
+        PersistentMap<Person, Long> persons = EMPTY_STATE.getPersons().plus(ALICE, 0L);
+        history.commit(withPersons(persons));
+        history.commit(withPersons(persons.plus(BENSON, 1L)));
+        history.setDepth(1);
+
+        history.undo();
+        assertFalse(history.canUndo());
+        assertThrows(IllegalArgumentException.class, history::undo);
+    }
+
+    private static BookState withPersons(PersistentMap<Person, Long> persons) {
+        return new BookState(persons, PersistentMap.empty(), PersistentMap.empty());
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentMapTest {
+
+    @Test
+    public void plus_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentMap.<String, Integer>empty().plus(null, 1));
+        assertThrows(NullPointerException.class, () -> PersistentMap.<String, Integer>empty().plus("a", null));
+    }
+
+    @Test
+    public void plusMinus_manyKeys_sameAsHashMap() {
+        Random random = new Random(1);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentMap<Integer, Integer> map = PersistentMap.empty();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(5000);
+            if (random.nextBoolean()) {
+                expected.put(key, i);
+                map = map.plus(key, i);
+            } else {
+                expected.remove(key);
+                map = map.minus(key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void plusMinus_collidingKeys_keptApart() {
+        // "Aa" and "BB" have the same hash code
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("Aa", 1).plus("BB", 2);
+        assertEquals(Integer.valueOf(1), map.get("Aa"));
+        assertEquals(Integer.valueOf(2), map.get("BB"));
+
+        map = map.minus("Aa");
+        assertEquals(1, map.size());
+        assertNull(map.get("Aa"));
+        assertEquals(Integer.valueOf(2), map.get("BB"));
+    }
+
+    @Test
+    public void plusMinus_unchanged_sameMapReturned() {
+        PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1);
+        assertSame(map, map.plus("a", 1));
+        assertSame(map, map.minus("b"));
+    }
+
+    @Test
+    public void plus_earlierVersionUnchanged() {
+        PersistentMap<String, Integer> first = PersistentMap.<String, Integer>empty().plus("a", 1);
+        PersistentMap<String, Integer> second = first.plus("a", 2).plus("b", 3);
+
+        assertEquals(Integer.valueOf(1), first.get("a"));
+        assertFalse(first.containsKey("b"));
+        assertEquals(Integer.valueOf(2), second.get("a"));
+        assertTrue(second.containsKey("b"));
+    }
+
+    @Test
+    public void diff_changedKeys_reported() {
+        PersistentMap<Integer, Integer> from = PersistentMap.empty();
+        for (int i = 0; i < 1000; i++) {
+            from = from.plus(i, i);
+        }
+        PersistentMap<Integer, Integer> to = from.minus(10).plus(20, -20).plus(1000, 1000);
+
+        Map<Integer, Integer> removed = new HashMap<>();
+        Map<Integer, Integer> added = new HashMap<>();
+        PersistentMap.diff(from, to, new PersistentMap.DiffListener<>() {
+            @Override
+            public void removed(Integer key, Integer value) {
+                removed.put(key, value);
+            }
+
+            @Override
+            public void added(Integer key, Integer value) {
+                added.put(key, value);
+            }
+        });
+
+        assertEquals(Map.of(10, 10, 20, 20), removed);
+        assertEquals(Map.of(20, -20, 1000, 1000), added);
+    }
+}
@@ -137,6 +137,14 @@ public class UniqueLocationListTest {
         assertEquals(expectedUniqueLocationList, uniqueLocationList);
     }
 
+    @Test
+    public void setLocation_editedLocationHasDifferentIdentity_onlyEditedLocationContained() {
+        uniqueLocationList.add(ALICE_LOCATION);
+        uniqueLocationList.setLocation(ALICE_LOCATION, AMY_LOCATION);
+        assertFalse(uniqueLocationList.contains(ALICE_LOCATION));
+        assertTrue(uniqueLocationList.contains(AMY_LOCATION));
+    }
+
     @Test
     public void setLocation_editedLocationHasNonUniqueIdentity_throwsDuplicateLocationException() {
         uniqueLocationList.add(AMY_LOCATION);
@@ -165,6 +173,13 @@ public class UniqueLocationListTest {
         assertEquals(expectedUniqueLocationList, uniqueLocationList);
     }
 
+    @Test
+    public void remove_existingLocation_locationNoLongerContained() {
+        uniqueLocationList.add(ALICE_LOCATION);
+        uniqueLocationList.remove(ALICE_LOCATION);
+        assertFalse(uniqueLocationList.contains(ALICE_LOCATION));
+    }
+
     @Test
     public void setLocations_nullUniqueLocationList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLocationList.setLocations((UniqueLocationList) null));
@@ -0,0 +1,48 @@
+package seedu.address.model.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.metrics.CommandMetrics.Measure;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void record_nullCommandWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> commandMetrics.record(null, Measure.PARSE_TIME, 1));
+    }
+
+    @Test
+    public void getSummary_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.NO_COMMANDS, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_commandsInAlphabeticalOrder() {
+        commandMetrics.record("list", Measure.EXECUTE_TIME, 2_000_000);
+        commandMetrics.record("addVisit", Measure.PARSE_TIME, 500_000);
+        commandMetrics.record("addVisit", Measure.PARSE_TIME, 500_000);
+        commandMetrics.record("addVisit", Measure.ALLOCATED_BYTES, 2048);
+
+        String expectedSummary = "addVisit (2 runs)\n"
+                + "  parse: p50 0.50 ms, p90 0.50 ms, p99 0.50 ms, max 0.50 ms\n"
+                + "  allocated: p50 2.0 KB, p90 2.0 KB, p99 2.0 KB, max 2.0 KB\n"
+                + "list (1 runs)\n"
+                + "  execute: p50 2.00 ms, p90 2.00 ms, p99 2.00 ms, max 2.00 ms\n";
+        assertEquals(expectedSummary, commandMetrics.getSummary());
+    }
+
+    @Test
+    public void toCsv_commandsRecorded_oneLinePerMeasure() {
+        commandMetrics.record("clear", Measure.SAVE_TIME, 10);
+        commandMetrics.record("clear", Measure.SAVE_TIME, 20);
+
+        String expectedCsv = CommandMetrics.CSV_HEADER + "\n"
+                + "clear,SAVE_TIME,NANOSECONDS,2,15,10,20,20,20\n";
+        assertEquals(expectedCsv, commandMetrics.toCsv());
+    }
+}
@@ -14,8 +14,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -231,6 +233,24 @@ public class UniquePersonListTest {
                 uniquePersonList.setPersons(listWithUnidentifiablePersons));
     }
 
+    @Test
+    public void asUnmodifiableStatusIdMaps_personsChanged_mapsUpdated() {
+        // ALICE is in quarantine, BENSON is infected and in quarantine.
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Collections.singletonList(BENSON),
+                new ArrayList<>(uniquePersonList.asUnmodifiableInfectedIdMap().values()));
+        assertEquals(Arrays.asList(ALICE, BENSON),
+                new ArrayList<>(uniquePersonList.asUnmodifiableQuarantinedIdMap().values()));
+
+        Person recoveredBenson = new PersonBuilder(BENSON).withInfectionStatus("false").build();
+        uniquePersonList.setPerson(BENSON, recoveredBenson);
+        uniquePersonList.remove(ALICE);
+        assertTrue(uniquePersonList.asUnmodifiableInfectedIdMap().isEmpty());
+        assertEquals(Collections.singletonList(recoveredBenson),
+                new ArrayList<>(uniquePersonList.asUnmodifiableQuarantinedIdMap().values()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
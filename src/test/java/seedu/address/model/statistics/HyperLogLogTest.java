@@ -0,0 +1,90 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HyperLogLogTest {
+
+    @Test
+    public void constructor_invalidPrecision_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MIN_PRECISION - 1));
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1));
+    }
+
+    @Test
+    public void offer_repeatedValue_returnsFalse() {
+        HyperLogLog sketch = new HyperLogLog(HyperLogLog.MIN_PRECISION);
+        assertTrue(sketch.offer(1));
+        assertFalse(sketch.offer(1));
+
+        // Once the registers are used, a repeated value cannot raise any of them.
+        for (int i = 2; i < 100; i++) {
+            sketch.offer(i);
+        }
+        assertFalse(sketch.isExact());
+        assertFalse(sketch.offer(50));
+    }
+
+    @Test
+    public void estimate_fewValues_exact() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 100; i++) {
+            sketch.offer(i);
+            sketch.offer(i);
+        }
+        assertTrue(sketch.isExact());
+        assertEquals(0, sketch.getRelativeError());
+        assertEquals(100, sketch.estimate());
+    }
+
+    @Test
+    public void estimate_manyValues_withinErrorBound() {
+        HyperLogLog sketch = new HyperLogLog();
+        int count = 100000;
+        for (int i = 0; i < count; i++) {
+            sketch.offer(i);
+        }
+        assertFalse(sketch.isExact());
+        // Three standard errors away from the count is very unlikely.
+        assertEquals(count, sketch.estimate(), 3 * sketch.getRelativeError() * count);
+    }
+
+    @Test
+    public void merge_overlappingSketches_estimatesUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 30000; i++) {
+            first.offer(i);
+            second.offer(i + 20000);
+        }
+        HyperLogLog union = new HyperLogLog(first);
+        union.merge(second);
+        assertEquals(50000, union.estimate(), 3 * union.getRelativeError() * 50000);
+
+        HyperLogLog small = new HyperLogLog();
+        small.offer(1);
+        small.offer(2);
+        HyperLogLog smallUnion = new HyperLogLog(small);
+        smallUnion.merge(small);
+        assertEquals(2, smallUnion.estimate());
+    }
+
+    @Test
+    public void merge_differentPrecision_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(8).merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    public void constructor_copy_independentOfOriginal() {
+        HyperLogLog original = new HyperLogLog();
+        original.offer(1);
+        HyperLogLog copy = new HyperLogLog(original);
+        copy.offer(2);
+        assertEquals(1, original.estimate());
+        assertEquals(2, copy.estimate());
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.testutil.VisitBuilder;
+
+public class LocationTimeSeriesTest {
+
+    private static final double DELTA = 1e-9;
+    private static final LocalDate END_DATE = LocalDate.parse("2020-09-14");
+
+    // BENSON, DANIEL and ELLE are infected, and ALICE is not.
+    private static final Visit ALICE_VISIT = visit(ALICE, ALICE_LOCATION, "2020-09-12");
+    private static final Visit BENSON_VISIT = visit(BENSON, ALICE_LOCATION, "2020-09-12");
+    private static final Visit DANIEL_VISIT = visit(DANIEL, ALICE_LOCATION, "2020-09-14");
+    private static final Visit ELLE_VISIT = visit(ELLE, BENSON_LOCATION, "2020-09-14");
+    private static final Visit EARLIER_ELLE_VISIT = visit(ELLE, BENSON_LOCATION, "2020-09-03");
+
+    private static final List<Visit> VISITS = Arrays.asList(ALICE_VISIT, BENSON_VISIT, DANIEL_VISIT, ELLE_VISIT,
+            EARLIER_ELLE_VISIT);
+
+    private final LocationTimeSeries timeSeries = new LocationTimeSeries();
+
+    @Test
+    public void resetData_countsVisitsByDay() {
+        timeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+
+        assertEquals(3, timeSeries.getVisitCount(ALICE_LOCATION.getId(), END_DATE.minusDays(6), END_DATE));
+        assertEquals(2, timeSeries.getInfectedVisitCount(ALICE_LOCATION.getId(), END_DATE.minusDays(6), END_DATE));
+        assertEquals(1, timeSeries.getInfectedVisitCount(ALICE_LOCATION.getId(), END_DATE, END_DATE));
+        assertEquals(2, timeSeries.getVisitCount(BENSON_LOCATION.getId(), LocalDate.MIN.plusDays(1), END_DATE));
+        assertEquals(0, timeSeries.getVisitCount(BENSON_LOCATION.getId(), END_DATE.plusDays(1), LocalDate.MAX));
+    }
+
+    @Test
+    public void addVisit_sameAsResetData() {
+        LocationTimeSeries resetTimeSeries = new LocationTimeSeries();
+        resetTimeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+        VISITS.forEach(visit -> timeSeries.addVisit(visit, isInfected(visit.getPerson().getId())));
+
+        assertEquals(resetTimeSeries.getTopGrowingLocations(END_DATE, 10),
+                timeSeries.getTopGrowingLocations(END_DATE, 10));
+        assertEquals(resetTimeSeries.getBlockCount(), timeSeries.getBlockCount());
+    }
+
+    @Test
+    public void getInfectedVisitMovingAverage() {
+        timeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+
+        assertEquals(2.0 / 7, timeSeries.getInfectedVisitMovingAverage(ALICE_LOCATION.getId(), END_DATE, 7), DELTA);
+        assertEquals(0.5, timeSeries.getInfectedVisitMovingAverage(ALICE_LOCATION.getId(), END_DATE, 2), DELTA);
+        assertThrows(IllegalArgumentException.class, () ->
+                timeSeries.getInfectedVisitMovingAverage(ALICE_LOCATION.getId(), END_DATE, 0));
+    }
+
+    @Test
+    public void getTopGrowingLocations_orderedByGrowth() {
+        timeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+
+        // BENSON_LOCATION had one infected visit in each week, so it did not grow.
+        assertEquals(Collections.singletonList(new LocationTrend(ALICE_LOCATION.getId(), 2, 0)),
+                timeSeries.getTopGrowingLocations(END_DATE, 10));
+
+        timeSeries.removeVisit(EARLIER_ELLE_VISIT, true);
+        assertEquals(Arrays.asList(new LocationTrend(ALICE_LOCATION.getId(), 2, 0),
+                new LocationTrend(BENSON_LOCATION.getId(), 1, 0)), timeSeries.getTopGrowingLocations(END_DATE, 10));
+        assertEquals(Collections.singletonList(new LocationTrend(ALICE_LOCATION.getId(), 2, 0)),
+                timeSeries.getTopGrowingLocations(END_DATE, 1));
+    }
+
+    @Test
+    public void setInfected_visitsRecounted() {
+        timeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+
+        timeSeries.setInfected(Collections.singletonList(ALICE_VISIT), true);
+        assertEquals(3, timeSeries.getInfectedVisitCount(ALICE_LOCATION.getId(), END_DATE.minusDays(6), END_DATE));
+
+        timeSeries.setInfected(Arrays.asList(ALICE_VISIT, BENSON_VISIT), false);
+        assertEquals(1, timeSeries.getInfectedVisitCount(ALICE_LOCATION.getId(), END_DATE.minusDays(6), END_DATE));
+        assertEquals(3, timeSeries.getVisitCount(ALICE_LOCATION.getId(), END_DATE.minusDays(6), END_DATE));
+    }
+
+    @Test
+    public void addVisit_daysFarApart_onlyVisitedBlocksAllocated() {
+        timeSeries.addVisit(visit(BENSON, ALICE_LOCATION, "2020-01-01"), true);
+        timeSeries.addVisit(visit(BENSON, ALICE_LOCATION, "2020-12-31"), true);
+        timeSeries.addVisit(visit(BENSON, ALICE_LOCATION, "2019-06-30"), true);
+
+        assertEquals(3, timeSeries.getBlockCount());
+        assertEquals(3, timeSeries.getVisitCount(ALICE_LOCATION.getId(), LocalDate.parse("2019-01-01"),
+                LocalDate.parse("2020-12-31")));
+        assertEquals(1, timeSeries.getVisitCount(ALICE_LOCATION.getId(), LocalDate.parse("2020-01-01"),
+                LocalDate.parse("2020-12-30")));
+    }
+
+    @Test
+    public void addVisit_mistypedYear_oneMoreBlock() {
+        timeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+        int blockCount = timeSeries.getBlockCount();
+        timeSeries.addVisit(visit(ELLE, BENSON_LOCATION, "9020-09-14"), true);
+
+        assertEquals(blockCount + 1, timeSeries.getBlockCount());
+        assertEquals(3, timeSeries.getInfectedVisitCount(BENSON_LOCATION.getId(), LocalDate.MIN, LocalDate.MAX));
+        assertEquals(2, timeSeries.getInfectedVisitCount(BENSON_LOCATION.getId(), END_DATE.minusDays(13), END_DATE));
+    }
+
+    @Test
+    public void removeVisit_lastVisitInBlock_blockFreed() {
+        timeSeries.resetData(VISITS, LocationTimeSeriesTest::isInfected);
+        int blockCount = timeSeries.getBlockCount();
+        Visit laterVisit = visit(ELLE, BENSON_LOCATION, "2021-09-14");
+        timeSeries.addVisit(laterVisit, true);
+        assertEquals(blockCount + 1, timeSeries.getBlockCount());
+
+        timeSeries.removeVisit(laterVisit, true);
+        assertEquals(blockCount, timeSeries.getBlockCount());
+
+        VISITS.forEach(visit -> timeSeries.removeVisit(visit, isInfected(visit.getPerson().getId())));
+        assertEquals(0, timeSeries.getBlockCount());
+        assertEquals(0, timeSeries.getVisitCount(ALICE_LOCATION.getId(), END_DATE.minusDays(6), END_DATE));
+    }
+
+    private static boolean isInfected(Index personId) {
+        return !personId.equals(ALICE.getId());
+    }
+
+    private static Visit visit(Person person, Location location, String date) {
+        return new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.VisitBuilder;
+
+public class UniqueVisitorIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 9, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2020, 9, 30);
+
+    private final VisitBook visitBook = new VisitBook();
+    private final UniqueVisitorIndex index = new UniqueVisitorIndex(visitBook);
+
+    @Test
+    public void getUniqueVisitors_repeatVisitors_countedOnce() {
+        addVisit(ALICE, ALICE_LOCATION, "2020-09-01");
+        addVisit(ALICE, ALICE_LOCATION, "2020-09-02");
+        addVisit(BENSON, ALICE_LOCATION, "2020-09-02");
+        addVisit(CARL, BENSON_LOCATION, "2020-09-02");
+
+        assertEquals(2, index.getUniqueVisitors(ALICE_LOCATION.getId(), FIRST_DAY, LAST_DAY).estimate());
+        assertEquals(1, index.getUniqueVisitors(BENSON_LOCATION.getId(), FIRST_DAY, LAST_DAY).estimate());
+    }
+
+    @Test
+    public void getUniqueVisitors_dateRange_onlyCountsVisitsInRange() {
+        addVisit(ALICE, ALICE_LOCATION, "2020-09-01");
+        addVisit(BENSON, ALICE_LOCATION, "2020-09-10");
+        addVisit(CARL, ALICE_LOCATION, "2020-09-20");
+
+        LocalDate startDate = LocalDate.of(2020, 9, 10);
+        assertEquals(2, index.getUniqueVisitors(ALICE_LOCATION.getId(), startDate, LAST_DAY).estimate());
+        assertEquals(0, index.getUniqueVisitors(ALICE_LOCATION.getId(), LAST_DAY, startDate).estimate());
+    }
+
+    @Test
+    public void removeVisit_rebuildsSketchOfThatDay() {
+        addVisit(ALICE, ALICE_LOCATION, "2020-09-01");
+        Visit bensonVisit = addVisit(BENSON, ALICE_LOCATION, "2020-09-01");
+
+        visitBook.removeVisit(bensonVisit);
+        index.removeVisit(bensonVisit);
+        assertEquals(1, index.getUniqueVisitors(ALICE_LOCATION.getId(), FIRST_DAY, LAST_DAY).estimate());
+    }
+
+    @Test
+    public void resetData_countsVisitsInVisitBook() {
+        visitBook.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(ALICE_LOCATION)
+                .withDate("2020-09-01").build());
+        index.resetData();
+        assertEquals(1, index.getUniqueVisitors(ALICE_LOCATION.getId(), FIRST_DAY, LAST_DAY).estimate());
+    }
+
+    private Visit addVisit(Person person, Location location, String date) {
+        Visit visit = new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+        visitBook.addVisit(visit);
+        index.addVisit(visit);
+        return visit;
+    }
+}
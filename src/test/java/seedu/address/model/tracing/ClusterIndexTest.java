@@ -0,0 +1,109 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.testutil.VisitBuilder;
+
+public class ClusterIndexTest {
+
+    private static final List<Person> PERSONS = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+
+    // ALICE, BENSON and CARL are linked through ALICE_LOCATION. DANIEL and ELLE visited BENSON_LOCATION together.
+    private static final Visit ALICE_VISIT = visit(ALICE, ALICE_LOCATION, "2020-09-01");
+    private static final Visit BENSON_VISIT = visit(BENSON, ALICE_LOCATION, "2020-09-03");
+    private static final Visit CARL_VISIT = visit(CARL, ALICE_LOCATION, "2020-09-05");
+    private static final Visit DANIEL_VISIT = visit(DANIEL, BENSON_LOCATION, "2020-09-03");
+    private static final Visit ELLE_VISIT = visit(ELLE, BENSON_LOCATION, "2020-09-03");
+    private static final Visit FIONA_VISIT = visit(FIONA, CARL_LOCATION, "2020-09-03");
+
+    private final List<Visit> visits = new ArrayList<>();
+    private final ClusterIndex clusterIndex = new ClusterIndex(visits, 2);
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ClusterIndex(visits, -1));
+    }
+
+    @Test
+    public void addVisit_visitsWithinWindow_linkedThroughChain() {
+        addVisits(ALICE_VISIT, BENSON_VISIT, CARL_VISIT);
+        // ALICE and CARL visited four days apart, but are both linked to BENSON.
+        assertTrue(clusterIndex.isInSameCluster(ALICE.getId(), CARL.getId()));
+    }
+
+    @Test
+    public void addVisit_visitsOutsideWindow_notLinked() {
+        addVisits(ALICE_VISIT, CARL_VISIT);
+        assertFalse(clusterIndex.isInSameCluster(ALICE.getId(), CARL.getId()));
+    }
+
+    @Test
+    public void getClusters_orderedByInfectedCount() {
+        addVisits(ALICE_VISIT, BENSON_VISIT, CARL_VISIT, DANIEL_VISIT, ELLE_VISIT, FIONA_VISIT);
+
+        // FIONA is not linked to anyone, so she is not in a cluster.
+        List<Cluster> clusters = clusterIndex.getClusters(PERSONS);
+        assertEquals(2, clusters.size());
+        assertEquals(new Cluster(Arrays.asList(DANIEL, ELLE), Set.of(BENSON_LOCATION.getId())), clusters.get(0));
+        assertEquals(2, clusters.get(0).getInfectedCount());
+        assertEquals(new Cluster(Arrays.asList(ALICE, BENSON, CARL), Set.of(ALICE_LOCATION.getId())),
+                clusters.get(1));
+        assertEquals(1, clusters.get(1).getInfectedCount());
+    }
+
+    @Test
+    public void getClusters_personNotInList_stillLinksOthers() {
+        addVisits(ALICE_VISIT, BENSON_VISIT, CARL_VISIT);
+        List<Cluster> clusters = clusterIndex.getClusters(Arrays.asList(ALICE, CARL));
+        assertEquals(List.of(new Cluster(Arrays.asList(ALICE, CARL), Set.of(ALICE_LOCATION.getId()))), clusters);
+    }
+
+    @Test
+    public void removeVisit_linkingVisitRemoved_clusterSplit() {
+        addVisits(ALICE_VISIT, BENSON_VISIT, CARL_VISIT);
+        visits.remove(BENSON_VISIT);
+        clusterIndex.removeVisit(BENSON_VISIT);
+        assertFalse(clusterIndex.isInSameCluster(ALICE.getId(), CARL.getId()));
+        assertTrue(clusterIndex.getClusters(PERSONS).isEmpty());
+    }
+
+    @Test
+    public void setWindowDays_widerWindow_linksMorePersons() {
+        addVisits(ALICE_VISIT, CARL_VISIT);
+        clusterIndex.setWindowDays(4);
+        assertTrue(clusterIndex.isInSameCluster(ALICE.getId(), CARL.getId()));
+    }
+
+    private void addVisits(Visit... visitsToAdd) {
+        for (Visit visit : visitsToAdd) {
+            visits.add(visit);
+            clusterIndex.addVisit(visit);
+        }
+    }
+
+    private static Visit visit(Person person, Location location, String date) {
+        return new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+    }
+}
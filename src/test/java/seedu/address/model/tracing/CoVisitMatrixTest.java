@@ -0,0 +1,162 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.LocationBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+public class CoVisitMatrixTest {
+
+    // ALICE visits ALICE_LOCATION and CARL_LOCATION within a week, and DANIEL_LOCATION much later.
+    // BENSON visits CARL_LOCATION twice and then DANIEL_LOCATION.
+    private static final Visit ALICE_AT_ALICE = visit(ALICE, ALICE_LOCATION, "2020-09-01");
+    private static final Visit ALICE_AT_CARL = visit(ALICE, CARL_LOCATION, "2020-09-03");
+    private static final Visit ALICE_AT_DANIEL = visit(ALICE, DANIEL_LOCATION, "2020-09-30");
+    private static final Visit BENSON_AT_CARL = visit(BENSON, CARL_LOCATION, "2020-09-10");
+    private static final Visit BENSON_AT_CARL_AGAIN = visit(BENSON, CARL_LOCATION, "2020-09-11");
+    private static final Visit BENSON_AT_DANIEL = visit(BENSON, DANIEL_LOCATION, "2020-09-12");
+
+    private static final List<Visit> VISITS = Arrays.asList(ALICE_AT_ALICE, ALICE_AT_CARL, ALICE_AT_DANIEL,
+            BENSON_AT_CARL, BENSON_AT_CARL_AGAIN, BENSON_AT_DANIEL);
+
+    private final VisitBook visitBook = new VisitBook();
+    private CoVisitMatrix coVisitMatrix;
+
+    @BeforeEach
+    public void setUp() {
+        visitBook.setVisits(VISITS);
+        coVisitMatrix = new CoVisitMatrix(visitBook, 14);
+    }
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CoVisitMatrix(visitBook, -1));
+    }
+
+    @Test
+    public void resetData_coVisitsWithinWindowCounted() {
+        assertEquals(1, coVisitMatrix.getCoVisitCount(ALICE_LOCATION.getId(), CARL_LOCATION.getId()));
+        assertEquals(1, coVisitMatrix.getCoVisitCount(CARL_LOCATION.getId(), ALICE_LOCATION.getId()));
+        assertEquals(2, coVisitMatrix.getCoVisitCount(CARL_LOCATION.getId(), DANIEL_LOCATION.getId()));
+        assertEquals(0, coVisitMatrix.getCoVisitCount(ALICE_LOCATION.getId(), DANIEL_LOCATION.getId()));
+        assertEquals(0, coVisitMatrix.getCoVisitCount(CARL_LOCATION.getId(), CARL_LOCATION.getId()));
+    }
+
+    @Test
+    public void getMostConnectedLocations_orderedByCoVisits() {
+        assertEquals(Arrays.asList(DANIEL_LOCATION.getId(), ALICE_LOCATION.getId()),
+                coVisitMatrix.getMostConnectedLocations(Collections.singleton(CARL_LOCATION.getId()), 10));
+        assertEquals(Collections.singletonList(DANIEL_LOCATION.getId()),
+                coVisitMatrix.getMostConnectedLocations(Collections.singleton(CARL_LOCATION.getId()), 1));
+
+        // Locations in the given set are left out.
+        assertEquals(Collections.singletonList(ALICE_LOCATION.getId()),
+                coVisitMatrix.getMostConnectedLocations(
+                        new LinkedHashSet<>(Arrays.asList(CARL_LOCATION.getId(), DANIEL_LOCATION.getId())), 10));
+        assertEquals(Collections.emptyList(),
+                coVisitMatrix.getMostConnectedLocations(Collections.singleton(Index.fromOneBased(1000)), 10));
+    }
+
+    @Test
+    public void getMostConnectedLocations_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                coVisitMatrix.getMostConnectedLocations(Collections.singleton(CARL_LOCATION.getId()), -1));
+    }
+
+    @Test
+    public void addAndRemoveVisit_sameAsResetData() {
+        VisitBook incrementalVisitBook = new VisitBook();
+        CoVisitMatrix incrementalMatrix = new CoVisitMatrix(incrementalVisitBook, 14);
+        for (Visit visit : VISITS) {
+            incrementalVisitBook.addVisit(visit);
+            incrementalMatrix.addVisit(visit);
+        }
+        assertSameCounts(coVisitMatrix, incrementalMatrix, Arrays.asList(ALICE_LOCATION, CARL_LOCATION,
+                DANIEL_LOCATION));
+
+        incrementalVisitBook.removeVisit(BENSON_AT_CARL);
+        incrementalMatrix.removeVisit(BENSON_AT_CARL);
+        assertEquals(1, incrementalMatrix.getCoVisitCount(CARL_LOCATION.getId(), DANIEL_LOCATION.getId()));
+    }
+
+    @Test
+    public void setWindowDays_largerWindow_moreCoVisits() {
+        coVisitMatrix.setWindowDays(30);
+        assertEquals(1, coVisitMatrix.getCoVisitCount(ALICE_LOCATION.getId(), DANIEL_LOCATION.getId()));
+        assertEquals(3, coVisitMatrix.getCoVisitCount(CARL_LOCATION.getId(), DANIEL_LOCATION.getId()));
+    }
+
+    @Test
+    public void resetData_manyPersons_sameAsAddingVisits() {
+        // Enough persons to split the counting between several tasks.
+        Random random = new Random(11);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new PersonBuilder().withId(Index.fromOneBased(i + 1)).build());
+        }
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            locations.add(new LocationBuilder(ALICE_LOCATION).withId(Index.fromOneBased(i + 1)).build());
+        }
+        Set<Visit> uniqueVisits = new LinkedHashSet<>();
+        for (int i = 0; i < 4000; i++) {
+            uniqueVisits.add(new VisitBuilder().withPerson(persons.get(random.nextInt(persons.size())))
+                    .withLocation(locations.get(random.nextInt(locations.size())))
+                    .withDate(LocalDate.parse("2020-09-01").plusDays(random.nextInt(60)).toString()).build());
+        }
+        List<Visit> visits = new ArrayList<>(uniqueVisits);
+
+        VisitBook incrementalVisitBook = new VisitBook();
+        CoVisitMatrix incrementalMatrix = new CoVisitMatrix(incrementalVisitBook, 7);
+        for (Visit visit : visits) {
+            incrementalVisitBook.addVisit(visit);
+            incrementalMatrix.addVisit(visit);
+        }
+        Collections.shuffle(visits, random);
+        for (Visit visit : visits.subList(0, 1000)) {
+            incrementalVisitBook.removeVisit(visit);
+            incrementalMatrix.removeVisit(visit);
+        }
+
+        VisitBook remainingVisitBook = new VisitBook();
+        remainingVisitBook.setVisits(incrementalVisitBook.getVisitList());
+        assertSameCounts(new CoVisitMatrix(remainingVisitBook, 7), incrementalMatrix, locations);
+    }
+
+    private static void assertSameCounts(CoVisitMatrix expected, CoVisitMatrix actual, List<Location> locations) {
+        for (Location first : locations) {
+            for (Location second : locations) {
+                assertEquals(expected.getCoVisitCount(first.getId(), second.getId()),
+                        actual.getCoVisitCount(first.getId(), second.getId()));
+            }
+        }
+    }
+
+    private static Visit visit(Person person, Location location, String date) {
+        return new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.statistics.UniqueVisitorIndex;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.LocationBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+public class ContactDegreeIndexTest {
+
+    // CARL shares a visit with BENSON at both locations, one with ALICE and one with DANIEL. CARL_AT_CARL is a week
+    // before the other visits to CARL_LOCATION.
+    private static final Visit BENSON_AT_CARL = visit(BENSON, CARL_LOCATION, "2020-09-12");
+    private static final Visit ALICE_AT_CARL = visit(ALICE, CARL_LOCATION, "2020-09-12");
+    private static final Visit CARL_AT_CARL = visit(CARL, CARL_LOCATION, "2020-09-05");
+    private static final Visit BENSON_AT_DANIEL = visit(BENSON, DANIEL_LOCATION, "2020-09-19");
+    private static final Visit CARL_AT_DANIEL = visit(CARL, DANIEL_LOCATION, "2020-09-19");
+    private static final Visit DANIEL_AT_DANIEL = visit(DANIEL, DANIEL_LOCATION, "2020-09-13");
+
+    private static final List<Visit> VISITS = Arrays.asList(BENSON_AT_CARL, ALICE_AT_CARL, CARL_AT_CARL,
+            BENSON_AT_DANIEL, CARL_AT_DANIEL, DANIEL_AT_DANIEL);
+
+    private final VisitBook visitBook = new VisitBook();
+    private UniqueVisitorIndex uniqueVisitorIndex;
+    private ContactDegreeIndex contactDegreeIndex;
+
+    @BeforeEach
+    public void setUp() {
+        visitBook.setVisits(VISITS);
+        uniqueVisitorIndex = new UniqueVisitorIndex(visitBook);
+        contactDegreeIndex = new ContactDegreeIndex(visitBook, uniqueVisitorIndex, 14);
+    }
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ContactDegreeIndex(visitBook, uniqueVisitorIndex, -1));
+    }
+
+    @Test
+    public void resetData_distinctContactsCounted() {
+        assertEquals(3, contactDegreeIndex.getContactDegree(CARL.getId()));
+        assertEquals(3, contactDegreeIndex.getContactDegree(BENSON.getId()));
+        assertEquals(2, contactDegreeIndex.getContactDegree(ALICE.getId()));
+        assertEquals(2, contactDegreeIndex.getContactDegree(DANIEL.getId()));
+        assertEquals(Arrays.asList(BENSON.getId(), CARL.getId(), ALICE.getId(), DANIEL.getId()),
+                new ArrayList<>(contactDegreeIndex.getIdsByDegree()));
+    }
+
+    @Test
+    public void addVisit_sameAsResetData() {
+        VisitBook incrementalVisitBook = new VisitBook();
+        UniqueVisitorIndex incrementalVisitorIndex = new UniqueVisitorIndex(incrementalVisitBook);
+        ContactDegreeIndex incrementalIndex =
+                new ContactDegreeIndex(incrementalVisitBook, incrementalVisitorIndex, 14);
+        for (Visit visit : VISITS) {
+            incrementalVisitBook.addVisit(visit);
+            incrementalVisitorIndex.addVisit(visit);
+            incrementalIndex.addVisit(visit);
+        }
+        assertSameDegrees(contactDegreeIndex, incrementalIndex);
+    }
+
+    @Test
+    public void removeVisit_sharedVisitRemains_degreeUnchanged() {
+        // CARL still shares a visit with BENSON at CARL's home.
+        removeVisit(CARL_AT_DANIEL);
+        assertEquals(2, contactDegreeIndex.getContactDegree(CARL.getId()));
+        assertEquals(3, contactDegreeIndex.getContactDegree(BENSON.getId()));
+        assertEquals(1, contactDegreeIndex.getContactDegree(DANIEL.getId()));
+
+        removeVisit(CARL_AT_CARL);
+        assertEquals(0, contactDegreeIndex.getContactDegree(CARL.getId()));
+        assertEquals(2, contactDegreeIndex.getContactDegree(BENSON.getId()));
+        assertEquals(Arrays.asList(BENSON.getId(), ALICE.getId(), DANIEL.getId()),
+                new ArrayList<>(contactDegreeIndex.getIdsByDegree()));
+    }
+
+    @Test
+    public void setWindowDays_smallerWindow_fewerContacts() {
+        contactDegreeIndex.setWindowDays(0);
+        // CARL_AT_CARL and DANIEL_AT_DANIEL no longer overlap with any other visit.
+        assertEquals(1, contactDegreeIndex.getContactDegree(CARL.getId()));
+        assertEquals(2, contactDegreeIndex.getContactDegree(BENSON.getId()));
+        assertEquals(0, contactDegreeIndex.getContactDegree(DANIEL.getId()));
+    }
+
+    @Test
+    public void addAndRemoveVisit_manyRandomVisits_sameAsResetData() {
+        // Enough pairs to grow and shrink the hash table of shared visits many times.
+        Random random = new Random(7);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            persons.add(new PersonBuilder().withId(Index.fromOneBased(i + 1)).build());
+        }
+        List<Location> locations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            locations.add(new LocationBuilder(ALICE_LOCATION).withId(Index.fromOneBased(i + 1)).build());
+        }
+        Set<Visit> uniqueVisits = new LinkedHashSet<>();
+        for (int i = 0; i < 400; i++) {
+            uniqueVisits.add(new VisitBuilder().withPerson(persons.get(random.nextInt(persons.size())))
+                    .withLocation(locations.get(random.nextInt(locations.size())))
+                    .withDate(LocalDate.parse("2020-09-01").plusDays(random.nextInt(60)).toString()).build());
+        }
+
+        List<Visit> visits = new ArrayList<>(uniqueVisits);
+
+        VisitBook incrementalVisitBook = new VisitBook();
+        UniqueVisitorIndex incrementalVisitorIndex = new UniqueVisitorIndex(incrementalVisitBook);
+        ContactDegreeIndex incrementalIndex = new ContactDegreeIndex(incrementalVisitBook, incrementalVisitorIndex, 3);
+        for (Visit visit : visits) {
+            incrementalVisitBook.addVisit(visit);
+            incrementalVisitorIndex.addVisit(visit);
+            incrementalIndex.addVisit(visit);
+        }
+        Collections.shuffle(visits, random);
+        for (int i = 0; i < 300; i++) {
+            Visit visit = visits.get(i);
+            incrementalVisitBook.removeVisit(visit);
+            incrementalVisitorIndex.removeVisit(visit);
+            incrementalIndex.removeVisit(visit);
+            // Adds some of the visits back between removals, while the sketches of some persons are out of date.
+            if (i % 50 == 0) {
+                incrementalVisitBook.addVisit(visit);
+                incrementalVisitorIndex.addVisit(visit);
+                incrementalIndex.addVisit(visit);
+            }
+        }
+
+        VisitBook remainingVisitBook = new VisitBook();
+        remainingVisitBook.setVisits(incrementalVisitBook.getVisitList());
+        assertSameDegrees(new ContactDegreeIndex(remainingVisitBook, new UniqueVisitorIndex(remainingVisitBook), 3),
+                incrementalIndex);
+    }
+
+    @Test
+    public void getContactDegree_moreContactsThanKeptExactly_estimateWithinError() {
+        // Every person visits the same location on the same day.
+        List<Visit> visits = new ArrayList<>();
+        int personCount = 5000;
+        for (int i = 0; i < personCount; i++) {
+            visits.add(visit(new PersonBuilder().withId(Index.fromOneBased(i + 1)).build(), ALICE_LOCATION,
+                    "2020-09-12"));
+        }
+        visitBook.setVisits(visits);
+        uniqueVisitorIndex.resetData();
+        contactDegreeIndex.resetData();
+
+        int degree = contactDegreeIndex.getContactDegree(Index.fromOneBased(1));
+        assertEquals(personCount - 1, degree, (personCount - 1) * 0.1);
+    }
+
+    /**
+     * Removes {@code visit} from the visit book and then from the indexes, in the same order as the model does.
+     */
+    private void removeVisit(Visit visit) {
+        visitBook.removeVisit(visit);
+        uniqueVisitorIndex.removeVisit(visit);
+        contactDegreeIndex.removeVisit(visit);
+    }
+
+    private static void assertSameDegrees(ContactDegreeIndex expected, ContactDegreeIndex actual) {
+        assertEquals(new ArrayList<>(expected.getIdsByDegree()), new ArrayList<>(actual.getIdsByDegree()));
+        for (Index personId : expected.getIdsByDegree()) {
+            assertEquals(expected.getContactDegree(personId), actual.getContactDegree(personId));
+        }
+    }
+
+    private static Visit visit(Person person, Location location, String date) {
+        return new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+    }
+}
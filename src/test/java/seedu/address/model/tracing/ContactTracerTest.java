@@ -0,0 +1,95 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.LocationBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+import seedu.address.testutil.VisitBookBuilder;
+
+public class ContactTracerTest {
+
+    private final VisitBook visitBook = new VisitBookBuilder()
+            .withVisit(new VisitBuilder().withPerson(BENSON).withLocation(CARL_LOCATION).withDate("2020-09-12")
+                    .build())
+            .withVisit(new VisitBuilder().withPerson(ALICE).withLocation(CARL_LOCATION).withDate("2020-09-12")
+                    .build())
+            .withVisit(new VisitBuilder().withPerson(CARL).withLocation(CARL_LOCATION).withDate("2020-09-15")
+                    .build())
+            .withVisit(new VisitBuilder().withPerson(DANIEL).withLocation(DANIEL_LOCATION).withDate("2020-09-13")
+                    .build())
+            .withVisit(new VisitBuilder().withPerson(BENSON).withLocation(DANIEL_LOCATION).withDate("2020-09-14")
+                    .build())
+            .build();
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ContactTracer(-1));
+    }
+
+    @Test
+    public void trace_sameDayWindow_findsSameDayVisitorsOnly() {
+        Map<Index, Set<Index>> contacts = new ContactTracer(0).trace(visitBook, Set.of(BENSON.getId()));
+        assertEquals(Map.of(ALICE.getId(), Set.of(BENSON.getId())), contacts);
+    }
+
+    @Test
+    public void trace_widerWindow_findsVisitorsOnNearbyDays() {
+        Map<Index, Set<Index>> contacts = new ContactTracer(3).trace(visitBook, Set.of(BENSON.getId()));
+        assertEquals(Set.of(ALICE.getId(), CARL.getId(), DANIEL.getId()), contacts.keySet());
+    }
+
+    @Test
+    public void trace_multipleSources_mapsContactsToAllTheirSources() {
+        Map<Index, Set<Index>> contacts = new ContactTracer(1)
+                .trace(visitBook, Set.of(BENSON.getId(), DANIEL.getId()));
+        assertEquals(Set.of(DANIEL.getId()), contacts.get(BENSON.getId()));
+        assertEquals(Set.of(BENSON.getId()), contacts.get(DANIEL.getId()));
+        assertEquals(Set.of(BENSON.getId()), contacts.get(ALICE.getId()));
+    }
+
+    @Test
+    public void trace_sourceWithoutVisits_returnsNoContacts() {
+        assertTrue(new ContactTracer(ContactTracer.DEFAULT_WINDOW_DAYS)
+                .trace(visitBook, Set.of(Index.fromOneBased(99))).isEmpty());
+    }
+
+    @Test
+    public void trace_manyLocations_splitsSweepsAcrossTasks() {
+        // Enough locations for the sweep to be split across several tasks
+        VisitBook largeVisitBook = new VisitBook();
+        Person source = new PersonBuilder().withId(Index.fromOneBased(1000)).build();
+        LocalDate date = LocalDate.of(2020, 9, 12);
+        for (int i = 0; i < 200; i++) {
+            Location location = new LocationBuilder().withName("Location " + i)
+                    .withId(Index.fromOneBased(1000 + i)).build();
+            Person visitor = new PersonBuilder().withId(Index.fromOneBased(2000 + i)).build();
+            largeVisitBook.addVisit(new Visit(source, location, date));
+            largeVisitBook.addVisit(new Visit(visitor, location, date.plusDays(i % 3)));
+        }
+
+        Map<Index, Set<Index>> contacts = new ContactTracer(1).trace(largeVisitBook, Set.of(source.getId()));
+        // The 66 visitors two days after the source are out of range
+        assertEquals(134, contacts.size());
+        contacts.values().forEach(sourceIds -> assertEquals(Set.of(source.getId()), sourceIds));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CountTableTest {
+
+    @Test
+    public void add_countReachesZero_keyRemoved() {
+        CountTable table = new CountTable();
+        assertEquals(2, table.add(5, 2));
+        assertEquals(3, table.add(5, 1));
+        assertEquals(1, table.size());
+        assertEquals(0, table.add(5, -3));
+        assertEquals(0, table.size());
+        assertEquals(0, table.get(5));
+    }
+
+    @Test
+    public void add_manyKeys_sameAsHashMap() {
+        // Grows and shrinks the table, and removes keys from the middle of runs of filled slots.
+        Random random = new Random(3);
+        CountTable table = new CountTable();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            long key = random.nextInt(2000) + ((long) random.nextInt(4) << Integer.SIZE);
+            int count = expected.getOrDefault(key, 0);
+            int change = count > 0 && random.nextBoolean() ? -1 : 1;
+            assertEquals(count + change, table.add(key, change));
+            if (count + change == 0) {
+                expected.remove(key);
+            } else {
+                expected.put(key, count + change);
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        table.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+public class ExposureIndexTest {
+
+    // BENSON and DANIEL are infected.
+    private static final Visit BENSON_AT_CARL = new VisitBuilder().withPerson(BENSON)
+            .withLocation(CARL_LOCATION).withDate("2020-09-12").build();
+    private static final Visit ALICE_AT_CARL = new VisitBuilder().withPerson(ALICE)
+            .withLocation(CARL_LOCATION).withDate("2020-09-12").build();
+    private static final Visit CARL_AT_CARL = new VisitBuilder().withPerson(CARL)
+            .withLocation(CARL_LOCATION).withDate("2020-09-12").build();
+    private static final Visit CARL_AT_CARL_NEXT_DAY = new VisitBuilder().withPerson(CARL)
+            .withLocation(CARL_LOCATION).withDate("2020-09-13").build();
+    private static final Visit DANIEL_AT_DANIEL = new VisitBuilder().withPerson(DANIEL)
+            .withLocation(DANIEL_LOCATION).withDate("2020-09-13").build();
+    private static final Visit CARL_AT_DANIEL = new VisitBuilder().withPerson(CARL)
+            .withLocation(DANIEL_LOCATION).withDate("2020-09-13").build();
+
+    private static final List<Person> PERSONS = Arrays.asList(ALICE, BENSON, CARL, DANIEL);
+    private static final List<Visit> VISITS = Arrays.asList(BENSON_AT_CARL, ALICE_AT_CARL, CARL_AT_CARL,
+            CARL_AT_CARL_NEXT_DAY, DANIEL_AT_DANIEL, CARL_AT_DANIEL);
+
+    private final ExposureIndex exposureIndex = new ExposureIndex();
+
+    @BeforeEach
+    public void setUp() {
+        exposureIndex.resetData(PERSONS, VISITS);
+    }
+
+    @Test
+    public void resetData_countsVisitsSharedWithOtherInfectedPersons() {
+        assertEquals(1, exposureIndex.getExposureCount(ALICE.getId()));
+        assertEquals(0, exposureIndex.getExposureCount(BENSON.getId()));
+        assertEquals(2, exposureIndex.getExposureCount(CARL.getId()));
+        assertEquals(0, exposureIndex.getExposureCount(DANIEL.getId()));
+        assertEquals(Arrays.asList(CARL.getId(), ALICE.getId(), BENSON.getId(), DANIEL.getId()),
+                new ArrayList<>(exposureIndex.getIdsByExposure()));
+    }
+
+    @Test
+    public void addVisit_sameAsResetData() {
+        ExposureIndex incrementalIndex = new ExposureIndex();
+        incrementalIndex.resetData(PERSONS, new ArrayList<>());
+        VISITS.forEach(incrementalIndex::addVisit);
+
+        for (Person person : PERSONS) {
+            assertEquals(exposureIndex.getExposureCount(person.getId()),
+                    incrementalIndex.getExposureCount(person.getId()));
+        }
+        assertEquals(new ArrayList<>(exposureIndex.getIdsByExposure()),
+                new ArrayList<>(incrementalIndex.getIdsByExposure()));
+    }
+
+    @Test
+    public void removeVisit_infectedVisit_reducesExposure() {
+        exposureIndex.removeVisit(BENSON_AT_CARL);
+        assertEquals(0, exposureIndex.getExposureCount(ALICE.getId()));
+        assertEquals(1, exposureIndex.getExposureCount(CARL.getId()));
+    }
+
+    @Test
+    public void setPerson_infectionStatusChanged_updatesExposureAndNotifiesListener() {
+        List<String> changes = new ArrayList<>();
+        exposureIndex.setListener((personId, previousCount, newCount) ->
+                changes.add(personId + ":" + previousCount + "->" + newCount));
+
+        Person recoveredBenson = new PersonBuilder(BENSON).withInfectionStatus("false").build();
+        exposureIndex.setPerson(BENSON, recoveredBenson);
+        assertEquals(0, exposureIndex.getExposureCount(ALICE.getId()));
+        assertEquals(1, exposureIndex.getExposureCount(CARL.getId()));
+        assertEquals(2, changes.size());
+
+        Person infectedAlice = new PersonBuilder(ALICE).withInfectionStatus("true").build();
+        exposureIndex.setPerson(ALICE, infectedAlice);
+        assertEquals(1, exposureIndex.getExposureCount(BENSON.getId()));
+        assertEquals(2, exposureIndex.getExposureCount(CARL.getId()));
+    }
+
+    @Test
+    public void addVisitRemoveVisitSetPerson_manyChanges_sameAsResetData() {
+        // Adds and removes visits and infects and cures persons at random, so that slots gain and lose their first
+        // and second infected visitors.
+        Random random = new Random(5);
+        List<Person> persons = new ArrayList<>(PERSONS);
+        List<Visit> allVisits = new ArrayList<>();
+        for (Person person : PERSONS) {
+            for (String date : Arrays.asList("2020-09-12", "2020-09-13")) {
+                allVisits.add(new VisitBuilder().withPerson(person).withLocation(CARL_LOCATION).withDate(date)
+                        .build());
+            }
+        }
+        List<Visit> visits = new ArrayList<>();
+        ExposureIndex incrementalIndex = new ExposureIndex();
+        incrementalIndex.resetData(persons, visits);
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean()) {
+                Visit visit = allVisits.get(random.nextInt(allVisits.size()));
+                if (visits.remove(visit)) {
+                    incrementalIndex.removeVisit(visit);
+                } else {
+                    visits.add(visit);
+                    incrementalIndex.addVisit(visit);
+                }
+            } else {
+                int personIndex = random.nextInt(persons.size());
+                Person person = persons.get(personIndex);
+                boolean isInfected = person.getInfectionStatus().getStatusAsBoolean();
+                Person editedPerson = new PersonBuilder(person).withInfectionStatus(String.valueOf(!isInfected))
+                        .build();
+                persons.set(personIndex, editedPerson);
+                incrementalIndex.setPerson(person, editedPerson);
+            }
+
+            exposureIndex.resetData(persons, visits);
+            for (Person person : persons) {
+                assertEquals(exposureIndex.getExposureCount(person.getId()),
+                        incrementalIndex.getExposureCount(person.getId()));
+            }
+            assertEquals(new ArrayList<>(exposureIndex.getIdsByExposure()),
+                    new ArrayList<>(incrementalIndex.getIdsByExposure()));
+        }
+    }
+
+    @Test
+    public void removePerson_infectedPerson_noLongerExposesOthers() {
+        exposureIndex.removePerson(DANIEL);
+        assertEquals(1, exposureIndex.getExposureCount(CARL.getId()));
+        assertEquals(Arrays.asList(ALICE.getId(), CARL.getId(), BENSON.getId()),
+                new ArrayList<>(exposureIndex.getIdsByExposure()));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+
+public class ExposureReportTest {
+
+    private final ExposureReport report = new ExposureReport(3, Map.of(
+            CARL.getId(), Set.of(ELLE.getId(), BENSON.getId()),
+            ALICE.getId(), Set.of(DANIEL.getId())));
+
+    @Test
+    public void getContactIds_orderedById() {
+        assertEquals(2, report.getNumberOfContacts());
+        assertEquals(3, report.getNumberOfSources());
+        assertEquals(Arrays.asList(ALICE.getId(), CARL.getId()), new ArrayList<>(report.getContactIds()));
+    }
+
+    @Test
+    public void getSourceIds() {
+        assertEquals(Arrays.asList(BENSON.getId(), ELLE.getId()), report.getSourceIds(CARL.getId()));
+        assertEquals(List.of(), report.getSourceIds(Index.fromOneBased(99)));
+    }
+
+    @Test
+    public void toCsv_unknownContact_leavesNameBlank() {
+        String expectedCsv = ExposureReport.CSV_HEADER + "\n"
+                + "1,Alice Pauline,1,4\n"
+                + "3,,2,2;5\n";
+        assertEquals(expectedCsv, report.toCsv(Map.of(ALICE.getId(), ALICE)));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(report.equals(report));
+        assertTrue(report.equals(new ExposureReport(3, Map.of(
+                ALICE.getId(), Set.of(DANIEL.getId()),
+                CARL.getId(), Set.of(BENSON.getId(), ELLE.getId())))));
+        assertFalse(report.equals(null));
+        assertFalse(report.equals(new ExposureReport(2, Map.of())));
+    }
+}
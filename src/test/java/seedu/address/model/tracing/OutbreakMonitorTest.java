@@ -0,0 +1,184 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.BENSON_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.VisitBuilder;
+
+public class OutbreakMonitorTest {
+
+    private static final Visit BENSON_VISIT = visit(BENSON, ALICE_LOCATION, "2020-09-01");
+    private static final Visit DANIEL_VISIT = visit(DANIEL, ALICE_LOCATION, "2020-09-03");
+    private static final Visit ELLE_VISIT = visit(ELLE, ALICE_LOCATION, "2020-09-07");
+
+    private final VisitBook visitBook = new VisitBook();
+    private final Set<Index> infectedPersonIds = new HashSet<>();
+    private final OutbreakMonitor monitor = new OutbreakMonitor(visitBook, infectedPersonIds::contains, 3);
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new OutbreakMonitor(visitBook, infectedPersonIds::contains, 0));
+    }
+
+    @Test
+    public void addVisit_thresholdReached_raisesAlertOnce() {
+        addVisit(BENSON_VISIT, true);
+        addVisit(DANIEL_VISIT, true);
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+
+        addVisit(ELLE_VISIT, true);
+        OutbreakAlert expectedAlert = alert(ALICE_LOCATION, 3, "2020-09-07");
+        assertEquals(List.of(expectedAlert), monitor.takeNewAlerts());
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+
+        // A location that is already alerted does not raise another alert.
+        addVisit(visit(ALICE, ALICE_LOCATION, "2020-09-07"), true);
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+        assertEquals(List.of(alert(ALICE_LOCATION, 4, "2020-09-07")), monitor.getActiveAlerts());
+    }
+
+    @Test
+    public void addVisit_visitsByPersonsNotInfected_notCounted() {
+        addVisit(BENSON_VISIT, false);
+        addVisit(DANIEL_VISIT, false);
+        addVisit(ELLE_VISIT, false);
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+        assertTrue(monitor.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    public void addVisit_visitsMoreThanWindowApart_noAlert() {
+        addVisit(BENSON_VISIT, true);
+        addVisit(DANIEL_VISIT, true);
+        // 2020-09-08 is the eighth day after BENSON_VISIT, which moves it out of the window.
+        addVisit(visit(ELLE, ALICE_LOCATION, "2020-09-08"), true);
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+    }
+
+    @Test
+    public void getActiveAlerts_windowMovedPastVisits_alertDropped() {
+        addInfectedVisits(BENSON_VISIT, DANIEL_VISIT, ELLE_VISIT);
+        assertEquals(1, monitor.getActiveAlerts().size());
+
+        // A later visit elsewhere moves the window past the visits to ALICE_LOCATION.
+        addVisit(visit(ALICE, BENSON_LOCATION, "2020-09-20"), false);
+        assertTrue(monitor.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    public void removeVisit_belowThreshold_alertDropped() {
+        addInfectedVisits(BENSON_VISIT, DANIEL_VISIT, ELLE_VISIT);
+        removeVisit(DANIEL_VISIT, true);
+        assertTrue(monitor.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    public void removeVisit_latestVisitRemoved_windowMovesBack() {
+        // A visit with a mistyped year moves the window past every other visit until it is removed.
+        Visit futureVisit = visit(ALICE, BENSON_LOCATION, "2029-09-07");
+        addVisit(futureVisit, false);
+        removeVisit(futureVisit, false);
+
+        addInfectedVisits(BENSON_VISIT, DANIEL_VISIT, ELLE_VISIT);
+        assertEquals(List.of(alert(ALICE_LOCATION, 3, "2020-09-07")), monitor.takeNewAlerts());
+    }
+
+    @Test
+    public void removeVisit_windowMovesBack_earlierVisitsCountedAgain() {
+        addInfectedVisits(BENSON_VISIT, DANIEL_VISIT);
+        Visit laterVisit = visit(ALICE, BENSON_LOCATION, "2020-09-10");
+        addVisit(laterVisit, false);
+        addVisit(visit(ELLE, ALICE_LOCATION, "2020-09-07"), true);
+        // BENSON_VISIT and DANIEL_VISIT fell out of the window ending on 2020-09-10.
+        assertTrue(monitor.getActiveAlerts().isEmpty());
+
+        removeVisit(laterVisit, false);
+        assertEquals(List.of(alert(ALICE_LOCATION, 3, "2020-09-07")), monitor.getActiveAlerts());
+    }
+
+    @Test
+    public void setInfected_personBecomesInfected_raisesAlert() {
+        Visit aliceVisit = visit(ALICE, ALICE_LOCATION, "2020-09-05");
+        addVisit(aliceVisit, false);
+        addInfectedVisits(BENSON_VISIT, DANIEL_VISIT);
+        monitor.takeNewAlerts();
+
+        monitor.setInfected(Collections.singletonList(aliceVisit), true);
+        assertEquals(List.of(alert(ALICE_LOCATION, 3, "2020-09-05")), monitor.takeNewAlerts());
+
+        monitor.setInfected(Collections.singletonList(aliceVisit), false);
+        assertTrue(monitor.getActiveAlerts().isEmpty());
+    }
+
+    @Test
+    public void setThreshold_lowered_raisesAlerts() {
+        addInfectedVisits(BENSON_VISIT, visit(DANIEL, BENSON_LOCATION, "2020-09-02"),
+                visit(ELLE, BENSON_LOCATION, "2020-09-03"));
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+
+        monitor.setThreshold(1);
+        List<OutbreakAlert> expectedAlerts = Arrays.asList(alert(BENSON_LOCATION, 2, "2020-09-03"),
+                alert(ALICE_LOCATION, 1, "2020-09-03"));
+        assertEquals(2, monitor.takeNewAlerts().size());
+        assertEquals(expectedAlerts, monitor.getActiveAlerts());
+    }
+
+    @Test
+    public void resetData_thresholdReached_activeAlertWithoutNewAlert() {
+        visitBook.setVisits(Arrays.asList(BENSON_VISIT, DANIEL_VISIT, ELLE_VISIT));
+        Arrays.asList(BENSON, DANIEL, ELLE).forEach(person -> infectedPersonIds.add(person.getId()));
+        monitor.resetData();
+        assertTrue(monitor.takeNewAlerts().isEmpty());
+        assertEquals(List.of(alert(ALICE_LOCATION, 3, "2020-09-07")), monitor.getActiveAlerts());
+    }
+
+    private void addInfectedVisits(Visit... visits) {
+        for (Visit visit : visits) {
+            addVisit(visit, true);
+        }
+    }
+
+    private void addVisit(Visit visit, boolean isByInfectedPerson) {
+        if (isByInfectedPerson) {
+            infectedPersonIds.add(visit.getPerson().getId());
+        }
+        visitBook.addVisit(visit);
+        monitor.addVisit(visit, isByInfectedPerson);
+    }
+
+    private void removeVisit(Visit visit, boolean isByInfectedPerson) {
+        visitBook.removeVisit(visit);
+        monitor.removeVisit(visit, isByInfectedPerson);
+    }
+
+    private static OutbreakAlert alert(Location location, int count, String endDate) {
+        LocalDate end = LocalDate.parse(endDate);
+        return new OutbreakAlert(location, count, end.minusDays(OutbreakMonitor.WINDOW_DAYS - 1), end);
+    }
+
+    private static Visit visit(Person person, Location location, String date) {
+        return new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+    }
+}
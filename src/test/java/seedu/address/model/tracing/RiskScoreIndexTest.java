@@ -0,0 +1,146 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.location.Location;
+import seedu.address.model.person.Person;
+import seedu.address.model.visit.Visit;
+import seedu.address.model.visit.VisitBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.VisitBuilder;
+
+public class RiskScoreIndexTest {
+
+    private static final double DELTA = 1e-9;
+
+    // BENSON and DANIEL are infected. The latest visit is on 2020-09-19.
+    private static final Visit BENSON_AT_CARL = visit(BENSON, CARL_LOCATION, "2020-09-12");
+    private static final Visit ALICE_AT_CARL = visit(ALICE, CARL_LOCATION, "2020-09-12");
+    private static final Visit CARL_AT_CARL = visit(CARL, CARL_LOCATION, "2020-09-05");
+    private static final Visit DANIEL_AT_DANIEL = visit(DANIEL, DANIEL_LOCATION, "2020-09-19");
+    private static final Visit CARL_AT_DANIEL = visit(CARL, DANIEL_LOCATION, "2020-09-19");
+
+    private static final List<Visit> VISITS = Arrays.asList(BENSON_AT_CARL, ALICE_AT_CARL, CARL_AT_CARL,
+            DANIEL_AT_DANIEL, CARL_AT_DANIEL);
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    private final VisitBook visitBook = new VisitBook();
+    private RiskScoreIndex riskScoreIndex;
+
+    @BeforeEach
+    public void setUp() {
+        visitBook.setVisits(VISITS);
+        riskScoreIndex = new RiskScoreIndex(persons, visitBook, 14);
+    }
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RiskScoreIndex(persons, visitBook, -1));
+    }
+
+    @Test
+    public void resetData_contactsWeightedByRecency() {
+        // ALICE's contact was a week before the latest visit, so it counts half.
+        assertEquals(0.5, riskScoreIndex.getRiskScore(ALICE.getId()), DELTA);
+        // CARL's first contact is dated by BENSON's later visit.
+        assertEquals(1.5, riskScoreIndex.getRiskScore(CARL.getId()), DELTA);
+        assertEquals(0, riskScoreIndex.getRiskScore(BENSON.getId()));
+        assertEquals(0, riskScoreIndex.getRiskScore(DANIEL.getId()));
+        assertEquals(Arrays.asList(CARL.getId(), ALICE.getId(), BENSON.getId(), DANIEL.getId()),
+                new ArrayList<>(riskScoreIndex.getIdsByScore()));
+    }
+
+    @Test
+    public void addVisit_sameAsResetData() {
+        VisitBook incrementalVisitBook = new VisitBook();
+        RiskScoreIndex incrementalIndex = new RiskScoreIndex(persons, incrementalVisitBook, 14);
+        for (Visit visit : VISITS) {
+            incrementalVisitBook.addVisit(visit);
+            incrementalIndex.addVisit(visit);
+        }
+
+        assertSameScores(riskScoreIndex, incrementalIndex);
+    }
+
+    @Test
+    public void removeVisit_infectedContact_scoreReduced() {
+        visitBook.removeVisit(CARL_AT_DANIEL);
+        riskScoreIndex.removeVisit(CARL_AT_DANIEL);
+        assertEquals(0.5, riskScoreIndex.getRiskScore(CARL.getId()), DELTA);
+
+        visitBook.removeVisit(BENSON_AT_CARL);
+        riskScoreIndex.removeVisit(BENSON_AT_CARL);
+        assertEquals(0, riskScoreIndex.getRiskScore(ALICE.getId()));
+        assertEquals(0, riskScoreIndex.getRiskScore(CARL.getId()));
+    }
+
+    @Test
+    public void setPerson_infectionStatusChanged_scoresUpdated() {
+        Person recoveredDaniel = new PersonBuilder(DANIEL).withInfectionStatus("false").build();
+        persons.set(3, recoveredDaniel);
+        riskScoreIndex.setPerson(DANIEL, recoveredDaniel);
+        assertEquals(0.5, riskScoreIndex.getRiskScore(CARL.getId()), DELTA);
+
+        persons.set(3, DANIEL);
+        riskScoreIndex.setPerson(recoveredDaniel, DANIEL);
+        assertEquals(1.5, riskScoreIndex.getRiskScore(CARL.getId()), DELTA);
+    }
+
+    @Test
+    public void removePerson_infectedPerson_noLongerScored() {
+        persons.remove(BENSON);
+        riskScoreIndex.removePerson(BENSON);
+        assertEquals(0, riskScoreIndex.getRiskScore(ALICE.getId()));
+        assertEquals(1.0, riskScoreIndex.getRiskScore(CARL.getId()), DELTA);
+        assertEquals(0, riskScoreIndex.getRiskScore(BENSON.getId()));
+    }
+
+    @Test
+    public void setWindowDays_smallerWindow_contactsOutsideWindowDropped() {
+        riskScoreIndex.setWindowDays(2);
+        // CARL visited CARL_LOCATION a week before BENSON.
+        assertEquals(1.0, riskScoreIndex.getRiskScore(CARL.getId()), DELTA);
+        assertEquals(0.5, riskScoreIndex.getRiskScore(ALICE.getId()), DELTA);
+    }
+
+    @Test
+    public void addVisit_contactsYearsApart_sameAsResetData() {
+        // The epoch is moved forward several times to weight these contacts.
+        List<Visit> laterVisits = Arrays.asList(visit(BENSON, ALICE_LOCATION, "2022-09-19"),
+                visit(ALICE, ALICE_LOCATION, "2022-09-19"), visit(DANIEL, ALICE_LOCATION, "2022-09-17"));
+        for (Visit visit : laterVisits) {
+            visitBook.addVisit(visit);
+            riskScoreIndex.addVisit(visit);
+        }
+
+        assertEquals(2.0, riskScoreIndex.getRiskScore(ALICE.getId()), DELTA);
+        assertEquals(1.0, riskScoreIndex.getRiskScore(BENSON.getId()), DELTA);
+        assertSameScores(new RiskScoreIndex(persons, visitBook, 14), riskScoreIndex);
+    }
+
+    private void assertSameScores(RiskScoreIndex expected, RiskScoreIndex actual) {
+        for (Person person : persons) {
+            assertEquals(expected.getRiskScore(person.getId()), actual.getRiskScore(person.getId()), DELTA);
+        }
+        assertEquals(new ArrayList<>(expected.getIdsByScore()), new ArrayList<>(actual.getIdsByScore()));
+    }
+
+    private static Visit visit(Person person, Location location, String date) {
+        return new VisitBuilder().withPerson(person).withLocation(location).withDate(date).build();
+    }
+}
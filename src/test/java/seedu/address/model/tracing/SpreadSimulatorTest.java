@@ -0,0 +1,178 @@
+package seedu.address.model.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.CARL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.DANIEL_LOCATION;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.VisitBuilder;
+
+public class SpreadSimulatorTest {
+
+    private static final long SEED = 42;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        // CARL visits after DANIEL, who is infected, and ALICE visits after CARL only.
+        // Neither ALICE nor CARL is infected.
+        model = createModelWithChainOfVisits();
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(CARL_LOCATION).withDate("2020-09-18")
+                .build());
+    }
+
+    /**
+     * Returns a model in which CARL visits after DANIEL, and ALICE visits after CARL but only where CARL went before
+     * visiting DANIEL.
+     */
+    private static Model createModelWithChainOfVisits() {
+        Model model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(),
+                new UserPrefs());
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION).withDate("2020-09-15")
+                .build());
+        model.addVisit(new VisitBuilder().withPerson(ALICE).withLocation(CARL_LOCATION).withDate("2020-09-20")
+                .build());
+        return model;
+    }
+
+    private SpreadSimulator createSimulator(int windowDays) {
+        return new SpreadSimulator(model.getPersonBook().getPersonList(), model.getVisitBook(), windowDays);
+    }
+
+    @Test
+    public void constructor_negativeWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createSimulator(-1));
+    }
+
+    @Test
+    public void simulate_invalidArguments_throwsIllegalArgumentException() {
+        SpreadSimulator simulator = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS);
+        assertThrows(IllegalArgumentException.class, SpreadSimulator.MESSAGE_INVALID_PROBABILITY, () ->
+                simulator.simulate(0, 1, SEED));
+        assertThrows(IllegalArgumentException.class, SpreadSimulator.MESSAGE_INVALID_PROBABILITY, () ->
+                simulator.simulate(1.01, 1, SEED));
+        assertThrows(IllegalArgumentException.class, SpreadSimulator.MESSAGE_INVALID_PROBABILITY, () ->
+                simulator.simulate(Double.NaN, 1, SEED));
+        assertThrows(IllegalArgumentException.class, SpreadSimulator.MESSAGE_INVALID_RUNS, () ->
+                simulator.simulate(0.5, 0, SEED));
+        assertThrows(IllegalArgumentException.class, SpreadSimulator.MESSAGE_INVALID_RUNS, () ->
+                simulator.simulate(0.5, SpreadSimulator.MAX_RUNS + 1, SEED));
+    }
+
+    @Test
+    public void simulate_certainTransmission_allContactsInfected() {
+        SpreadSimulation simulation = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS).simulate(1, 100, SEED);
+
+        assertEquals(5, simulation.getNumberOfInfected());
+        assertEquals(1, simulation.getInfectionProbability(BENSON.getId()));
+        assertEquals(1, simulation.getInfectionProbability(ALICE.getId()));
+        assertEquals(1, simulation.getInfectionProbability(CARL.getId()));
+        assertEquals(2, simulation.getExpectedNewInfections());
+        assertEquals(Arrays.asList(ALICE.getId(), CARL.getId()), simulation.getPersonsAtRisk());
+    }
+
+    @Test
+    public void simulate_visitsOutsideWindow_noContactsInfected() {
+        // ALICE visits 2 days after CARL, and CARL visits 2 days after DANIEL.
+        SpreadSimulation simulation = createSimulator(1).simulate(1, 100, SEED);
+        assertEquals(0, simulation.getExpectedNewInfections());
+        assertEquals(Collections.emptyList(), simulation.getPersonsAtRisk());
+    }
+
+    @Test
+    public void simulate_partialTransmission_spreadsOverContactsOfContacts() {
+        SpreadSimulation simulation = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS)
+                .simulate(0.5, SpreadSimulator.MAX_RUNS, SEED);
+
+        assertEquals(0.5, simulation.getInfectionProbability(CARL.getId()), 0.01);
+        assertEquals(0.25, simulation.getInfectionProbability(ALICE.getId()), 0.01);
+        assertEquals(Arrays.asList(CARL.getId(), ALICE.getId()), simulation.getPersonsAtRisk());
+    }
+
+    @Test
+    public void simulate_repeatedSharedVisits_higherProbability() {
+        model.addVisit(new VisitBuilder().withPerson(CARL).withLocation(DANIEL_LOCATION).withDate("2020-09-16")
+                .build());
+        SpreadSimulation simulation = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS)
+                .simulate(0.5, SpreadSimulator.MAX_RUNS, SEED);
+
+        // CARL escapes infection only if neither shared visit passes the virus on.
+        assertEquals(0.75, simulation.getInfectionProbability(CARL.getId()), 0.01);
+    }
+
+    @Test
+    public void simulate_infectedPersonVisitsLater_earlierVisitorNotInfected() {
+        // GEORGE, who is infected, visits a day after ALICE.
+        model.addVisit(new VisitBuilder().withPerson(GEORGE).withLocation(CARL_LOCATION).withDate("2020-09-21")
+                .build());
+        SpreadSimulation simulation = createSimulator(1).simulate(1, 100, SEED);
+        assertEquals(0, simulation.getInfectionProbability(ALICE.getId()));
+    }
+
+    @Test
+    public void simulate_infectedPersonVisitsEarlier_laterVisitorInfected() {
+        // GEORGE, who is infected, visits a day before ALICE.
+        model.addVisit(new VisitBuilder().withPerson(GEORGE).withLocation(CARL_LOCATION).withDate("2020-09-19")
+                .build());
+        SpreadSimulation simulation = createSimulator(1).simulate(1, 100, SEED);
+        assertEquals(1, simulation.getInfectionProbability(ALICE.getId()));
+        assertEquals(0, simulation.getInfectionProbability(CARL.getId()));
+    }
+
+    @Test
+    public void simulate_sameDayVisit_infectedBothWays() {
+        model.addVisit(new VisitBuilder().withPerson(GEORGE).withLocation(CARL_LOCATION).withDate("2020-09-20")
+                .build());
+        SpreadSimulation simulation = createSimulator(0).simulate(1, 100, SEED);
+        assertEquals(1, simulation.getInfectionProbability(ALICE.getId()));
+    }
+
+    @Test
+    public void simulate_visitBeforeInfection_virusNotPassedOn() {
+        model = createModelWithChainOfVisits();
+        SpreadSimulation simulation = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS).simulate(1, 100, SEED);
+
+        // CARL only gets infected after the visit that ALICE shares with CARL.
+        assertEquals(1, simulation.getInfectionProbability(CARL.getId()));
+        assertEquals(0, simulation.getInfectionProbability(ALICE.getId()));
+    }
+
+    @Test
+    public void simulate_sameSeed_sameResults() {
+        SpreadSimulator simulator = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS);
+        SpreadSimulation simulation = simulator.simulate(0.3, 5000, SEED);
+        SpreadSimulation sameSeedSimulation = simulator.simulate(0.3, 5000, SEED);
+        SpreadSimulation otherSeedSimulation = simulator.simulate(0.3, 5000, SEED + 1);
+
+        for (Index personId : Arrays.asList(ALICE.getId(), CARL.getId())) {
+            assertEquals(simulation.getInfectionProbability(personId),
+                    sameSeedSimulation.getInfectionProbability(personId));
+        }
+        assertTrue(simulation.getExpectedNewInfections() != otherSeedSimulation.getExpectedNewInfections());
+    }
+
+    @Test
+    public void getInfectionProbability_personNotSimulated_returnsZero() {
+        SpreadSimulation simulation = createSimulator(ContactTracer.DEFAULT_WINDOW_DAYS).simulate(1, 1, SEED);
+        assertEquals(0, simulation.getInfectionProbability(Index.fromOneBased(1000)));
+    }
+}
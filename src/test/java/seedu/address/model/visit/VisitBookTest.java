@@ -8,10 +8,12 @@ import static seedu.address.testutil.TypicalLocations.ALICE_LOCATION;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.visit.exceptions.DuplicateVisitException;
 import seedu.address.testutil.VisitBuilder;
 
 public class VisitBookTest {
@@ -60,6 +62,21 @@ public class VisitBookTest {
         assertTrue(visitBook.hasVisit(editedSample));
     }
 
+    @Test
+    public void hasVisit_visitRemovedFromVisitBook_returnsFalse() {
+        Visit sample = new VisitBuilder().withPerson(ALICE).withLocation(ALICE_LOCATION).withDate("2020-09-12").build();
+        visitBook.addVisit(sample);
+        visitBook.removeVisit(sample);
+        assertFalse(visitBook.hasVisit(sample));
+    }
+
+    @Test
+    public void setVisits_listWithDuplicateVisits_throwsDuplicateVisitException() {
+        Visit sample = new VisitBuilder().withPerson(ALICE).withLocation(ALICE_LOCATION).withDate("2020-09-12").build();
+        Visit sameSample = new VisitBuilder(sample).build();
+        assertThrows(DuplicateVisitException.class, () -> visitBook.setVisits(Arrays.asList(sample, sameSample)));
+    }
+
     @Test
     public void getVisitList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> visitBook.getVisitList().remove(0));
@@ -0,0 +1,244 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.server.QueryServer.CONTENT_TYPE_JSON;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.CommandWorker;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryStatisticsHistoryStorage;
+import seedu.address.storage.JsonLocationBookStorage;
+import seedu.address.storage.JsonPersonBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.JsonVisitBookStorage;
+import seedu.address.storage.StorageManager;
+
+public class QueryServerTest {
+
+    private static final String TOKEN = QueryServer.generateToken();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private CommandWorker commandWorker;
+    private QueryServer queryServer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonPersonBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonLocationBookStorage(temporaryFolder.resolve("locationBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonVisitBookStorage(temporaryFolder.resolve("visitBook.json")),
+                new BinaryStatisticsHistoryStorage(temporaryFolder.resolve("statisticsHistory.bin")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+                getTypicalVisitBook(), new UserPrefs()), storage);
+        commandWorker = new CommandWorker(logic, Runnable::run);
+        queryServer = new QueryServer(logic, commandWorker, 0, TOKEN);
+        queryServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queryServer.stop();
+        commandWorker.shutdown();
+    }
+
+    @Test
+    public void get_statistics_countsReturned() throws Exception {
+        HttpResponse<String> response = get(QueryServer.PATH_STATISTICS);
+
+        assertEquals(200, response.statusCode());
+        Map<?, ?> statistics = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(7, statistics.get("people"));
+        assertEquals(9, statistics.get("visits"));
+    }
+
+    @Test
+    public void get_visitsInRange_visitsReturned() throws Exception {
+        HttpResponse<String> response = get(QueryServer.PATH_VISITS + "?from=2020-09-13&to=2020-09-14");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(5, JsonUtil.fromJsonString(response.body(), List.class).size());
+    }
+
+    @Test
+    public void get_visitsWithoutDates_badRequest() throws Exception {
+        assertError(400, QueryServer.MESSAGE_MISSING_DATES, get(QueryServer.PATH_VISITS + "?from=2020-09-13"));
+        assertError(400, QueryServer.MESSAGE_INVALID_DATE_RANGE,
+                get(QueryServer.PATH_VISITS + "?from=2020-09-14&to=2020-09-13"));
+    }
+
+    @Test
+    public void get_contactsOfUnknownPerson_notFound() throws Exception {
+        assertError(404, String.format(QueryServer.MESSAGE_UNKNOWN_PERSON, 100), get("/persons/100/contacts"));
+        assertError(400, ParserUtil.MESSAGE_INVALID_INDEX, get("/persons/first/contacts"));
+    }
+
+    @Test
+    public void get_contacts_contactsReturned() throws Exception {
+        HttpResponse<String> response = get("/persons/" + ALICE.getId().getOneBased() + "/contacts");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(0, JsonUtil.fromJsonString(response.body(), List.class).size());
+    }
+
+    @Test
+    public void get_unknownPath_notFound() throws Exception {
+        assertError(404, String.format(QueryServer.MESSAGE_NOT_FOUND, "/persons"), get("/persons"));
+    }
+
+    @Test
+    public void post_validCommand_laterQueriesSeeChanges() throws Exception {
+        HttpResponse<String> response = post(QueryServer.PATH_COMMANDS, ClearCommand.COMMAND_WORD);
+        assertEquals(200, response.statusCode());
+        assertEquals(ClearCommand.MESSAGE_SUCCESS,
+                JsonUtil.fromJsonString(response.body(), Map.class).get("feedback"));
+
+        Map<?, ?> statistics = JsonUtil.fromJsonString(get(QueryServer.PATH_STATISTICS).body(), Map.class);
+        assertEquals(0, statistics.get("people"));
+    }
+
+    @Test
+    public void post_invalidCommand_badRequest() throws Exception {
+        assertError(400, MESSAGE_UNKNOWN_COMMAND, post(QueryServer.PATH_COMMANDS, "frobnicate"));
+        assertError(400, QueryServer.MESSAGE_EMPTY_COMMAND, post(QueryServer.PATH_COMMANDS, " "));
+        assertError(400, QueryServer.MESSAGE_EMPTY_COMMAND, send(commandRequest(TOKEN, CONTENT_TYPE_JSON, "[]")));
+        assertError(400, QueryServer.MESSAGE_EMPTY_COMMAND,
+                send(commandRequest(TOKEN, CONTENT_TYPE_JSON, ClearCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void post_commandWithoutToken_unauthorized() throws Exception {
+        String body = toJson(ClearCommand.COMMAND_WORD);
+        assertError(401, QueryServer.MESSAGE_INVALID_TOKEN, send(commandRequest(null, CONTENT_TYPE_JSON, body)));
+        assertError(401, QueryServer.MESSAGE_INVALID_TOKEN,
+                send(commandRequest(QueryServer.generateToken(), CONTENT_TYPE_JSON, body)));
+        assertPeopleNotCleared();
+    }
+
+    @Test
+    public void post_commandNotAsJson_unsupportedMediaType() throws Exception {
+        String body = toJson(ClearCommand.COMMAND_WORD);
+        assertError(415, QueryServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE, send(commandRequest(TOKEN, null, body)));
+        assertError(415, QueryServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE,
+                send(commandRequest(TOKEN, "text/plain", body)));
+        assertPeopleNotCleared();
+    }
+
+    @Test
+    public void post_commandFromWebPage_forbidden() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(QueryServer.PATH_COMMANDS))
+                .header("Origin", "http://example.com")
+                .header(QueryServer.HEADER_TOKEN, TOKEN)
+                .header("Content-Type", CONTENT_TYPE_JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(ClearCommand.COMMAND_WORD)))
+                .build();
+
+        assertError(403, QueryServer.MESSAGE_FORBIDDEN_ORIGIN, send(request));
+        assertPeopleNotCleared();
+    }
+
+    @Test
+    public void get_otherHost_forbidden() throws Exception {
+        // The HTTP client does not let the Host header be changed, so the request is written by hand.
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), queryServer.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(("GET " + QueryServer.PATH_STATISTICS + " HTTP/1.1\r\n"
+                    + "Host: attacker.example:" + queryServer.getPort() + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            String response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+            assertTrue(response.startsWith("HTTP/1.1 403"));
+            assertTrue(response.contains(QueryServer.MESSAGE_FORBIDDEN_HOST));
+        }
+    }
+
+    @Test
+    public void post_query_methodNotAllowed() throws Exception {
+        assertError(405, String.format(QueryServer.MESSAGE_METHOD_NOT_ALLOWED, "POST", QueryServer.PATH_STATISTICS),
+                post(QueryServer.PATH_STATISTICS, ""));
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return send(HttpRequest.newBuilder(uri(pathAndQuery)).GET().build());
+    }
+
+    /**
+     * Sends {@code command} to {@code path} as a command is meant to be sent.
+     */
+    private HttpResponse<String> post(String path, String command) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path))
+                .header(QueryServer.HEADER_TOKEN, TOKEN)
+                .header("Content-Type", CONTENT_TYPE_JSON + "; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(command)))
+                .build());
+    }
+
+    /**
+     * Returns a request to execute a command, with the given token and content type if they are not null.
+     */
+    private HttpRequest commandRequest(String token, String contentType, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(QueryServer.PATH_COMMANDS))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header(QueryServer.HEADER_TOKEN, token);
+        }
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+        return request.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void assertPeopleNotCleared() throws Exception {
+        Map<?, ?> statistics = JsonUtil.fromJsonString(get(QueryServer.PATH_STATISTICS).body(), Map.class);
+        assertEquals(7, statistics.get("people"));
+    }
+
+    private static String toJson(String command) throws Exception {
+        return JsonUtil.toJsonString(Map.of("command", command));
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://127.0.0.1:" + queryServer.getPort() + pathAndQuery);
+    }
+
+    private static void assertError(int expectedStatus, String expectedMessage, HttpResponse<String> response)
+            throws Exception {
+        assertEquals(expectedStatus, response.statusCode());
+        assertEquals(expectedMessage, JsonUtil.fromJsonString(response.body(), Map.class).get("error"));
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.statistics.StatisticsSnapshot;
+
+public class BinaryStatisticsHistoryStorageTest {
+
+    private static final LocalDate FIRST_DATE = LocalDate.parse("2020-09-12");
+    private static final StatisticsSnapshot FIRST_SNAPSHOT = snapshot(FIRST_DATE, 2, 0, 1, 700);
+    private static final StatisticsSnapshot SECOND_SNAPSHOT = snapshot(FIRST_DATE.plusDays(1), 3, 4, 130, 5);
+    private static final StatisticsSnapshot THIRD_SNAPSHOT = snapshot(FIRST_DATE.plusDays(5), 4);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    @Test
+    public void readStatisticsHistory_nullDate_throwsNullPointerException() {
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(getTempFilePath("history.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readStatisticsHistory(null, FIRST_DATE));
+    }
+
+    @Test
+    public void readStatisticsHistory_missingFile_emptyResult() throws Exception {
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(getTempFilePath("missing.bin"));
+        assertEquals(Collections.emptyList(), storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void readStatisticsHistory_notHistoryFile_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("notHistory.bin");
+        Files.writeString(filePath, "{ \"visits\": [] }");
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(filePath);
+        assertThrows(DataConversionException.class, () ->
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void appendAndRead_allInOrder_success() throws Exception {
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(
+                getTempFilePath("folder/history.bin"));
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        storage.appendStatisticsSnapshot(SECOND_SNAPSHOT);
+        storage.appendStatisticsSnapshot(THIRD_SNAPSHOT);
+
+        assertEquals(Arrays.asList(FIRST_SNAPSHOT, SECOND_SNAPSHOT, THIRD_SNAPSHOT),
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+
+        // Only the records in the range are read
+        assertEquals(Arrays.asList(SECOND_SNAPSHOT, THIRD_SNAPSHOT),
+                storage.readStatisticsHistory(SECOND_SNAPSHOT.getDate(), THIRD_SNAPSHOT.getDate()));
+        assertEquals(Collections.singletonList(SECOND_SNAPSHOT),
+                storage.readStatisticsHistory(SECOND_SNAPSHOT.getDate(), THIRD_SNAPSHOT.getDate().minusDays(1)));
+        assertEquals(Collections.emptyList(),
+                storage.readStatisticsHistory(FIRST_DATE.minusDays(7), FIRST_DATE.minusDays(1)));
+    }
+
+    @Test
+    public void appendStatisticsSnapshot_sameDate_laterSnapshotRead() throws Exception {
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(getTempFilePath("history.bin"));
+        StatisticsSnapshot endOfDaySnapshot = snapshot(FIRST_DATE, 5);
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        storage.appendStatisticsSnapshot(endOfDaySnapshot);
+        storage.appendStatisticsSnapshot(SECOND_SNAPSHOT);
+
+        assertEquals(Arrays.asList(endOfDaySnapshot, SECOND_SNAPSHOT),
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void appendStatisticsSnapshot_sameDateAsLastRecord_recordReplaced() throws Exception {
+        Path filePath = getTempFilePath("history.bin");
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(filePath);
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        long sizeWithOneRecord = Files.size(filePath);
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        assertEquals(sizeWithOneRecord, Files.size(filePath));
+
+        // A new storage finds the last record from the file.
+        StatisticsSnapshot endOfDaySnapshot = snapshot(FIRST_DATE, 2, 0, 1, 701);
+        BinaryStatisticsHistoryStorage reopenedStorage = new BinaryStatisticsHistoryStorage(filePath);
+        reopenedStorage.appendStatisticsSnapshot(endOfDaySnapshot);
+        assertEquals(sizeWithOneRecord, Files.size(filePath));
+        assertEquals(Collections.singletonList(endOfDaySnapshot),
+                reopenedStorage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void readStatisticsHistory_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = getTempFilePath("history.bin");
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(filePath);
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        Files.write(filePath, new byte[] {0, 0, 0x48, 0x74, 0, 0, 0, 9, 1}, StandardOpenOption.APPEND);
+
+        assertEquals(Collections.singletonList(FIRST_SNAPSHOT),
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void appendStatisticsSnapshot_truncatedMidRecord_incompleteRecordReplaced() throws Exception {
+        Path filePath = getTempFilePath("history.bin");
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(filePath);
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        long sizeWithOneRecord = Files.size(filePath);
+        storage.appendStatisticsSnapshot(SECOND_SNAPSHOT);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(sizeWithOneRecord + 10);
+        }
+
+        storage.appendStatisticsSnapshot(THIRD_SNAPSHOT);
+
+        assertEquals(Arrays.asList(FIRST_SNAPSHOT, THIRD_SNAPSHOT),
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void appendStatisticsSnapshot_truncatedMidHeader_headerRewritten() throws Exception {
+        Path filePath = getTempFilePath("history.bin");
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(filePath);
+        storage.appendStatisticsSnapshot(FIRST_SNAPSHOT);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(3);
+        }
+
+        storage.appendStatisticsSnapshot(SECOND_SNAPSHOT);
+
+        assertEquals(Collections.singletonList(SECOND_SNAPSHOT),
+                storage.readStatisticsHistory(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void appendStatisticsSnapshot_smallCounts_compactRecord() throws Exception {
+        Path filePath = getTempFilePath("history.bin");
+        BinaryStatisticsHistoryStorage storage = new BinaryStatisticsHistoryStorage(filePath);
+        storage.appendStatisticsSnapshot(THIRD_SNAPSHOT);
+        long sizeWithOneRecord = Files.size(filePath);
+        storage.appendStatisticsSnapshot(snapshot(THIRD_SNAPSHOT.getDate().plusDays(1), 4));
+
+        // 8 bytes for the date and length, 7 for the counts and the number of locations, and 2 for the location.
+        assertEquals(8 + 7 + 2, Files.size(filePath) - sizeWithOneRecord);
+    }
+
+    /**
+     * Returns a snapshot on {@code date} with the given numbers of infected visits at the first few locations.
+     */
+    private static StatisticsSnapshot snapshot(LocalDate date, int... infectedVisitCounts) {
+        Map<Index, Integer> infectedVisitsByLocation = new HashMap<>();
+        for (int i = 0; i < infectedVisitCounts.length; i++) {
+            if (infectedVisitCounts[i] > 0) {
+                infectedVisitsByLocation.put(Index.fromZeroBased(i * 3), infectedVisitCounts[i]);
+            }
+        }
+        return new StatisticsSnapshot(date, 10, infectedVisitCounts.length, 1, 20, 300, infectedVisitsByLocation);
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.visit.VisitBook;
+
+public class SaveSchedulerTest {
+
+    private static final Duration LONG_DELAY = Duration.ofHours(1);
+    private static final Duration SHORT_DELAY = Duration.ofMillis(50);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final ModelManager model =
+            new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(), getTypicalVisitBook(), new UserPrefs());
+
+    @Test
+    public void constructor_negativeDelay_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SaveScheduler.MESSAGE_CONSTRAINTS, () ->
+                new SaveScheduler(Duration.ofMillis(-1), new BookSaverStub()));
+    }
+
+    @Test
+    public void schedule_zeroDelay_savedBeforeReturning() throws Exception {
+        BookSaverStub bookSaver = new BookSaverStub();
+        SaveScheduler saveScheduler = new SaveScheduler(Duration.ZERO, bookSaver);
+        ModelSnapshot first = model.getSnapshot();
+        ModelSnapshot second = changeVisits();
+
+        saveScheduler.schedule(first);
+        saveScheduler.schedule(second);
+
+        assertEquals(List.of(first, second), bookSaver.saved);
+        assertNull(bookSaver.lastSaved.get(0));
+        assertSame(first, bookSaver.lastSaved.get(1));
+    }
+
+    @Test
+    public void schedule_withinDelay_onlyLatestSavedOnFlush() throws Exception {
+        BookSaverStub bookSaver = new BookSaverStub();
+        SaveScheduler saveScheduler = new SaveScheduler(LONG_DELAY, bookSaver);
+        ModelSnapshot first = model.getSnapshot();
+        ModelSnapshot second = changeVisits();
+
+        saveScheduler.schedule(first);
+        saveScheduler.schedule(second);
+        assertTrue(bookSaver.saved.isEmpty());
+
+        saveScheduler.flush();
+        assertEquals(List.of(second), bookSaver.saved);
+
+        // Nothing is left to save.
+        saveScheduler.flush();
+        assertEquals(List.of(second), bookSaver.saved);
+    }
+
+    @Test
+    public void schedule_withDelay_savedInBackground() throws Exception {
+        BookSaverStub bookSaver = new BookSaverStub();
+        SaveScheduler saveScheduler = new SaveScheduler(SHORT_DELAY, bookSaver);
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        saveScheduler.schedule(snapshot);
+
+        assertTrue(bookSaver.saveCount.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(snapshot), bookSaver.saved);
+    }
+
+    @Test
+    public void schedule_zeroDelaySaveFails_throwsIoExceptionAndRetriedOnFlush() throws Exception {
+        BookSaverStub bookSaver = new BookSaverStub();
+        bookSaver.failuresLeft = 1;
+        SaveScheduler saveScheduler = new SaveScheduler(Duration.ZERO, bookSaver);
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        assertThrows(IOException.class, BookSaverStub.FAILURE_MESSAGE, () -> saveScheduler.schedule(snapshot));
+
+        saveScheduler.flush();
+        assertEquals(List.of(snapshot), bookSaver.saved);
+    }
+
+    @Test
+    public void schedule_backgroundSaveFailed_throwsIoExceptionAndLatestSavedOnFlush() throws Exception {
+        BookSaverStub bookSaver = new BookSaverStub();
+        bookSaver.failuresLeft = 2;
+        SaveScheduler saveScheduler = new SaveScheduler(SHORT_DELAY, bookSaver);
+        ModelSnapshot first = model.getSnapshot();
+        ModelSnapshot second = changeVisits();
+
+        saveScheduler.schedule(first);
+        assertTrue(bookSaver.failureCount.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        // Waits for the background save to fail, then fails again itself.
+        assertThrows(IOException.class, BookSaverStub.FAILURE_MESSAGE, saveScheduler::flush);
+
+        assertThrows(IOException.class, BookSaverStub.FAILURE_MESSAGE, () -> saveScheduler.schedule(second));
+
+        saveScheduler.flush();
+        assertEquals(List.of(second), bookSaver.saved);
+        assertNull(bookSaver.lastSaved.get(0));
+    }
+
+    /**
+     * Returns a snapshot of the model after its visits are cleared.
+     */
+    private ModelSnapshot changeVisits() {
+        model.setVisitBook(new VisitBook());
+        return model.getSnapshot();
+    }
+
+    /**
+     * A {@code BookSaver} that records the snapshots it saved, after failing as many times as asked.
+     */
+    private static class BookSaverStub implements SaveScheduler.BookSaver {
+        private static final String FAILURE_MESSAGE = "Disk full";
+
+        private final List<ModelSnapshot> saved = new ArrayList<>();
+        private final List<ModelSnapshot> lastSaved = new ArrayList<>();
+        private final CountDownLatch saveCount = new CountDownLatch(1);
+        private final CountDownLatch failureCount = new CountDownLatch(1);
+        private int failuresLeft;
+
+        @Override
+        public synchronized void save(ModelSnapshot snapshot, ModelSnapshot lastSaved) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                failureCount.countDown();
+                throw new IOException(FAILURE_MESSAGE);
+            }
+            saved.add(snapshot);
+            this.lastSaved.add(lastSaved);
+            saveCount.countDown();
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalLocations.getTypicalLocationBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalVisits.getTypicalVisitBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +16,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.location.LocationBook;
 import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.metrics.CommandMetrics;
+import seedu.address.model.metrics.CommandMetrics.Measure;
 import seedu.address.model.person.PersonBook;
 import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.VisitBook;
 
 public class StorageManagerTest {
 
@@ -31,8 +39,10 @@ public class StorageManagerTest {
         JsonLocationBookStorage locationBookStorage = new JsonLocationBookStorage(getTempFilePath("lb"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         JsonVisitBookStorage visitBookStorage = new JsonVisitBookStorage(getTempFilePath("vb"));
+        BinaryStatisticsHistoryStorage statisticsHistoryStorage =
+                new BinaryStatisticsHistoryStorage(getTempFilePath("history"));
         storageManager = new StorageManager(personBookStorage, locationBookStorage, userPrefsStorage,
-                visitBookStorage);
+                visitBookStorage, statisticsHistoryStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -89,4 +99,40 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getLocationBookFilePath());
     }
 
+    @Test
+    public void scheduleSave_onlyVisitsChanged_onlyVisitBookWritten() throws Exception {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+                getTypicalVisitBook(), new UserPrefs());
+        storageManager.scheduleSave(model.getSnapshot());
+        assertEquals(getTypicalVisitBook(), new VisitBook(storageManager.readVisitBook().get()));
+
+        Files.delete(storageManager.getAddressBookFilePath());
+        Files.delete(storageManager.getLocationBookFilePath());
+        model.setVisitBook(new VisitBook());
+        storageManager.scheduleSave(model.getSnapshot());
+
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+        assertFalse(Files.exists(storageManager.getLocationBookFilePath()));
+        assertEquals(new VisitBook(), new VisitBook(storageManager.readVisitBook().get()));
+    }
+
+    @Test
+    public void scheduleSave_saveMetricsSet_saveTimeOfWrittenBooksRecorded() throws Exception {
+        CommandMetrics commandMetrics = new CommandMetrics();
+        storageManager.setSaveMetrics(commandMetrics);
+        ModelManager model = new ModelManager(getTypicalAddressBook(), getTypicalLocationBook(),
+                getTypicalVisitBook(), new UserPrefs());
+        storageManager.scheduleSave(model.getSnapshot());
+        model.setVisitBook(new VisitBook());
+        storageManager.scheduleSave(model.getSnapshot());
+
+        String metrics = commandMetrics.toCsv();
+        assertTrue(metrics.contains(StorageManager.SAVE_PERSON_BOOK + "," + Measure.BACKGROUND_SAVE_TIME.name()
+                + ",NANOSECONDS,1,"));
+        assertTrue(metrics.contains(StorageManager.SAVE_LOCATION_BOOK + "," + Measure.BACKGROUND_SAVE_TIME.name()
+                + ",NANOSECONDS,1,"));
+        assertTrue(metrics.contains(StorageManager.SAVE_VISIT_BOOK + "," + Measure.BACKGROUND_SAVE_TIME.name()
+                + ",NANOSECONDS,2,"));
+    }
+
 }
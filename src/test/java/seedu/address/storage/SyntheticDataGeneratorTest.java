@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.parser.DataGenerator;
+import seedu.address.logic.parser.DataGenerator.VisitParametersContainer;
+import seedu.address.model.location.ReadOnlyLocationBook;
+import seedu.address.model.person.ReadOnlyPersonBook;
+import seedu.address.model.visit.ReadOnlyVisitBook;
+import seedu.address.model.visit.Visit;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final long SEED = 42;
+    private static final int PERSON_COUNT = 50;
+    private static final int LOCATION_COUNT = 20;
+    private static final int VISIT_COUNT = 300;
+
+    @TempDir
+    public Path testFolder;
+
+    private final SyntheticDataGenerator generator =
+            new SyntheticDataGenerator(SEED, PERSON_COUNT, LOCATION_COUNT, VISIT_COUNT);
+
+    @Test
+    public void constructor_invalidParameters_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_CONSTRAINTS, () ->
+                new SyntheticDataGenerator(SEED, 0, LOCATION_COUNT, VISIT_COUNT));
+        assertThrows(IllegalArgumentException.class, SyntheticDataGenerator.MESSAGE_CONSTRAINTS, () ->
+                new SyntheticDataGenerator(SEED, PERSON_COUNT, LOCATION_COUNT, VISIT_COUNT,
+                        SyntheticDataGenerator.DEFAULT_ZIPF_EXPONENT, SyntheticDataGenerator.DEFAULT_FIRST_DATE,
+                        SyntheticDataGenerator.DEFAULT_DAY_COUNT, 1.5));
+    }
+
+    @Test
+    public void constructor_moreVisitsThanPossible_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(SyntheticDataGenerator.MESSAGE_TOO_MANY_VISITS, 7),
+                () -> new SyntheticDataGenerator(SEED, 1, 2, 7, SyntheticDataGenerator.DEFAULT_ZIPF_EXPONENT,
+                        SyntheticDataGenerator.DEFAULT_FIRST_DATE, 3, SyntheticDataGenerator.DEFAULT_INFECTION_RATE));
+    }
+
+    @Test
+    public void writeVisitsCsv_everyPossibleVisit_allVisitsDifferent() throws Exception {
+        int personCount = 4;
+        int locationCount = 3;
+        int dayCount = 2;
+        int visitCount = personCount * locationCount * dayCount;
+        Path visitsFile = testFolder.resolve("visits.csv");
+        new SyntheticDataGenerator(SEED, personCount, locationCount, visitCount, 2.0,
+                SyntheticDataGenerator.DEFAULT_FIRST_DATE, dayCount, SyntheticDataGenerator.DEFAULT_INFECTION_RATE)
+                .writeVisitsCsv(visitsFile);
+
+        List<String> rows = Files.readAllLines(visitsFile);
+        assertEquals(visitCount, rows.size());
+        assertEquals(visitCount, new HashSet<>(rows).size());
+    }
+
+    @Test
+    public void writeAll_sameSeed_sameFiles() throws Exception {
+        Path first = testFolder.resolve("first");
+        Path second = testFolder.resolve("second");
+        generator.writeAll(first);
+        new SyntheticDataGenerator(SEED, PERSON_COUNT, LOCATION_COUNT, VISIT_COUNT).writeAll(second);
+
+        for (String fileName : List.of(SyntheticDataGenerator.PERSON_BOOK_FILE_NAME,
+                SyntheticDataGenerator.LOCATION_BOOK_FILE_NAME, SyntheticDataGenerator.VISIT_BOOK_FILE_NAME,
+                SyntheticDataGenerator.PERSONS_CSV_FILE_NAME, SyntheticDataGenerator.LOCATIONS_CSV_FILE_NAME,
+                SyntheticDataGenerator.VISITS_CSV_FILE_NAME)) {
+            assertEquals(Files.readAllLines(first.resolve(fileName)), Files.readAllLines(second.resolve(fileName)));
+        }
+    }
+
+    @Test
+    public void writeVisitsCsv_differentSeed_differentVisits() throws Exception {
+        Path first = testFolder.resolve("first.csv");
+        Path second = testFolder.resolve("second.csv");
+        generator.writeVisitsCsv(first);
+        new SyntheticDataGenerator(SEED + 1, PERSON_COUNT, LOCATION_COUNT, VISIT_COUNT).writeVisitsCsv(second);
+        assertNotEquals(Files.readAllLines(first), Files.readAllLines(second));
+    }
+
+    @Test
+    public void writeBooks_readByStorage_sameEntities() throws Exception {
+        generator.writeAll(testFolder);
+
+        ReadOnlyPersonBook personBook = new JsonPersonBookStorage(
+                testFolder.resolve(SyntheticDataGenerator.PERSON_BOOK_FILE_NAME)).readAddressBook().get();
+        ReadOnlyLocationBook locationBook = new JsonLocationBookStorage(
+                testFolder.resolve(SyntheticDataGenerator.LOCATION_BOOK_FILE_NAME)).readLocationBook().get();
+        ReadOnlyVisitBook visitBook = new JsonVisitBookStorage(
+                testFolder.resolve(SyntheticDataGenerator.VISIT_BOOK_FILE_NAME)).readVisitBook().get();
+
+        assertEquals(PERSON_COUNT, personBook.getPersonList().size());
+        assertEquals(LOCATION_COUNT, locationBook.getLocationList().size());
+        assertEquals(VISIT_COUNT, visitBook.getVisitList().size());
+        // The persons and locations in the visits are the same as those in their books.
+        for (Visit visit : visitBook.getVisitList()) {
+            assertEquals(personBook.getPersonList().get(visit.getPerson().getId().getZeroBased()), visit.getPerson());
+            assertEquals(locationBook.getLocationList().get(visit.getLocation().getId().getZeroBased()),
+                    visit.getLocation());
+        }
+    }
+
+    @Test
+    public void writeCsv_readByDataGenerator_sameEntities() throws Exception {
+        generator.writeAll(testFolder);
+
+        assertEquals(PERSON_COUNT, DataGenerator.generatePersonsList(
+                testFolder.resolve(SyntheticDataGenerator.PERSONS_CSV_FILE_NAME).toString()).size());
+        assertEquals(LOCATION_COUNT, DataGenerator.generateLocationsList(
+                testFolder.resolve(SyntheticDataGenerator.LOCATIONS_CSV_FILE_NAME).toString()).size());
+        List<VisitParametersContainer> visits = DataGenerator.generateVisitsList(
+                testFolder.resolve(SyntheticDataGenerator.VISITS_CSV_FILE_NAME).toString());
+        assertEquals(VISIT_COUNT, visits.size());
+    }
+
+    @Test
+    public void writeVisitsCsv_zipfianPopularity_firstLocationMostVisited() throws IOException {
+        Path visitsFile = testFolder.resolve("visits.csv");
+        generator.writeVisitsCsv(visitsFile);
+
+        int[] visitsOfLocation = new int[LOCATION_COUNT];
+        for (String row : Files.readAllLines(visitsFile)) {
+            visitsOfLocation[Index.fromOneBased(Integer.parseInt(row.split(",")[1])).getZeroBased()]++;
+        }
+        for (int i = 1; i < LOCATION_COUNT; i++) {
+            assertTrue(visitsOfLocation[0] > visitsOfLocation[i]);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class ListMirrorTest {
+
+    private final ObservableList<Integer> items = FXCollections.observableArrayList();
+    private final FilteredList<Integer> filteredItems = new FilteredList<>(items);
+
+    @Test
+    public void takeUpdate_unchanged_returnsNull() {
+        ListMirror<Integer> listMirror = new ListMirror<>(filteredItems);
+        assertNull(listMirror.takeUpdate());
+
+        items.add(1);
+        listMirror.takeUpdate().run();
+        assertNull(listMirror.takeUpdate());
+    }
+
+    @Test
+    public void takeUpdate_fewChanges_onlyChangesReplayed() {
+        items.addAll(range(0, 100));
+        ListMirror<Integer> listMirror = new ListMirror<>(filteredItems);
+        List<ListChangeListener.Change<? extends Integer>> mirrorChanges = new ArrayList<>();
+        listMirror.getMirror().addListener((ListChangeListener<Integer>) mirrorChanges::add);
+
+        items.add(50, -1);
+        items.remove(Integer.valueOf(10));
+        items.set(0, -2);
+        listMirror.takeUpdate().run();
+
+        assertEquals(filteredItems, listMirror.getMirror());
+        // The whole list would be replaced by a single change.
+        assertEquals(3, mirrorChanges.size());
+    }
+
+    @Test
+    public void takeUpdate_tooManyChanges_wholeListCopied() {
+        items.addAll(range(0, 1000));
+        ListMirror<Integer> listMirror = new ListMirror<>(filteredItems);
+        List<ListChangeListener.Change<? extends Integer>> mirrorChanges = new ArrayList<>();
+        listMirror.getMirror().addListener((ListChangeListener<Integer>) mirrorChanges::add);
+
+        for (int i = 0; i <= ListMirror.MAX_LOGGED_CHANGES; i++) {
+            items.remove(0);
+        }
+        listMirror.takeUpdate().run();
+
+        assertEquals(filteredItems, listMirror.getMirror());
+        assertEquals(1, mirrorChanges.size());
+    }
+
+    @Test
+    public void takeUpdate_randomChanges_mirrorEqualsSource() {
+        Random random = new Random(0);
+        items.addAll(range(0, 200));
+        ListMirror<Integer> listMirror = new ListMirror<>(filteredItems);
+
+        for (int round = 0; round < 200; round++) {
+            int changeCount = random.nextInt(2 * ListMirror.MAX_LOGGED_CHANGES);
+            for (int i = 0; i < changeCount; i++) {
+                makeRandomChange(random);
+            }
+
+            Runnable update = listMirror.takeUpdate();
+            if (update != null) {
+                update.run();
+            }
+            assertEquals(filteredItems, listMirror.getMirror());
+        }
+    }
+
+    private void makeRandomChange(Random random) {
+        switch (random.nextInt(6)) {
+        case 0:
+            items.add(random.nextInt(items.size() + 1), random.nextInt(1000));
+            break;
+        case 1:
+            if (!items.isEmpty()) {
+                items.remove(random.nextInt(items.size()));
+            }
+            break;
+        case 2:
+            if (!items.isEmpty()) {
+                items.set(random.nextInt(items.size()), random.nextInt(1000));
+            }
+            break;
+        case 3:
+            int divisor = random.nextInt(4) + 1;
+            filteredItems.setPredicate(item -> item % divisor == 0);
+            break;
+        case 4:
+            FXCollections.sort(items, random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+            break;
+        default:
+            items.addAll(random.nextInt(items.size() + 1), range(0, random.nextInt(5)));
+            break;
+        }
+    }
+
+    private static List<Integer> range(int start, int end) {
+        return IntStream.range(start, end).boxed().collect(Collectors.toList());
+    }
+}